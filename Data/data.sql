@@ -25,3 +25,11 @@ VALUES ('A', 'A+', 'A-', 1);
 -- Sample Insert Data for RuleName
 INSERT INTO RuleName (name, description, json, template, sqlStr, sqlPart)
 VALUES ('Rule1', 'Test Rule Description', '{"rule": "value"}', 'Template1', 'SELECT * FROM table', 'WHERE condition = 1');
+
+-- Seed the ID allocation above the existing rows
+INSERT INTO IdGenerator (name, nextVal)
+SELECT 'Trade', COALESCE(MAX(Id), 0) + 1 FROM Trade
+ON DUPLICATE KEY UPDATE nextVal = GREATEST(nextVal, VALUES(nextVal));
+INSERT INTO IdGenerator (name, nextVal)
+SELECT 'BidList', COALESCE(MAX(Id), 0) + 1 FROM BidList
+ON DUPLICATE KEY UPDATE nextVal = GREATEST(nextVal, VALUES(nextVal));
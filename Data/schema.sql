@@ -97,3 +97,11 @@ CREATE TABLE Users (
 
   PRIMARY KEY (Id)
 )
+
+-- Hi/lo style ID allocation for Trade and BidList, lets Hibernate batch inserts
+CREATE TABLE IF NOT EXISTS IdGenerator (
+  name VARCHAR(30) NOT NULL,
+  nextVal BIGINT NOT NULL,
+
+  PRIMARY KEY (name)
+)
@@ -0,0 +1,50 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.poseidoncapitalsolutions.trading.TradingApplication;
+
+/**
+ * Starts the application on a random port, on a private in-memory H2
+ * database in MySQL mode whose schema is created by the Flyway migrations.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param properties Extra properties, as --name=value arguments.
+     * @return The started context, to be closed by the caller.
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        return start(context -> {
+        }, properties);
+    }
+
+    /**
+     * @param initializer Applied to the context before it is refreshed.
+     * @param properties  Extra properties, as --name=value arguments.
+     * @return The started context, to be closed by the caller.
+     */
+    static ConfigurableApplicationContext start(ApplicationContextInitializer<ConfigurableApplicationContext> initializer,
+            String... properties) {
+        String[] defaults = {
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;NON_KEYWORDS=VALUE;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--server.port=0",
+                "--logging.level.root=WARN"
+        };
+        String[] args = Stream.concat(Arrays.stream(defaults), Arrays.stream(properties)).toArray(String[]::new);
+        return new SpringApplicationBuilder(TradingApplication.class).initializers(initializer).run(args);
+    }
+}
@@ -0,0 +1,55 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+
+/**
+ * Builds the entities used as benchmark input.
+ */
+final class BenchmarkData {
+
+    private static final Timestamp NOW = new Timestamp(System.currentTimeMillis());
+
+    private BenchmarkData() {
+    }
+
+    static Trade trade(int id) {
+        Trade trade = new Trade();
+        trade.setId(id);
+        trade.setAccount("Account" + (id % 100));
+        trade.setType("Type" + (id % 10));
+        trade.setBuyQuantity(100.0 + id);
+        trade.setCreationDate(NOW);
+        return trade;
+    }
+
+    static BidList bidList(int id) {
+        BidList bidList = new BidList();
+        bidList.setId(id);
+        bidList.setAccount("Account" + (id % 100));
+        bidList.setType("Type" + (id % 10));
+        bidList.setBidQuantity(100.0 + id);
+        bidList.setCreationDate(NOW);
+        return bidList;
+    }
+
+    static List<Trade> trades(int count) {
+        List<Trade> trades = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            trades.add(trade(i));
+        }
+        return trades;
+    }
+
+    static List<BidList> bidLists(int count) {
+        List<BidList> bidLists = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            bidLists.add(bidList(i));
+        }
+        return bidLists;
+    }
+}
@@ -0,0 +1,87 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.poseidoncapitalsolutions.trading.curve.Curve;
+import com.poseidoncapitalsolutions.trading.curve.InterpolationMethod;
+
+/**
+ * Measures the interpolation of a 30 point curve, one term at a time and in
+ * bulk over 10,000 terms, sorted or in random order. The bulk scores are per
+ * term.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurveInterpolationBenchmark {
+
+    private static final int CURVE_POINTS = 30;
+    private static final int BULK_TERMS = 10_000;
+
+    @Param({ "LINEAR", "LOG_LINEAR", "CUBIC_SPLINE" })
+    private InterpolationMethod method;
+
+    private Curve curve;
+    private double[] randomTerms;
+    private double[] sortedTerms;
+    private double[] result;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        double[] terms = new double[CURVE_POINTS];
+        double[] values = new double[CURVE_POINTS];
+        for (int i = 0; i < CURVE_POINTS; i++) {
+            terms[i] = 0.25 * Math.pow(1.2, i);
+            values[i] = Math.exp(-0.03 * terms[i]);
+        }
+        curve = Curve.of(terms, values);
+
+        Random random = new Random(42);
+        randomTerms = new double[BULK_TERMS];
+        for (int i = 0; i < BULK_TERMS; i++) {
+            randomTerms[i] = random.nextDouble() * terms[CURVE_POINTS - 1];
+        }
+        sortedTerms = randomTerms.clone();
+        Arrays.sort(sortedTerms);
+        result = new double[BULK_TERMS];
+    }
+
+    @Benchmark
+    public double singleTerm() {
+        next = (next + 1) % BULK_TERMS;
+        return curve.interpolate(randomTerms[next], method);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_TERMS)
+    public double[] bulkRandomTerms() {
+        curve.interpolate(randomTerms, method, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_TERMS)
+    public double[] bulkSortedTerms() {
+        curve.interpolate(sortedTerms, method, result);
+        return result;
+    }
+}
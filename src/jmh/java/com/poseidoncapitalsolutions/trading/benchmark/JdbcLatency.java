@@ -0,0 +1,100 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Delays every statement execution and commit by a fixed latency, so that an
+ * in-memory H2 database blocks the calling thread the way a network round
+ * trip to MySQL does. The delay is a sleep, which a virtual thread waits
+ * unmounted, as it would on a socket read.
+ */
+final class JdbcLatency implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private final Duration latency;
+
+    /**
+     * @param latency The delay of each round trip.
+     */
+    JdbcLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        if (latency.isZero()) {
+            return;
+        }
+        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? new SlowDataSource(dataSource) : bean;
+            }
+        });
+    }
+
+    private void roundTrip() throws SQLException {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted during a simulated round trip", e);
+        }
+    }
+
+    private Object slow(Class<?> type, Object target) {
+        InvocationHandler handler = (proxy, method, args) -> invoke(target, method, args);
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.startsWith("execute") || name.equals("commit")) {
+            roundTrip();
+        }
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (result instanceof Statement && method.getReturnType().isInterface()) {
+            return slow(method.getReturnType(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Hands out connections whose statements pay the latency; unwraps to the
+     * pool, so its metrics are still bound.
+     */
+    private final class SlowDataSource extends DelegatingDataSource {
+
+        SlowDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return (Connection) slow(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return (Connection) slow(Connection.class, super.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Load test of the Trade and BidList list pages, view rendering included,
+ * with open-session-in-view on and off. At the end of each trial it prints
+ * how long each request held a pooled JDBC connection, from the Hikari
+ * hikaricp.connections.usage timer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ListPageLoadBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean openInView;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private RequestPostProcessor admin;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--spring.jpa.open-in-view=" + openInView);
+        context.getBean(TradeRepository.class).saveAll(
+                BenchmarkData.trades(500).stream().peek((Trade trade) -> trade.setId(0)).toList());
+        context.getBean(BidListRepository.class).saveAll(
+                BenchmarkData.bidLists(500).stream().peek(bidList -> bidList.setId(0)).toList());
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+        admin = user("admin").authorities(() -> "ADMIN");
+    }
+
+    @TearDown
+    public void tearDown() {
+        Timer usage = context.getBean(MeterRegistry.class).get("hikaricp.connections.usage").timer();
+        System.out.printf("%nopen-in-view=%s: %d connection checkouts, mean held %.3f ms, max held %.3f ms%n",
+                openInView, usage.count(), usage.mean(TimeUnit.MILLISECONDS), usage.max(TimeUnit.MILLISECONDS));
+        context.close();
+    }
+
+    @Benchmark
+    public int tradeList() throws Exception {
+        return mockMvc.perform(get("/trade/list").with(admin)).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int bidListList() throws Exception {
+        return mockMvc.perform(get("/bidList/list").with(admin)).andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,65 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.poseidoncapitalsolutions.trading.dto.BidListDTO;
+import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
+import com.poseidoncapitalsolutions.trading.mapper.BidListMapper;
+import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.service.BidListService;
+import com.poseidoncapitalsolutions.trading.service.TradeService;
+
+/**
+ * Measures the conversion of a full result list to DTOs, as done by the list
+ * pages, for growing list sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+@State(Scope.Benchmark)
+public class ListResponseBenchmark {
+
+    @Param({ "10000", "100000", "1000000" })
+    private int rows;
+
+    private TradeService tradeService;
+    private BidListService bidListService;
+    private List<Trade> trades;
+    private List<BidList> bidLists;
+
+    @Setup
+    public void setUp() {
+        tradeService = new TradeService(null, Mappers.getMapper(TradeMapper.class), null, null, null);
+        bidListService = new BidListService(null, Mappers.getMapper(BidListMapper.class), null, null);
+        trades = BenchmarkData.trades(rows);
+        bidLists = BenchmarkData.bidLists(rows);
+    }
+
+    @Benchmark
+    public List<TradeDTO> tradeListResponse() {
+        return tradeService.getListResponseDTO(trades);
+    }
+
+    @Benchmark
+    public List<BidListDTO> bidListListResponse() {
+        return bidListService.getListResponseDTO(bidLists);
+    }
+}
@@ -0,0 +1,84 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.poseidoncapitalsolutions.trading.config.CacheConfig;
+import com.poseidoncapitalsolutions.trading.config.UserDetailsServiceImpl;
+import com.poseidoncapitalsolutions.trading.model.User;
+import com.poseidoncapitalsolutions.trading.service.UserService;
+
+/**
+ * Measures a complete form login verification, user lookup plus password
+ * check, with the user details cache warm or cold.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginBenchmark {
+
+    private static final String USERNAME = "benchmark";
+    private static final String PASSWORD = "Password1!";
+
+    @Param({ "10", "12" })
+    private int strength;
+
+    @Param({ "true", "false" })
+    private boolean cached;
+
+    private ConfigurableApplicationContext context;
+    private DaoAuthenticationProvider authenticationProvider;
+    private CacheManager cacheManager;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--trading.security.bcrypt-strength=" + strength);
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword(PASSWORD);
+        user.setFullname("Benchmark");
+        user.setRole("ADMIN");
+        context.getBean(UserService.class).save(user);
+
+        UserDetailsServiceImpl userDetailsService = context.getBean(UserDetailsServiceImpl.class);
+        authenticationProvider = new DaoAuthenticationProvider();
+        authenticationProvider.setPasswordEncoder(context.getBean(PasswordEncoder.class));
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsService);
+        cacheManager = context.getBean(CacheManager.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication login() {
+        if (!cached) {
+            cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE).clear();
+        }
+        return authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(USERNAME, PASSWORD));
+    }
+}
@@ -0,0 +1,72 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.poseidoncapitalsolutions.trading.dto.BidListDTO;
+import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
+import com.poseidoncapitalsolutions.trading.mapper.BidListMapper;
+import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+
+/**
+ * Measures the MapStruct conversions between the Trade and BidList entities
+ * and their DTOs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private TradeMapper tradeMapper;
+    private BidListMapper bidListMapper;
+    private Trade trade;
+    private TradeDTO tradeDTO;
+    private BidList bidList;
+    private BidListDTO bidListDTO;
+
+    @Setup
+    public void setUp() {
+        tradeMapper = Mappers.getMapper(TradeMapper.class);
+        bidListMapper = Mappers.getMapper(BidListMapper.class);
+        trade = BenchmarkData.trade(1);
+        tradeDTO = tradeMapper.toDto(trade);
+        bidList = BenchmarkData.bidList(1);
+        bidListDTO = bidListMapper.toDto(bidList);
+    }
+
+    @Benchmark
+    public TradeDTO tradeToDto() {
+        return tradeMapper.toDto(trade);
+    }
+
+    @Benchmark
+    public Trade tradeToEntity() {
+        return tradeMapper.toEntity(tradeDTO);
+    }
+
+    @Benchmark
+    public BidListDTO bidListToDto() {
+        return bidListMapper.toDto(bidList);
+    }
+
+    @Benchmark
+    public BidList bidListToEntity() {
+        return bidListMapper.toEntity(bidListDTO);
+    }
+}
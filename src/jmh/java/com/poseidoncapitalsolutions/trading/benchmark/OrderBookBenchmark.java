@@ -0,0 +1,85 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.poseidoncapitalsolutions.trading.orderbook.BidListQuote;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBook;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures the updates per second of the order books, as run after each
+ * committed BidList write: replacing the quote of a BidList removes its
+ * previous bid and ask from their levels and adds the new ones. The book holds
+ * four quotes per price level on each side to start with, and new prices are drawn close to
+ * the top of the book, as most real updates are. Reading the top of the book
+ * is measured for comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderBookBenchmark {
+
+    private static final String SECURITY = "Security";
+    private static final int QUOTES_PER_LEVEL = 4;
+    private static final int UPDATES = 1 << 16;
+
+    @Param({ "100", "10000" })
+    private int levels;
+
+    private OrderBookRegistry registry;
+    private OrderBook book;
+    private BidListQuote[] updates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        registry = new OrderBookRegistry(null, new SimpleMeterRegistry());
+        Random random = new Random(42);
+        int quotes = levels * QUOTES_PER_LEVEL;
+        for (int id = 0; id < quotes; id++) {
+            registry.post(quote(id, id % levels, id % levels));
+        }
+        book = registry.get(SECURITY);
+
+        int top = Math.min(levels, 20);
+        updates = new BidListQuote[UPDATES];
+        for (int i = 0; i < UPDATES; i++) {
+            updates[i] = quote(random.nextInt(quotes), random.nextInt(top), random.nextInt(top));
+        }
+    }
+
+    private static BidListQuote quote(int id, int bidLevel, int askLevel) {
+        return new BidListQuote(id, SECURITY, 100 - 0.01 * (bidLevel + 1), 1.0 + id % 10,
+                100 + 0.01 * (askLevel + 1), 1.0 + id % 7);
+    }
+
+    @Benchmark
+    public OrderBook replaceQuote() {
+        next = (next + 1) & (UPDATES - 1);
+        registry.post(updates[next]);
+        return book;
+    }
+
+    @Benchmark
+    public double bestBidAndAsk() {
+        return book.bestAsk().getAsDouble() - book.bestBid().getAsDouble();
+    }
+}
@@ -0,0 +1,48 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.poseidoncapitalsolutions.trading.config.SecurityConfig;
+
+/**
+ * Measures the cost of one password verification, that is the CPU time a
+ * login spends in the password encoder, for each BCrypt strength.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    @Param({ "10", "11", "12", "13" })
+    private int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new SecurityConfig().passwordEncoder(strength);
+        encodedPassword = passwordEncoder.encode("Password1!");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return passwordEncoder.matches("Password1!", encodedPassword);
+    }
+}
@@ -0,0 +1,85 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.rule.CompiledRule;
+import com.poseidoncapitalsolutions.trading.rule.RuleEngine;
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures the trades evaluated per second by a compiled rule mixing a
+ * numeric range, a LIKE pattern and an IN list, and the cost of getting the
+ * rule from the engine, a cache hit, against compiling it again.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleEvaluationBenchmark {
+
+    private static final int TRADES = 10_000;
+    private static final String SQL_PART = "buyQuantity BETWEEN 1000 AND 5000 AND account LIKE 'Account1%'"
+            + " AND type IN ('Type1', 'Type3', 'Type5')";
+
+    private RuleEngine ruleEngine;
+    private RuleName ruleName;
+    private RuleName uncachedRuleName;
+    private CompiledRule<Trade> rule;
+    private Trade[] trades;
+
+    @Setup
+    public void setUp() {
+        ruleEngine = new RuleEngine(new SimpleMeterRegistry());
+        ruleName = new RuleName();
+        ruleName.setId(1);
+        ruleName.setName("Large trades");
+        ruleName.setSqlPart(SQL_PART);
+        uncachedRuleName = new RuleName();
+        uncachedRuleName.setName("Large trades");
+        uncachedRuleName.setSqlPart(SQL_PART);
+        rule = ruleEngine.compile(ruleName, RuleTarget.TRADE);
+        List<Trade> data = BenchmarkData.trades(TRADES);
+        trades = data.toArray(Trade[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRADES)
+    public int evaluate() {
+        int matches = 0;
+        for (Trade trade : trades) {
+            if (rule.matches(trade)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public CompiledRule<Trade> cachedCompile() {
+        return ruleEngine.compile(ruleName, RuleTarget.TRADE);
+    }
+
+    @Benchmark
+    public CompiledRule<Trade> compile() {
+        return ruleEngine.compile(uncachedRuleName, RuleTarget.TRADE);
+    }
+}
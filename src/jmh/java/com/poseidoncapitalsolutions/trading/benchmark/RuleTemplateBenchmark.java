@@ -0,0 +1,96 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget;
+import com.poseidoncapitalsolutions.trading.rule.RuleTemplate;
+
+/**
+ * Measures the trades rendered per second by a report template, compiled
+ * once into a {@link RuleTemplate} against interpreted the way a generic
+ * template engine would: the template parsed again for each trade and each
+ * field read through its getter found by reflection.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleTemplateBenchmark {
+
+    private static final int TRADES = 10_000;
+    private static final String TEMPLATE = "{{id}};{{creationDate}};{{account}};{{type}};"
+            + "bought {{buyQuantity}} for {{book}}";
+
+    private RuleTemplate<Trade> template;
+    private Trade[] trades;
+    private StringBuilder line;
+
+    @Setup
+    public void setUp() {
+        template = RuleTemplate.compile(TEMPLATE, RuleTarget.TRADE);
+        trades = BenchmarkData.trades(TRADES).toArray(Trade[]::new);
+        line = new StringBuilder(256);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRADES)
+    public int precompiled() {
+        int length = 0;
+        for (Trade trade : trades) {
+            line.setLength(0);
+            template.render(trade, line);
+            length += line.length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRADES)
+    public int interpreted() throws ReflectiveOperationException {
+        int length = 0;
+        for (Trade trade : trades) {
+            line.setLength(0);
+            interpret(TEMPLATE, trade, line);
+            length += line.length();
+        }
+        return length;
+    }
+
+    private static void interpret(String template, Object record, StringBuilder out)
+            throws ReflectiveOperationException {
+        int position = 0;
+        while (position < template.length()) {
+            int open = template.indexOf("{{", position);
+            if (open < 0) {
+                out.append(template, position, template.length());
+                return;
+            }
+            out.append(template, position, open);
+            int close = template.indexOf("}}", open);
+            String field = template.substring(open + 2, close).strip();
+            Method getter = record.getClass()
+                    .getMethod("get" + Character.toUpperCase(field.charAt(0)) + field.substring(1));
+            Object value = getter.invoke(record);
+            if (value != null) {
+                out.append(value);
+            }
+            position = close + 2;
+        }
+    }
+}
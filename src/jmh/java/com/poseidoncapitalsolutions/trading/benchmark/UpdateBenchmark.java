@@ -0,0 +1,83 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+import com.poseidoncapitalsolutions.trading.service.TradeService;
+
+/**
+ * Measures a Trade update against an embedded H2 database, comparing the
+ * single UPDATE statement of TradeService.update with loading the entity
+ * and merging it back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpdateBenchmark {
+
+    @Param({ "10000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TradeService tradeService;
+    private int[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        tradeService = context.getBean(TradeService.class);
+        ids = context.getBean(TradeRepository.class)
+                .saveAll(BenchmarkData.trades(rows).stream().peek(trade -> trade.setId(0)).toList())
+                .stream()
+                .mapToInt(Trade::getId)
+                .toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private int nextId() {
+        next = (next + 1) % ids.length;
+        return ids[next];
+    }
+
+    @Benchmark
+    public void singleStatementUpdate() {
+        TradeDTO tradeDTO = new TradeDTO();
+        tradeDTO.setId(nextId());
+        tradeDTO.setAccount("Updated");
+        tradeDTO.setType("Type");
+        tradeDTO.setBuyQuantity((double) next);
+        tradeService.update(tradeDTO);
+    }
+
+    @Benchmark
+    public Trade loadAndMerge() {
+        Trade trade = tradeService.findById(nextId());
+        trade.setAccount("Updated");
+        trade.setBuyQuantity((double) next);
+        return tradeService.save(trade);
+    }
+}
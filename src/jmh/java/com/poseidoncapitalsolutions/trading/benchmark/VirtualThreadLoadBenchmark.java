@@ -0,0 +1,176 @@
+package com.poseidoncapitalsolutions.trading.benchmark;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.model.User;
+import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+import com.poseidoncapitalsolutions.trading.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Load test of the list and update endpoints over HTTP, served by the
+ * platform thread pool of Tomcat or by virtual threads
+ * (spring.threads.virtual.enabled). There are more concurrent users than
+ * Tomcat threads, and every JDBC round trip is delayed by a simulated
+ * database latency, so the requests spend their time blocked as they do
+ * against MySQL. At the end of each trial it prints the time spent waiting
+ * for a pooled connection and the pinned virtual threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(VirtualThreadLoadBenchmark.USERS)
+@State(Scope.Benchmark)
+public class VirtualThreadLoadBenchmark {
+
+    static final int USERS = 128;
+    private static final int TOMCAT_THREADS = 32;
+    private static final int TRADES_PER_USER = 4;
+    private static final String USERNAME = "benchmark";
+    private static final String PASSWORD = "Password1!";
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @Param({ "false", "true" })
+    private boolean virtualThreads;
+
+    @Param({ "2" })
+    private int jdbcLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String csrfToken;
+    private int firstTradeId;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        context = BenchmarkApplication.start(new JdbcLatency(Duration.ofMillis(jdbcLatencyMillis)),
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--spring.datasource.hikari.maximum-pool-size=" + USERS,
+                "--trading.virtual-threads.pinned-threshold=1ms");
+        firstTradeId = context.getBean(TradeRepository.class).saveAll(
+                BenchmarkData.trades(USERS * TRADES_PER_USER).stream().peek((Trade trade) -> trade.setId(0)).toList())
+                .get(0).getId();
+        context.getBean(BidListRepository.class).saveAll(
+                BenchmarkData.bidLists(USERS * TRADES_PER_USER).stream().peek(bidList -> bidList.setId(0)).toList());
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword(PASSWORD);
+        user.setFullname("Benchmark");
+        user.setRole("ADMIN");
+        context.getBean(UserService.class).save(user);
+
+        client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        String loginToken = csrfToken(client.send(request("/login").build(), HttpResponse.BodyHandlers.ofString()));
+        HttpResponse<String> login = client.send(form("/login-process",
+                Map.of("username", USERNAME, "password", PASSWORD, "_csrf", loginToken)),
+                HttpResponse.BodyHandlers.ofString());
+        if (login.headers().firstValue("Location").orElse("").contains("error")) {
+            throw new IllegalStateException("Benchmark login failed");
+        }
+        csrfToken = csrfToken(client.send(request("/trade/add").build(), HttpResponse.BodyHandlers.ofString()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        long pinned = meterRegistry.find("trading.virtual-threads.pinned").timers().stream()
+                .mapToLong(Timer::count).sum();
+        System.out.printf("%nvirtual-threads=%s: connection wait mean %.3f ms, max %.3f ms, %d pinned waits%n",
+                virtualThreads, acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS), pinned);
+        context.close();
+    }
+
+    @Benchmark
+    public int tradeList() throws IOException, InterruptedException {
+        return send(request("/trade/list").build());
+    }
+
+    @Benchmark
+    public int bidListList() throws IOException, InterruptedException {
+        return send(request("/bidList/list").build());
+    }
+
+    @Benchmark
+    public int tradeUpdate(UserState user) throws IOException, InterruptedException {
+        int id = firstTradeId + user.index * TRADES_PER_USER + ThreadLocalRandom.current().nextInt(TRADES_PER_USER);
+        return send(form("/trade/update/" + id, Map.of("id", String.valueOf(id), "account", "Account " + id,
+                "type", "Type", "buyQuantity", "10", "_csrf", csrfToken)));
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path));
+    }
+
+    private HttpRequest form(String path, Map<String, String> fields) {
+        String body = fields.entrySet().stream()
+                .map(field -> field.getKey() + "=" + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return request(path).header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    /**
+     * Gives each user trades of its own to update, so that the updates do not
+     * wait on each other's row locks.
+     */
+    @State(Scope.Thread)
+    public static class UserState {
+
+        private static final AtomicInteger STARTED = new AtomicInteger();
+
+        private final int index = STARTED.getAndIncrement() % USERS;
+    }
+
+    private static String csrfToken(HttpResponse<String> page) {
+        Matcher matcher = CSRF.matcher(page.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("No CSRF token on " + page.uri());
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.poseidoncapitalsolutions.trading.blotter;
+
+/**
+ * A committed change to one row of a list page.
+ *
+ * @param sequence The position of the change in the stream, increasing by one
+ *                 per change since the application started.
+ * @param table    The list the row belongs to.
+ * @param id       The ID of the row.
+ * @param row      The new content of the row, with the columns of the list
+ *                 page, or null once the row is deleted.
+ */
+public record BlotterChange(long sequence, BlotterTable table, int id, Object row) {
+
+    /**
+     * @return A key identifying the row over every table.
+     */
+    long rowKey() {
+        return (long) table.ordinal() << 32 | (id & 0xFFFFFFFFL);
+    }
+}
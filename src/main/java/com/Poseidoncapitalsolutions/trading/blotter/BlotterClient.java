@@ -0,0 +1,124 @@
+package com.poseidoncapitalsolutions.trading.blotter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One connected browser. Changes wait in a buffer until the next flush, and a
+ * change to a row already waiting replaces it, so a client receives at most
+ * one change per row and flush however often the row changes. A client that
+ * falls behind by more than the buffer size is sent a reset instead, telling
+ * it to reload the page.
+ */
+final class BlotterClient {
+
+    static final String CHANGES_EVENT = "changes";
+    static final String RESET_EVENT = "reset";
+
+    private final SseEmitter emitter;
+    private final Set<BlotterTable> tables;
+    private final int maxPending;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final Map<Long, BlotterChange> pending = new LinkedHashMap<>();
+    private boolean reset;
+    private long lastSentNanos = System.nanoTime();
+
+    BlotterClient(SseEmitter emitter, Set<BlotterTable> tables, int maxPending) {
+        this.emitter = emitter;
+        this.tables = tables;
+        this.maxPending = maxPending;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isSubscribed(BlotterTable table) {
+        return tables.contains(table);
+    }
+
+    /**
+     * Queues a change for the next flush.
+     *
+     * @return False if the change overflowed the buffer and turned it into a
+     *         reset.
+     */
+    synchronized boolean offer(BlotterChange change) {
+        if (reset) {
+            return true;
+        }
+        pending.put(change.rowKey(), change);
+        if (pending.size() > maxPending) {
+            requestReset();
+            return false;
+        }
+        return true;
+    }
+
+    synchronized void requestReset() {
+        pending.clear();
+        reset = true;
+    }
+
+    /**
+     * Claims the client for a flush, unless a previous flush is still
+     * writing to it or there is nothing to send.
+     */
+    boolean tryClaim(long now, long heartbeatNanos) {
+        synchronized (this) {
+            if (!reset && pending.isEmpty() && now - lastSentNanos < heartbeatNanos) {
+                return false;
+            }
+        }
+        return sending.compareAndSet(false, true);
+    }
+
+    /**
+     * Releases a claim without flushing, when the flush could not be started.
+     */
+    void release() {
+        sending.set(false);
+    }
+
+    /**
+     * Sends the waiting changes in one event, a reset, or a heartbeat comment
+     * when there is nothing to send. The buffer is released before writing,
+     * so a slow connection never blocks the committing threads.
+     *
+     * @throws IOException If the connection is closed.
+     */
+    void flush() throws IOException {
+        try {
+            List<BlotterChange> changes;
+            boolean sendReset;
+            synchronized (this) {
+                sendReset = reset;
+                changes = sendReset ? List.of() : new ArrayList<>(pending.values());
+                pending.clear();
+                reset = false;
+                lastSentNanos = System.nanoTime();
+            }
+            if (sendReset) {
+                emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+            } else if (!changes.isEmpty()) {
+                changes.sort((left, right) -> Long.compare(left.sequence(), right.sequence()));
+                emitter.send(SseEmitter.event()
+                        .name(CHANGES_EVENT)
+                        .id(Long.toString(changes.get(changes.size() - 1).sequence()))
+                        .data(changes, MediaType.APPLICATION_JSON));
+            } else {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } finally {
+            sending.set(false);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.poseidoncapitalsolutions.trading.blotter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Streams the committed changes of the Trades and BidLists to the list pages
+ * open in browsers, as server-sent events, so a page is loaded once and then
+ * kept up to date with the rows that changed.
+ * <p>
+ * Every change gets a sequence number and is kept in a ring of the latest
+ * changes. A page renders the sequence number seen before its query and
+ * subscribes from it, so the changes committed in between are replayed; an
+ * EventSource reconnecting sends the ID of the last event it received and
+ * resumes the same way. A client too far behind the ring is sent a reset.
+ * <p>
+ * Changes are delivered by a flusher thread every flush interval, which
+ * coalesces the changes of a row in between. Each client is written to by at
+ * most one sender thread at a time, so a slow browser only delays itself: its
+ * changes keep coalescing meanwhile, up to the buffer size, beyond which it is
+ * sent a reset. Idle connections get a heartbeat comment, which also detects
+ * closed ones.
+ */
+@Component
+public class BlotterHub implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlotterHub.class);
+
+    static final String CLIENTS_METRIC = "trading.blotter.clients";
+    static final String RESETS_METRIC = "trading.blotter.resets";
+
+    private final Object lock = new Object();
+    private final Set<BlotterClient> clients = ConcurrentHashMap.newKeySet();
+    private final BlotterChange[] history;
+    private final int maxClients;
+    private final int maxPending;
+    private final Duration flushInterval;
+    private final Duration heartbeatInterval;
+    private final Duration timeout;
+    private final boolean virtualThreads;
+    private final Counter resets;
+
+    private long sequence;
+    private volatile Thread flusher;
+    private ExecutorService senders;
+
+    /**
+     * Constructs a BlotterHub.
+     *
+     * @param meterRegistry     The registry of the client and reset metrics.
+     * @param maxClients        The maximum number of connected browsers.
+     * @param maxPending        The maximum number of changed rows waiting for
+     *                          a slow client before it is sent a reset.
+     * @param historySize       The number of latest changes kept for the
+     *                          clients subscribing from an earlier sequence.
+     * @param flushInterval     The time changes are coalesced before being
+     *                          sent.
+     * @param heartbeatInterval The longest time a connection stays silent.
+     * @param timeout           The lifetime of a connection, after which the
+     *                          browser reconnects.
+     * @param virtualThreads    True to write to the clients from virtual
+     *                          threads, as the requests do in the virtual
+     *                          thread mode.
+     */
+    public BlotterHub(MeterRegistry meterRegistry,
+            @Value("${trading.blotter.max-clients:200}") int maxClients,
+            @Value("${trading.blotter.max-pending:1000}") int maxPending,
+            @Value("${trading.blotter.history-size:4096}") int historySize,
+            @Value("${trading.blotter.flush-interval:250ms}") Duration flushInterval,
+            @Value("${trading.blotter.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${trading.blotter.timeout:30m}") Duration timeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.history = new BlotterChange[historySize];
+        this.maxClients = maxClients;
+        this.maxPending = maxPending;
+        this.flushInterval = flushInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeout = timeout;
+        this.virtualThreads = virtualThreads;
+        this.resets = Counter.builder(RESETS_METRIC)
+                .description("Resets sent to clients too far behind the changes")
+                .register(meterRegistry);
+        Gauge.builder(CLIENTS_METRIC, clients, Set::size)
+                .description("Browsers connected to the live blotter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return The sequence number of the latest change, to subscribe from
+     *         once a page was rendered.
+     */
+    public long getSequence() {
+        synchronized (lock) {
+            return sequence;
+        }
+    }
+
+    /**
+     * Records the new content of a row after it was added or updated. Inside
+     * a transaction the change is streamed once it commits, and not at all if
+     * it rolls back.
+     *
+     * @param table The list the row belongs to.
+     * @param id    The ID of the row.
+     * @param row   The row, with the columns of the list page.
+     */
+    public void post(BlotterTable table, int id, Object row) {
+        afterCommit(table, id, row);
+    }
+
+    /**
+     * Records the deletion of a row, once the transaction commits if there is
+     * one.
+     *
+     * @param table The list the row belonged to.
+     * @param id    The ID of the row.
+     */
+    public void remove(BlotterTable table, int id) {
+        afterCommit(table, id, null);
+    }
+
+    /**
+     * Connects a browser.
+     *
+     * @param tables The lists to stream, all of them if empty.
+     * @param since  The sequence number the page was rendered at, or null to
+     *               only receive the next changes.
+     * @return The emitter of the connection.
+     * @throws IllegalStateException If the maximum number of clients is
+     *                               connected.
+     */
+    public SseEmitter subscribe(Set<BlotterTable> tables, Long since) {
+        return connect(new SseEmitter(timeout.toMillis()), tables, since).getEmitter();
+    }
+
+    BlotterClient connect(SseEmitter emitter, Set<BlotterTable> tables, Long since) {
+        BlotterClient client = new BlotterClient(emitter,
+                tables.isEmpty() ? EnumSet.allOf(BlotterTable.class) : EnumSet.copyOf(tables), maxPending);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(error -> clients.remove(client));
+        synchronized (lock) {
+            if (clients.size() >= maxClients) {
+                throw new IllegalStateException("The live blotter accepts at most " + maxClients + " clients");
+            }
+            if (since != null) {
+                replay(client, since);
+            }
+            clients.add(client);
+        }
+        return client;
+    }
+
+    private void replay(BlotterClient client, long since) {
+        long oldest = Math.max(1, sequence - history.length + 1);
+        if (since > sequence || since < oldest - 1) {
+            client.requestReset();
+            resets.increment();
+            return;
+        }
+        for (long next = since + 1; next <= sequence; next++) {
+            BlotterChange change = history[(int) (next % history.length)];
+            if (client.isSubscribed(change.table()) && !client.offer(change)) {
+                resets.increment();
+                return;
+            }
+        }
+    }
+
+    private void afterCommit(BlotterTable table, int id, Object row) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(table, id, row);
+                }
+            });
+        } else {
+            apply(table, id, row);
+        }
+    }
+
+    private void apply(BlotterTable table, int id, Object row) {
+        synchronized (lock) {
+            BlotterChange change = new BlotterChange(++sequence, table, id, row);
+            history[(int) (change.sequence() % history.length)] = change;
+            for (BlotterClient client : clients) {
+                if (client.isSubscribed(table) && !client.offer(change)) {
+                    resets.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands every client with something to send to a sender thread. Runs on
+     * the flusher thread every flush interval. A client no sender thread is
+     * available for, while senders are still blocked on disconnected
+     * clients, is released and tried again at the next flush.
+     */
+    void flush() {
+        long now = System.nanoTime();
+        long heartbeatNanos = heartbeatInterval.toNanos();
+        for (BlotterClient client : clients) {
+            if (client.tryClaim(now, heartbeatNanos)) {
+                try {
+                    senders.execute(() -> send(client));
+                } catch (RejectedExecutionException e) {
+                    logger.debug("No live blotter sender available, retrying at the next flush", e);
+                    client.release();
+                }
+            }
+        }
+    }
+
+    private void send(BlotterClient client) {
+        try {
+            client.flush();
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Live blotter client disconnected", e);
+            clients.remove(client);
+            client.getEmitter().completeWithError(e);
+        }
+    }
+
+    private void run() {
+        while (flusher == Thread.currentThread()) {
+            try {
+                Thread.sleep(flushInterval);
+                flush();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Live blotter flush failed", e);
+            }
+        }
+    }
+
+    /**
+     * Starts the flusher thread. Senders are only started on demand and
+     * never outnumber the clients, since a client is written to by one
+     * sender at a time; in the virtual thread mode each send gets a new
+     * virtual thread.
+     */
+    @Override
+    public synchronized void start() {
+        if (flusher == null) {
+            if (virtualThreads) {
+                senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blotter-sender-", 0).factory());
+            } else {
+                senders = new ThreadPoolExecutor(0, maxClients, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                        Thread.ofPlatform().name("blotter-sender-", 0).daemon().factory());
+            }
+            Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+            flusher = builder.name("blotter-flusher").unstarted(this::run);
+            flusher.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread stopping = flusher;
+        flusher = null;
+        if (stopping != null) {
+            stopping.interrupt();
+            senders.shutdownNow();
+            clients.forEach(client -> client.getEmitter().complete());
+            clients.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.poseidoncapitalsolutions.trading.blotter;
+
+/**
+ * The list pages whose rows are streamed by the {@link BlotterHub}.
+ */
+public enum BlotterTable {
+
+    /** The Trades of /trade/list, rows are TradeDTOs. */
+    TRADE,
+
+    /** The BidLists of /bidList/list, rows are BidListDTOs. */
+    BID_LIST
+}
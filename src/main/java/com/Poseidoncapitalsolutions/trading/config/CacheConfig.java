@@ -0,0 +1,50 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Enables Spring caching. The caches themselves, their size and their
+ * expiry are declared with the spring.cache.* properties, except for the
+ * rule results, which expire after their own trading.rule.query.cache-ttl.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache of the login details of the Users, keyed by username.
+     */
+    public static final String USER_DETAILS_CACHE = "userDetails";
+
+    /**
+     * Cache of the rows returned by the query of a RuleName, keyed by rule ID
+     * and revision.
+     */
+    public static final String RULE_RESULTS_CACHE = "ruleResults";
+
+    /**
+     * @param ttl     The time the results of a rule are reused.
+     * @param maxSize The maximum number of rule results kept.
+     * @return The customizer adding the rule results cache to the Caffeine
+     *         cache manager.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> ruleResultsCacheCustomizer(
+            @Value("${trading.rule.query.cache-ttl:5m}") Duration ttl,
+            @Value("${trading.rule.query.cache-size:1000}") long maxSize) {
+        return cacheManager -> cacheManager.registerCustomCache(RULE_RESULTS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Routes the read-only transactions to a read replica, when
+ * trading.datasource.replica.jdbc-url is set; otherwise Spring Boot creates
+ * the single primary pool. Each database has its own Hikari pool, configured
+ * by spring.datasource.hikari.* and trading.datasource.replica.*.
+ * <p>
+ * The connection of a transaction is only taken from a pool on its first
+ * statement, once the transaction has marked it read-only or not, so every
+ * {@code @Transactional(readOnly = true)} service method reads from the
+ * replica, and everything else, the migrations and the rebuilds included,
+ * runs on the primary. Replication lag is not hidden: a page read right
+ * after a write may not show it yet.
+ */
+@Configuration
+@ConditionalOnProperty("trading.datasource.replica.jdbc-url")
+public class DataSourceConfig {
+
+    static final String PRIMARY_POOL = "primary";
+    static final String REPLICA_POOL = "replica";
+
+    /**
+     * @param properties The spring.datasource.* properties.
+     * @return The pool of the primary database, the one Spring Boot creates
+     *         when there is no replica.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY_POOL);
+        return dataSource;
+    }
+
+    /**
+     * @return The pool of the read replica, bound to the
+     *         trading.datasource.replica.* properties.
+     */
+    @Bean
+    @ConfigurationProperties("trading.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(REPLICA_POOL);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * @param primaryDataSource The pool of the writes.
+     * @param replicaDataSource The pool of the read-only transactions.
+     * @return The data source used by the application.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
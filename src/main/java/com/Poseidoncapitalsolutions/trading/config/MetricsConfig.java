@@ -0,0 +1,75 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Registers the application metrics: timers on the @Timed services, the
+ * count of SQL statements per request and the saturation of the connection
+ * pools. Endpoint latencies, the Hibernate statistics and the hikaricp.*
+ * pool metrics are recorded by Spring Boot, see the management.* properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String POOL_SATURATION_METRIC = "trading.datasource.saturation";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public QueryCountInspector queryCountInspector() {
+        return new QueryCountInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(QueryCountInspector queryCountInspector,
+            MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new QueryCountFilter(queryCountInspector, meterRegistry));
+    }
+
+    /**
+     * Publishes {@value #POOL_SATURATION_METRIC} for each Hikari pool: the
+     * connections in use plus the threads waiting for one, over the pool
+     * size. Above 1, requests queue for a connection.
+     *
+     * @param dataSources The pools, the primary and the read replica.
+     * @return The binder of the gauges.
+     */
+    @Bean
+    public MeterBinder connectionPoolSaturation(ObjectProvider<HikariDataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> Gauge
+                .builder(POOL_SATURATION_METRIC, dataSource, MetricsConfig::saturation)
+                .description("Connections in use and awaited over the pool size")
+                .tag("pool", String.valueOf(dataSource.getPoolName()))
+                .register(registry));
+    }
+
+    static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return Double.NaN;
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,62 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.poseidoncapitalsolutions.trading.outbox.FileTradeEventSink;
+import com.poseidoncapitalsolutions.trading.outbox.SocketTradeEventSink;
+
+/**
+ * Declares the optional sinks of the trade events. The in-JVM listener sink is
+ * always on; the file and socket sinks are enabled by setting their
+ * trading.outbox.* property.
+ */
+@Configuration
+public class OutboxConfig {
+
+    /**
+     * Appends the trade events to a file, one JSON object per line.
+     *
+     * @param file The file, from trading.outbox.file.
+     * @return The file sink.
+     */
+    @Bean
+    @ConditionalOnProperty("trading.outbox.file")
+    public FileTradeEventSink fileTradeEventSink(@Value("${trading.outbox.file}") String file) {
+        return new FileTradeEventSink(Path.of(file));
+    }
+
+    /**
+     * Streams the trade events to a Unix domain socket.
+     *
+     * @param path The socket file, from trading.outbox.socket.path.
+     * @return The socket sink.
+     */
+    @Bean
+    @ConditionalOnProperty("trading.outbox.socket.path")
+    public SocketTradeEventSink unixSocketTradeEventSink(@Value("${trading.outbox.socket.path}") String path) {
+        return new SocketTradeEventSink(UnixDomainSocketAddress.of(path));
+    }
+
+    /**
+     * Streams the trade events to a TCP socket, on the local host unless
+     * trading.outbox.socket.host says otherwise.
+     *
+     * @param host The host, from trading.outbox.socket.host.
+     * @param port The port, from trading.outbox.socket.port.
+     * @return The socket sink.
+     */
+    @Bean
+    @ConditionalOnProperty("trading.outbox.socket.port")
+    public SocketTradeEventSink tcpSocketTradeEventSink(
+            @Value("${trading.outbox.socket.host:localhost}") String host,
+            @Value("${trading.outbox.socket.port}") int port) {
+        return new SocketTradeEventSink(new InetSocketAddress(host, port));
+    }
+}
@@ -0,0 +1,49 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the number of SQL statements run by each request in the
+ * trading.db.queries distribution, tagged like http.server.requests with the
+ * HTTP method and the URI pattern.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "trading.db.queries";
+
+    private final QueryCountInspector queryCountInspector;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(QueryCountInspector queryCountInspector, MeterRegistry meterRegistry) {
+        this.queryCountInspector = queryCountInspector;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        queryCountInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements run per request")
+                    .baseUnit("queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(queryCountInspector.getCount());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so the
+ * number of queries run by one request can be recorded.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private final ThreadLocal<long[]> count = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Starts a new count on the current thread.
+     */
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    /**
+     * @return The number of statements prepared on the current thread since
+     *         the last reset.
+     */
+    public long getCount() {
+        return count.get()[0];
+    }
+}
@@ -0,0 +1,14 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the {@code @Scheduled} jobs, such as the nightly rule evaluation.
+ * They run on the scheduler Spring Boot configures with the
+ * spring.task.scheduling.* properties.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
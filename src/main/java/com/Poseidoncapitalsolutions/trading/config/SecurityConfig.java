@@ -1,15 +1,21 @@
 package com.poseidoncapitalsolutions.trading.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -35,8 +41,20 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Encodes new passwords as {bcrypt} hashes with the configured work factor.
+     * Hashes without an {id} prefix are still matched as BCrypt, and are
+     * reported as needing an upgrade, like hashes of a lower strength, so
+     * they are rehashed on the next successful login.
+     *
+     * @param bcryptStrength The BCrypt log rounds, between 4 and 31.
+     * @return The password encoder.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${trading.security.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
\ No newline at end of file
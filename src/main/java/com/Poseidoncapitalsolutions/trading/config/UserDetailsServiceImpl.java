@@ -3,42 +3,110 @@ package com.poseidoncapitalsolutions.trading.config;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.poseidoncapitalsolutions.trading.model.User;
 import com.poseidoncapitalsolutions.trading.repository.UserRepository;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final Cache userDetailsCache;
+    private final AtomicLong generation = new AtomicLong();
     Logger logger = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, CacheManager cacheManager) {
         this.userRepository = userRepository;
+        this.userDetailsCache = cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
     }
 
+    /**
+     * Loads the User with the given username, from the cache when present.
+     * A new UserDetails is built on each call because Spring Security erases
+     * the credentials of the returned instance after authentication.
+     * <p>
+     * A cached User is only used if no eviction happened since it was read,
+     * so a User read before a change commits is never served after it.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username);
+        CachedUser cached = userDetailsCache.get(username, CachedUser.class);
 
-        if (user == null) {
-            logger.error("User not found in the database");
-            throw new UsernameNotFoundException("User not found in the database");
+        if (cached == null || cached.generation() != generation.get()) {
+            long readGeneration = generation.get();
+            User user = userRepository.findByUsername(username);
+
+            if (user == null) {
+                logger.error("User not found in the database");
+                throw new UsernameNotFoundException("User not found in the database");
+            }
+
+            cached = new CachedUser(user.getUsername(), user.getPassword(), user.getRole(), readGeneration);
+            userDetailsCache.put(username, cached);
         }
 
+        return new org.springframework.security.core.userdetails.User(
+                cached.username(),
+                cached.password(),
+                getAuthorities(cached.role()));
+    }
+
+    /**
+     * Stores the rehashed password of a User, called by Spring Security after
+     * a successful login when the stored hash needs an upgrade.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        String role = user.getAuthorities().iterator().next().getAuthority();
+        userDetailsCache.put(user.getUsername(),
+                new CachedUser(user.getUsername(), newPassword, role, generation.get()));
+        logger.info("Password hash upgraded for user {}", user.getUsername());
+
         return new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
-                user.getPassword(),
-                getAuthorities(user.getRole()));
+                newPassword,
+                user.getAuthorities());
+    }
+
+    /**
+     * Evicts the cached login details of every User, once the current
+     * transaction commits, or right away outside a transaction. Logins that
+     * read a User before the eviction are not served from the cache after it.
+     */
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        userDetailsCache.clear();
     }
 
     private Collection<? extends GrantedAuthority> getAuthorities(String role) {
@@ -46,4 +114,11 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         authorities.add(new SimpleGrantedAuthority(role));
         return authorities;
     }
-}
\ No newline at end of file
+
+    /**
+     * Immutable copy of the fields needed to authenticate a User, along with
+     * the eviction generation it was read in.
+     */
+    record CachedUser(String username, String password, String role, long generation) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports the virtual threads pinned to their carrier thread, read from the
+ * JDK Flight Recorder events of this JVM. A virtual thread that blocks inside
+ * a synchronized block, as some JDBC drivers do around their socket reads,
+ * cannot unmount and holds one of the few carrier threads for the whole wait.
+ * Only active in the virtual thread mode.
+ * <p>
+ * {@value #PINNED_METRIC} times the pinned waits longer than
+ * trading.virtual-threads.pinned-threshold, tagged with the first frame
+ * outside of the JDK, the code that blocked; the first pinning of each frame
+ * is logged with its stack trace. {@value #SUBMIT_FAILED_METRIC} counts the
+ * virtual threads that could not be scheduled.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_METRIC = "trading.virtual-threads.pinned";
+    static final String SUBMIT_FAILED_METRIC = "trading.virtual-threads.submit-failed";
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    static final int MAX_SITES = 100;
+    static final String OTHER_SITE = "other";
+    static final String JDK_SITE = "jdk";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final Map<String, Timer> sites = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Counter submitFailed;
+
+    private volatile RecordingStream stream;
+
+    /**
+     * Constructs a VirtualThreadPinningMonitor.
+     *
+     * @param meterRegistry The registry of the pinning metrics.
+     * @param threshold     The shortest pinned wait reported.
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${trading.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.submitFailed = Counter.builder(SUBMIT_FAILED_METRIC)
+                .description("Virtual threads that could not be scheduled")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.enable(SUBMIT_FAILED_EVENT);
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.increment());
+            recording.startAsync();
+            stream = recording;
+        } catch (RuntimeException e) {
+            logger.warn("Flight Recorder unavailable, pinned virtual threads are not reported", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = site(frames);
+        Timer timer = sites.get(site);
+        if (timer == null) {
+            if (sites.size() >= MAX_SITES) {
+                site = OTHER_SITE;
+            }
+            timer = sites.computeIfAbsent(site, this::register);
+            if (timer.count() == 0) {
+                logger.warn("Virtual thread pinned for {} ms at {}\n{}", event.getDuration().toMillis(), site,
+                        frames.stream().map(frame -> "\tat " + frameName(frame)).collect(Collectors.joining("\n")));
+            }
+        }
+        timer.record(event.getDuration());
+    }
+
+    private Timer register(String site) {
+        return Timer.builder(PINNED_METRIC)
+                .description("Time virtual threads stayed pinned to their carrier thread")
+                .tag("site", site)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param frames The stack of a pinned virtual thread, innermost first.
+     * @return The first method outside of the JDK, or {@value #JDK_SITE}.
+     */
+    static String site(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return frameName(frame);
+            }
+        }
+        return JDK_SITE;
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
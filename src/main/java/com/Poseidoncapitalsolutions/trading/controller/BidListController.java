@@ -1,7 +1,9 @@
 package com.poseidoncapitalsolutions.trading.controller;
 
-import java.util.List;
-
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -9,9 +11,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
 import com.poseidoncapitalsolutions.trading.dto.BidListDTO;
 import com.poseidoncapitalsolutions.trading.mapper.BidListMapper;
+import com.poseidoncapitalsolutions.trading.model.BidList;
 import com.poseidoncapitalsolutions.trading.service.BidListService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,29 +35,43 @@ public class BidListController {
 
     private BidListService bidListService;
     private BidListMapper bidListMapper;
+    private BlotterHub blotterHub;
 
     /**
      * Constructs a BidListController with the given service and mapper.
      * 
      * @param bidListService The service to interact with BidList data.
      * @param bidListMapper  The mapper to convert BidList entities to DTOs.
+     * @param blotterHub     The live blotter the list page subscribes to.
      */
-    public BidListController(BidListService bidListService, BidListMapper bidListMapper) {
+    public BidListController(BidListService bidListService, BidListMapper bidListMapper, BlotterHub blotterHub) {
         this.bidListService = bidListService;
         this.bidListMapper = bidListMapper;
+        this.blotterHub = blotterHub;
     }
 
     /**
-     * Displays a list of all bid lists.
+     * Displays one page of bid lists, optionally filtered. The page then
+     * receives the changed rows from the live blotter, from the sequence
+     * number read before the query.
      * 
-     * @param model The model to add the bid lists to.
-     * @return The view name for the bid list page.
+     * @param account  Prefix of the account to filter on, or null for no
+     *                 filtering.
+     * @param pageable The page number, size and sort order to display.
+     * @param model    The model to add the bid lists to.
+     * @return The view name for the bid lists page.
      */
-    @Operation(summary = "Get all bid lists", description = "Returns a page with the list of all bid lists")
+    @Operation(summary = "Get a page of bid lists", description = "Returns a page with the bid lists matching the optional filter")
     @GetMapping("/bidList/list")
-    public String home(Model model) {
-        List<BidListDTO> lists = bidListService.getListResponseDTO(bidListService.findAll());
-        model.addAttribute("bidLists", lists);
+    public String home(
+            @Parameter(description = "Prefix of the account to filter on") @RequestParam(name = "account", required = false) String account,
+            @ParameterObject @SortDefault("id") Pageable pageable,
+            Model model) {
+        model.addAttribute("blotterSequence", blotterHub.getSequence());
+        Page<BidListDTO> page = bidListService.findListPage(account, pageable);
+        model.addAttribute("bidLists", page.getContent());
+        model.addAttribute("page", page);
+        model.addAttribute("account", account);
         return "bidList/list";
     }
 
@@ -0,0 +1,69 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterTable;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller responsible for the live blotter, streaming the changes of the
+ * Trade and BidList rows to the list pages.
+ */
+@RestController
+@Tag(name = "Blotter Controller", description = "API for the live trade and bid list blotter")
+public class BlotterController {
+
+    private BlotterHub blotterHub;
+
+    /**
+     * Constructs a BlotterController with the given hub.
+     *
+     * @param blotterHub The hub streaming the changes.
+     */
+    public BlotterController(BlotterHub blotterHub) {
+        this.blotterHub = blotterHub;
+    }
+
+    /**
+     * Streams the changes of the rows as server-sent events: a "changes"
+     * event carries a JSON array of changed rows, a deleted row having a null
+     * row, and a "reset" event asks the page to reload.
+     *
+     * @param tables      The lists to stream, omitted for all.
+     * @param since       The sequence number the page was rendered at.
+     * @param lastEventId The ID of the last event received, sent by a
+     *                    reconnecting browser, taking over from since.
+     * @return The event stream.
+     */
+    @Operation(summary = "Stream the row changes", description = "Server-sent events with the changes of the trade and bid list rows committed after the given sequence number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "503", description = "Too many connected clients")
+    })
+    @GetMapping(path = "/blotter/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(description = "Lists to stream") @RequestParam(required = false) Set<BlotterTable> tables,
+            @Parameter(description = "Sequence number the page was rendered at") @RequestParam(required = false) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        try {
+            return blotterHub.subscribe(tables == null ? Set.of() : tables, lastEventId != null ? lastEventId : since);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+    }
+}
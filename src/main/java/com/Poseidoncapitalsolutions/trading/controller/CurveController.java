@@ -1,7 +1,9 @@
 package com.poseidoncapitalsolutions.trading.controller;
 
-import java.util.List;
-
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -9,9 +11,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.poseidoncapitalsolutions.trading.dto.CurvePointDTO;
 import com.poseidoncapitalsolutions.trading.mapper.CurvepointMapper;
+import com.poseidoncapitalsolutions.trading.model.CurvePoint;
 import com.poseidoncapitalsolutions.trading.service.CurvePointService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,16 +48,24 @@ public class CurveController {
     }
 
     /**
-     * Displays a list of all curve points.
+     * Displays one page of curve points, optionally filtered.
      * 
-     * @param model The model to add the curve points to.
+     * @param curveId  ID of the curve to filter on, or null for no
+     *                 filtering.
+     * @param pageable The page number, size and sort order to display.
+     * @param model    The model to add the curve points to.
      * @return The view name for the curve points page.
      */
-    @Operation(summary = "Get all curve points", description = "Returns a page with the list of all curve points")
+    @Operation(summary = "Get a page of curve points", description = "Returns a page with the curve points matching the optional filter")
     @GetMapping("/curvePoint/list")
-    public String home(Model model) {
-        List<CurvePointDTO> lists = curvePointService.getListResponseDTO(curvePointService.findAll());
-        model.addAttribute("curvePoints", lists);
+    public String home(
+            @Parameter(description = "ID of the curve to filter on") @RequestParam(name = "curveId", required = false) Integer curveId,
+            @ParameterObject @SortDefault("id") Pageable pageable,
+            Model model) {
+        Page<CurvePointDTO> page = curvePointService.findListPage(curveId, pageable);
+        model.addAttribute("curvePoints", page.getContent());
+        model.addAttribute("page", page);
+        model.addAttribute("curveId", curveId);
         return "curvePoint/list";
     }
 
@@ -0,0 +1,129 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryStore;
+import com.poseidoncapitalsolutions.trading.curve.InterpolationMethod;
+import com.poseidoncapitalsolutions.trading.dto.CurveHistoryExportDTO;
+import com.poseidoncapitalsolutions.trading.dto.CurveHistoryResponseDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.CurvePointService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller responsible for the curve history file, and for the time series
+ * read from it.
+ */
+@RestController
+@Tag(name = "Curve History Controller", description = "API for the historical curves")
+public class CurveHistoryController {
+
+    private CurvePointService curvePointService;
+    private Path historyFile;
+
+    /**
+     * Constructs a CurveHistoryController with the given service.
+     *
+     * @param curvePointService The service managing the curve history.
+     * @param historyFile       The curve history file.
+     */
+    public CurveHistoryController(CurvePointService curvePointService,
+            @Value("${trading.curve.history.file:var/curve-history.bin}") String historyFile) {
+        this.curvePointService = curvePointService;
+        this.historyFile = Path.of(historyFile);
+    }
+
+    /**
+     * Exports the curve points to the curve history file, then loads it.
+     *
+     * @return The file written, with its number of series and points.
+     * @throws IOException If the file cannot be written.
+     */
+    @Operation(summary = "Export the curve history", description = "Writes every curve point to the curve history file and loads it")
+    @ApiResponse(responseCode = "200", description = "Curve history exported")
+    @PostMapping("/curve/history/export")
+    public CurveHistoryExportDTO exportHistory() throws IOException {
+        return toExportDTO(curvePointService.exportHistory(historyFile));
+    }
+
+    /**
+     * Loads the curve history file written by a previous export.
+     *
+     * @return The file loaded, with its number of series and points.
+     * @throws IOException If the file cannot be read.
+     */
+    @Operation(summary = "Load the curve history", description = "Loads the curve history file written by a previous export")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Curve history loaded"),
+            @ApiResponse(responseCode = "404", description = "No curve history file")
+    })
+    @PostMapping("/curve/history/load")
+    public CurveHistoryExportDTO loadHistory() throws IOException {
+        try {
+            return toExportDTO(curvePointService.loadHistory(historyFile));
+        } catch (NoSuchFileException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No curve history file at " + historyFile, e);
+        }
+    }
+
+    /**
+     * Computes the value of a curve at one term, for every as-of date of a
+     * range of the curve history.
+     *
+     * @param curveId The curve ID.
+     * @param term    The term.
+     * @param method  The interpolation method.
+     * @param from    The first as-of date, inclusive, or null for the first one.
+     * @param to      The last as-of date, inclusive, or null for the last one.
+     * @return The as-of dates and the values at the term, in date order.
+     */
+    @Operation(summary = "Curve time series", description = "Returns the value of a curve at one term for every as-of date of the curve history")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Time series computed"),
+            @ApiResponse(responseCode = "400", description = "Method not supported by the curve"),
+            @ApiResponse(responseCode = "404", description = "No curve history loaded")
+    })
+    @GetMapping("/curve/history")
+    public CurveHistoryResponseDTO getHistory(@RequestParam int curveId, @RequestParam double term,
+            @RequestParam(defaultValue = "LINEAR") InterpolationMethod method,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            CurveHistoryStore.Cursor cursor = curvePointService.findHistory(curveId,
+                    from == null ? null : Timestamp.valueOf(from), to == null ? null : Timestamp.valueOf(to));
+            Timestamp[] asOfDates = new Timestamp[cursor.count()];
+            double[] values = new double[cursor.count()];
+            for (int i = 0; cursor.next(); i++) {
+                asOfDates[i] = new Timestamp(cursor.asOfDate());
+                values[i] = method == InterpolationMethod.LINEAR ? cursor.interpolateLinear(term)
+                        : cursor.toCurve().interpolate(term, method);
+            }
+            return new CurveHistoryResponseDTO(curveId, term, method, asOfDates, values);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private CurveHistoryExportDTO toExportDTO(CurveHistoryStore store) {
+        return new CurveHistoryExportDTO(store.getFile().toString(), store.getSeriesCount(), store.getPointCount());
+    }
+}
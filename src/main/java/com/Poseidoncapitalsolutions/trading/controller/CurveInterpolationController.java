@@ -0,0 +1,67 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshot;
+import com.poseidoncapitalsolutions.trading.dto.CurveInterpolationRequestDTO;
+import com.poseidoncapitalsolutions.trading.dto.CurveInterpolationResponseDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.CurveService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller responsible for the interpolation of curves at arbitrary terms.
+ */
+@RestController
+@Tag(name = "Curve Interpolation Controller", description = "API for curve interpolation")
+public class CurveInterpolationController {
+
+    private CurveService curveService;
+
+    /**
+     * Constructs a CurveInterpolationController with the given service.
+     *
+     * @param curveService The service interpolating the curves.
+     */
+    public CurveInterpolationController(CurveService curveService) {
+        this.curveService = curveService;
+    }
+
+    /**
+     * Interpolates a curve at the requested terms. Every term is evaluated on
+     * the same snapshot of the curve, whose as-of date and version are
+     * returned with the values.
+     *
+     * @param request The curve, as-of date, method and terms to evaluate.
+     * @return The interpolated values, in the order of the terms.
+     */
+    @Operation(summary = "Interpolate a curve", description = "Returns the values of a curve at the given terms, flat outside the range of its points")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Curve interpolated"),
+            @ApiResponse(responseCode = "400", description = "Invalid request, or method not supported by the curve"),
+            @ApiResponse(responseCode = "404", description = "Curve not found")
+    })
+    @PostMapping("/curve/interpolate")
+    public CurveInterpolationResponseDTO interpolate(@RequestBody @Valid CurveInterpolationRequestDTO request) {
+        try {
+            CurveSnapshot snapshot = curveService.getSnapshot(request.getCurveId(), request.getAsOfDate());
+            double[] values = snapshot.curve().interpolate(request.getTerms(), request.getMethod());
+            return new CurveInterpolationResponseDTO(snapshot.curveId(), snapshot.asOfDate(), snapshot.version(),
+                    request.getMethod(), values);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
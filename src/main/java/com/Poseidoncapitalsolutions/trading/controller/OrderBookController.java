@@ -0,0 +1,85 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.poseidoncapitalsolutions.trading.dto.OrderBookDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.OrderBookService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller responsible for the order books aggregated from the BidList bids
+ * and asks.
+ */
+@RestController
+@Tag(name = "Order Book Controller", description = "API for the order books of the BidLists")
+public class OrderBookController {
+
+    private OrderBookService orderBookService;
+
+    /**
+     * Constructs an OrderBookController with the given service.
+     *
+     * @param orderBookService The service holding the order books.
+     */
+    public OrderBookController(OrderBookService orderBookService) {
+        this.orderBookService = orderBookService;
+    }
+
+    /**
+     * Retrieves the best levels of the order book of a security.
+     *
+     * @param security The security.
+     * @param depth    The number of levels per side.
+     * @return The order book.
+     */
+    @Operation(summary = "Get an order book", description = "Returns the best bid and ask of a security and its bid and ask levels, best first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order book found"),
+            @ApiResponse(responseCode = "404", description = "Nothing quoted on that security")
+    })
+    @GetMapping("/orderbook")
+    public OrderBookDTO getOrderBook(@RequestParam String security,
+            @RequestParam(defaultValue = "10") int depth) {
+        try {
+            return orderBookService.getOrderBook(security, depth);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lists the securities with an order book.
+     *
+     * @return The securities, sorted.
+     */
+    @Operation(summary = "List order books", description = "Returns the securities with at least one bid or ask")
+    @ApiResponse(responseCode = "200", description = "Securities listed")
+    @GetMapping("/orderbooks")
+    public List<String> getSecurities() {
+        return orderBookService.getSecurities();
+    }
+
+    /**
+     * Rebuilds every order book from the BidLists in the database.
+     *
+     * @return The number of quotes read.
+     */
+    @Operation(summary = "Rebuild the order books", description = "Recomputes every order book from the BidLists in the database")
+    @ApiResponse(responseCode = "200", description = "Order books rebuilt")
+    @PostMapping("/orderbook/rebuild")
+    public int rebuild() {
+        return orderBookService.rebuild();
+    }
+}
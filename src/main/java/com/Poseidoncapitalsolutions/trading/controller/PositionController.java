@@ -0,0 +1,87 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.poseidoncapitalsolutions.trading.dto.PositionDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.PositionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller responsible for the positions and P&amp;L aggregated from the
+ * Trades.
+ */
+@RestController
+@Tag(name = "Position Controller", description = "API for positions and P&L")
+public class PositionController {
+
+    private PositionService positionService;
+
+    /**
+     * Constructs a PositionController with the given service.
+     *
+     * @param positionService The service holding the positions.
+     */
+    public PositionController(PositionService positionService) {
+        this.positionService = positionService;
+    }
+
+    /**
+     * Retrieves the position of an account in a book on a security.
+     *
+     * @param account  The account.
+     * @param book     The book, omitted for the trades without a book.
+     * @param security The security, omitted for the trades without a security.
+     * @return The position.
+     */
+    @Operation(summary = "Get a position", description = "Returns the net position, average price and realized P&L of an account in a book on a security")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Position found"),
+            @ApiResponse(responseCode = "404", description = "No trade in that position")
+    })
+    @GetMapping("/position")
+    public PositionDTO getPosition(@RequestParam String account, @RequestParam(required = false) String book,
+            @RequestParam(required = false) String security) {
+        try {
+            return positionService.getPosition(account, book, security);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves every position, or those of one account.
+     *
+     * @param account The account, omitted for all.
+     * @return The positions, sorted by account, book and security.
+     */
+    @Operation(summary = "List positions", description = "Returns every position, or those of one account")
+    @ApiResponse(responseCode = "200", description = "Positions listed")
+    @GetMapping("/positions")
+    public List<PositionDTO> findAll(@RequestParam(required = false) String account) {
+        return positionService.findAll(account);
+    }
+
+    /**
+     * Rebuilds every position from the trades in the database.
+     *
+     * @return The number of trades read.
+     */
+    @Operation(summary = "Rebuild the positions", description = "Recomputes every position from the trades in the database")
+    @ApiResponse(responseCode = "200", description = "Positions rebuilt")
+    @PostMapping("/position/rebuild")
+    public int rebuild() {
+        return positionService.rebuild();
+    }
+}
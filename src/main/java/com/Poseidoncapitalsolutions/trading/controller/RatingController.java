@@ -1,7 +1,9 @@
 package com.poseidoncapitalsolutions.trading.controller;
 
-import java.util.List;
-
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -9,9 +11,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.poseidoncapitalsolutions.trading.dto.RatingDTO;
 import com.poseidoncapitalsolutions.trading.mapper.RatingMapper;
+import com.poseidoncapitalsolutions.trading.model.Rating;
 import com.poseidoncapitalsolutions.trading.service.RatingService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,16 +48,24 @@ public class RatingController {
     }
 
     /**
-     * Displays a list of all ratings.
+     * Displays one page of ratings, optionally filtered.
      * 
-     * @param model The model to add the ratings to.
+     * @param moodysRating Prefix of the Moody's rating to filter on, or null for no
+     *                     filtering.
+     * @param pageable     The page number, size and sort order to display.
+     * @param model        The model to add the ratings to.
      * @return The view name for the ratings page.
      */
-    @Operation(summary = "Get all ratings", description = "Returns a page with the list of all ratings")
+    @Operation(summary = "Get a page of ratings", description = "Returns a page with the ratings matching the optional filter")
     @GetMapping("/rating/list")
-    public String home(Model model) {
-        List<RatingDTO> lists = ratingService.getListResponseDTO(ratingService.findAll());
-        model.addAttribute("ratings", lists);
+    public String home(
+            @Parameter(description = "Prefix of the Moody's rating to filter on") @RequestParam(name = "moodysRating", required = false) String moodysRating,
+            @ParameterObject @SortDefault("id") Pageable pageable,
+            Model model) {
+        Page<RatingDTO> page = ratingService.findListPage(moodysRating, pageable);
+        model.addAttribute("ratings", page.getContent());
+        model.addAttribute("page", page);
+        model.addAttribute("moodysRating", moodysRating);
         return "rating/list";
     }
 
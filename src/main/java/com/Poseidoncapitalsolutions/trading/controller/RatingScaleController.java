@@ -0,0 +1,60 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.poseidoncapitalsolutions.trading.dto.RatingGradeDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.RatingService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller responsible for the translation of ratings between agencies.
+ */
+@RestController
+@Tag(name = "Rating Scale Controller", description = "API for the rating scale")
+public class RatingScaleController {
+
+    private RatingService ratingService;
+
+    /**
+     * Constructs a RatingScaleController with the given service.
+     *
+     * @param ratingService The service holding the rating scale.
+     */
+    public RatingScaleController(RatingService ratingService) {
+        this.ratingService = ratingService;
+    }
+
+    /**
+     * Translates the rating of an agency into its rank and the equivalent
+     * ratings of the other agencies.
+     *
+     * @param agency The agency of the rating: moodys, sandp or fitch.
+     * @param rating The rating.
+     * @return The grade of the rating.
+     */
+    @Operation(summary = "Translate a rating", description = "Returns the order number of a rating and the equivalent ratings of the other agencies")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rating found"),
+            @ApiResponse(responseCode = "400", description = "Unknown agency"),
+            @ApiResponse(responseCode = "404", description = "Rating not on the scale of the agency")
+    })
+    @GetMapping("/rating/scale")
+    public RatingGradeDTO getGrade(@RequestParam String agency, @RequestParam String rating) {
+        try {
+            return ratingService.findGrade(agency, rating);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
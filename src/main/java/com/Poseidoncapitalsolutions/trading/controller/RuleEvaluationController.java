@@ -0,0 +1,126 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.poseidoncapitalsolutions.trading.dto.RuleBatchReportDTO;
+import com.poseidoncapitalsolutions.trading.dto.RuleQueryResultDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.rule.RuleSyntaxException;
+import com.poseidoncapitalsolutions.trading.service.RuleEvaluationService;
+import com.poseidoncapitalsolutions.trading.service.RuleQueryService;
+import com.poseidoncapitalsolutions.trading.service.RuleReportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller responsible for running the RuleNames: their conditions against
+ * the Trades, their queries and their templates.
+ */
+@RestController
+@Tag(name = "Rule Evaluation Controller", description = "API for the evaluation of the rules")
+public class RuleEvaluationController {
+
+    private RuleEvaluationService ruleEvaluationService;
+    private RuleQueryService ruleQueryService;
+    private RuleReportService ruleReportService;
+
+    /**
+     * Constructs a RuleEvaluationController with the given services.
+     *
+     * @param ruleEvaluationService The service evaluating the rules.
+     * @param ruleQueryService      The service running the rule queries.
+     * @param ruleReportService     The service rendering the rule templates.
+     */
+    public RuleEvaluationController(RuleEvaluationService ruleEvaluationService, RuleQueryService ruleQueryService,
+            RuleReportService ruleReportService) {
+        this.ruleEvaluationService = ruleEvaluationService;
+        this.ruleQueryService = ruleQueryService;
+        this.ruleReportService = ruleReportService;
+    }
+
+    /**
+     * Evaluates every active rule against every trade, as the nightly run
+     * does.
+     *
+     * @return The report of the run.
+     */
+    @Operation(summary = "Evaluate the rules", description = "Runs every active rule against every trade, records the violations and returns the rows per second and the cost of each rule")
+    @ApiResponse(responseCode = "200", description = "Rules evaluated")
+    @PostMapping("/rules/evaluate")
+    public RuleBatchReportDTO evaluate() {
+        return ruleEvaluationService.evaluateAll();
+    }
+
+    /**
+     * Runs the query of a rule.
+     *
+     * @param id The RuleName ID.
+     * @return The rows of its sqlStr, restricted by its conditions.
+     */
+    @Operation(summary = "Run the query of a rule", description = "Returns the rows of the sqlStr of a rule, filtered by its sqlPart, cached for a few minutes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Query run"),
+            @ApiResponse(responseCode = "400", description = "Invalid query"),
+            @ApiResponse(responseCode = "404", description = "Rule not found")
+    })
+    @GetMapping("/rules/{id}/rows")
+    public RuleQueryResultDTO query(@PathVariable int id) {
+        try {
+            return ruleQueryService.query(id);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (RuleSyntaxException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Streams the template of a rule rendered for every record of a table.
+     *
+     * @param id    The RuleName ID.
+     * @param table Trade or BidList.
+     * @return The report, one line per record.
+     */
+    @Operation(summary = "Render the template of a rule", description = "Streams the template of a rule rendered for every trade or bid list, one line each")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid template or table"),
+            @ApiResponse(responseCode = "404", description = "Rule not found")
+    })
+    @GetMapping("/rules/{id}/report")
+    public ResponseEntity<StreamingResponseBody> report(@PathVariable int id,
+            @RequestParam(defaultValue = "Trade") String table) {
+        RuleReportService.Report report;
+        try {
+            report = ruleReportService.report(id, table);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (RuleSyntaxException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        StreamingResponseBody body = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 1 << 16);
+            report.writeTo(writer);
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(body);
+    }
+}
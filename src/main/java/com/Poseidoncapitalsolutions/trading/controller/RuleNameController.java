@@ -1,7 +1,9 @@
 package com.poseidoncapitalsolutions.trading.controller;
 
-import java.util.List;
-
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -9,9 +11,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.poseidoncapitalsolutions.trading.dto.RuleNameDTO;
 import com.poseidoncapitalsolutions.trading.mapper.RuleNameMapper;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
 import com.poseidoncapitalsolutions.trading.service.RuleNameService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,16 +48,24 @@ public class RuleNameController {
     }
 
     /**
-     * Displays a list of all rule names.
+     * Displays one page of rule names, optionally filtered.
      * 
-     * @param model The model to add the rule names to.
-     * @return The view name for the rule name list page.
+     * @param name     Prefix of the rule name to filter on, or null for no
+     *                 filtering.
+     * @param pageable The page number, size and sort order to display.
+     * @param model    The model to add the rule names to.
+     * @return The view name for the rule names page.
      */
-    @Operation(summary = "Get all rule names", description = "Returns a page with the list of all rule names")
+    @Operation(summary = "Get a page of rule names", description = "Returns a page with the rule names matching the optional filter")
     @GetMapping("/ruleName/list")
-    public String home(Model model) {
-        List<RuleNameDTO> lists = ruleNameService.getListResponseDTO(ruleNameService.findAll());
-        model.addAttribute("ruleNames", lists);
+    public String home(
+            @Parameter(description = "Prefix of the rule name to filter on") @RequestParam(name = "name", required = false) String name,
+            @ParameterObject @SortDefault("id") Pageable pageable,
+            Model model) {
+        Page<RuleNameDTO> page = ruleNameService.findListPage(name, pageable);
+        model.addAttribute("ruleNames", page.getContent());
+        model.addAttribute("page", page);
+        model.addAttribute("name", name);
         return "ruleName/list";
     }
 
@@ -1,7 +1,5 @@
 package com.poseidoncapitalsolutions.trading.controller;
 
-import java.util.List;
-
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -9,7 +7,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.dto.KeysetPageDTO;
 import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
 import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
 import com.poseidoncapitalsolutions.trading.service.TradeService;
@@ -33,29 +34,42 @@ public class TradeController {
 
     private TradeService tradeService;
     private TradeMapper tradeMapper;
+    private BlotterHub blotterHub;
 
     /**
      * Constructs a TradeController with the given service and mapper.
      * 
      * @param tradeService The service to interact with Trade data.
      * @param tradeMapper  The mapper to convert Trade entities to DTOs.
+     * @param blotterHub   The live blotter the list page subscribes to.
      */
-    public TradeController(TradeService tradeService, TradeMapper tradeMapper) {
+    public TradeController(TradeService tradeService, TradeMapper tradeMapper, BlotterHub blotterHub) {
         this.tradeService = tradeService;
         this.tradeMapper = tradeMapper;
+        this.blotterHub = blotterHub;
     }
 
     /**
-     * Displays a list of all trades.
+     * Displays one page of trades, ordered by ID. The page then receives the
+     * changed rows from the live blotter, from the sequence number read
+     * before the query.
      * 
-     * @param model The model to add the trades to.
+     * @param afterId The ID of the last trade of the previous page, 0 for the
+     *                first page.
+     * @param size    The number of trades per page.
+     * @param model   The model to add the trades to.
      * @return The view name for the trades page.
      */
-    @Operation(summary = "Get all trades", description = "Returns a page with the list of all trades")
+    @Operation(summary = "Get a page of trades", description = "Returns a page with the trades following the given ID")
     @GetMapping("/trade/list")
-    public String home(Model model) {
-        List<TradeDTO> lists = tradeService.getListResponseDTO(tradeService.findAll());
-        model.addAttribute("trades", lists);
+    public String home(
+            @Parameter(description = "ID of the last trade of the previous page") @RequestParam(name = "after", defaultValue = "0") int afterId,
+            @Parameter(description = "Number of trades per page") @RequestParam(name = "size", defaultValue = "${trading.trade.page-size:50}") int size,
+            Model model) {
+        model.addAttribute("blotterSequence", blotterHub.getSequence());
+        KeysetPageDTO<TradeDTO> page = tradeService.findKeysetPage(afterId, size);
+        model.addAttribute("trades", page.getContent());
+        model.addAttribute("page", page);
         return "trade/list";
     }
 
@@ -0,0 +1,75 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.poseidoncapitalsolutions.trading.dto.TradeImportReportDTO;
+import com.poseidoncapitalsolutions.trading.service.TradeImportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller responsible for the bulk import of Trades from CSV or JSON files.
+ */
+@RestController
+@Tag(name = "Trade Import Controller", description = "API for bulk trade import")
+public class TradeImportController {
+
+    private TradeImportService tradeImportService;
+
+    /**
+     * Constructs a TradeImportController with the given service.
+     *
+     * @param tradeImportService The service importing the trades.
+     */
+    public TradeImportController(TradeImportService tradeImportService) {
+        this.tradeImportService = tradeImportService;
+    }
+
+    /**
+     * Imports the trades of an uploaded file. The format is taken from the file
+     * extension, or from the content type when there is no extension.
+     *
+     * @param file The CSV or JSON file to import.
+     * @return The import report.
+     * @throws IOException If the file cannot be read.
+     */
+    @Operation(summary = "Bulk import trades", description = "Imports the trades of a CSV or JSON file and returns a report with the rejected rows")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File imported"),
+            @ApiResponse(responseCode = "400", description = "Malformed file"),
+            @ApiResponse(responseCode = "415", description = "Unsupported file format")
+    })
+    @PostMapping(value = "/trade/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public TradeImportReportDTO importTrades(
+            @Parameter(description = "CSV file with the columns account, type and buyQuantity, or JSON array of trades") @RequestParam("file") MultipartFile file)
+            throws IOException {
+        String name = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+        String contentType = file.getContentType() == null ? "" : file.getContentType();
+        try (InputStream input = file.getInputStream()) {
+            if (name.endsWith(".csv") || (!name.contains(".") && contentType.startsWith("text/csv"))) {
+                return tradeImportService.importCsv(input);
+            }
+            if (name.endsWith(".json") || (!name.contains(".") && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE))) {
+                return tradeImportService.importJson(input);
+            }
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Only CSV and JSON files can be imported");
+    }
+}
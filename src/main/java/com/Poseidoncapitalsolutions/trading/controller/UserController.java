@@ -1,5 +1,9 @@
 package com.poseidoncapitalsolutions.trading.controller;
 
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -7,9 +11,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.poseidoncapitalsolutions.trading.dto.UserDTO;
 import com.poseidoncapitalsolutions.trading.mapper.UserMapper;
+import com.poseidoncapitalsolutions.trading.model.User;
 import com.poseidoncapitalsolutions.trading.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,15 +46,24 @@ public class UserController {
     }
 
     /**
-     * Displays a list of all users in the system.
+     * Displays one page of users, optionally filtered.
      * 
-     * @param model The model to add the list of users to.
-     * @return The view name for the users list page.
+     * @param username Prefix of the username to filter on, or null for no
+     *                 filtering.
+     * @param pageable The page number, size and sort order to display.
+     * @param model    The model to add the users to.
+     * @return The view name for the users page.
      */
-    @Operation(summary = "Get all users", description = "Returns a list of all users in the system")
+    @Operation(summary = "Get a page of users", description = "Returns a page with the users matching the optional filter")
     @GetMapping("/user/list")
-    public String home(Model model) {
-        model.addAttribute("users", userService.findAll());
+    public String home(
+            @Parameter(description = "Prefix of the username to filter on") @RequestParam(name = "username", required = false) String username,
+            @ParameterObject @SortDefault("id") Pageable pageable,
+            Model model) {
+        Page<UserDTO> page = userService.findListPage(username, pageable);
+        model.addAttribute("users", page.getContent());
+        model.addAttribute("page", page);
+        model.addAttribute("username", username);
         return "user/list";
     }
 
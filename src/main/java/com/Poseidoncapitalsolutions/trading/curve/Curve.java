@@ -0,0 +1,272 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable curve of values by term, built from the CurvePoints of one curve
+ * at one date. Terms and values are held in primitive arrays, and everything
+ * an interpolation needs (logarithms of the values, spline second
+ * derivatives) is computed once when the curve is built, so a lookup is a
+ * binary search followed by a few arithmetic operations.
+ * <p>
+ * Outside the range of its terms the curve is flat: it returns the value of
+ * the first or last point.
+ */
+public final class Curve {
+
+    private final double[] terms;
+    private final double[] values;
+    private final double[] logValues;
+    private final double[] secondDerivatives;
+
+    private Curve(double[] terms, double[] values) {
+        this.terms = terms;
+        this.values = values;
+        this.logValues = logarithms(values);
+        this.secondDerivatives = naturalSplineSecondDerivatives(terms, values);
+    }
+
+    /**
+     * Builds a curve from its points.
+     *
+     * @param terms  The terms, in strictly increasing order.
+     * @param values The values, one per term.
+     * @return The curve, holding copies of the arrays.
+     * @throws IllegalArgumentException If the arrays are empty or of different
+     *                                  lengths, if a number is not finite or if
+     *                                  the terms are not strictly increasing.
+     */
+    public static Curve of(double[] terms, double[] values) {
+        if (terms.length == 0 || terms.length != values.length) {
+            throw new IllegalArgumentException("A curve needs as many values as terms, and at least one point");
+        }
+        for (int i = 0; i < terms.length; i++) {
+            if (!Double.isFinite(terms[i]) || !Double.isFinite(values[i])) {
+                throw new IllegalArgumentException("Curve terms and values must be finite numbers");
+            }
+            if (i > 0 && terms[i] <= terms[i - 1]) {
+                throw new IllegalArgumentException("Curve terms must be strictly increasing");
+            }
+        }
+        return new Curve(terms.clone(), values.clone());
+    }
+
+    /**
+     * Builds a curve from points sorted by term. When several points share a
+     * term, the last one wins.
+     *
+     * @param nodes The points, sorted by term.
+     * @return The curve.
+     * @throws IllegalArgumentException If there is no point or a number is not
+     *                                  finite.
+     */
+    public static Curve fromSortedNodes(List<CurveNode> nodes) {
+        double[] terms = new double[nodes.size()];
+        double[] values = new double[nodes.size()];
+        int size = 0;
+        for (CurveNode node : nodes) {
+            if (size > 0 && node.term() == terms[size - 1]) {
+                values[size - 1] = node.value();
+            } else {
+                terms[size] = node.term();
+                values[size] = node.value();
+                size++;
+            }
+        }
+        return of(Arrays.copyOf(terms, size), Arrays.copyOf(values, size));
+    }
+
+    /**
+     * @return The number of points of the curve.
+     */
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * @return A copy of the terms of the curve.
+     */
+    public double[] getTerms() {
+        return terms.clone();
+    }
+
+    /**
+     * @return A copy of the values of the curve.
+     */
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    /**
+     * Tells whether the curve supports the given interpolation method.
+     * Log-linear interpolation needs every value to be positive.
+     *
+     * @param method The interpolation method.
+     * @return True if {@link #interpolate(double, InterpolationMethod)} can
+     *         use the method.
+     */
+    public boolean supports(InterpolationMethod method) {
+        return method != InterpolationMethod.LOG_LINEAR || logValues != null;
+    }
+
+    /**
+     * Computes the value of the curve at one term.
+     *
+     * @param term   The term.
+     * @param method The interpolation method.
+     * @return The interpolated value.
+     * @throws IllegalArgumentException If the curve does not support the
+     *                                  method.
+     */
+    public double interpolate(double term, InterpolationMethod method) {
+        checkSupported(method);
+        int last = terms.length - 1;
+        if (last == 0 || term <= terms[0]) {
+            return values[0];
+        }
+        if (term >= terms[last]) {
+            return values[last];
+        }
+        return evaluate(segment(term), term, method);
+    }
+
+    /**
+     * Computes the value of the curve at many terms.
+     *
+     * @param terms  The terms, in any order.
+     * @param method The interpolation method.
+     * @return The interpolated values, in the order of the terms.
+     * @throws IllegalArgumentException If the curve does not support the
+     *                                  method.
+     */
+    public double[] interpolate(double[] terms, InterpolationMethod method) {
+        double[] result = new double[terms.length];
+        interpolate(terms, method, result);
+        return result;
+    }
+
+    /**
+     * Computes the value of the curve at many terms, into an array supplied by
+     * the caller. Terms in increasing order are the fastest: consecutive terms
+     * falling in the same or the next segment skip the binary search.
+     *
+     * @param terms  The terms, in any order.
+     * @param method The interpolation method.
+     * @param result The array receiving the values, at least as long as the
+     *               terms.
+     * @throws IllegalArgumentException If the curve does not support the
+     *                                  method or the result array is too
+     *                                  short.
+     */
+    public void interpolate(double[] terms, InterpolationMethod method, double[] result) {
+        checkSupported(method);
+        if (result.length < terms.length) {
+            throw new IllegalArgumentException("The result array is shorter than the terms");
+        }
+        double[] nodes = this.terms;
+        int last = nodes.length - 1;
+        int segment = 0;
+        for (int k = 0; k < terms.length; k++) {
+            double term = terms[k];
+            if (last == 0 || term <= nodes[0]) {
+                result[k] = values[0];
+            } else if (term >= nodes[last]) {
+                result[k] = values[last];
+            } else {
+                if (term < nodes[segment] || term >= nodes[segment + 1]) {
+                    segment = segment + 2 <= last && term >= nodes[segment + 1] && term < nodes[segment + 2]
+                            ? segment + 1
+                            : segment(term);
+                }
+                result[k] = evaluate(segment, term, method);
+            }
+        }
+    }
+
+    /**
+     * Finds the segment holding a term strictly inside the curve range.
+     *
+     * @return The index i such that terms[i] <= term < terms[i + 1].
+     */
+    private int segment(double term) {
+        int low = 0;
+        int high = terms.length - 2;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (terms[middle] <= term) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private double evaluate(int segment, double term, InterpolationMethod method) {
+        double width = terms[segment + 1] - terms[segment];
+        double weight = (term - terms[segment]) / width;
+        switch (method) {
+            case LINEAR:
+                return values[segment] + weight * (values[segment + 1] - values[segment]);
+            case LOG_LINEAR:
+                return Math.exp(logValues[segment] + weight * (logValues[segment + 1] - logValues[segment]));
+            default:
+                double complement = 1.0 - weight;
+                return complement * values[segment] + weight * values[segment + 1]
+                        + ((complement * complement * complement - complement) * secondDerivatives[segment]
+                                + (weight * weight * weight - weight) * secondDerivatives[segment + 1])
+                                * width * width / 6.0;
+        }
+    }
+
+    private void checkSupported(InterpolationMethod method) {
+        if (!supports(method)) {
+            throw new IllegalArgumentException("Log-linear interpolation needs a curve with positive values");
+        }
+    }
+
+    /**
+     * @return The natural logarithms of the values, or null if a value is not
+     *         positive.
+     */
+    private static double[] logarithms(double[] values) {
+        double[] logarithms = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] <= 0) {
+                return null;
+            }
+            logarithms[i] = Math.log(values[i]);
+        }
+        return logarithms;
+    }
+
+    /**
+     * Solves the tridiagonal system of the natural cubic spline through the
+     * points, in linear time.
+     *
+     * @return The second derivative of the spline at each term, zero at both
+     *         ends.
+     */
+    private static double[] naturalSplineSecondDerivatives(double[] terms, double[] values) {
+        int size = terms.length;
+        double[] second = new double[size];
+        if (size < 3) {
+            return second;
+        }
+        double[] rhs = new double[size];
+        for (int i = 1; i < size - 1; i++) {
+            double ratio = (terms[i] - terms[i - 1]) / (terms[i + 1] - terms[i - 1]);
+            double pivot = ratio * second[i - 1] + 2.0;
+            second[i] = (ratio - 1.0) / pivot;
+            double slopeChange = (values[i + 1] - values[i]) / (terms[i + 1] - terms[i])
+                    - (values[i] - values[i - 1]) / (terms[i] - terms[i - 1]);
+            rhs[i] = (6.0 * slopeChange / (terms[i + 1] - terms[i - 1]) - ratio * rhs[i - 1]) / pivot;
+        }
+        second[size - 1] = 0.0;
+        for (int i = size - 2; i >= 0; i--) {
+            second[i] = second[i] * second[i + 1] + rhs[i];
+        }
+        return second;
+    }
+}
@@ -0,0 +1,14 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import java.sql.Timestamp;
+
+/**
+ * One CurvePoint as streamed to a {@link CurveHistoryWriter}.
+ *
+ * @param curveId  The curve ID.
+ * @param asOfDate The as-of date.
+ * @param term     The term.
+ * @param value    The value of the curve at that term.
+ */
+public record CurveHistoryRow(int curveId, Timestamp asOfDate, double term, double value) {
+}
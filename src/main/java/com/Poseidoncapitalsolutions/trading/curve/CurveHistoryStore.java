@@ -0,0 +1,295 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+
+/**
+ * Read-only view of a curve history file written by
+ * {@link CurveHistoryWriter}. The file is memory-mapped, and only its footer
+ * is copied on the heap, into primitive arrays sorted by curve ID and as-of
+ * date. Terms and values are read straight from the mapping, so scanning a
+ * range of as-of dates allocates nothing per point; the operating system
+ * pages the file in and out as needed. A store is safe for concurrent use,
+ * each thread using its own {@link Cursor}.
+ * <p>
+ * A file is mapped as a whole and must stay under 2 GB, about 130 million
+ * points.
+ */
+public final class CurveHistoryStore {
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int[] curveIds;
+    private final long[] asOfDates;
+    private final int[] offsets;
+    private final int[] sizes;
+    private final long pointCount;
+
+    private CurveHistoryStore(Path file, MappedByteBuffer buffer, int[] curveIds, long[] asOfDates, int[] offsets,
+            int[] sizes, long pointCount) {
+        this.file = file;
+        this.buffer = buffer;
+        this.curveIds = curveIds;
+        this.asOfDates = asOfDates;
+        this.offsets = offsets;
+        this.sizes = sizes;
+        this.pointCount = pointCount;
+    }
+
+    /**
+     * Maps a curve history file.
+     *
+     * @param file The file.
+     * @return The store.
+     * @throws IOException If the file cannot be read or is not a curve history
+     *                     file.
+     */
+    public static CurveHistoryStore open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Curve history file " + file + " is larger than 2 GB");
+            }
+            if (length < CurveHistoryWriter.HEADER_BYTES + Integer.BYTES + CurveHistoryWriter.TRAILER_BYTES) {
+                throw new IOException("Curve history file " + file + " is truncated");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        int length = buffer.capacity();
+        if (buffer.getInt(0) != CurveHistoryWriter.MAGIC
+                || buffer.getInt(length - Integer.BYTES) != CurveHistoryWriter.MAGIC) {
+            throw new IOException("File " + file + " is not a curve history file");
+        }
+        if (buffer.getInt(Integer.BYTES) != CurveHistoryWriter.FORMAT_VERSION) {
+            throw new IOException("Curve history file " + file + " has an unsupported format version");
+        }
+        long footerOffset = buffer.getLong(length - CurveHistoryWriter.TRAILER_BYTES);
+        if (footerOffset < CurveHistoryWriter.HEADER_BYTES
+                || footerOffset > length - CurveHistoryWriter.TRAILER_BYTES - Integer.BYTES) {
+            throw new IOException("Curve history file " + file + " is corrupted");
+        }
+        int footer = (int) footerOffset;
+        int count = buffer.getInt(footer);
+        if (count < 0 || (long) count * CurveHistoryWriter.FOOTER_ENTRY_BYTES
+                != length - CurveHistoryWriter.TRAILER_BYTES - footer - Integer.BYTES) {
+            throw new IOException("Curve history file " + file + " is corrupted");
+        }
+
+        int[] curveIds = new int[count];
+        long[] asOfDates = new long[count];
+        int[] offsets = new int[count];
+        int[] sizes = new int[count];
+        long pointCount = 0;
+        int entry = footer + Integer.BYTES;
+        for (int i = 0; i < count; i++, entry += CurveHistoryWriter.FOOTER_ENTRY_BYTES) {
+            curveIds[i] = buffer.getInt(entry);
+            asOfDates[i] = buffer.getLong(entry + 4);
+            long offset = buffer.getLong(entry + 12);
+            sizes[i] = buffer.getInt(entry + 20);
+            if (offset < CurveHistoryWriter.HEADER_BYTES || sizes[i] <= 0
+                    || offset + 2L * Double.BYTES * sizes[i] > footerOffset) {
+                throw new IOException("Curve history file " + file + " is corrupted");
+            }
+            offsets[i] = (int) offset;
+            pointCount += sizes[i];
+        }
+        return new CurveHistoryStore(file, buffer, curveIds, asOfDates, offsets, sizes, pointCount);
+    }
+
+    /**
+     * @return The mapped file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return The number of series, one per curve and as-of date.
+     */
+    public int getSeriesCount() {
+        return curveIds.length;
+    }
+
+    /**
+     * @return The number of points over all series.
+     */
+    public long getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Opens a cursor over the series of a curve between two as-of dates, in
+     * date order.
+     *
+     * @param curveId The curve ID.
+     * @param from    The first as-of date, inclusive, or null for the first one.
+     * @param to      The last as-of date, inclusive, or null for the last one.
+     * @return The cursor, positioned before the first series.
+     */
+    public Cursor range(int curveId, Timestamp from, Timestamp to) {
+        return range(curveId, from == null ? Long.MIN_VALUE : from.getTime(),
+                to == null ? Long.MAX_VALUE : to.getTime());
+    }
+
+    /**
+     * Opens a cursor over the series of a curve between two as-of dates, in
+     * date order.
+     *
+     * @param curveId The curve ID.
+     * @param from    The first as-of date in epoch milliseconds, inclusive.
+     * @param to      The last as-of date in epoch milliseconds, inclusive.
+     * @return The cursor, positioned before the first series.
+     */
+    public Cursor range(int curveId, long from, long to) {
+        int start = lowerBound(curveId, from);
+        int end = to == Long.MAX_VALUE ? lowerBound(curveId + 1L, Long.MIN_VALUE) : lowerBound(curveId, to + 1);
+        return new Cursor(start, Math.max(start, end));
+    }
+
+    /**
+     * Finds the first series at or after a curve ID and as-of date.
+     */
+    private int lowerBound(long curveId, long asOfDate) {
+        int low = 0;
+        int high = curveIds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (curveIds[middle] < curveId || (curveIds[middle] == curveId && asOfDates[middle] < asOfDate)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Forward-only cursor over the series of one curve. Its accessors read the
+     * mapped file directly and are only valid after {@link #next()} returned
+     * true. A cursor is not safe for concurrent use.
+     */
+    public final class Cursor {
+
+        private final int start;
+        private final int end;
+        private int series;
+        private int termsOffset;
+        private int valuesOffset;
+        private int size;
+
+        private Cursor(int start, int end) {
+            this.start = start;
+            this.end = end;
+            this.series = start - 1;
+        }
+
+        /**
+         * Moves to the next series.
+         *
+         * @return False once every series has been visited.
+         */
+        public boolean next() {
+            if (series + 1 >= end) {
+                series = end;
+                size = 0;
+                return false;
+            }
+            series++;
+            size = sizes[series];
+            termsOffset = offsets[series];
+            valuesOffset = termsOffset + size * Double.BYTES;
+            return true;
+        }
+
+        /**
+         * @return The number of series in the range.
+         */
+        public int count() {
+            return end - start;
+        }
+
+        /**
+         * @return The as-of date of the series, in epoch milliseconds.
+         */
+        public long asOfDate() {
+            return asOfDates[series];
+        }
+
+        /**
+         * @return The number of points of the series.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param index The index of the point, from 0 to {@link #size()}.
+         * @return Its term; terms increase with the index.
+         */
+        public double term(int index) {
+            return buffer.getDouble(termsOffset + index * Double.BYTES);
+        }
+
+        /**
+         * @param index The index of the point, from 0 to {@link #size()}.
+         * @return Its value.
+         */
+        public double value(int index) {
+            return buffer.getDouble(valuesOffset + index * Double.BYTES);
+        }
+
+        /**
+         * Interpolates the series linearly, reading the mapped file without
+         * copying it. Values are extrapolated flat, as {@link Curve} does.
+         *
+         * @param term The term.
+         * @return The value at that term.
+         */
+        public double interpolateLinear(double term) {
+            if (term <= term(0)) {
+                return value(0);
+            }
+            int last = size - 1;
+            if (term >= term(last)) {
+                return value(last);
+            }
+            int low = 0;
+            int high = last;
+            while (high - low > 1) {
+                int middle = (low + high) >>> 1;
+                if (term(middle) <= term) {
+                    low = middle;
+                } else {
+                    high = middle;
+                }
+            }
+            double t0 = term(low);
+            double v0 = value(low);
+            return v0 + (value(high) - v0) * (term - t0) / (term(high) - t0);
+        }
+
+        /**
+         * Copies the series into a {@link Curve}, for the methods that need
+         * precomputed coefficients.
+         *
+         * @return The curve of the series.
+         */
+        public Curve toCurve() {
+            double[] terms = new double[size];
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                terms[i] = term(i);
+                values[i] = value(i);
+            }
+            return Curve.of(terms, values);
+        }
+    }
+}
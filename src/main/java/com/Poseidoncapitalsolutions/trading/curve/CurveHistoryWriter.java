@@ -0,0 +1,224 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes a curve history file, the columnar format read by
+ * {@link CurveHistoryStore}. Points must be added sorted by curve ID, as-of
+ * date and term; the points of one curve at one as-of date form a series,
+ * stored as a column of terms followed by a column of values.
+ * <p>
+ * Layout, little-endian:
+ * <pre>
+ * header   magic int, format version int
+ * series   terms double[n], values double[n]      (once per series)
+ * footer   series count int, then per series:
+ *          curve ID int, as-of date epoch millis long, offset long, n int
+ * trailer  footer offset long, magic int
+ * </pre>
+ * The file is written next to its destination and moved into place by
+ * {@link #finish()}, so readers never see a partial file. Closing a writer
+ * that was not finished discards what it wrote.
+ */
+public final class CurveHistoryWriter implements Closeable {
+
+    static final int MAGIC = 0x43525648;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int FOOTER_ENTRY_BYTES = 24;
+    static final int TRAILER_BYTES = 12;
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+
+    private long position;
+    private double[] terms = new double[64];
+    private double[] values = new double[64];
+    private int size;
+    private int curveId;
+    private long asOfDate;
+
+    private int[] seriesCurveIds = new int[256];
+    private long[] seriesAsOfDates = new long[256];
+    private long[] seriesOffsets = new long[256];
+    private int[] seriesSizes = new int[256];
+    private int seriesCount;
+    private long pointCount;
+    private boolean finished;
+
+    /**
+     * Starts a new curve history file.
+     *
+     * @param target The file to write, replaced on close if it exists.
+     * @throws IOException If the temporary file cannot be created.
+     */
+    public CurveHistoryWriter(Path target) throws IOException {
+        this.target = target.toAbsolutePath();
+        Files.createDirectories(this.target.getParent());
+        this.temporary = Files.createTempFile(this.target.getParent(), this.target.getFileName().toString(), ".tmp");
+        this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+        position = HEADER_BYTES;
+    }
+
+    /**
+     * Adds one point. When a point repeats the term of the previous one, it
+     * replaces it.
+     *
+     * @param curveId  The curve ID.
+     * @param asOfDate The as-of date, in epoch milliseconds.
+     * @param term     The term.
+     * @param value    The value.
+     * @throws IOException              If the file cannot be written.
+     * @throws IllegalArgumentException If the point is out of order or a
+     *                                  number is not finite.
+     */
+    public void add(int curveId, long asOfDate, double term, double value) throws IOException {
+        if (!Double.isFinite(term) || !Double.isFinite(value)) {
+            throw new IllegalArgumentException("Curve terms and values must be finite numbers");
+        }
+        boolean sameSeries = size > 0 && curveId == this.curveId && asOfDate == this.asOfDate;
+        if (size > 0 && !sameSeries) {
+            if (curveId < this.curveId || (curveId == this.curveId && asOfDate < this.asOfDate)) {
+                throw new IllegalArgumentException("Points must be sorted by curve ID and as-of date");
+            }
+            flushSeries();
+        }
+        if (sameSeries && term <= terms[size - 1]) {
+            if (term < terms[size - 1]) {
+                throw new IllegalArgumentException("Points of a series must be sorted by term");
+            }
+            values[size - 1] = value;
+            return;
+        }
+        if (size == terms.length) {
+            terms = Arrays.copyOf(terms, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        this.curveId = curveId;
+        this.asOfDate = asOfDate;
+        terms[size] = term;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * @return The number of series written so far.
+     */
+    public int getSeriesCount() {
+        return seriesCount + (size > 0 ? 1 : 0);
+    }
+
+    /**
+     * @return The number of points written so far.
+     */
+    public long getPointCount() {
+        return pointCount + size;
+    }
+
+    /**
+     * Writes the footer and moves the file into place.
+     *
+     * @throws IOException If the file cannot be written or moved.
+     */
+    public void finish() throws IOException {
+        flushSeries();
+        long footerOffset = position;
+        putInt(seriesCount);
+        for (int i = 0; i < seriesCount; i++) {
+            putInt(seriesCurveIds[i]);
+            putLong(seriesAsOfDates[i]);
+            putLong(seriesOffsets[i]);
+            putInt(seriesSizes[i]);
+        }
+        putLong(footerOffset);
+        putInt(MAGIC);
+        drain();
+        channel.force(true);
+        channel.close();
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+    }
+
+    /**
+     * Releases the file, deleting it unless {@link #finish()} succeeded.
+     *
+     * @throws IOException If the temporary file cannot be deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void flushSeries() throws IOException {
+        if (size == 0) {
+            return;
+        }
+        if (seriesCount == seriesCurveIds.length) {
+            int capacity = seriesCount * 2;
+            seriesCurveIds = Arrays.copyOf(seriesCurveIds, capacity);
+            seriesAsOfDates = Arrays.copyOf(seriesAsOfDates, capacity);
+            seriesOffsets = Arrays.copyOf(seriesOffsets, capacity);
+            seriesSizes = Arrays.copyOf(seriesSizes, capacity);
+        }
+        seriesCurveIds[seriesCount] = curveId;
+        seriesAsOfDates[seriesCount] = asOfDate;
+        seriesOffsets[seriesCount] = position;
+        seriesSizes[seriesCount] = size;
+        seriesCount++;
+        for (int i = 0; i < size; i++) {
+            putDouble(terms[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            putDouble(values[i]);
+        }
+        pointCount += size;
+        size = 0;
+    }
+
+    private void putInt(int value) throws IOException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+        position += Integer.BYTES;
+    }
+
+    private void putLong(long value) throws IOException {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+        position += Long.BYTES;
+    }
+
+    private void putDouble(double value) throws IOException {
+        ensureRemaining(Double.BYTES);
+        buffer.putDouble(value);
+        position += Double.BYTES;
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
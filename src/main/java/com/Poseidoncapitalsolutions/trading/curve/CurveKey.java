@@ -0,0 +1,12 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import java.sql.Timestamp;
+
+/**
+ * Identifies a curve: the CurvePoints sharing a curve ID and an as-of date.
+ *
+ * @param curveId  The curve ID.
+ * @param asOfDate The as-of date, or null for the latest curve of the ID.
+ */
+public record CurveKey(int curveId, Timestamp asOfDate) {
+}
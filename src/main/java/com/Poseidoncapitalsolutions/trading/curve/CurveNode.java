@@ -0,0 +1,10 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+/**
+ * One point of a curve as read from the CurvePoint table.
+ *
+ * @param term  The term of the point.
+ * @param value The value of the curve at that term.
+ */
+public record CurveNode(double term, double value) {
+}
@@ -0,0 +1,23 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import java.sql.Timestamp;
+
+/**
+ * Immutable view of a whole curve at one point in time. A write to the curve
+ * never changes a snapshot: it publishes a new one with a higher version, and
+ * readers holding the old one keep a consistent view until they drop it.
+ *
+ * @param curveId  The curve ID.
+ * @param asOfDate The as-of date of the points, or null if the curve has none.
+ * @param version  The version, increasing with each snapshot built.
+ * @param curve    The curve, or null if it has no point.
+ */
+public record CurveSnapshot(int curveId, Timestamp asOfDate, long version, Curve curve) {
+
+    /**
+     * @return True if the curve had no point when the snapshot was built.
+     */
+    public boolean isEmpty() {
+        return curve == null;
+    }
+}
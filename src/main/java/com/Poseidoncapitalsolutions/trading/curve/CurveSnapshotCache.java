@@ -0,0 +1,209 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poseidoncapitalsolutions.trading.repository.CurvePointRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Holds the latest {@link CurveSnapshot} of the curves being read. Reads are a
+ * lock-free lookup and never wait for a writer. A write to a curve rebuilds
+ * its snapshots already held from the database once the write is committed
+ * and swaps them in atomically; the replaced snapshot is released when its
+ * last reader drops it. A write never adds a snapshot, so a bulk load does
+ * not fill the cache with curves nobody reads.
+ * <p>
+ * The cache is a bounded Caffeine cache: beyond its maximum size, the
+ * snapshots read least often and least recently are dropped.
+ * <p>
+ * Every rebuild takes a version from a global counter before reading the
+ * database, and a snapshot only replaces one of a lower version. A rebuild
+ * that started later has seen every write committed before it started, so
+ * a slow rebuild can never overwrite a fresher one.
+ * <p>
+ * A write committed while a miss is reading its curve finds no snapshot to
+ * rebuild yet, so it is recorded against the miss instead: once its snapshot
+ * is in the cache, the miss reads the curve again if a write committed after
+ * its version, and a stale snapshot never outlives the write.
+ */
+@Component
+public class CurveSnapshotCache {
+
+    static final String REBUILD_METRIC = "trading.curve.snapshot.rebuild";
+    static final String SIZE_METRIC = "trading.curve.snapshots";
+
+    private final Cache<CurveKey, CurveSnapshot> snapshots;
+    private final ConcurrentMap<CurveKey, PendingMiss> pendingMisses = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final CurvePointRepository curvePointRepository;
+    private final Timer missRebuildTimer;
+    private final Timer writeRebuildTimer;
+
+    /**
+     * Constructs a CurveSnapshotCache.
+     *
+     * @param curvePointRepository The repository the curves are read from.
+     * @param meterRegistry        The registry of the rebuild time and cache
+     *                             size metrics.
+     * @param maxSize              The number of snapshots above which the
+     *                             least used ones are dropped.
+     */
+    public CurveSnapshotCache(CurvePointRepository curvePointRepository, MeterRegistry meterRegistry,
+            @Value("${trading.curve.snapshot.max-size:10000}") int maxSize) {
+        this.curvePointRepository = curvePointRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .executor(Runnable::run)
+                .build();
+        this.missRebuildTimer = rebuildTimer(meterRegistry, "miss");
+        this.writeRebuildTimer = rebuildTimer(meterRegistry, "write");
+        Gauge.builder(SIZE_METRIC, snapshots, Cache::estimatedSize)
+                .description("Curve snapshots held in memory")
+                .register(meterRegistry);
+    }
+
+    private static Timer rebuildTimer(MeterRegistry meterRegistry, String cause) {
+        return Timer.builder(REBUILD_METRIC)
+                .description("Time to read a curve and build its snapshot")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the current snapshot of a curve, building it on first use.
+     *
+     * @param curveId  The curve ID.
+     * @param asOfDate The as-of date, or null for the latest curve of the ID.
+     * @return The snapshot, empty if the curve has no point.
+     */
+    public CurveSnapshot get(int curveId, Timestamp asOfDate) {
+        CurveKey key = new CurveKey(curveId, asOfDate);
+        CurveSnapshot snapshot = snapshots.getIfPresent(key);
+
+        if (snapshot == null) {
+            pendingMisses.compute(key, (k, pending) -> pending == null ? new PendingMiss() : pending.join());
+            try {
+                CurveSnapshot built;
+                do {
+                    long version = versions.incrementAndGet();
+                    built = missRebuildTimer.record(() -> load(key, version));
+                    snapshot = snapshots.asMap().merge(key, built, CurveSnapshotCache::newer);
+                } while (lastWriteDuringMiss(key) > built.version());
+            } finally {
+                pendingMisses.computeIfPresent(key, (k, pending) -> pending.leave());
+            }
+        }
+
+        return snapshot;
+    }
+
+    private long lastWriteDuringMiss(CurveKey key) {
+        return pendingMisses.get(key).lastWrite;
+    }
+
+    /**
+     * Publishes new snapshots of a curve after one of its points was written,
+     * along with the latest curve of the ID, for those already held. Inside a
+     * transaction the snapshots are rebuilt once it commits, and not at all if
+     * it rolls back.
+     *
+     * @param curveId  The curve ID of the written point, may be null.
+     * @param asOfDate The as-of date of the written point, may be null.
+     */
+    public void publish(Integer curveId, Timestamp asOfDate) {
+        if (curveId == null || asOfDate == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuildAfterWrite(curveId, asOfDate);
+                }
+            });
+        } else {
+            rebuildAfterWrite(curveId, asOfDate);
+        }
+    }
+
+    /**
+     * @return The number of snapshots held.
+     */
+    public int size() {
+        snapshots.cleanUp();
+        return (int) snapshots.estimatedSize();
+    }
+
+    private void rebuildAfterWrite(int curveId, Timestamp asOfDate) {
+        refresh(new CurveKey(curveId, asOfDate));
+        refresh(new CurveKey(curveId, null));
+    }
+
+    /**
+     * Rebuilds a snapshot if it is held, and swaps it in unless it was
+     * dropped meanwhile. The write is recorded against a miss of the key
+     * before looking for the snapshot, so either the miss sees the write or
+     * the write sees the snapshot of the miss.
+     */
+    private void refresh(CurveKey key) {
+        long version = versions.incrementAndGet();
+        pendingMisses.computeIfPresent(key, (k, pending) -> pending.written(version));
+        if (!snapshots.asMap().containsKey(key)) {
+            return;
+        }
+        CurveSnapshot built = writeRebuildTimer.record(() -> load(key, version));
+        snapshots.asMap().computeIfPresent(key, (k, current) -> newer(current, built));
+    }
+
+    private static CurveSnapshot newer(CurveSnapshot current, CurveSnapshot candidate) {
+        return candidate.version() > current.version() ? candidate : current;
+    }
+
+    private CurveSnapshot load(CurveKey key, long version) {
+        Timestamp date = key.asOfDate() != null
+                ? key.asOfDate()
+                : curvePointRepository.findLatestAsOfDate(key.curveId());
+        List<CurveNode> nodes = date == null ? List.of() : curvePointRepository.findCurveNodes(key.curveId(), date);
+        Curve curve = nodes.isEmpty() ? null : Curve.fromSortedNodes(nodes);
+        return new CurveSnapshot(key.curveId(), date, version, curve);
+    }
+
+    /**
+     * The misses reading a key, and the version of the last write to the key
+     * committed meanwhile. Only changed under the lock of its map entry;
+     * the miss holding it reads it once its snapshot is in the cache.
+     */
+    private static final class PendingMiss {
+
+        private int readers = 1;
+        private volatile long lastWrite;
+
+        private PendingMiss join() {
+            readers++;
+            return this;
+        }
+
+        private PendingMiss leave() {
+            return --readers == 0 ? null : this;
+        }
+
+        private PendingMiss written(long version) {
+            lastWrite = Math.max(lastWrite, version);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+/**
+ * The ways a {@link Curve} computes a value between two of its points.
+ */
+public enum InterpolationMethod {
+
+    /**
+     * Straight line between the two neighbouring points.
+     */
+    LINEAR,
+
+    /**
+     * Straight line between the logarithms of the two neighbouring values,
+     * as used for discount factors. Only available when every value of the
+     * curve is positive.
+     */
+    LOG_LINEAR,
+
+    /**
+     * Natural cubic spline through all the points of the curve, with a zero
+     * second derivative at both ends.
+     */
+    CUBIC_SPLINE
+}
@@ -0,0 +1,15 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CurveHistoryExportDTO {
+
+    private String file;
+
+    private int seriesCount;
+
+    private long pointCount;
+}
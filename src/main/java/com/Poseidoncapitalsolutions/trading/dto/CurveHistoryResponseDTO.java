@@ -0,0 +1,23 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.sql.Timestamp;
+
+import com.poseidoncapitalsolutions.trading.curve.InterpolationMethod;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CurveHistoryResponseDTO {
+
+    private int curveId;
+
+    private double term;
+
+    private InterpolationMethod method;
+
+    private Timestamp[] asOfDates;
+
+    private double[] values;
+}
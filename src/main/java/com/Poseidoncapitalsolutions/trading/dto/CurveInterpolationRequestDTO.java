@@ -0,0 +1,29 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.sql.Timestamp;
+
+import com.poseidoncapitalsolutions.trading.curve.InterpolationMethod;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurveInterpolationRequestDTO {
+
+    @NotNull(message = "Curve ID is required")
+    private Integer curveId;
+
+    private Timestamp asOfDate;
+
+    @NotNull(message = "Interpolation method is required")
+    private InterpolationMethod method;
+
+    @NotNull(message = "Terms are required")
+    @Size(min = 1, max = 100000, message = "Between 1 and 100000 terms can be interpolated per request")
+    private double[] terms;
+}
@@ -0,0 +1,23 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.sql.Timestamp;
+
+import com.poseidoncapitalsolutions.trading.curve.InterpolationMethod;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CurveInterpolationResponseDTO {
+
+    private int curveId;
+
+    private Timestamp asOfDate;
+
+    private long version;
+
+    private InterpolationMethod method;
+
+    private double[] values;
+}
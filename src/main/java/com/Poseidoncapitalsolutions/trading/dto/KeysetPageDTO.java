@@ -0,0 +1,27 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class KeysetPageDTO<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private int afterId;
+
+    private Integer nextAfterId;
+
+    public boolean isFirst() {
+        return afterId == 0;
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.util.List;
+
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookLevel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OrderBookDTO {
+
+    private String security;
+
+    private Double bestBid;
+
+    private Double bestAsk;
+
+    private Double spread;
+
+    private List<OrderBookLevel> bids;
+
+    private List<OrderBookLevel> asks;
+}
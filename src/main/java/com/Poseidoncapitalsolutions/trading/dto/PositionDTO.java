@@ -0,0 +1,31 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PositionDTO {
+
+    private String account;
+
+    private String book;
+
+    private String security;
+
+    private int tradeCount;
+
+    private double netQuantity;
+
+    private double averagePrice;
+
+    private double realizedPnl;
+
+    private double buyQuantity;
+
+    private double averageBuyPrice;
+
+    private double sellQuantity;
+
+    private double averageSellPrice;
+}
@@ -0,0 +1,23 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RatingGradeDTO {
+
+    private String agency;
+
+    private String rating;
+
+    private Integer orderNumber;
+
+    private String moodysRating;
+
+    private String sandPRating;
+
+    private String fitchRating;
+
+    private long scaleVersion;
+}
@@ -0,0 +1,24 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RuleBatchReportDTO {
+
+    private Timestamp detectedAt;
+
+    private long trades;
+
+    private long violations;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+
+    private List<RuleCostDTO> rules;
+}
@@ -0,0 +1,21 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RuleCostDTO {
+
+    private int ruleId;
+
+    private String name;
+
+    private long violations;
+
+    private double evaluationMillis;
+
+    private double nanosPerTrade;
+
+    private String error;
+}
@@ -1,9 +1,13 @@
 package com.poseidoncapitalsolutions.trading.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class RuleNameDTO {
 
     private int id;
@@ -0,0 +1,24 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RuleQueryResultDTO {
+
+    private int ruleId;
+
+    private int revision;
+
+    private List<String> columns;
+
+    private List<List<Object>> rows;
+
+    private boolean truncated;
+
+    private Timestamp executedAt;
+}
@@ -0,0 +1,13 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TradeImportRejectDTO {
+
+    private long row;
+
+    private String reason;
+}
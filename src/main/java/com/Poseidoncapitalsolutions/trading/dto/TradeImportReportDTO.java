@@ -0,0 +1,21 @@
+package com.poseidoncapitalsolutions.trading.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TradeImportReportDTO {
+
+    private long accepted;
+
+    private long rejected;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+
+    private List<TradeImportRejectDTO> rejects;
+}
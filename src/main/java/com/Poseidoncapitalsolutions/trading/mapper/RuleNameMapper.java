@@ -1,6 +1,7 @@
 package com.poseidoncapitalsolutions.trading.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import com.poseidoncapitalsolutions.trading.dto.RuleNameDTO;
 import com.poseidoncapitalsolutions.trading.model.RuleName;
@@ -10,5 +11,7 @@ public interface RuleNameMapper {
 
     public RuleNameDTO toDto(RuleName bidLists);
 
+    @Mapping(target = "revision", ignore = true)
+    @Mapping(target = "active", ignore = true)
     public RuleName toEntity(RuleNameDTO bidDTO);
 }
@@ -6,16 +6,20 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.sql.Timestamp;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "BidList")
 public class BidList {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bidListIdGenerator")
+    @TableGenerator(name = "bidListIdGenerator", table = "IdGenerator", pkColumnName = "name", valueColumnName = "nextVal", pkColumnValue = "BidList", allocationSize = 100)
     @Column(name = "Id")
     private int id;
 
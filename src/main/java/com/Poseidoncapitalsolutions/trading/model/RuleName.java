@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Data
@@ -35,4 +36,18 @@ public class RuleName {
 
     @Column(name = "sqlPart", length = 125)
     private String sqlPart;
-}
\ No newline at end of file
+
+    /**
+     * Raised on every update, so that a rule compiled by RuleEngine is
+     * compiled again once edited.
+     */
+    @Version
+    @Column(name = "revision")
+    private int revision;
+
+    /**
+     * False to leave the rule out of the nightly RuleBatch.
+     */
+    @Column(name = "active", nullable = false)
+    private boolean active = true;
+}
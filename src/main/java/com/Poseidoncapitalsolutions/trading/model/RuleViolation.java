@@ -0,0 +1,35 @@
+package com.poseidoncapitalsolutions.trading.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.sql.Timestamp;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "RuleViolation")
+public class RuleViolation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ruleViolationIdGenerator")
+    @TableGenerator(name = "ruleViolationIdGenerator", table = "IdGenerator", pkColumnName = "name", valueColumnName = "nextVal", pkColumnValue = "RuleViolation", allocationSize = 500)
+    @Column(name = "id")
+    private long id;
+
+    @Column(name = "ruleId", nullable = false)
+    private int ruleId;
+
+    @Column(name = "ruleRevision", nullable = false)
+    private int ruleRevision;
+
+    @Column(name = "tradeId", nullable = false)
+    private int tradeId;
+
+    @Column(name = "detectedAt", nullable = false)
+    private Timestamp detectedAt;
+}
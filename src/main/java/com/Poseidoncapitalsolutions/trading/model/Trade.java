@@ -6,16 +6,20 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.sql.Timestamp;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "Trade")
 public class Trade {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tradeIdGenerator")
+    @TableGenerator(name = "tradeIdGenerator", table = "IdGenerator", pkColumnName = "name", valueColumnName = "nextVal", pkColumnValue = "Trade", allocationSize = 100)
     @Column(name = "Id")
     private int Id;
 
@@ -0,0 +1,40 @@
+package com.poseidoncapitalsolutions.trading.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.sql.Timestamp;
+import lombok.Data;
+
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventType;
+
+@Data
+@Entity
+@Table(name = "TradeEvent")
+public class TradeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tradeEventIdGenerator")
+    @TableGenerator(name = "tradeEventIdGenerator", table = "IdGenerator", pkColumnName = "name", valueColumnName = "nextVal", pkColumnValue = "TradeEvent", allocationSize = 100)
+    @Column(name = "id")
+    private long id;
+
+    @Column(name = "tradeId", nullable = false)
+    private int tradeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 10)
+    private TradeEventType type;
+
+    @Column(name = "payload", nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "createdAt", nullable = false)
+    private Timestamp createdAt;
+}
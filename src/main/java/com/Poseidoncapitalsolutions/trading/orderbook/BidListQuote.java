@@ -0,0 +1,48 @@
+package com.poseidoncapitalsolutions.trading.orderbook;
+
+import com.poseidoncapitalsolutions.trading.model.BidList;
+
+/**
+ * The fields of a BidList that make up its orders: a bid, an ask, or both.
+ * A side counts only with a price and a positive quantity.
+ *
+ * @param bidListId   The BidList ID.
+ * @param security    The security, may be null.
+ * @param bid         The bid price, may be null.
+ * @param bidQuantity The bid quantity, may be null.
+ * @param ask         The ask price, may be null.
+ * @param askQuantity The ask quantity, may be null.
+ */
+public record BidListQuote(int bidListId, String security, Double bid, Double bidQuantity, Double ask,
+        Double askQuantity) {
+
+    /**
+     * @param bidList A BidList.
+     * @return Its quote.
+     */
+    public static BidListQuote of(BidList bidList) {
+        return new BidListQuote(bidList.getId(), bidList.getSecurity(), bidList.getBid(), bidList.getBidQuantity(),
+                bidList.getAsk(), bidList.getAskQuantity());
+    }
+
+    /**
+     * @return True if the quote has a bid.
+     */
+    public boolean hasBid() {
+        return bid != null && bidQuantity != null && bidQuantity > 0;
+    }
+
+    /**
+     * @return True if the quote has an ask.
+     */
+    public boolean hasAsk() {
+        return ask != null && askQuantity != null && askQuantity > 0;
+    }
+
+    /**
+     * @return True if the quote belongs in an order book.
+     */
+    public boolean isQuoted() {
+        return security != null && (hasBid() || hasAsk());
+    }
+}
@@ -0,0 +1,140 @@
+package com.poseidoncapitalsolutions.trading.orderbook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * The bids and asks of one security, aggregated by price level. Every method
+ * is synchronized on the book, so readers always see a consistent book and
+ * books of different securities never contend. A caller reading several
+ * values synchronizes on the book to see them from the same state.
+ */
+public final class OrderBook {
+
+    private final String security;
+    private final PriceLadder bids = new PriceLadder(true);
+    private final PriceLadder asks = new PriceLadder(false);
+
+    /**
+     * Constructs an empty OrderBook.
+     *
+     * @param security The security.
+     */
+    public OrderBook(String security) {
+        this.security = security;
+    }
+
+    /**
+     * @return The security.
+     */
+    public String getSecurity() {
+        return security;
+    }
+
+    /**
+     * Adds the bid and ask of a quote.
+     *
+     * @param quote The quote.
+     */
+    public synchronized void add(BidListQuote quote) {
+        if (quote.hasBid()) {
+            bids.add(quote.bid(), quote.bidQuantity());
+        }
+        if (quote.hasAsk()) {
+            asks.add(quote.ask(), quote.askQuantity());
+        }
+    }
+
+    /**
+     * Removes the bid and ask of a quote previously added.
+     *
+     * @param quote The quote.
+     */
+    public synchronized void remove(BidListQuote quote) {
+        if (quote.hasBid()) {
+            bids.remove(quote.bid(), quote.bidQuantity());
+        }
+        if (quote.hasAsk()) {
+            asks.remove(quote.ask(), quote.askQuantity());
+        }
+    }
+
+    /**
+     * @return True if the book has neither bid nor ask.
+     */
+    public synchronized boolean isEmpty() {
+        return bids.size() == 0 && asks.size() == 0;
+    }
+
+    /**
+     * @return The highest bid, empty without bids.
+     */
+    public synchronized OptionalDouble bestBid() {
+        return bids.size() == 0 ? OptionalDouble.empty() : OptionalDouble.of(bids.price(0));
+    }
+
+    /**
+     * @return The lowest ask, empty without asks.
+     */
+    public synchronized OptionalDouble bestAsk() {
+        return asks.size() == 0 ? OptionalDouble.empty() : OptionalDouble.of(asks.price(0));
+    }
+
+    /**
+     * @param price A price.
+     * @return The quantity bid at exactly that price.
+     */
+    public synchronized double bidQuantityAt(double price) {
+        return bids.quantityAt(price);
+    }
+
+    /**
+     * @param price A price.
+     * @return The quantity asked at exactly that price.
+     */
+    public synchronized double askQuantityAt(double price) {
+        return asks.quantityAt(price);
+    }
+
+    /**
+     * @param price A price.
+     * @return The number of bid levels at that price or higher.
+     */
+    public synchronized int bidLevelsThrough(double price) {
+        return bids.levelsThrough(price);
+    }
+
+    /**
+     * @param price A price.
+     * @return The number of ask levels at that price or lower.
+     */
+    public synchronized int askLevelsThrough(double price) {
+        return asks.levelsThrough(price);
+    }
+
+    /**
+     * @param depth The maximum number of levels.
+     * @return The best bid levels, best first.
+     */
+    public synchronized List<OrderBookLevel> bids(int depth) {
+        return levels(bids, depth);
+    }
+
+    /**
+     * @param depth The maximum number of levels.
+     * @return The best ask levels, best first.
+     */
+    public synchronized List<OrderBookLevel> asks(int depth) {
+        return levels(asks, depth);
+    }
+
+    private static List<OrderBookLevel> levels(PriceLadder ladder, int depth) {
+        int count = Math.min(depth, ladder.size());
+        List<OrderBookLevel> levels = new ArrayList<>(count);
+        for (int level = 0; level < count; level++) {
+            levels.add(new OrderBookLevel(ladder.price(level), ladder.quantity(level), ladder.orders(level)));
+        }
+        return levels;
+    }
+}
@@ -0,0 +1,11 @@
+package com.poseidoncapitalsolutions.trading.orderbook;
+
+/**
+ * One price level of an order book.
+ *
+ * @param price    The price.
+ * @param quantity The total quantity at that price.
+ * @param orders   The number of orders at that price.
+ */
+public record OrderBookLevel(double price, double quantity, int orders) {
+}
@@ -0,0 +1,179 @@
+package com.poseidoncapitalsolutions.trading.orderbook;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Holds the {@link OrderBook} of every security quoted by a BidList. Each
+ * committed BidList write replaces the quote of that BidList, removing its
+ * previous orders from their book and adding the new ones, so books are
+ * never rebuilt from the database outside of {@link #rebuild()}.
+ * <p>
+ * The last quote of every BidList is kept, which makes replaying a write
+ * harmless: a write committed while a rebuild reads the database waits for
+ * the rebuild, then changes nothing if the rebuild already saw it. The lock
+ * is held across that query, so it is a ReentrantLock rather than a monitor,
+ * which would pin a virtual thread to its carrier.
+ */
+@Component
+public class OrderBookRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderBookRegistry.class);
+
+    static final String REBUILD_METRIC = "trading.orderbook.rebuild";
+    static final String SIZE_METRIC = "trading.orderbooks";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Map<String, OrderBook> books = new ConcurrentHashMap<>();
+    private Map<Integer, BidListQuote> quotes = new HashMap<>();
+    private final BidListRepository bidListRepository;
+    private final Timer rebuildTimer;
+
+    /**
+     * Constructs an OrderBookRegistry.
+     *
+     * @param bidListRepository The repository the quotes are read from on a
+     *                          rebuild.
+     * @param meterRegistry     The registry of the rebuild time and order book
+     *                          count metrics.
+     */
+    public OrderBookRegistry(BidListRepository bidListRepository, MeterRegistry meterRegistry) {
+        this.bidListRepository = bidListRepository;
+        this.rebuildTimer = Timer.builder(REBUILD_METRIC)
+                .description("Time to rebuild every order book from the BidLists")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this, registry -> registry.books.size())
+                .description("Order books held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the order book of a security.
+     *
+     * @param security The security.
+     * @return The order book, or null if nothing is quoted on the security.
+     */
+    public OrderBook get(String security) {
+        return books.get(security);
+    }
+
+    /**
+     * @return The securities with an order book.
+     */
+    public List<String> getSecurities() {
+        return books.keySet().stream().sorted().toList();
+    }
+
+    /**
+     * Records the current quote of a BidList after it was added or updated.
+     * Inside a transaction the books change once it commits, and not at all
+     * if it rolls back.
+     *
+     * @param quote The quote of the BidList.
+     */
+    public void post(BidListQuote quote) {
+        afterCommit(quote.bidListId(), quote);
+    }
+
+    /**
+     * Removes the orders of a deleted BidList, once the transaction commits
+     * if there is one.
+     *
+     * @param bidListId The ID of the deleted BidList.
+     */
+    public void remove(int bidListId) {
+        afterCommit(bidListId, null);
+    }
+
+    /**
+     * Builds the order books once the application has started. The count of
+     * {@link #rebuild()} is left out, as a listener's return value would be
+     * published as another event.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds every order book from the BidLists in the database. Runs when
+     * the application starts, and can be called again to recover from a
+     * missed write. Writes committed meanwhile wait for it. The books are
+     * built apart and swapped in at once, so readers keep the previous books
+     * until then.
+     *
+     * @return The number of quotes read.
+     */
+    public int rebuild() {
+        return rebuildTimer.record(() -> {
+            lock.lock();
+            try {
+                List<BidListQuote> all = bidListRepository.findQuotes();
+                Map<String, OrderBook> rebuiltBooks = new ConcurrentHashMap<>();
+                Map<Integer, BidListQuote> rebuiltQuotes = HashMap.newHashMap(all.size());
+                all.forEach(quote -> apply(quote.bidListId(), quote, rebuiltBooks, rebuiltQuotes));
+                quotes = rebuiltQuotes;
+                books = rebuiltBooks;
+                logger.info("Rebuilt {} order books from {} quotes", rebuiltBooks.size(), all.size());
+                return all.size();
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private void afterCommit(int bidListId, BidListQuote quote) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyLocked(bidListId, quote);
+                }
+            });
+        } else {
+            applyLocked(bidListId, quote);
+        }
+    }
+
+    private void applyLocked(int bidListId, BidListQuote quote) {
+        lock.lock();
+        try {
+            apply(bidListId, quote, books, quotes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void apply(int bidListId, BidListQuote quote, Map<String, OrderBook> books,
+            Map<Integer, BidListQuote> quotes) {
+        BidListQuote previous = quote == null || !quote.isQuoted() ? quotes.remove(bidListId)
+                : quotes.put(bidListId, quote);
+        if (previous != null) {
+            OrderBook book = books.get(previous.security());
+            book.remove(previous);
+            if (book.isEmpty()) {
+                books.remove(previous.security());
+            }
+        }
+        if (quote != null && quote.isQuoted()) {
+            books.computeIfAbsent(quote.security(), OrderBook::new).add(quote);
+        }
+    }
+}
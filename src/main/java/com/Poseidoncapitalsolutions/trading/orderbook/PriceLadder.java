@@ -0,0 +1,119 @@
+package com.poseidoncapitalsolutions.trading.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * One side of an {@link OrderBook}: the quantity and number of orders at each
+ * price, in primitive arrays sorted so that the best price is the last
+ * element. Finding a level is a binary search, reading the best level is
+ * constant time, and inserting or removing a level shifts only the levels
+ * better than it, which are few since activity concentrates near the top of
+ * the book. Not thread-safe; the order book guards it.
+ */
+final class PriceLadder {
+
+    private final double sign;
+    private double[] keys = new double[16];
+    private double[] quantities = new double[16];
+    private int[] orders = new int[16];
+    private int size;
+
+    /**
+     * @param bids True for the bids, whose best price is the highest; false
+     *             for the asks, whose best price is the lowest.
+     */
+    PriceLadder(boolean bids) {
+        this.sign = bids ? 1 : -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds an order to its price level, creating the level if needed.
+     */
+    void add(double price, double quantity) {
+        double key = sign * price;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            quantities[index] += quantity;
+            orders[index]++;
+            return;
+        }
+        int insertion = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            quantities = Arrays.copyOf(quantities, size * 2);
+            orders = Arrays.copyOf(orders, size * 2);
+        }
+        System.arraycopy(keys, insertion, keys, insertion + 1, size - insertion);
+        System.arraycopy(quantities, insertion, quantities, insertion + 1, size - insertion);
+        System.arraycopy(orders, insertion, orders, insertion + 1, size - insertion);
+        keys[insertion] = key;
+        quantities[insertion] = quantity;
+        orders[insertion] = 1;
+        size++;
+    }
+
+    /**
+     * Removes an order from its price level, dropping the level with its last
+     * order.
+     */
+    void remove(double price, double quantity) {
+        int index = Arrays.binarySearch(keys, 0, size, sign * price);
+        if (index < 0) {
+            return;
+        }
+        if (--orders[index] > 0) {
+            quantities[index] -= quantity;
+            return;
+        }
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(quantities, index + 1, quantities, index, size - index - 1);
+        System.arraycopy(orders, index + 1, orders, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * @param level The level, 0 being the best.
+     * @return Its price.
+     */
+    double price(int level) {
+        return sign * keys[size - 1 - level];
+    }
+
+    /**
+     * @param level The level, 0 being the best.
+     * @return Its quantity.
+     */
+    double quantity(int level) {
+        return quantities[size - 1 - level];
+    }
+
+    /**
+     * @param level The level, 0 being the best.
+     * @return Its number of orders.
+     */
+    int orders(int level) {
+        return orders[size - 1 - level];
+    }
+
+    /**
+     * @param price A price.
+     * @return The quantity at that exact price, 0 if there is no such level.
+     */
+    double quantityAt(double price) {
+        int index = Arrays.binarySearch(keys, 0, size, sign * price);
+        return index < 0 ? 0 : quantities[index];
+    }
+
+    /**
+     * @param price A price.
+     * @return The number of levels at that price or better.
+     */
+    int levelsThrough(double price) {
+        int index = Arrays.binarySearch(keys, 0, size, sign * price);
+        return size - (index >= 0 ? index : -index - 1);
+    }
+}
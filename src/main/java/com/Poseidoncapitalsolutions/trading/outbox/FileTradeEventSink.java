@@ -0,0 +1,73 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends the trade events to a file, one JSON object per line. Each batch is
+ * forced to disk before it counts as delivered.
+ */
+public class FileTradeEventSink implements TradeEventSink, Closeable {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Path file;
+    private FileChannel channel;
+
+    /**
+     * Constructs a FileTradeEventSink.
+     *
+     * @param file The file the events are appended to, created if missing.
+     */
+    public FileTradeEventSink(Path file) {
+        this.file = file.toAbsolutePath();
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws IOException {
+        lock.lock();
+        try {
+            if (channel == null) {
+                Files.createDirectories(file.getParent());
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            StringBuilder lines = new StringBuilder(events.size() * 256);
+            for (OutboxEvent event : events) {
+                lines.append(event.toJson()).append('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers the trade events inside the JVM, as application events: any
+ * {@code @EventListener} method taking an {@link OutboxEvent} receives them,
+ * on the publisher thread. A listener that throws gets the batch again.
+ */
+@Component
+public class ListenerTradeEventSink implements TradeEventSink {
+
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Constructs a ListenerTradeEventSink.
+     *
+     * @param applicationEventPublisher The publisher of the application events.
+     */
+    public ListenerTradeEventSink(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return "listener";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,26 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import java.sql.Timestamp;
+
+/**
+ * A trade event read from the outbox, as delivered to the
+ * {@link TradeEventSink}s. Delivery is at least once: consumers drop the
+ * events whose sequence they already processed.
+ *
+ * @param sequence  The ID of the event; the events of one trade are delivered
+ *                  in sequence order.
+ * @param tradeId   The ID of the trade written.
+ * @param type      The kind of write.
+ * @param createdAt The time of the write.
+ * @param payload   The trade after the write, as a JSON object.
+ */
+public record OutboxEvent(long sequence, int tradeId, TradeEventType type, Timestamp createdAt, String payload) {
+
+    /**
+     * @return The event as one line of JSON, without the line break.
+     */
+    public String toJson() {
+        return "{\"sequence\":" + sequence + ",\"tradeId\":" + tradeId + ",\"type\":\"" + type
+                + "\",\"createdAt\":" + createdAt.getTime() + ",\"trade\":" + payload + "}";
+    }
+}
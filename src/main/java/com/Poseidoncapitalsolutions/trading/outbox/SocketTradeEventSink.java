@@ -0,0 +1,76 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Streams the trade events to a local socket, TCP or Unix domain, one JSON
+ * object per line. The connection is opened on the first batch and again
+ * after a failure. A batch counts as delivered once written to the socket,
+ * so the reader must tolerate the events replayed after a reconnection.
+ */
+public class SocketTradeEventSink implements TradeEventSink, Closeable {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final SocketAddress address;
+    private SocketChannel channel;
+
+    /**
+     * Constructs a SocketTradeEventSink.
+     *
+     * @param address The address of the listening socket.
+     */
+    public SocketTradeEventSink(SocketAddress address) {
+        this.address = address;
+    }
+
+    @Override
+    public String getName() {
+        return "socket";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws IOException {
+        lock.lock();
+        try {
+            StringBuilder lines = new StringBuilder(events.size() * 256);
+            for (OutboxEvent event : events) {
+                lines.append(event.toJson()).append('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                if (channel == null) {
+                    channel = SocketChannel.open(address);
+                }
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel != null) {
+                SocketChannel closing = channel;
+                channel = null;
+                closing.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
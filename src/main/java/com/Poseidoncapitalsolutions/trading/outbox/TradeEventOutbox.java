@@ -0,0 +1,87 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import java.sql.Timestamp;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poseidoncapitalsolutions.trading.model.TradeEvent;
+import com.poseidoncapitalsolutions.trading.position.TradeLeg;
+import com.poseidoncapitalsolutions.trading.repository.TradeEventRepository;
+
+/**
+ * Appends the trade events to the outbox, in the transaction of the trade
+ * write, so an event exists if and only if its write committed. The
+ * {@link TradeEventPublisher} is woken once the transaction commits.
+ */
+@Component
+public class TradeEventOutbox {
+
+    private TradeEventRepository tradeEventRepository;
+    private TradeEventPublisher tradeEventPublisher;
+    private ObjectMapper objectMapper;
+
+    /**
+     * Constructs a TradeEventOutbox.
+     *
+     * @param tradeEventRepository The repository of the outbox.
+     * @param tradeEventPublisher  The publisher woken after each commit.
+     * @param objectMapper         The mapper writing the payloads.
+     */
+    public TradeEventOutbox(TradeEventRepository tradeEventRepository, TradeEventPublisher tradeEventPublisher,
+            ObjectMapper objectMapper) {
+        this.tradeEventRepository = tradeEventRepository;
+        this.tradeEventPublisher = tradeEventPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Appends the event of a trade write. Must be called inside the
+     * transaction of the write.
+     *
+     * @param type The kind of write.
+     * @param leg  The trade after the write, or before it for a delete.
+     */
+    public void append(TradeEventType type, TradeLeg leg) {
+        TradeEvent event = new TradeEvent();
+        event.setTradeId(leg.tradeId());
+        event.setType(type);
+        event.setCreatedAt(new Timestamp(System.currentTimeMillis()));
+        try {
+            event.setPayload(objectMapper.writeValueAsString(leg));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Trade " + leg.tradeId() + " cannot be written as JSON", e);
+        }
+        tradeEventRepository.save(event);
+        wakeUpAfterCommit();
+    }
+
+    /**
+     * Wakes the publisher up once per transaction, however many events it
+     * appended.
+     */
+    private void wakeUpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tradeEventPublisher.wakeUp();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tradeEventPublisher.wakeUp();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TradeEventOutbox.this);
+            }
+        });
+    }
+}
@@ -0,0 +1,196 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.poseidoncapitalsolutions.trading.repository.TradeEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Streams the trade events of the outbox to every {@link TradeEventSink}, on
+ * a background thread. The thread is woken as soon as a transaction that
+ * wrote events commits, and otherwise looks at the outbox every poll
+ * interval, in case a wake-up was lost. Events are read in batches in
+ * sequence order and deleted once every sink accepted them, so a failure or
+ * a crash delivers them again: delivery is at least once.
+ * <p>
+ * Metrics, tagged with the sink: {@value #EVENTS_METRIC} counts the delivered
+ * events (the throughput), {@value #PUBLISH_METRIC} times each batch and
+ * {@value #FAILURES_METRIC} counts the failed batches.
+ */
+@Component
+public class TradeEventPublisher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TradeEventPublisher.class);
+
+    static final String EVENTS_METRIC = "trading.outbox.events";
+    static final String PUBLISH_METRIC = "trading.outbox.publish";
+    static final String FAILURES_METRIC = "trading.outbox.failures";
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final TradeEventRepository tradeEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<TradeEventSink> sinks;
+    private final Map<TradeEventSink, SinkMeters> meters;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final boolean virtualThreads;
+
+    private volatile Thread thread;
+
+    /**
+     * Constructs a TradeEventPublisher.
+     *
+     * @param tradeEventRepository The repository of the outbox.
+     * @param transactionManager   The transaction manager of the deletes.
+     * @param sinks                The sinks the events are delivered to.
+     * @param meterRegistry        The registry of the delivery metrics.
+     * @param batchSize            The maximum number of events per batch.
+     * @param pollInterval         The longest time an event can wait when its
+     *                             wake-up is lost.
+     * @param virtualThreads       True to publish from a virtual thread, as the
+     *                             requests do in the virtual thread mode.
+     */
+    public TradeEventPublisher(TradeEventRepository tradeEventRepository,
+            PlatformTransactionManager transactionManager, List<TradeEventSink> sinks, MeterRegistry meterRegistry,
+            @Value("${trading.outbox.batch-size:500}") int batchSize,
+            @Value("${trading.outbox.poll-interval:1s}") Duration pollInterval,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.tradeEventRepository = tradeEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sinks = List.copyOf(sinks);
+        this.meters = this.sinks.stream()
+                .collect(Collectors.toMap(Function.identity(), sink -> new SinkMeters(meterRegistry, sink)));
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Wakes the publisher up, after events were committed.
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    /**
+     * Delivers the oldest batch of events to every sink, then deletes it.
+     *
+     * @return The number of events delivered.
+     * @throws UncheckedIOException If a sink failed, the batch is kept.
+     */
+    public int publishBatch() {
+        List<OutboxEvent> events = tradeEventRepository.findBatch(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        for (TradeEventSink sink : sinks) {
+            SinkMeters sinkMeters = meters.get(sink);
+            long start = System.nanoTime();
+            try {
+                sink.publish(events);
+            } catch (IOException e) {
+                sinkMeters.failures.increment();
+                throw new UncheckedIOException("Trade event sink " + sink.getName() + " failed", e);
+            } catch (RuntimeException e) {
+                sinkMeters.failures.increment();
+                throw e;
+            }
+            sinkMeters.publish.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            sinkMeters.events.increment(events.size());
+        }
+        List<Long> sequences = events.stream().map(OutboxEvent::sequence).toList();
+        transactionTemplate.executeWithoutResult(status -> tradeEventRepository.deleteByIds(sequences));
+        return events.size();
+    }
+
+    private void run() {
+        while (thread == Thread.currentThread()) {
+            try {
+                int published = publishBatch();
+                if (published < batchSize) {
+                    wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Trade event delivery failed, retrying in {}", pollInterval, e);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (thread == null) {
+            Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+            thread = builder.name("trade-event-publisher").unstarted(this::run);
+            thread.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread stopping = thread;
+        thread = null;
+        if (stopping != null) {
+            stopping.interrupt();
+            try {
+                stopping.join(pollInterval.toMillis() + 5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private static final class SinkMeters {
+
+        private final Counter events;
+        private final Timer publish;
+        private final Counter failures;
+
+        SinkMeters(MeterRegistry meterRegistry, TradeEventSink sink) {
+            this.events = Counter.builder(EVENTS_METRIC)
+                    .description("Trade events delivered")
+                    .tag("sink", sink.getName())
+                    .register(meterRegistry);
+            this.publish = Timer.builder(PUBLISH_METRIC)
+                    .description("Time to deliver a batch of trade events")
+                    .tag("sink", sink.getName())
+                    .register(meterRegistry);
+            this.failures = Counter.builder(FAILURES_METRIC)
+                    .description("Batches of trade events a sink failed to deliver")
+                    .tag("sink", sink.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A destination of the trade events. The {@link TradeEventPublisher} hands
+ * every sink each batch in sequence order, and deletes the batch from the
+ * outbox only once every sink returned; a sink that throws gets the batch
+ * again, so it must tolerate duplicates.
+ */
+public interface TradeEventSink {
+
+    /**
+     * @return The name of the sink, used as the sink tag of the metrics.
+     */
+    String getName();
+
+    /**
+     * Delivers a batch of events.
+     *
+     * @param events The events, in sequence order.
+     * @throws IOException If the events could not be delivered.
+     */
+    void publish(List<OutboxEvent> events) throws IOException;
+}
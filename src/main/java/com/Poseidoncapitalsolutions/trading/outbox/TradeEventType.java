@@ -0,0 +1,10 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+/**
+ * The kind of write a trade event records.
+ */
+public enum TradeEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,108 @@
+package com.poseidoncapitalsolutions.trading.position;
+
+/**
+ * Aggregate of the trades of a {@link PositionKey}. Only sums are kept, so
+ * adding and removing trades commute and a position can be updated one trade
+ * at a time or merged from partial positions built in parallel.
+ * <p>
+ * Prices are averaged per side, and the realized P&amp;L is that of the
+ * quantity matched between the two sides, at the average sell price minus the
+ * average buy price. Quantities without a price count in the net position but
+ * not in the averages.
+ *
+ * @param tradeCount         The number of trades.
+ * @param buyQuantity        The quantity bought.
+ * @param sellQuantity       The quantity sold.
+ * @param pricedBuyQuantity  The quantity bought with a price.
+ * @param buyAmount          The amount paid for the priced buy quantity.
+ * @param pricedSellQuantity The quantity sold with a price.
+ * @param sellAmount         The amount received for the priced sell quantity.
+ */
+public record Position(int tradeCount, double buyQuantity, double sellQuantity, double pricedBuyQuantity,
+        double buyAmount, double pricedSellQuantity, double sellAmount) {
+
+    /**
+     * The position without any trade.
+     */
+    public static final Position EMPTY = new Position(0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * Builds the position of one trade. Missing quantities and prices count as
+     * none.
+     *
+     * @param buyQuantity  The quantity bought, may be null.
+     * @param buyPrice     The buy price, may be null.
+     * @param sellQuantity The quantity sold, may be null.
+     * @param sellPrice    The sell price, may be null.
+     * @return The position.
+     */
+    public static Position ofTrade(Double buyQuantity, Double buyPrice, Double sellQuantity, Double sellPrice) {
+        double bought = buyQuantity == null ? 0 : buyQuantity;
+        double sold = sellQuantity == null ? 0 : sellQuantity;
+        double pricedBought = buyPrice == null ? 0 : bought;
+        double pricedSold = sellPrice == null ? 0 : sold;
+        return new Position(1, bought, sold, pricedBought, buyPrice == null ? 0 : bought * buyPrice,
+                pricedSold, sellPrice == null ? 0 : sold * sellPrice);
+    }
+
+    /**
+     * @param other Another position.
+     * @return The position holding the trades of both.
+     */
+    public Position plus(Position other) {
+        return new Position(tradeCount + other.tradeCount, buyQuantity + other.buyQuantity,
+                sellQuantity + other.sellQuantity, pricedBuyQuantity + other.pricedBuyQuantity,
+                buyAmount + other.buyAmount, pricedSellQuantity + other.pricedSellQuantity,
+                sellAmount + other.sellAmount);
+    }
+
+    /**
+     * @param other A position whose trades are part of this one.
+     * @return The position without the trades of the other.
+     */
+    public Position minus(Position other) {
+        return new Position(tradeCount - other.tradeCount, buyQuantity - other.buyQuantity,
+                sellQuantity - other.sellQuantity, pricedBuyQuantity - other.pricedBuyQuantity,
+                buyAmount - other.buyAmount, pricedSellQuantity - other.pricedSellQuantity,
+                sellAmount - other.sellAmount);
+    }
+
+    /**
+     * @return The quantity bought minus the quantity sold.
+     */
+    public double netQuantity() {
+        return buyQuantity - sellQuantity;
+    }
+
+    /**
+     * @return The average buy price, 0 without priced buys.
+     */
+    public double averageBuyPrice() {
+        return pricedBuyQuantity == 0 ? 0 : buyAmount / pricedBuyQuantity;
+    }
+
+    /**
+     * @return The average sell price, 0 without priced sells.
+     */
+    public double averageSellPrice() {
+        return pricedSellQuantity == 0 ? 0 : sellAmount / pricedSellQuantity;
+    }
+
+    /**
+     * @return The average price of the open position: the average buy price of
+     *         a long position, the average sell price of a short one, 0 when
+     *         flat.
+     */
+    public double averagePrice() {
+        double net = netQuantity();
+        return net > 0 ? averageBuyPrice() : net < 0 ? averageSellPrice() : 0;
+    }
+
+    /**
+     * @return The P&amp;L of the priced quantity matched between buys and
+     *         sells.
+     */
+    public double realizedPnl() {
+        return Math.min(pricedBuyQuantity, pricedSellQuantity) * (averageSellPrice() - averageBuyPrice());
+    }
+}
@@ -0,0 +1,250 @@
+package com.poseidoncapitalsolutions.trading.position;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Holds the {@link Position} of every account, book and security. Reads are a
+ * lock-free map lookup. Each committed trade write replaces the leg of that
+ * trade, removing its previous contribution from its previous position and
+ * adding the new one, so positions are never recomputed from the database
+ * outside of {@link #rebuild()}.
+ * <p>
+ * The last leg of every trade is kept, which makes replaying a write
+ * harmless: a rebuild records the writes committed while it reads the
+ * database, and replays them on the rebuilt positions whether or not the read
+ * saw them.
+ */
+@Component
+public class PositionBook {
+
+    private static final Logger logger = LoggerFactory.getLogger(PositionBook.class);
+
+    static final String REBUILD_METRIC = "trading.position.rebuild";
+    static final String SIZE_METRIC = "trading.positions";
+    static final int REBUILD_SPLIT_SIZE = 8192;
+
+    private final Object lock = new Object();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final TradeRepository tradeRepository;
+    private final Timer rebuildTimer;
+
+    private volatile Map<PositionKey, Position> positions = new ConcurrentHashMap<>();
+    private Map<Integer, TradeLeg> legs = new HashMap<>();
+    private List<Change> pending;
+
+    /**
+     * Constructs a PositionBook.
+     *
+     * @param tradeRepository The repository the trades are read from on a
+     *                        rebuild.
+     * @param meterRegistry   The registry of the rebuild time and position
+     *                        count metrics.
+     */
+    public PositionBook(TradeRepository tradeRepository, MeterRegistry meterRegistry) {
+        this.tradeRepository = tradeRepository;
+        this.rebuildTimer = Timer.builder(REBUILD_METRIC)
+                .description("Time to rebuild every position from the trades")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this, PositionBook::size)
+                .description("Positions held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves a position.
+     *
+     * @param key The account, book and security.
+     * @return The position, or null if no trade belongs to it.
+     */
+    public Position get(PositionKey key) {
+        return positions.get(key);
+    }
+
+    /**
+     * @return A copy of every position.
+     */
+    public Map<PositionKey, Position> getAll() {
+        return Map.copyOf(positions);
+    }
+
+    /**
+     * @return The number of positions.
+     */
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Records the current leg of a trade after it was added or updated. Inside
+     * a transaction the positions change once it commits, and not at all if it
+     * rolls back.
+     *
+     * @param leg The leg of the trade.
+     */
+    public void post(TradeLeg leg) {
+        afterCommit(new Change(leg.tradeId(), leg));
+    }
+
+    /**
+     * Removes a deleted trade from its position, once the transaction commits
+     * if there is one.
+     *
+     * @param tradeId The ID of the deleted trade.
+     */
+    public void remove(int tradeId) {
+        afterCommit(new Change(tradeId, null));
+    }
+
+    /**
+     * Builds the positions once the application has started. The listener
+     * returns nothing, since Spring publishes a returned value as an event.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds every position from the trades in the database, in parallel on
+     * the common fork-join pool. Runs when the application starts, and can be
+     * called again to recover from a missed write.
+     *
+     * @return The number of trades read.
+     */
+    public int rebuild() {
+        rebuildLock.lock();
+        try {
+            synchronized (lock) {
+                pending = new ArrayList<>();
+            }
+            try {
+                return rebuildTimer.record(this::load);
+            } finally {
+                synchronized (lock) {
+                    pending = null;
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private int load() {
+        TradeLeg[] all = tradeRepository.findPositionLegs().toArray(TradeLeg[]::new);
+        Map<PositionKey, Position> rebuilt = new ConcurrentHashMap<>(
+                ForkJoinPool.commonPool().invoke(new RebuildTask(all, 0, all.length)));
+        Map<Integer, TradeLeg> rebuiltLegs = HashMap.newHashMap(all.length);
+        for (TradeLeg leg : all) {
+            rebuiltLegs.put(leg.tradeId(), leg);
+        }
+        synchronized (lock) {
+            for (Change change : pending) {
+                apply(change, rebuiltLegs, rebuilt);
+            }
+            legs = rebuiltLegs;
+            positions = rebuilt;
+        }
+        logger.info("Rebuilt {} positions from {} trades", rebuilt.size(), all.length);
+        return all.length;
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Change change) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(change);
+            }
+            apply(change, legs, positions);
+        }
+    }
+
+    private static void apply(Change change, Map<Integer, TradeLeg> legs, Map<PositionKey, Position> positions) {
+        TradeLeg previous = change.leg() == null ? legs.remove(change.tradeId())
+                : legs.put(change.tradeId(), change.leg());
+        if (previous != null) {
+            positions.computeIfPresent(previous.key(), (key, position) -> {
+                Position remaining = position.minus(previous.toPosition());
+                return remaining.tradeCount() == 0 ? null : remaining;
+            });
+        }
+        if (change.leg() != null) {
+            positions.merge(change.leg().key(), change.leg().toPosition(), Position::plus);
+        }
+    }
+
+    /**
+     * The new leg of a trade, null once the trade is deleted.
+     */
+    private record Change(int tradeId, TradeLeg leg) {
+    }
+
+    /**
+     * Aggregates a slice of the legs, splitting it in halves down to
+     * {@value #REBUILD_SPLIT_SIZE} legs and merging the partial positions.
+     */
+    private static final class RebuildTask extends RecursiveTask<Map<PositionKey, Position>> {
+
+        private final TradeLeg[] legs;
+        private final int from;
+        private final int to;
+
+        RebuildTask(TradeLeg[] legs, int from, int to) {
+            this.legs = legs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<PositionKey, Position> compute() {
+            if (to - from <= REBUILD_SPLIT_SIZE) {
+                Map<PositionKey, Position> result = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    result.merge(legs[i].key(), legs[i].toPosition(), Position::plus);
+                }
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            RebuildTask left = new RebuildTask(legs, from, middle);
+            left.fork();
+            Map<PositionKey, Position> right = new RebuildTask(legs, middle, to).compute();
+            Map<PositionKey, Position> result = left.join();
+            Map<PositionKey, Position> smaller = result.size() < right.size() ? result : right;
+            Map<PositionKey, Position> larger = smaller == result ? right : result;
+            smaller.forEach((key, position) -> larger.merge(key, position, Position::plus));
+            return larger;
+        }
+    }
+}
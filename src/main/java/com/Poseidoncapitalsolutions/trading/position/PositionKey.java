@@ -0,0 +1,12 @@
+package com.poseidoncapitalsolutions.trading.position;
+
+/**
+ * Identifies a position: the trades of one account, in one book, on one
+ * security.
+ *
+ * @param account  The account.
+ * @param book     The book, may be null.
+ * @param security The security, may be null.
+ */
+public record PositionKey(String account, String book, String security) {
+}
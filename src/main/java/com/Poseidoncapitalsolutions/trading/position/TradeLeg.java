@@ -0,0 +1,42 @@
+package com.poseidoncapitalsolutions.trading.position;
+
+import com.poseidoncapitalsolutions.trading.model.Trade;
+
+/**
+ * The fields of a Trade that make up its position.
+ *
+ * @param tradeId      The trade ID.
+ * @param account      The account.
+ * @param book         The book, may be null.
+ * @param security     The security, may be null.
+ * @param buyQuantity  The quantity bought, may be null.
+ * @param sellQuantity The quantity sold, may be null.
+ * @param buyPrice     The buy price, may be null.
+ * @param sellPrice    The sell price, may be null.
+ */
+public record TradeLeg(int tradeId, String account, String book, String security, Double buyQuantity,
+        Double sellQuantity, Double buyPrice, Double sellPrice) {
+
+    /**
+     * @param trade A trade.
+     * @return Its leg.
+     */
+    public static TradeLeg of(Trade trade) {
+        return new TradeLeg(trade.getId(), trade.getAccount(), trade.getBook(), trade.getSecurity(),
+                trade.getBuyQuantity(), trade.getSellQuantity(), trade.getBuyPrice(), trade.getSellPrice());
+    }
+
+    /**
+     * @return The key of the position the trade belongs to.
+     */
+    public PositionKey key() {
+        return new PositionKey(account, book, security);
+    }
+
+    /**
+     * @return The position of the trade alone.
+     */
+    public Position toPosition() {
+        return Position.ofTrade(buyQuantity, buyPrice, sellQuantity, sellPrice);
+    }
+}
@@ -0,0 +1,43 @@
+package com.poseidoncapitalsolutions.trading.rating;
+
+import java.util.Locale;
+
+/**
+ * The agencies a {@link RatingGrade} holds a rating of.
+ */
+public enum RatingAgency {
+
+    MOODYS,
+    SAND_P,
+    FITCH;
+
+    /**
+     * Finds an agency by name, in any case and ignoring anything but letters,
+     * so that Moody's, moodys, S&P, sandP and fitch are all understood.
+     *
+     * @param name The name of the agency.
+     * @return The agency.
+     * @throws IllegalArgumentException If no agency has that name.
+     */
+    public static RatingAgency forName(String name) {
+        String letters = name == null ? "" : name.replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+        return switch (letters) {
+            case "moodys" -> MOODYS;
+            case "sp", "sandp" -> SAND_P;
+            case "fitch" -> FITCH;
+            default -> throw new IllegalArgumentException("Unknown rating agency " + name);
+        };
+    }
+
+    /**
+     * @param grade A grade of the scale.
+     * @return The rating of this agency in the grade, may be null.
+     */
+    public String ratingOf(RatingGrade grade) {
+        return switch (this) {
+            case MOODYS -> grade.moodysRating();
+            case SAND_P -> grade.sandPRating();
+            case FITCH -> grade.fitchRating();
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.poseidoncapitalsolutions.trading.rating;
+
+/**
+ * One row of the rating scale: the equivalent ratings of the three agencies
+ * and their rank.
+ *
+ * @param ratingId     The Rating ID.
+ * @param orderNumber  The rank of the grade, may be null.
+ * @param moodysRating The Moody's rating, may be null.
+ * @param sandPRating  The S&P rating, may be null.
+ * @param fitchRating  The Fitch rating, may be null.
+ */
+public record RatingGrade(int ratingId, Integer orderNumber, String moodysRating, String sandPRating,
+        String fitchRating) {
+}
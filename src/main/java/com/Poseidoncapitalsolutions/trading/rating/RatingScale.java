@@ -0,0 +1,94 @@
+package com.poseidoncapitalsolutions.trading.rating;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An immutable index of the rating scale: one hash map per agency from its
+ * ratings to their {@link RatingGrade}, so a rating of any agency is
+ * translated to its rank and to the other agencies' ratings in constant time.
+ * Ratings are matched in any case and without surrounding spaces. When a
+ * rating appears in several grades, the first one in the order the grades
+ * were given wins.
+ */
+public final class RatingScale {
+
+    private final long version;
+    private final List<RatingGrade> grades;
+    private final Map<RatingAgency, Map<String, RatingGrade>> byAgency;
+
+    private RatingScale(long version, List<RatingGrade> grades,
+            Map<RatingAgency, Map<String, RatingGrade>> byAgency) {
+        this.version = version;
+        this.grades = grades;
+        this.byAgency = byAgency;
+    }
+
+    /**
+     * @return A scale without any grade, of version 0.
+     */
+    public static RatingScale empty() {
+        return of(0, List.of());
+    }
+
+    /**
+     * Indexes the grades of a scale.
+     *
+     * @param version The version of the scale.
+     * @param grades  The grades, best first.
+     * @return The scale.
+     */
+    public static RatingScale of(long version, List<RatingGrade> grades) {
+        Map<RatingAgency, Map<String, RatingGrade>> byAgency = new EnumMap<>(RatingAgency.class);
+        for (RatingAgency agency : RatingAgency.values()) {
+            Map<String, RatingGrade> index = new HashMap<>();
+            for (RatingGrade grade : grades) {
+                String rating = agency.ratingOf(grade);
+                if (rating != null && !rating.isBlank()) {
+                    index.putIfAbsent(key(rating), grade);
+                }
+            }
+            byAgency.put(agency, Map.copyOf(index));
+        }
+        return new RatingScale(version, List.copyOf(grades), byAgency);
+    }
+
+    /**
+     * Finds the grade of a rating.
+     *
+     * @param agency The agency of the rating.
+     * @param rating The rating, in any case.
+     * @return The grade, or null if the agency has no such rating.
+     */
+    public RatingGrade find(RatingAgency agency, String rating) {
+        return rating == null ? null : byAgency.get(agency).get(key(rating));
+    }
+
+    /**
+     * @return The version of the scale.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return The grades, best first.
+     */
+    public List<RatingGrade> grades() {
+        return grades;
+    }
+
+    /**
+     * @return The number of grades.
+     */
+    public int size() {
+        return grades.size();
+    }
+
+    private static String key(String rating) {
+        return rating.strip().toUpperCase(Locale.ROOT);
+    }
+}
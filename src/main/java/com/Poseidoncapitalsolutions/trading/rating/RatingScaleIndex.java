@@ -0,0 +1,110 @@
+package com.poseidoncapitalsolutions.trading.rating;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.repository.RatingRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Holds the current {@link RatingScale}, read from the Ratings when the
+ * application starts and again after each committed Rating write. Readers get
+ * the whole scale with a single volatile read and never query the database.
+ * <p>
+ * Every rebuild takes a version from a counter before reading the database,
+ * and a scale only replaces one of a lower version, so a slow rebuild can
+ * never overwrite one that started after it and saw more writes.
+ */
+@Component
+public class RatingScaleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingScaleIndex.class);
+
+    static final String REBUILD_METRIC = "trading.rating.scale.rebuild";
+    static final String SIZE_METRIC = "trading.rating.scale.grades";
+
+    private final AtomicReference<RatingScale> scale = new AtomicReference<>(RatingScale.empty());
+    private final AtomicLong versions = new AtomicLong();
+    private final RatingRepository ratingRepository;
+    private final Timer rebuildTimer;
+
+    /**
+     * Constructs a RatingScaleIndex.
+     *
+     * @param ratingRepository The repository the scale is read from.
+     * @param meterRegistry    The registry of the rebuild time and grade count
+     *                         metrics.
+     */
+    public RatingScaleIndex(RatingRepository ratingRepository, MeterRegistry meterRegistry) {
+        this.ratingRepository = ratingRepository;
+        this.rebuildTimer = Timer.builder(REBUILD_METRIC)
+                .description("Time to read the Ratings and index the rating scale")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, scale, current -> current.get().size())
+                .description("Grades of the rating scale held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return The current scale, empty until the first rebuild.
+     */
+    public RatingScale current() {
+        return scale.get();
+    }
+
+    /**
+     * Rebuilds the scale after a Rating was written. Inside a transaction the
+     * scale is rebuilt once it commits, and not at all if it rolls back.
+     */
+    public void publish() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds the rating scale once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the scale from the Ratings in the database. Runs when the
+     * application starts, and can be called again to recover from a missed
+     * write.
+     *
+     * @return The number of grades read.
+     */
+    public int rebuild() {
+        return rebuildTimer.record(() -> {
+            long version = versions.incrementAndGet();
+            List<RatingGrade> grades = ratingRepository.findGrades();
+            RatingScale built = RatingScale.of(version, grades);
+            RatingScale current = scale.accumulateAndGet(built,
+                    (previous, candidate) -> candidate.version() > previous.version() ? candidate : previous);
+            logger.info("Rebuilt rating scale {} from {} grades", current.version(), grades.size());
+            return grades.size();
+        });
+    }
+}
@@ -1,11 +1,71 @@
 package com.poseidoncapitalsolutions.trading.repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.poseidoncapitalsolutions.trading.dto.BidListDTO;
 import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.orderbook.BidListQuote;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface BidListRepository extends JpaRepository<BidList, Integer> {
+public interface BidListRepository extends JpaRepository<BidList, Integer>, JpaSpecificationExecutor<BidList> {
+
+    @QueryHints({ @QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.BULK),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select b from BidList b where b.id > :afterId order by b.id asc")
+    List<BidList> findChunkAfterId(@Param("afterId") int afterId, Limit limit);
+
+    @Modifying
+    @Query("update BidList b set b.account = :account, b.type = :type, b.bidQuantity = :bidQuantity, "
+            + "b.revisionDate = :revisionDate where b.id = :id")
+    int updateEditableFields(@Param("id") int id, @Param("account") String account, @Param("type") String type,
+            @Param("bidQuantity") Double bidQuantity, @Param("revisionDate") Timestamp revisionDate);
+
+    String LIST_SELECT = "select new com.poseidoncapitalsolutions.trading.dto.BidListDTO"
+            + "(b.id, b.account, b.type, b.bidQuantity) from BidList b ";
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT, countQuery = "select count(b) from BidList b")
+    Page<BidListDTO> findListPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT + "where b.account like :account escape '!'",
+            countQuery = "select count(b) from BidList b where b.account like :account escape '!'")
+    Page<BidListDTO> findListPageByAccount(@Param("account") String accountPattern, Pageable pageable);
+
+    /**
+     * Selects a list page, filtered on the account prefix pattern when one is
+     * given. The filtered and unfiltered queries are kept apart so that the
+     * filter can use the index on the column.
+     */
+    default Page<BidListDTO> findListPage(String accountPattern, Pageable pageable) {
+        return accountPattern == null ? findListPage(pageable)
+                : findListPageByAccount(accountPattern, pageable);
+    }
+
+    String QUOTE_SELECT = "select new com.poseidoncapitalsolutions.trading.orderbook.BidListQuote"
+            + "(b.id, b.security, b.bid, b.bidQuantity, b.ask, b.askQuantity) from BidList b ";
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.BULK))
+    @Query(QUOTE_SELECT)
+    List<BidListQuote> findQuotes();
 
+    @Query(QUOTE_SELECT + "where b.id = :id")
+    Optional<BidListQuote> findQuote(@Param("id") int id);
 }
@@ -1,11 +1,81 @@
 package com.poseidoncapitalsolutions.trading.repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryRow;
+import com.poseidoncapitalsolutions.trading.curve.CurveKey;
+import com.poseidoncapitalsolutions.trading.curve.CurveNode;
+import com.poseidoncapitalsolutions.trading.dto.CurvePointDTO;
 import com.poseidoncapitalsolutions.trading.model.CurvePoint;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface CurvePointRepository extends JpaRepository<CurvePoint, Integer> {
+public interface CurvePointRepository extends JpaRepository<CurvePoint, Integer>, JpaSpecificationExecutor<CurvePoint> {
+
+    @Modifying
+    @Query("update CurvePoint c set c.term = :term, c.value = :value where c.id = :id")
+    int updateEditableFields(@Param("id") int id, @Param("term") Double term, @Param("value") Double value);
+
+    String LIST_SELECT = "select new com.poseidoncapitalsolutions.trading.dto.CurvePointDTO"
+            + "(c.id, coalesce(c.term, 0.0), coalesce(c.value, 0.0)) from CurvePoint c ";
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT, countQuery = "select count(c) from CurvePoint c")
+    Page<CurvePointDTO> findListPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT + "where c.curveId = :curveId",
+            countQuery = "select count(c) from CurvePoint c where c.curveId = :curveId")
+    Page<CurvePointDTO> findListPageByCurveId(@Param("curveId") Integer curveId, Pageable pageable);
+
+    /**
+     * Selects a list page, filtered on the curve id when one is given. The
+     * filtered and unfiltered queries are kept apart so that the filter can use
+     * the index on the column.
+     */
+    default Page<CurvePointDTO> findListPage(Integer curveId, Pageable pageable) {
+        return curveId == null ? findListPage(pageable)
+                : findListPageByCurveId(curveId, pageable);
+    }
+
+    @Query("select max(c.asOfDate) from CurvePoint c where c.curveId = :curveId")
+    Timestamp findLatestAsOfDate(@Param("curveId") Integer curveId);
+
+    @Query("select new com.poseidoncapitalsolutions.trading.curve.CurveNode(c.term, c.value) from CurvePoint c "
+            + "where c.curveId = :curveId and c.asOfDate = :asOfDate "
+            + "and c.term is not null and c.value is not null order by c.term, c.id")
+    List<CurveNode> findCurveNodes(@Param("curveId") Integer curveId, @Param("asOfDate") Timestamp asOfDate);
+
+    @Query("select new com.poseidoncapitalsolutions.trading.curve.CurveKey(c.curveId, c.asOfDate) "
+            + "from CurvePoint c where c.id = :id and c.curveId is not null and c.asOfDate is not null")
+    Optional<CurveKey> findCurveKey(@Param("id") int id);
 
+    /**
+     * Streams every complete CurvePoint in the order of a curve history file.
+     * The stream must be closed, inside a transaction; on MySQL, add
+     * useCursorFetch=true to the URL so that rows are fetched by batches
+     * instead of all at once.
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.BULK) })
+    @Query("select new com.poseidoncapitalsolutions.trading.curve.CurveHistoryRow(c.curveId, c.asOfDate, c.term, c.value) "
+            + "from CurvePoint c where c.curveId is not null and c.asOfDate is not null "
+            + "and c.term is not null and c.value is not null order by c.curveId, c.asOfDate, c.term, c.id")
+    Stream<CurveHistoryRow> streamHistory();
 }
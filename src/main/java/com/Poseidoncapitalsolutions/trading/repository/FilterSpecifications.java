@@ -0,0 +1,65 @@
+package com.poseidoncapitalsolutions.trading.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Factory of the {@link Specification}s used to filter list pages.
+ * Every factory returns null for an empty criterion so that the results can be
+ * combined with {@link Specification#where(Specification)} without checks.
+ */
+public final class FilterSpecifications {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private FilterSpecifications() {
+    }
+
+    /**
+     * Matches entities whose attribute starts with the given prefix. A prefix
+     * match keeps the filter able to use an index on the attribute.
+     *
+     * @param attribute The name of the String attribute to filter on.
+     * @param prefix    The prefix to match, or null/blank for no filtering.
+     * @return The specification, or null when there is nothing to filter.
+     */
+    public static <T> Specification<T> startsWith(String attribute, String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String pattern = likePrefix(prefix);
+        return (root, query, cb) -> cb.like(root.get(attribute), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Builds the LIKE pattern matching values that start with the given
+     * prefix, for the list queries written in JPQL. Those queries must declare
+     * {@code escape '!'}.
+     *
+     * @param prefix The prefix to match, or null/blank for no filtering.
+     * @return The pattern, or null when there is nothing to filter.
+     */
+    public static String likePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        return escapeLike(prefix.strip()) + "%";
+    }
+
+    /**
+     * Matches entities whose attribute equals the given value.
+     *
+     * @param attribute The name of the attribute to filter on.
+     * @param value     The value to match, or null for no filtering.
+     * @return The specification, or null when there is nothing to filter.
+     */
+    public static <T> Specification<T> equalTo(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
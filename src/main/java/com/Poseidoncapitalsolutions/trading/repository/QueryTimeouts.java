@@ -0,0 +1,25 @@
+package com.poseidoncapitalsolutions.trading.repository;
+
+/**
+ * Statement timeouts of the repository queries, in milliseconds, given as
+ * {@code jakarta.persistence.query.timeout} hints. A query without one gets
+ * spring.jpa.properties.jakarta.persistence.query.timeout. A query that runs
+ * over its timeout is cancelled by the database and fails with a
+ * QueryTimeoutException, rather than holding its connection.
+ */
+final class QueryTimeouts {
+
+    /**
+     * Pages of the list screens, which a user waits for.
+     */
+    static final String PAGE = "2000";
+
+    /**
+     * Full table reads of the rebuilds and exports, which run in the
+     * background.
+     */
+    static final String BULK = "120000";
+
+    private QueryTimeouts() {
+    }
+}
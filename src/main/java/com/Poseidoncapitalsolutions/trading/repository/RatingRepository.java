@@ -1,11 +1,63 @@
 package com.poseidoncapitalsolutions.trading.repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.poseidoncapitalsolutions.trading.dto.RatingDTO;
 import com.poseidoncapitalsolutions.trading.model.Rating;
+import com.poseidoncapitalsolutions.trading.rating.RatingGrade;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface RatingRepository extends JpaRepository<Rating, Integer> {
+public interface RatingRepository extends JpaRepository<Rating, Integer>, JpaSpecificationExecutor<Rating> {
+
+    @Modifying
+    @Query("update Rating r set r.moodysRating = :moodysRating, r.sandPRating = :sandPRating, "
+            + "r.fitchRating = :fitchRating, r.orderNumber = :orderNumber where r.id = :id")
+    int updateEditableFields(@Param("id") int id, @Param("moodysRating") String moodysRating,
+            @Param("sandPRating") String sandPRating, @Param("fitchRating") String fitchRating,
+            @Param("orderNumber") Integer orderNumber);
+
+    String LIST_SELECT = "select new com.poseidoncapitalsolutions.trading.dto.RatingDTO"
+            + "(r.id, r.moodysRating, r.sandPRating, r.fitchRating, coalesce(r.orderNumber, 0)) from Rating r ";
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT, countQuery = "select count(r) from Rating r")
+    Page<RatingDTO> findListPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT + "where r.moodysRating like :moodysRating escape '!'",
+            countQuery = "select count(r) from Rating r where r.moodysRating like :moodysRating escape '!'")
+    Page<RatingDTO> findListPageByMoodysRating(@Param("moodysRating") String moodysRatingPattern, Pageable pageable);
+
+    /**
+     * Selects a list page, filtered on the Moody's rating prefix pattern when one
+     * is given. The filtered and unfiltered queries are kept apart so that the
+     * filter can use the index on the column.
+     */
+    default Page<RatingDTO> findListPage(String moodysRatingPattern, Pageable pageable) {
+        return moodysRatingPattern == null ? findListPage(pageable)
+                : findListPageByMoodysRating(moodysRatingPattern, pageable);
+    }
 
+    /**
+     * Selects the whole rating scale, best grade first, and the grades without
+     * an order number last.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.BULK))
+    @Query("select new com.poseidoncapitalsolutions.trading.rating.RatingGrade"
+            + "(r.id, r.orderNumber, r.moodysRating, r.sandPRating, r.fitchRating) from Rating r "
+            + "order by r.orderNumber asc nulls last, r.id asc")
+    List<RatingGrade> findGrades();
 }
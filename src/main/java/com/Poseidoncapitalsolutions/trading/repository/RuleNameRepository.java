@@ -1,10 +1,55 @@
 package com.poseidoncapitalsolutions.trading.repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.poseidoncapitalsolutions.trading.dto.RuleNameDTO;
 import com.poseidoncapitalsolutions.trading.model.RuleName;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface RuleNameRepository extends JpaRepository<RuleName, Integer> {
+public interface RuleNameRepository extends JpaRepository<RuleName, Integer>, JpaSpecificationExecutor<RuleName> {
+
+    @Modifying
+    @Query("update RuleName r set r.name = :name, r.description = :description, r.json = :json, "
+            + "r.template = :template, r.sqlStr = :sqlStr, r.sqlPart = :sqlPart, r.revision = r.revision + 1 "
+            + "where r.id = :id")
+    int updateEditableFields(@Param("id") int id, @Param("name") String name,
+            @Param("description") String description, @Param("json") String json,
+            @Param("template") String template, @Param("sqlStr") String sqlStr, @Param("sqlPart") String sqlPart);
+
+    String LIST_SELECT = "select new com.poseidoncapitalsolutions.trading.dto.RuleNameDTO"
+            + "(r.id, r.name, r.description, r.json, r.template, r.sqlStr, r.sqlPart) from RuleName r ";
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT, countQuery = "select count(r) from RuleName r")
+    Page<RuleNameDTO> findListPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT + "where r.name like :name escape '!'",
+            countQuery = "select count(r) from RuleName r where r.name like :name escape '!'")
+    Page<RuleNameDTO> findListPageByName(@Param("name") String namePattern, Pageable pageable);
+
+    /**
+     * Selects a list page, filtered on the name prefix pattern when one is given.
+     * The filtered and unfiltered queries are kept apart so that the filter can
+     * use the index on the column.
+     */
+    default Page<RuleNameDTO> findListPage(String namePattern, Pageable pageable) {
+        return namePattern == null ? findListPage(pageable)
+                : findListPageByName(namePattern, pageable);
+    }
+
+    List<RuleName> findByActiveTrue();
 }
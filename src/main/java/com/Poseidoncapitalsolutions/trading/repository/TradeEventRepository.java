@@ -0,0 +1,26 @@
+package com.poseidoncapitalsolutions.trading.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.poseidoncapitalsolutions.trading.model.TradeEvent;
+import com.poseidoncapitalsolutions.trading.outbox.OutboxEvent;
+
+@Repository
+public interface TradeEventRepository extends JpaRepository<TradeEvent, Long> {
+
+    @Query("select new com.poseidoncapitalsolutions.trading.outbox.OutboxEvent"
+            + "(e.id, e.tradeId, e.type, e.createdAt, e.payload) from TradeEvent e order by e.id")
+    List<OutboxEvent> findBatch(Limit limit);
+
+    @Modifying
+    @Query("delete from TradeEvent e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,10 +1,53 @@
 package com.poseidoncapitalsolutions.trading.repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
 import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.position.TradeLeg;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface TradeRepository extends JpaRepository<Trade, Integer> {
+public interface TradeRepository extends JpaRepository<Trade, Integer>, JpaSpecificationExecutor<Trade> {
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query("select new com.poseidoncapitalsolutions.trading.dto.TradeDTO(t.Id, t.account, t.type, t.buyQuantity) "
+            + "from Trade t where t.Id > :afterId order by t.Id asc")
+    List<TradeDTO> findListAfterId(@Param("afterId") int afterId, Limit limit);
+
+    @QueryHints({ @QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.BULK),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select t from Trade t where t.Id > :afterId order by t.Id asc")
+    List<Trade> findChunkAfterId(@Param("afterId") int afterId, Limit limit);
+
+    @Modifying
+    @Query("update Trade t set t.account = :account, t.type = :type, t.buyQuantity = :buyQuantity, "
+            + "t.revisionDate = :revisionDate where t.Id = :id")
+    int updateEditableFields(@Param("id") int id, @Param("account") String account, @Param("type") String type,
+            @Param("buyQuantity") Double buyQuantity, @Param("revisionDate") Timestamp revisionDate);
+
+    String POSITION_LEG_SELECT = "select new com.poseidoncapitalsolutions.trading.position.TradeLeg"
+            + "(t.Id, t.account, t.book, t.security, t.buyQuantity, t.sellQuantity, t.buyPrice, t.sellPrice) "
+            + "from Trade t ";
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.BULK))
+    @Query(POSITION_LEG_SELECT)
+    List<TradeLeg> findPositionLegs();
+
+    @Query(POSITION_LEG_SELECT + "where t.Id = :id")
+    Optional<TradeLeg> findPositionLeg(@Param("id") int id);
 }
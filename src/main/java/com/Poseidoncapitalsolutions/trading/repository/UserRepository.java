@@ -1,12 +1,54 @@
 package com.poseidoncapitalsolutions.trading.repository;
 
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.poseidoncapitalsolutions.trading.dto.UserDTO;
 import com.poseidoncapitalsolutions.trading.model.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User> {
     User findByUsername(String username);
+
+    @Modifying
+    @Query("update User u set u.username = :username, u.password = :password, u.fullname = :fullname, "
+            + "u.role = :role where u.id = :id")
+    int updateEditableFields(@Param("id") int id, @Param("username") String username,
+            @Param("password") String password, @Param("fullname") String fullname, @Param("role") String role);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
+    String LIST_SELECT = "select new com.poseidoncapitalsolutions.trading.dto.UserDTO"
+            + "(u.id, u.username, u.fullname, cast(null as String), u.role) from User u ";
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT, countQuery = "select count(u) from User u")
+    Page<UserDTO> findListPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.PAGE))
+    @Query(value = LIST_SELECT + "where u.username like :username escape '!'",
+            countQuery = "select count(u) from User u where u.username like :username escape '!'")
+    Page<UserDTO> findListPageByUsername(@Param("username") String usernamePattern, Pageable pageable);
+
+    /**
+     * Selects a list page, filtered on the username prefix pattern when one is
+     * given. The filtered and unfiltered queries are kept apart so that the
+     * filter can use the index on the column.
+     */
+    default Page<UserDTO> findListPage(String usernamePattern, Pageable pageable) {
+        return usernamePattern == null ? findListPage(pageable)
+                : findListPageByUsername(usernamePattern, pageable);
+    }
 }
@@ -0,0 +1,27 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.util.function.Predicate;
+
+/**
+ * A rule compiled for one kind of record. Evaluating it reads the fields of
+ * the record and allocates nothing; it is safe for concurrent use.
+ *
+ * @param ruleId    The RuleName ID.
+ * @param revision  The RuleName revision it was compiled from.
+ * @param name      The RuleName name.
+ * @param target    The records it applies to.
+ * @param condition The compiled condition.
+ * @param <T>       The type of the records.
+ */
+public record CompiledRule<T>(int ruleId, int revision, String name, RuleTarget<T> target,
+        Predicate<T> condition) {
+
+    /**
+     * @param record A record.
+     * @return True if the condition of the rule is true for the record,
+     *         false if it is false or unknown.
+     */
+    public boolean matches(T record) {
+        return condition.test(record);
+    }
+}
@@ -0,0 +1,87 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.util.Arrays;
+
+/**
+ * A SQL LIKE pattern, matched without regard to case as MySQL does with its
+ * default collation, and without allocating.
+ */
+final class LikePattern {
+
+    private static final byte LITERAL = 0;
+    private static final byte ANY_CHARACTER = 1;
+    private static final byte ANY_SEQUENCE = 2;
+
+    private final char[] characters;
+    private final byte[] kinds;
+
+    /**
+     * @param pattern The pattern, where % matches any sequence and _ any one
+     *                character.
+     * @param escape  The character that makes the next one literal, or null.
+     * @throws RuleSyntaxException If the pattern ends with the escape
+     *                             character.
+     */
+    LikePattern(String pattern, Character escape) {
+        char[] characters = new char[pattern.length()];
+        byte[] kinds = new byte[pattern.length()];
+        int size = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (escape != null && c == escape) {
+                if (++i == pattern.length()) {
+                    throw new RuleSyntaxException("LIKE pattern '" + pattern + "' ends with its escape character");
+                }
+                characters[size] = pattern.charAt(i);
+                kinds[size++] = LITERAL;
+            } else if (c == '%') {
+                if (size == 0 || kinds[size - 1] != ANY_SEQUENCE) {
+                    kinds[size++] = ANY_SEQUENCE;
+                }
+            } else {
+                characters[size] = c;
+                kinds[size++] = c == '_' ? ANY_CHARACTER : LITERAL;
+            }
+        }
+        this.characters = Arrays.copyOf(characters, size);
+        this.kinds = Arrays.copyOf(kinds, size);
+    }
+
+    /**
+     * Matches greedily, going back to the last % on a mismatch, which is
+     * linear in most patterns.
+     *
+     * @param text The text.
+     * @return True if the whole text matches.
+     */
+    boolean matches(String text) {
+        int t = 0;
+        int p = 0;
+        int lastSequence = -1;
+        int resume = 0;
+        while (t < text.length()) {
+            if (p < kinds.length && kinds[p] == ANY_SEQUENCE) {
+                lastSequence = p++;
+                resume = t;
+            } else if (p < kinds.length
+                    && (kinds[p] == ANY_CHARACTER || sameIgnoringCase(text.charAt(t), characters[p]))) {
+                p++;
+                t++;
+            } else if (lastSequence >= 0) {
+                p = lastSequence + 1;
+                t = ++resume;
+            } else {
+                return false;
+            }
+        }
+        while (p < kinds.length && kinds[p] == ANY_SEQUENCE) {
+            p++;
+        }
+        return p == kinds.length;
+    }
+
+    private static boolean sameIgnoringCase(char a, char b) {
+        return a == b || Character.toUpperCase(a) == Character.toUpperCase(b)
+                || Character.toLowerCase(a) == Character.toLowerCase(b);
+    }
+}
@@ -0,0 +1,302 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.poseidoncapitalsolutions.trading.dto.RuleBatchReportDTO;
+import com.poseidoncapitalsolutions.trading.dto.RuleCostDTO;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.model.RuleViolation;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Evaluates every active {@link RuleName} against every Trade, each night at
+ * trading.rule.batch.cron, and records the matching trades as
+ * {@link RuleViolation}s sharing the time of the run.
+ * <p>
+ * Trades are read in chunks of increasing ID, the next chunk being read while
+ * the current one is evaluated on the common fork-join pool, in slices of
+ * {@value #SPLIT_SIZE} trades. A slice runs one rule at a time over all of its
+ * trades, so each rule is timed once per slice rather than once per trade.
+ * Violations are inserted in JDBC batches, one transaction per batch.
+ * <p>
+ * {@value #TRADES_METRIC} counts the trades evaluated, {@value #RUN_METRIC}
+ * times the runs and {@value #RULE_METRIC}, tagged with the rule ID, the time
+ * spent in each rule, which points at the slow ones.
+ */
+@Component
+public class RuleBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuleBatch.class);
+
+    static final String RUN_METRIC = "trading.rule.batch";
+    static final String TRADES_METRIC = "trading.rule.batch.trades";
+    static final String RULE_METRIC = "trading.rule.evaluation";
+    static final int SPLIT_SIZE = 1024;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final TradeRepository tradeRepository;
+    private final RuleNameRepository ruleNameRepository;
+    private final RuleEngine ruleEngine;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer runTimer;
+    private final Counter tradesCounter;
+    private final int chunkSize;
+    private final int insertSize;
+
+    /**
+     * Constructs a RuleBatch.
+     *
+     * @param tradeRepository    The repository the trades are read from.
+     * @param ruleNameRepository The repository of the rules.
+     * @param ruleEngine         The engine compiling the rules.
+     * @param entityManager      The entity manager used to persist the
+     *                           violations.
+     * @param transactionManager The transaction manager, one transaction is
+     *                           opened per batch of violations.
+     * @param meterRegistry      The registry of the run, trade and rule
+     *                           metrics.
+     * @param chunkSize          The number of trades read at once.
+     * @param insertSize         The number of violations inserted per batch.
+     */
+    public RuleBatch(TradeRepository tradeRepository, RuleNameRepository ruleNameRepository, RuleEngine ruleEngine,
+            EntityManager entityManager, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${trading.rule.batch.chunk-size:10000}") int chunkSize,
+            @Value("${trading.rule.batch.insert-size:500}") int insertSize) {
+        this.tradeRepository = tradeRepository;
+        this.ruleNameRepository = ruleNameRepository;
+        this.ruleEngine = ruleEngine;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder(RUN_METRIC)
+                .description("Time to evaluate the active rules against every trade")
+                .register(meterRegistry);
+        this.tradesCounter = Counter.builder(TRADES_METRIC)
+                .description("Trades evaluated against the active rules")
+                .register(meterRegistry);
+        this.chunkSize = chunkSize;
+        this.insertSize = insertSize;
+    }
+
+    /**
+     * Runs the nightly evaluation.
+     */
+    @Scheduled(cron = "${trading.rule.batch.cron:0 0 2 * * *}")
+    public void runNightly() {
+        run();
+    }
+
+    /**
+     * Evaluates every active rule against every trade and records the
+     * violations. A run started while another is going waits for it to end.
+     *
+     * @return The report of the run, with the cost of each rule, the slowest
+     *         first. A rule that does not compile is reported with its error
+     *         and skipped.
+     */
+    public RuleBatchReportDTO run() {
+        runLock.lock();
+        try {
+            return runTimer.record(this::evaluate);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private RuleBatchReportDTO evaluate() {
+        long start = System.nanoTime();
+        Timestamp detectedAt = new Timestamp(System.currentTimeMillis());
+        List<CompiledRule<Trade>> rules = new ArrayList<>();
+        List<RuleCostDTO> costs = new ArrayList<>();
+        for (RuleName ruleName : ruleNameRepository.findByActiveTrue()) {
+            try {
+                rules.add(ruleEngine.compile(ruleName, RuleTarget.TRADE));
+            } catch (RuleSyntaxException e) {
+                logger.warn("RuleName {} skipped: {}", ruleName.getId(), e.getMessage());
+                costs.add(new RuleCostDTO(ruleName.getId(), ruleName.getName(), 0, 0, 0, e.getMessage()));
+            }
+        }
+        @SuppressWarnings("unchecked")
+        CompiledRule<Trade>[] compiled = rules.toArray(CompiledRule[]::new);
+        long[] nanos = new long[compiled.length];
+        long[] violations = new long[compiled.length];
+        ViolationWriter writer = new ViolationWriter(detectedAt);
+        long trades = 0;
+
+        List<Trade> chunk = compiled.length == 0 ? List.of() : read(0);
+        while (!chunk.isEmpty()) {
+            Trade[] slice = chunk.toArray(Trade[]::new);
+            ForkJoinTask<ChunkResult> evaluation = ForkJoinPool.commonPool()
+                    .submit(new EvaluateTask(compiled, slice, 0, slice.length));
+            List<Trade> next = slice.length < chunkSize ? List.of() : read(slice[slice.length - 1].getId());
+            ChunkResult result = evaluation.join();
+            for (int r = 0; r < compiled.length; r++) {
+                nanos[r] += result.nanos[r];
+            }
+            for (Match match : result.matches) {
+                violations[match.rule()]++;
+                writer.add(compiled[match.rule()], match.trade());
+            }
+            trades += slice.length;
+            tradesCounter.increment(slice.length);
+            chunk = next;
+        }
+        writer.flush();
+
+        for (int r = 0; r < compiled.length; r++) {
+            CompiledRule<Trade> rule = compiled[r];
+            Timer.builder(RULE_METRIC)
+                    .description("Time spent evaluating a rule against the trades")
+                    .tag("rule", String.valueOf(rule.ruleId()))
+                    .register(meterRegistry)
+                    .record(nanos[r], TimeUnit.NANOSECONDS);
+            costs.add(new RuleCostDTO(rule.ruleId(), rule.name(), violations[r], nanos[r] / 1e6,
+                    trades == 0 ? 0 : (double) nanos[r] / trades, null));
+        }
+        costs.sort(Comparator.comparingDouble(RuleCostDTO::getEvaluationMillis).reversed());
+
+        long elapsedNanos = System.nanoTime() - start;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : trades * 1e9 / elapsedNanos;
+        logger.info("Evaluated {} rules against {} trades in {} ms ({} rows/s), {} violations",
+                compiled.length, trades, elapsedNanos / 1_000_000, Math.round(rowsPerSecond), writer.written);
+        for (RuleCostDTO cost : costs) {
+            if (cost.getError() == null) {
+                logger.info("RuleName {} '{}': {} ms, {} ns/trade, {} violations", cost.getRuleId(), cost.getName(),
+                        Math.round(cost.getEvaluationMillis()), Math.round(cost.getNanosPerTrade()),
+                        cost.getViolations());
+            }
+        }
+        return new RuleBatchReportDTO(detectedAt, trades, writer.written, elapsedNanos / 1_000_000, rowsPerSecond,
+                costs);
+    }
+
+    private List<Trade> read(int afterId) {
+        return tradeRepository.findChunkAfterId(afterId, Limit.of(chunkSize));
+    }
+
+    /**
+     * A trade matching the rule at an index of the compiled rules.
+     */
+    private record Match(int rule, Trade trade) {
+    }
+
+    /**
+     * The matches of a slice of trades, and the time spent in each rule.
+     */
+    private record ChunkResult(long[] nanos, List<Match> matches) {
+    }
+
+    /**
+     * Evaluates the rules against a slice of the trades, splitting it in
+     * halves down to {@value #SPLIT_SIZE} trades.
+     */
+    private static final class EvaluateTask extends RecursiveTask<ChunkResult> {
+
+        private final CompiledRule<Trade>[] rules;
+        private final Trade[] trades;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(CompiledRule<Trade>[] rules, Trade[] trades, int from, int to) {
+            this.rules = rules;
+            this.trades = trades;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (to - from <= SPLIT_SIZE) {
+                long[] nanos = new long[rules.length];
+                List<Match> matches = new ArrayList<>();
+                for (int r = 0; r < rules.length; r++) {
+                    CompiledRule<Trade> rule = rules[r];
+                    long start = System.nanoTime();
+                    for (int i = from; i < to; i++) {
+                        if (rule.matches(trades[i])) {
+                            matches.add(new Match(r, trades[i]));
+                        }
+                    }
+                    nanos[r] = System.nanoTime() - start;
+                }
+                return new ChunkResult(nanos, matches);
+            }
+            int middle = (from + to) >>> 1;
+            EvaluateTask left = new EvaluateTask(rules, trades, from, middle);
+            left.fork();
+            ChunkResult right = new EvaluateTask(rules, trades, middle, to).compute();
+            ChunkResult result = left.join();
+            for (int r = 0; r < rules.length; r++) {
+                result.nanos[r] += right.nanos[r];
+            }
+            result.matches.addAll(right.matches);
+            return result;
+        }
+    }
+
+    /**
+     * Buffers the violations of a run and inserts them in batches.
+     */
+    private class ViolationWriter {
+
+        private final Timestamp detectedAt;
+        private final List<RuleViolation> pending = new ArrayList<>(insertSize);
+        private long written;
+
+        ViolationWriter(Timestamp detectedAt) {
+            this.detectedAt = detectedAt;
+        }
+
+        void add(CompiledRule<Trade> rule, Trade trade) {
+            RuleViolation violation = new RuleViolation();
+            violation.setRuleId(rule.ruleId());
+            violation.setRuleRevision(rule.revision());
+            violation.setTradeId(trade.getId());
+            violation.setDetectedAt(detectedAt);
+            pending.add(violation);
+            if (pending.size() >= insertSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                pending.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            written += pending.size();
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.And;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Between;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Comparison;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.In;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.IsNull;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Like;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Not;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Operator;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Or;
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget.Field;
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget.FieldType;
+
+/**
+ * Compiles a {@link RuleExpression} into a tree of lambdas over the getters
+ * of a {@link RuleTarget}. Literals are converted once, at compile time, so
+ * that evaluating a record only reads its fields and compares primitives.
+ * <p>
+ * A condition follows the SQL three-valued logic: a comparison with a null
+ * field is unknown, and so is its negation, so a rule gives the same answer
+ * as the same WHERE clause in the database. Each node is compiled twice over,
+ * into "is true" and "is false" predicates, the negation of one being the
+ * other: NOT swaps them, AND and OR combine them as De Morgan's laws say.
+ * Text compares without regard to case, as with MySQL's default collation.
+ */
+final class RuleCompiler {
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * @param expression The condition.
+     * @param target     The records it is evaluated against.
+     * @return A predicate true for the records where the condition is true.
+     * @throws RuleSyntaxException If a field does not exist or a literal does
+     *                             not fit its field.
+     */
+    static <T> Predicate<T> compile(RuleExpression expression, RuleTarget<T> target) {
+        return compile(expression, target, true);
+    }
+
+    private static <T> Predicate<T> compile(RuleExpression expression, RuleTarget<T> target, boolean truth) {
+        return switch (expression) {
+            case And and -> truth ? all(compileAll(and.operands(), target, true))
+                    : any(compileAll(and.operands(), target, false));
+            case Or or -> truth ? any(compileAll(or.operands(), target, true))
+                    : all(compileAll(or.operands(), target, false));
+            case Not not -> compile(not.operand(), target, !truth);
+            case IsNull isNull -> isNull(target.field(isNull.field()), truth);
+            case Comparison comparison -> comparison(target.field(comparison.field()), comparison, truth);
+            case Like like -> like(target.field(like.field()), like, truth);
+            case In in -> in(target.field(in.field()), in, truth);
+            case Between between -> between(target.field(between.field()), between, truth);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<T>[] compileAll(List<RuleExpression> expressions, RuleTarget<T> target,
+            boolean truth) {
+        return expressions.stream().map(expression -> compile(expression, target, truth)).toArray(Predicate[]::new);
+    }
+
+    private static <T> Predicate<T> all(Predicate<T>[] operands) {
+        return record -> {
+            for (Predicate<T> operand : operands) {
+                if (!operand.test(record)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static <T> Predicate<T> any(Predicate<T>[] operands) {
+        return record -> {
+            for (Predicate<T> operand : operands) {
+                if (operand.test(record)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static <T> Predicate<T> isNull(Field<T> field, boolean truth) {
+        if (field.type() == FieldType.TEXT) {
+            Function<T, String> text = field.text();
+            return record -> (text.apply(record) == null) == truth;
+        }
+        ToDoubleFunction<T> number = field.number();
+        return record -> Double.isNaN(number.applyAsDouble(record)) == truth;
+    }
+
+    private static <T> Predicate<T> comparison(Field<T> field, Comparison comparison, boolean truth) {
+        Operator operator = comparison.operator();
+        if (field.type() == FieldType.TEXT) {
+            Function<T, String> text = field.text();
+            String value = text(field, comparison.value());
+            return record -> {
+                String actual = text.apply(record);
+                return actual != null && operator.test(actual.compareToIgnoreCase(value)) == truth;
+            };
+        }
+        ToDoubleFunction<T> number = field.number();
+        double value = number(field, comparison.value());
+        return record -> {
+            double actual = number.applyAsDouble(record);
+            return !Double.isNaN(actual) && operator.test(actual < value ? -1 : actual > value ? 1 : 0) == truth;
+        };
+    }
+
+    private static <T> Predicate<T> like(Field<T> field, Like like, boolean truth) {
+        if (field.type() != FieldType.TEXT) {
+            throw new RuleSyntaxException("LIKE needs a text field, " + field.name() + " is not one");
+        }
+        Function<T, String> text = field.text();
+        LikePattern pattern = new LikePattern(like.pattern(), like.escape());
+        return record -> {
+            String actual = text.apply(record);
+            return actual != null && pattern.matches(actual) == truth;
+        };
+    }
+
+    private static <T> Predicate<T> in(Field<T> field, In in, boolean truth) {
+        if (field.type() == FieldType.TEXT) {
+            Function<T, String> text = field.text();
+            String[] values = in.values().stream().map(value -> text(field, value)).toArray(String[]::new);
+            return record -> {
+                String actual = text.apply(record);
+                if (actual == null) {
+                    return false;
+                }
+                for (String value : values) {
+                    if (actual.equalsIgnoreCase(value)) {
+                        return truth;
+                    }
+                }
+                return !truth;
+            };
+        }
+        ToDoubleFunction<T> number = field.number();
+        double[] values = in.values().stream().mapToDouble(value -> number(field, value)).sorted().toArray();
+        return record -> {
+            double actual = number.applyAsDouble(record);
+            return !Double.isNaN(actual) && (Arrays.binarySearch(values, actual) >= 0) == truth;
+        };
+    }
+
+    private static <T> Predicate<T> between(Field<T> field, Between between, boolean truth) {
+        if (field.type() == FieldType.TEXT) {
+            Function<T, String> text = field.text();
+            String low = text(field, between.low());
+            String high = text(field, between.high());
+            return record -> {
+                String actual = text.apply(record);
+                return actual != null
+                        && (actual.compareToIgnoreCase(low) >= 0 && actual.compareToIgnoreCase(high) <= 0) == truth;
+            };
+        }
+        ToDoubleFunction<T> number = field.number();
+        double low = number(field, between.low());
+        double high = number(field, between.high());
+        return record -> {
+            double actual = number.applyAsDouble(record);
+            return !Double.isNaN(actual) && (actual >= low && actual <= high) == truth;
+        };
+    }
+
+    /**
+     * @return The literal as text, for a text field.
+     */
+    static String text(Field<?> field, Object value) {
+        if (!(value instanceof String text)) {
+            throw new RuleSyntaxException(field.name() + " is text and cannot be compared to " + value);
+        }
+        return text;
+    }
+
+    /**
+     * @return The literal as a number, or as epoch milliseconds for a
+     *         timestamp field, written yyyy-mm-dd or yyyy-mm-dd hh:mm:ss.
+     */
+    static double number(Field<?> field, Object value) {
+        if (field.type() == FieldType.NUMBER) {
+            if (!(value instanceof Double number)) {
+                throw new RuleSyntaxException(field.name() + " is a number and cannot be compared to '" + value + "'");
+            }
+            return number;
+        }
+        if (!(value instanceof String text)) {
+            throw new RuleSyntaxException(field.name() + " is a timestamp and needs a quoted date, not " + value);
+        }
+        try {
+            return text.length() == 10 ? Timestamp.valueOf(LocalDate.parse(text).atStartOfDay()).getTime()
+                    : Timestamp.valueOf(text).getTime();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuleSyntaxException("'" + text + "' is not a date nor a timestamp", e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.And;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Compiles the condition of a {@link RuleName} into a {@link CompiledRule}
+ * for Trades or BidLists. The condition is the sqlPart of the rule, and its
+ * json too when that is a condition in the json form of {@link RuleParser},
+ * both having to hold; any other json is left alone.
+ * <p>
+ * The sqlStr of a rule is prepared into a {@link RuleQuery} on the same
+ * condition, and its template compiled into a {@link RuleTemplate}.
+ * <p>
+ * Compiled rules, queries and templates are cached by record type, ID and revision: a
+ * rule is compiled again only once it was updated, which raised its revision.
+ */
+@Component
+public class RuleEngine {
+
+    static final String COMPILE_METRIC = "trading.rule.compile";
+    static final String SIZE_METRIC = "trading.rules.compiled";
+    private static final Set<String> JSON_CONDITION_KEYS = Set.of("and", "or", "not", "field");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<RuleTarget<?>, Map<Integer, CompiledRule<?>>> caches = new ConcurrentHashMap<>();
+    private final Map<Integer, RuleQuery> queries = new ConcurrentHashMap<>();
+    private final Map<RuleTarget<?>, Map<Integer, Revision>> templates = new ConcurrentHashMap<>();
+    private final Timer compileTimer;
+
+    /**
+     * Constructs a RuleEngine.
+     *
+     * @param meterRegistry The registry of the compile time and cache size
+     *                      metrics.
+     */
+    public RuleEngine(MeterRegistry meterRegistry) {
+        this.compileTimer = Timer.builder(COMPILE_METRIC)
+                .description("Time to parse and compile a rule")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this, RuleEngine::size)
+                .description("Compiled rules in the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Compiles a rule, or returns it from the cache if its revision did not
+     * change.
+     *
+     * @param rule   The rule.
+     * @param target The records it is evaluated against.
+     * @return The compiled rule.
+     * @throws RuleSyntaxException If the condition is invalid, or names a field
+     *                             the records do not have.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompiledRule<T> compile(RuleName rule, RuleTarget<T> target) {
+        Map<Integer, CompiledRule<?>> cache = caches.computeIfAbsent(target, key -> new ConcurrentHashMap<>());
+        CompiledRule<?> cached = cache.get(rule.getId());
+        if (cached != null && cached.revision() == rule.getRevision()) {
+            return (CompiledRule<T>) cached;
+        }
+        long start = System.nanoTime();
+        CompiledRule<T> compiled = new CompiledRule<>(rule.getId(), rule.getRevision(), rule.getName(), target,
+                RuleCompiler.compile(condition(rule), target));
+        compileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (rule.getId() != 0) {
+            cache.merge(rule.getId(), compiled,
+                    (previous, current) -> previous.revision() > current.revision() ? previous : current);
+        }
+        return compiled;
+    }
+
+    /**
+     * Prepares the query of a rule, or returns it from the cache if its
+     * revision did not change.
+     *
+     * @param rule The rule.
+     * @return The query of its sqlStr, restricted by its sqlPart and json
+     *         conditions when it has some.
+     * @throws RuleSyntaxException If the rule has no sqlStr, or its sqlStr or
+     *                             conditions are invalid.
+     */
+    public RuleQuery prepare(RuleName rule) {
+        RuleQuery cached = queries.get(rule.getId());
+        if (cached != null && cached.revision() == rule.getRevision()) {
+            return cached;
+        }
+        if (isBlank(rule.getSqlStr())) {
+            throw new RuleSyntaxException("RuleName " + rule.getId() + " has no sqlStr");
+        }
+        long start = System.nanoTime();
+        RuleQuery query = RuleQueryCompiler.compile(rule.getId(), rule.getRevision(),
+                RuleParser.parseSelect(rule.getSqlStr()), optionalCondition(rule));
+        compileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (rule.getId() != 0) {
+            queries.merge(rule.getId(), query,
+                    (previous, current) -> previous.revision() > current.revision() ? previous : current);
+        }
+        return query;
+    }
+
+    /**
+     * Compiles the template of a rule, or returns it from the cache if its
+     * revision did not change.
+     *
+     * @param rule   The rule.
+     * @param target The records it is rendered for.
+     * @return The compiled template.
+     * @throws RuleSyntaxException If the rule has no template, or its template
+     *                             is invalid.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> RuleTemplate<T> template(RuleName rule, RuleTarget<T> target) {
+        Map<Integer, Revision> cache = templates.computeIfAbsent(target, key -> new ConcurrentHashMap<>());
+        Revision cached = cache.get(rule.getId());
+        if (cached != null && cached.revision() == rule.getRevision()) {
+            return (RuleTemplate<T>) cached.template();
+        }
+        if (isBlank(rule.getTemplate())) {
+            throw new RuleSyntaxException("RuleName " + rule.getId() + " has no template");
+        }
+        long start = System.nanoTime();
+        RuleTemplate<T> template = RuleTemplate.compile(rule.getTemplate(), target);
+        compileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (rule.getId() != 0) {
+            cache.merge(rule.getId(), new Revision(rule.getRevision(), template),
+                    (previous, current) -> previous.revision() > current.revision() ? previous : current);
+        }
+        return template;
+    }
+
+    /**
+     * Drops the compiled versions of a deleted rule.
+     *
+     * @param ruleId The RuleName ID.
+     */
+    public void evict(int ruleId) {
+        caches.values().forEach(cache -> cache.remove(ruleId));
+        queries.remove(ruleId);
+        templates.values().forEach(cache -> cache.remove(ruleId));
+    }
+
+    /**
+     * @return The number of compiled rules, queries and templates in the
+     *         cache.
+     */
+    public int size() {
+        return caches.values().stream().mapToInt(Map::size).sum() + queries.size()
+                + templates.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Parses the condition of a rule without compiling it.
+     *
+     * @param rule The rule.
+     * @return The condition.
+     * @throws RuleSyntaxException If the rule has no valid condition.
+     */
+    public static RuleExpression condition(RuleName rule) {
+        RuleExpression condition = optionalCondition(rule);
+        if (condition == null) {
+            throw new RuleSyntaxException("RuleName " + rule.getId() + " has no condition");
+        }
+        return condition;
+    }
+
+    private static RuleExpression optionalCondition(RuleName rule) {
+        RuleExpression sql = isBlank(rule.getSqlPart()) ? null : RuleParser.parseSql(rule.getSqlPart());
+        RuleExpression json = jsonCondition(rule.getJson());
+        if (sql == null || json == null) {
+            return sql == null ? json : sql;
+        }
+        return new And(List.of(sql, json));
+    }
+
+    private static RuleExpression jsonCondition(String json) {
+        if (isBlank(json) || !json.strip().startsWith("{")) {
+            return null;
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RuleSyntaxException("Invalid JSON rule: " + e.getOriginalMessage(), e);
+        }
+        return JSON_CONDITION_KEYS.stream().anyMatch(node::has) ? RuleParser.parseJson(node) : null;
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+
+    /**
+     * A compiled template and the revision of its rule.
+     */
+    private record Revision(int revision, RuleTemplate<?> template) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.util.List;
+
+/**
+ * The parsed condition of a rule, a tree of predicates on the fields of a
+ * record. Literals are Doubles for numbers and Strings for text and
+ * timestamps; their type is checked against the field when the tree is
+ * compiled by {@link RuleCompiler}.
+ */
+public sealed interface RuleExpression {
+
+    /**
+     * True when every operand is true.
+     *
+     * @param operands At least two conditions.
+     */
+    record And(List<RuleExpression> operands) implements RuleExpression {
+    }
+
+    /**
+     * True when any operand is true.
+     *
+     * @param operands At least two conditions.
+     */
+    record Or(List<RuleExpression> operands) implements RuleExpression {
+    }
+
+    /**
+     * True when the operand is false.
+     *
+     * @param operand A condition.
+     */
+    record Not(RuleExpression operand) implements RuleExpression {
+    }
+
+    /**
+     * Compares a field to a literal.
+     *
+     * @param field    The field name.
+     * @param operator The comparison.
+     * @param value    The literal.
+     */
+    record Comparison(String field, Operator operator, Object value) implements RuleExpression {
+    }
+
+    /**
+     * True when a field is null.
+     *
+     * @param field The field name.
+     */
+    record IsNull(String field) implements RuleExpression {
+    }
+
+    /**
+     * Matches a text field to a SQL LIKE pattern, where % matches any
+     * sequence of characters and _ any one character.
+     *
+     * @param field   The field name.
+     * @param pattern The pattern.
+     * @param escape  The character that makes the next %, _ or itself
+     *                literal, or null for none.
+     */
+    record Like(String field, String pattern, Character escape) implements RuleExpression {
+    }
+
+    /**
+     * True when a field equals one of the literals.
+     *
+     * @param field  The field name.
+     * @param values At least one literal.
+     */
+    record In(String field, List<Object> values) implements RuleExpression {
+    }
+
+    /**
+     * True when a field is between two literals, both included.
+     *
+     * @param field The field name.
+     * @param low   The lowest value.
+     * @param high  The highest value.
+     */
+    record Between(String field, Object low, Object high) implements RuleExpression {
+    }
+
+    /**
+     * The comparison operators.
+     */
+    enum Operator {
+        EQ("="), NE("<>"), LT("<"), LE("<="), GT(">"), GE(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * @return The operator as written in SQL.
+         */
+        public String symbol() {
+            return symbol;
+        }
+
+        /**
+         * @param symbol An operator as written in a rule; != is accepted for
+         *               &lt;&gt;.
+         * @return The operator, or null if the symbol is not one.
+         */
+        public static Operator of(String symbol) {
+            if ("!=".equals(symbol)) {
+                return NE;
+            }
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param comparison The sign of the field compared to the literal.
+         * @return True if the comparison satisfies the operator.
+         */
+        public boolean test(int comparison) {
+            return switch (this) {
+                case EQ -> comparison == 0;
+                case NE -> comparison != 0;
+                case LT -> comparison < 0;
+                case LE -> comparison <= 0;
+                case GT -> comparison > 0;
+                case GE -> comparison >= 0;
+            };
+        }
+    }
+}
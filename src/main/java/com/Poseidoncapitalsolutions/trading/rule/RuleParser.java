@@ -0,0 +1,402 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.And;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Between;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Comparison;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.In;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.IsNull;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Like;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Not;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Operator;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Or;
+
+/**
+ * Parses the condition of a rule, written in one of two forms.
+ * <p>
+ * The sqlPart form is the subset of a SQL WHERE clause made of comparisons
+ * of a field to a literal, combined with AND, OR, NOT and parentheses:
+ * <pre>
+ * buyQuantity &gt; 1000 AND (account LIKE 'ACC%' OR book IN ('B1', 'B2'))
+ * tradeDate BETWEEN '2024-01-01' AND '2024-12-31' AND security IS NOT NULL
+ * </pre>
+ * The json form is the same tree as a JSON object:
+ * <pre>
+ * {"and": [{"field": "buyQuantity", "op": "&gt;", "value": 1000},
+ *          {"not": {"field": "book", "op": "in", "value": ["B1", "B2"]}}]}
+ * </pre>
+ * with "or" next to "and", and the operators =, &lt;&gt;, !=, &lt;, &lt;=,
+ * &gt;, &gt;=, like, not like, in, not in, between (a two-value array), is
+ * null and is not null (without a value).
+ * <p>
+ * The sqlStr of a rule is a query on one table, with the same conditions:
+ * <pre>
+ * SELECT account, buyQuantity FROM Trade WHERE book = 'B1' ORDER BY buyQuantity DESC
+ * </pre>
+ */
+public final class RuleParser {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String text;
+    private int position;
+
+    private RuleParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a condition in the sqlPart form.
+     *
+     * @param sql The condition.
+     * @return Its expression tree.
+     * @throws RuleSyntaxException If the condition is not valid.
+     */
+    public static RuleExpression parseSql(String sql) {
+        RuleParser parser = new RuleParser(sql);
+        RuleExpression expression = parser.parseOr();
+        parser.skipSpaces();
+        if (parser.position < sql.length()) {
+            throw parser.error("Unexpected '" + sql.substring(parser.position) + "'");
+        }
+        return expression;
+    }
+
+    /**
+     * Parses a query in the sqlStr form: SELECT followed by * or a list of
+     * columns, FROM and a table, then an optional WHERE condition and an
+     * optional ORDER BY one column, ASC or DESC.
+     *
+     * @param sql The query.
+     * @return The parsed query.
+     * @throws RuleSyntaxException If the query is not valid.
+     */
+    static Select parseSelect(String sql) {
+        RuleParser parser = new RuleParser(sql);
+        parser.expectKeyword("SELECT");
+        List<String> columns = new ArrayList<>();
+        if (!parser.symbol("*")) {
+            do {
+                columns.add(parser.identifier());
+            } while (parser.symbol(","));
+        }
+        parser.expectKeyword("FROM");
+        String table = parser.identifier();
+        RuleExpression where = parser.keyword("WHERE") ? parser.parseOr() : null;
+        String orderBy = null;
+        boolean descending = false;
+        if (parser.keyword("ORDER")) {
+            parser.expectKeyword("BY");
+            orderBy = parser.identifier();
+            descending = parser.keyword("DESC");
+            if (!descending) {
+                parser.keyword("ASC");
+            }
+        }
+        parser.skipSpaces();
+        if (parser.position < sql.length()) {
+            throw parser.error("Unexpected '" + sql.substring(parser.position) + "'");
+        }
+        return new Select(List.copyOf(columns), table, where, orderBy, descending);
+    }
+
+    /**
+     * Parses a condition in the json form.
+     *
+     * @param json The condition.
+     * @return Its expression tree.
+     * @throws RuleSyntaxException If the condition is not valid.
+     */
+    public static RuleExpression parseJson(String json) {
+        try {
+            return parseJson(objectMapper.readTree(json));
+        } catch (JsonProcessingException e) {
+            throw new RuleSyntaxException("Invalid JSON rule: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Parses a condition in the json form, already read.
+     */
+    static RuleExpression parseJson(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            throw new RuleSyntaxException("A JSON rule condition must be an object");
+        }
+        if (node.has("and") || node.has("or")) {
+            boolean and = node.has("and");
+            JsonNode operands = node.get(and ? "and" : "or");
+            if (!operands.isArray() || operands.isEmpty()) {
+                throw new RuleSyntaxException("\"" + (and ? "and" : "or") + "\" must be a non-empty array");
+            }
+            List<RuleExpression> expressions = new ArrayList<>();
+            operands.forEach(operand -> expressions.add(parseJson(operand)));
+            if (expressions.size() == 1) {
+                return expressions.get(0);
+            }
+            return and ? new And(List.copyOf(expressions)) : new Or(List.copyOf(expressions));
+        }
+        if (node.has("not")) {
+            return new Not(parseJson(node.get("not")));
+        }
+        String field = node.path("field").asText(null);
+        String operator = node.path("op").asText(null);
+        if (field == null || operator == null) {
+            throw new RuleSyntaxException("A JSON rule predicate needs a \"field\" and an \"op\"");
+        }
+        JsonNode value = node.get("value");
+        String op = operator.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return switch (op) {
+            case "is null" -> new IsNull(field);
+            case "is not null" -> new Not(new IsNull(field));
+            case "like" -> new Like(field, text(value, op), null);
+            case "not like" -> new Not(new Like(field, text(value, op), null));
+            case "in" -> new In(field, literals(value, op));
+            case "not in" -> new Not(new In(field, literals(value, op)));
+            case "between" -> {
+                List<Object> bounds = literals(value, op);
+                if (bounds.size() != 2) {
+                    throw new RuleSyntaxException("\"between\" needs an array of two values");
+                }
+                yield new Between(field, bounds.get(0), bounds.get(1));
+            }
+            default -> {
+                Operator comparison = Operator.of(op);
+                if (comparison == null) {
+                    throw new RuleSyntaxException("Unknown operator \"" + operator + "\"");
+                }
+                yield new Comparison(field, comparison, literal(value, op));
+            }
+        };
+    }
+
+    private static Object literal(JsonNode value, String operator) {
+        if (value != null && value.isNumber()) {
+            return value.doubleValue();
+        }
+        if (value != null && value.isTextual()) {
+            return value.textValue();
+        }
+        throw new RuleSyntaxException("\"" + operator + "\" needs a number or a string value");
+    }
+
+    private static String text(JsonNode value, String operator) {
+        if (value == null || !value.isTextual()) {
+            throw new RuleSyntaxException("\"" + operator + "\" needs a string value");
+        }
+        return value.textValue();
+    }
+
+    private static List<Object> literals(JsonNode value, String operator) {
+        if (value == null || !value.isArray() || value.isEmpty()) {
+            throw new RuleSyntaxException("\"" + operator + "\" needs a non-empty array value");
+        }
+        List<Object> literals = new ArrayList<>();
+        value.forEach(element -> literals.add(literal(element, operator)));
+        return List.copyOf(literals);
+    }
+
+    private RuleExpression parseOr() {
+        List<RuleExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (keyword("OR")) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new Or(List.copyOf(operands));
+    }
+
+    private RuleExpression parseAnd() {
+        List<RuleExpression> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (keyword("AND")) {
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new And(List.copyOf(operands));
+    }
+
+    private RuleExpression parseNot() {
+        if (keyword("NOT")) {
+            return new Not(parseNot());
+        }
+        if (symbol("(")) {
+            RuleExpression expression = parseOr();
+            expect(")");
+            return expression;
+        }
+        return parsePredicate();
+    }
+
+    private RuleExpression parsePredicate() {
+        String field = identifier();
+        if (keyword("IS")) {
+            boolean not = keyword("NOT");
+            expectKeyword("NULL");
+            return negate(not, new IsNull(field));
+        }
+        boolean not = keyword("NOT");
+        if (keyword("LIKE")) {
+            String pattern = string();
+            Character escape = null;
+            if (keyword("ESCAPE")) {
+                String escapeText = string();
+                if (escapeText.length() != 1) {
+                    throw error("ESCAPE needs a single character");
+                }
+                escape = escapeText.charAt(0);
+            }
+            return negate(not, new Like(field, pattern, escape));
+        }
+        if (keyword("IN")) {
+            expect("(");
+            List<Object> values = new ArrayList<>();
+            do {
+                values.add(literal());
+            } while (symbol(","));
+            expect(")");
+            return negate(not, new In(field, List.copyOf(values)));
+        }
+        if (keyword("BETWEEN")) {
+            Object low = literal();
+            expectKeyword("AND");
+            return negate(not, new Between(field, low, literal()));
+        }
+        if (not) {
+            throw error("Expected LIKE, IN or BETWEEN after NOT");
+        }
+        Operator operator = operator();
+        return new Comparison(field, operator, literal());
+    }
+
+    private static RuleExpression negate(boolean not, RuleExpression expression) {
+        return not ? new Not(expression) : expression;
+    }
+
+    private String identifier() {
+        skipSpaces();
+        int start = position;
+        while (position < text.length()
+                && (Character.isLetterOrDigit(text.charAt(position)) || text.charAt(position) == '_')) {
+            position++;
+        }
+        if (start == position || Character.isDigit(text.charAt(start))) {
+            position = start;
+            throw error("Expected a field name");
+        }
+        return text.substring(start, position);
+    }
+
+    private Operator operator() {
+        skipSpaces();
+        for (String symbol : new String[] { "<=", ">=", "<>", "!=", "=", "<", ">" }) {
+            if (text.startsWith(symbol, position)) {
+                position += symbol.length();
+                return Operator.of(symbol);
+            }
+        }
+        throw error("Expected a comparison operator");
+    }
+
+    private Object literal() {
+        skipSpaces();
+        if (position < text.length() && text.charAt(position) == '\'') {
+            return string();
+        }
+        int start = position;
+        if (position < text.length() && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+            position++;
+        }
+        while (position < text.length() && (Character.isDigit(text.charAt(position))
+                || ".eE".indexOf(text.charAt(position)) >= 0
+                || ((text.charAt(position) == '-' || text.charAt(position) == '+')
+                        && "eE".indexOf(text.charAt(position - 1)) >= 0))) {
+            position++;
+        }
+        try {
+            return Double.valueOf(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            position = start;
+            throw error("Expected a number or a quoted string");
+        }
+    }
+
+    private String string() {
+        skipSpaces();
+        if (position >= text.length() || text.charAt(position) != '\'') {
+            throw error("Expected a quoted string");
+        }
+        StringBuilder value = new StringBuilder();
+        int start = position++;
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c != '\'') {
+                value.append(c);
+            } else if (position < text.length() && text.charAt(position) == '\'') {
+                value.append('\'');
+                position++;
+            } else {
+                return value.toString();
+            }
+        }
+        position = start;
+        throw error("Unterminated string");
+    }
+
+    private boolean keyword(String keyword) {
+        skipSpaces();
+        int end = position + keyword.length();
+        if (text.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end == text.length() || !(Character.isLetterOrDigit(text.charAt(end)) || text.charAt(end) == '_'))) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!keyword(keyword)) {
+            throw error("Expected " + keyword);
+        }
+    }
+
+    private boolean symbol(String symbol) {
+        skipSpaces();
+        if (text.startsWith(symbol, position)) {
+            position += symbol.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String symbol) {
+        if (!symbol(symbol)) {
+            throw error("Expected '" + symbol + "'");
+        }
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * A query in the sqlStr form.
+     *
+     * @param columns    The selected columns, empty for all of them.
+     * @param table      The table.
+     * @param where      The condition, or null.
+     * @param orderBy    The sort column, or null.
+     * @param descending True to sort in descending order.
+     */
+    record Select(List<String> columns, String table, RuleExpression where, String orderBy, boolean descending) {
+    }
+
+    private RuleSyntaxException error(String message) {
+        return new RuleSyntaxException(message + " at position " + (position + 1) + " of \"" + text + "\"");
+    }
+}
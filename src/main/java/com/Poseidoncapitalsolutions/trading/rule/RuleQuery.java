@@ -0,0 +1,20 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.util.List;
+
+/**
+ * The sqlStr of a rule, and the condition of its sqlPart and json, turned
+ * into a parameterized SQL query on one of the {@link RuleTarget} tables.
+ * The SQL only holds the names of known tables and columns, every literal
+ * being a parameter, so it is the same text from one run to the next and
+ * the statement and its plan can be reused.
+ *
+ * @param ruleId     The RuleName ID.
+ * @param revision   The RuleName revision it was built from.
+ * @param sql        The query, ending with a LIMIT parameter.
+ * @param parameters The values of the parameters before the LIMIT one:
+ *                   Doubles, Strings and Timestamps.
+ * @param columns    The names of the selected columns.
+ */
+public record RuleQuery(int ruleId, int revision, String sql, List<Object> parameters, List<String> columns) {
+}
@@ -0,0 +1,149 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.And;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Between;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Comparison;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.In;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.IsNull;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Like;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Not;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Or;
+import com.poseidoncapitalsolutions.trading.rule.RuleParser.Select;
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget.Field;
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget.FieldType;
+
+/**
+ * Writes the SQL of a {@link RuleQuery}. Table and column names are checked
+ * against the {@link RuleTarget}s and written as declared there, literals
+ * are converted to the type of their column as {@link RuleCompiler} does and
+ * passed as parameters. LIKE patterns are rewritten to the ! escape
+ * character, so that the ESCAPE clause is a constant too.
+ */
+final class RuleQueryCompiler {
+
+    static final char LIKE_ESCAPE = '!';
+
+    private final RuleTarget<?> target;
+    private final StringBuilder sql = new StringBuilder();
+    private final List<Object> parameters = new ArrayList<>();
+
+    private RuleQueryCompiler(RuleTarget<?> target) {
+        this.target = target;
+    }
+
+    /**
+     * @param ruleId    The RuleName ID.
+     * @param revision  The RuleName revision.
+     * @param select    The parsed sqlStr.
+     * @param condition The condition of the sqlPart and json, or null.
+     * @return The query.
+     * @throws RuleSyntaxException If a table or column cannot be read, or a
+     *                             literal does not fit its column.
+     */
+    static RuleQuery compile(int ruleId, int revision, Select select, RuleExpression condition) {
+        RuleQueryCompiler compiler = new RuleQueryCompiler(RuleTarget.forName(select.table()));
+        List<String> columns = select.columns().isEmpty()
+                ? compiler.target.fields().stream().map(Field::name).toList()
+                : select.columns().stream().map(column -> compiler.target.field(column).name()).toList();
+        compiler.sql.append("select ").append(String.join(", ", columns))
+                .append(" from ").append(compiler.target.getName());
+        RuleExpression where = select.where() == null ? condition
+                : condition == null ? select.where() : new And(List.of(select.where(), condition));
+        if (where != null) {
+            compiler.sql.append(" where ");
+            compiler.append(where);
+        }
+        if (select.orderBy() != null) {
+            compiler.sql.append(" order by ").append(compiler.target.field(select.orderBy()).name())
+                    .append(select.descending() ? " desc" : " asc");
+        }
+        compiler.sql.append(" limit ?");
+        return new RuleQuery(ruleId, revision, compiler.sql.toString(), List.copyOf(compiler.parameters), columns);
+    }
+
+    private void append(RuleExpression expression) {
+        switch (expression) {
+            case And and -> join(and.operands(), " and ");
+            case Or or -> join(or.operands(), " or ");
+            case Not not -> {
+                sql.append("not (");
+                append(not.operand());
+                sql.append(')');
+            }
+            case IsNull isNull -> sql.append(target.field(isNull.field()).name()).append(" is null");
+            case Comparison comparison -> {
+                Field<?> field = target.field(comparison.field());
+                sql.append(field.name()).append(' ').append(comparison.operator().symbol()).append(" ?");
+                parameters.add(parameter(field, comparison.value()));
+            }
+            case Like like -> {
+                Field<?> field = target.field(like.field());
+                if (field.type() != FieldType.TEXT) {
+                    throw new RuleSyntaxException("LIKE needs a text field, " + field.name() + " is not one");
+                }
+                sql.append(field.name()).append(" like ? escape '").append(LIKE_ESCAPE).append('\'');
+                parameters.add(escape(like.pattern(), like.escape()));
+            }
+            case In in -> {
+                Field<?> field = target.field(in.field());
+                sql.append(field.name()).append(" in (");
+                for (int i = 0; i < in.values().size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                    parameters.add(parameter(field, in.values().get(i)));
+                }
+                sql.append(')');
+            }
+            case Between between -> {
+                Field<?> field = target.field(between.field());
+                sql.append(field.name()).append(" between ? and ?");
+                parameters.add(parameter(field, between.low()));
+                parameters.add(parameter(field, between.high()));
+            }
+        }
+    }
+
+    private void join(List<RuleExpression> operands, String operator) {
+        sql.append('(');
+        for (int i = 0; i < operands.size(); i++) {
+            if (i > 0) {
+                sql.append(operator);
+            }
+            append(operands.get(i));
+        }
+        sql.append(')');
+    }
+
+    private static Object parameter(Field<?> field, Object value) {
+        return switch (field.type()) {
+            case TEXT -> RuleCompiler.text(field, value);
+            case NUMBER -> RuleCompiler.number(field, value);
+            case TIMESTAMP -> new Timestamp((long) RuleCompiler.number(field, value));
+        };
+    }
+
+    /**
+     * @return The pattern with its escape character replaced by
+     *         {@value #LIKE_ESCAPE}.
+     */
+    static String escape(String pattern, Character escape) {
+        StringBuilder escaped = new StringBuilder(pattern.length() + 4);
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (escape != null && c == escape) {
+                if (++i == pattern.length()) {
+                    throw new RuleSyntaxException("LIKE pattern '" + pattern + "' ends with its escape character");
+                }
+                escaped.append(LIKE_ESCAPE).append(pattern.charAt(i));
+            } else if (c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE).append(LIKE_ESCAPE);
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
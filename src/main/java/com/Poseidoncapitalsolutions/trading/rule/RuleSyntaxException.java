@@ -0,0 +1,16 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+/**
+ * Thrown when the condition of a rule cannot be parsed, or does not apply to
+ * the records it is compiled for.
+ */
+public class RuleSyntaxException extends IllegalArgumentException {
+
+    public RuleSyntaxException(String message) {
+        super(message);
+    }
+
+    public RuleSyntaxException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
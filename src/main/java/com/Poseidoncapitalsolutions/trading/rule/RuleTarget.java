@@ -0,0 +1,179 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.CurvePoint;
+import com.poseidoncapitalsolutions.trading.model.Rating;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+
+/**
+ * The records a rule can be evaluated against, and the fields a rule can
+ * name on them: the properties of the entity, matched without regard to
+ * case. Numbers and timestamps are read as doubles, NaN standing for null,
+ * so that reading a field allocates nothing. The targets are also the tables,
+ * and their fields the columns, a {@link RuleQuery} may read.
+ *
+ * @param <T> The type of the records.
+ */
+public final class RuleTarget<T> {
+
+    public static final RuleTarget<Trade> TRADE = new RuleTarget<>("Trade", List.of(
+            number("id", Trade::getId),
+            text("account", Trade::getAccount),
+            text("type", Trade::getType),
+            nullableNumber("buyQuantity", Trade::getBuyQuantity),
+            nullableNumber("sellQuantity", Trade::getSellQuantity),
+            nullableNumber("buyPrice", Trade::getBuyPrice),
+            nullableNumber("sellPrice", Trade::getSellPrice),
+            timestamp("tradeDate", Trade::getTradeDate),
+            text("security", Trade::getSecurity),
+            text("status", Trade::getStatus),
+            text("trader", Trade::getTrader),
+            text("benchmark", Trade::getBenchmark),
+            text("book", Trade::getBook),
+            text("creationName", Trade::getCreationName),
+            timestamp("creationDate", Trade::getCreationDate),
+            text("revisionName", Trade::getRevisionName),
+            timestamp("revisionDate", Trade::getRevisionDate),
+            text("dealName", Trade::getDealName),
+            text("dealType", Trade::getDealType),
+            text("sourceListId", Trade::getSourceListId),
+            text("side", Trade::getSide)));
+
+    public static final RuleTarget<BidList> BID_LIST = new RuleTarget<>("BidList", List.of(
+            number("id", BidList::getId),
+            text("account", BidList::getAccount),
+            text("type", BidList::getType),
+            nullableNumber("bidQuantity", BidList::getBidQuantity),
+            nullableNumber("askQuantity", BidList::getAskQuantity),
+            nullableNumber("bid", BidList::getBid),
+            nullableNumber("ask", BidList::getAsk),
+            text("benchmark", BidList::getBenchmark),
+            timestamp("bidListDate", BidList::getBidListDate),
+            text("commentary", BidList::getCommentary),
+            text("security", BidList::getSecurity),
+            text("status", BidList::getStatus),
+            text("trader", BidList::getTrader),
+            text("book", BidList::getBook),
+            text("creationName", BidList::getCreationName),
+            timestamp("creationDate", BidList::getCreationDate),
+            text("revisionName", BidList::getRevisionName),
+            timestamp("revisionDate", BidList::getRevisionDate),
+            text("dealName", BidList::getDealName),
+            text("dealType", BidList::getDealType),
+            text("sourceListId", BidList::getSourceListId),
+            text("side", BidList::getSide)));
+
+    public static final RuleTarget<CurvePoint> CURVE_POINT = new RuleTarget<>("CurvePoint", List.of(
+            number("id", CurvePoint::getId),
+            nullableNumber("curveId", CurvePoint::getCurveId),
+            timestamp("asOfDate", CurvePoint::getAsOfDate),
+            nullableNumber("term", CurvePoint::getTerm),
+            nullableNumber("value", CurvePoint::getValue),
+            timestamp("creationDate", CurvePoint::getCreationDate)));
+
+    public static final RuleTarget<Rating> RATING = new RuleTarget<>("Rating", List.of(
+            number("id", Rating::getId),
+            text("moodysRating", Rating::getMoodysRating),
+            text("sandPRating", Rating::getSandPRating),
+            text("fitchRating", Rating::getFitchRating),
+            nullableNumber("orderNumber", Rating::getOrderNumber)));
+
+    private static final List<RuleTarget<?>> TARGETS = List.of(TRADE, BID_LIST, CURVE_POINT, RATING);
+
+    private final String name;
+    private final List<Field<T>> fieldList;
+    private final Map<String, Field<T>> fields;
+
+    private RuleTarget(String name, List<Field<T>> fields) {
+        this.name = name;
+        this.fieldList = List.copyOf(fields);
+        this.fields = fields.stream()
+                .collect(Collectors.toUnmodifiableMap(field -> field.name().toLowerCase(Locale.ROOT),
+                        Function.identity()));
+    }
+
+    /**
+     * @param name A table name, in any case.
+     * @return The target of that name.
+     * @throws RuleSyntaxException If the table is not one a rule may read.
+     */
+    public static RuleTarget<?> forName(String name) {
+        return TARGETS.stream()
+                .filter(target -> target.name.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new RuleSyntaxException("Table " + name + " cannot be read by a rule"));
+    }
+
+    /**
+     * @return The name of the records, the entity name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Every field, in declaration order.
+     */
+    List<Field<T>> fields() {
+        return fieldList;
+    }
+
+    /**
+     * @param fieldName A field name, in any case.
+     * @return The field.
+     * @throws RuleSyntaxException If the records have no such field.
+     */
+    Field<T> field(String fieldName) {
+        Field<T> field = fields.get(fieldName.toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new RuleSyntaxException(name + " has no field " + fieldName);
+        }
+        return field;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static <T> Field<T> number(String name, ToDoubleFunction<T> getter) {
+        return new Field<>(name, FieldType.NUMBER, getter, null);
+    }
+
+    private static <T> Field<T> nullableNumber(String name, Function<T, ? extends Number> getter) {
+        return new Field<>(name, FieldType.NUMBER, record -> {
+            Number value = getter.apply(record);
+            return value == null ? Double.NaN : value.doubleValue();
+        }, null);
+    }
+
+    private static <T> Field<T> timestamp(String name, Function<T, Timestamp> getter) {
+        return new Field<>(name, FieldType.TIMESTAMP, record -> {
+            Timestamp value = getter.apply(record);
+            return value == null ? Double.NaN : value.getTime();
+        }, null);
+    }
+
+    private static <T> Field<T> text(String name, Function<T, String> getter) {
+        return new Field<>(name, FieldType.TEXT, null, getter);
+    }
+
+    enum FieldType {
+        NUMBER, TIMESTAMP, TEXT
+    }
+
+    /**
+     * A field and its getter: number for the NUMBER and TIMESTAMP fields,
+     * text for the TEXT ones.
+     */
+    record Field<T>(String name, FieldType type, ToDoubleFunction<T> number, Function<T, String> text) {
+    }
+}
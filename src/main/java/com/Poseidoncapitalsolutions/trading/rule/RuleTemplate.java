@@ -0,0 +1,189 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget.Field;
+
+/**
+ * The template of a rule, compiled for the records of a {@link RuleTarget}.
+ * A template is text where {{field}} stands for a field of the record, named
+ * in any case, as in:
+ * <pre>
+ * {{tradeDate}};{{account}};{{book}};bought {{buyQuantity}} at {{buyPrice}}
+ * </pre>
+ * The text is split once into literal and field segments, each field segment
+ * holding the getter of its field, so rendering a record neither parses the
+ * template nor looks a field up. A null field renders as nothing, a whole
+ * number without decimals and a timestamp as yyyy-mm-dd hh:mm:ss.fffffffff.
+ * <p>
+ * A rendered record always stays on one line and keeps its separators: in a
+ * text field, a line break, tab or other control character is written as a
+ * backslash escape (\n, \r, \t, or &#92;u and four hex digits), and a backslash or a punctuation
+ * character of the template text, such as the ; of the example above, is
+ * preceded by a backslash.
+ *
+ * @param <T> The type of the records.
+ */
+public final class RuleTemplate<T> {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final double LARGEST_EXACT_LONG = 0x1p53;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Segment<T>[] segments;
+    private final int estimatedLength;
+
+    private RuleTemplate(Segment<T>[] segments, int estimatedLength) {
+        this.segments = segments;
+        this.estimatedLength = estimatedLength;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param template The template.
+     * @param target   The records it is rendered for.
+     * @return The compiled template.
+     * @throws RuleSyntaxException If a placeholder is not closed, or names a
+     *                             field the records do not have.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RuleTemplate<T> compile(String template, RuleTarget<T> target) {
+        List<Segment<T>> segments = new ArrayList<>();
+        // Characters escaped in the text fields, completed by the whole
+        // template text before the first record is rendered
+        boolean[] escaped = new boolean[128];
+        escaped['\\'] = true;
+        int estimatedLength = 0;
+        int position = 0;
+        while (position < template.length()) {
+            int open = template.indexOf(OPEN, position);
+            if (open < 0) {
+                open = template.length();
+            }
+            if (open > position) {
+                String literal = template.substring(position, open);
+                segments.add((record, out) -> out.append(literal));
+                estimatedLength += literal.length();
+                literal.chars()
+                        .filter(c -> c < escaped.length && !Character.isLetterOrDigit(c) && !Character.isWhitespace(c))
+                        .forEach(c -> escaped[c] = true);
+            }
+            if (open == template.length()) {
+                break;
+            }
+            int close = template.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new RuleSyntaxException("Unclosed {{ at position " + (open + 1) + " of \"" + template + "\"");
+            }
+            segments.add(field(target.field(template.substring(open + OPEN.length(), close).strip()), escaped));
+            estimatedLength += 16;
+            position = close + CLOSE.length();
+        }
+        return new RuleTemplate<>(segments.toArray(Segment[]::new), estimatedLength);
+    }
+
+    /**
+     * Renders a record.
+     *
+     * @param record The record.
+     * @return The rendered text.
+     */
+    public String render(T record) {
+        StringBuilder out = new StringBuilder(estimatedLength);
+        render(record, out);
+        return out.toString();
+    }
+
+    /**
+     * Renders a record at the end of a builder, which can be reused from one
+     * record to the next.
+     *
+     * @param record The record.
+     * @param out    The builder the text is appended to.
+     */
+    public void render(T record, StringBuilder out) {
+        for (Segment<T> segment : segments) {
+            segment.appendTo(record, out);
+        }
+    }
+
+    private static <T> Segment<T> field(Field<T> field, boolean[] escaped) {
+        return switch (field.type()) {
+            case TEXT -> {
+                Function<T, String> text = field.text();
+                yield (record, out) -> {
+                    String value = text.apply(record);
+                    if (value != null) {
+                        appendText(value, escaped, out);
+                    }
+                };
+            }
+            case NUMBER -> {
+                ToDoubleFunction<T> number = field.number();
+                yield (record, out) -> appendNumber(number.applyAsDouble(record), out);
+            }
+            case TIMESTAMP -> {
+                ToDoubleFunction<T> number = field.number();
+                yield (record, out) -> {
+                    double value = number.applyAsDouble(record);
+                    if (!Double.isNaN(value)) {
+                        out.append(new Timestamp((long) value));
+                    }
+                };
+            }
+        };
+    }
+
+    private static void appendText(String value, boolean[] escaped, StringBuilder out) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean control = c < ' ' || c == 0x7f || c == 0x85 || c == 0x2028 || c == 0x2029;
+            if (!control && (c >= escaped.length || !escaped[c])) {
+                continue;
+            }
+            out.append(value, start, i).append('\\');
+            switch (c) {
+                case '\n' -> out.append('n');
+                case '\r' -> out.append('r');
+                case '\t' -> out.append('t');
+                default -> {
+                    if (control) {
+                        out.append('u').append(HEX[c >> 12]).append(HEX[(c >> 8) & 0xf])
+                                .append(HEX[(c >> 4) & 0xf]).append(HEX[c & 0xf]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+            start = i + 1;
+        }
+        out.append(value, start, value.length());
+    }
+
+    private static void appendNumber(double value, StringBuilder out) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (value == Math.rint(value) && Math.abs(value) < LARGEST_EXACT_LONG) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+    }
+
+    /**
+     * Appends one part of the template for a record.
+     */
+    @FunctionalInterface
+    private interface Segment<T> {
+        void appendTo(T record, StringBuilder out);
+    }
+}
@@ -3,33 +3,54 @@ package com.poseidoncapitalsolutions.trading.service;
 import java.sql.Timestamp;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterTable;
 import com.poseidoncapitalsolutions.trading.dto.BidListDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.BidListMapper;
 import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.orderbook.BidListQuote;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookRegistry;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class responsible for handling operations related to BidLists.
  * Provides methods for CRUD operations, mapping, and managing bid list data.
+ * Every write is posted to the {@link OrderBookRegistry} and the live
+ * {@link BlotterHub} once committed.
  */
 @Service
+@Timed("trading.service")
 public class BidListService implements GenericService<BidList> {
 
     private BidListRepository bidListRepository;
     private BidListMapper bidListMapper;
+    private OrderBookRegistry orderBookRegistry;
+    private BlotterHub blotterHub;
 
     /**
      * Constructs a BidListService with the given repository and mapper.
      * 
      * @param bidListRepository The repository to interact with BidList data.
      * @param bidListMapper     The mapper to convert BidList entities to DTOs.
+     * @param orderBookRegistry The order books the BidList writes are posted to.
+     * @param blotterHub        The live blotter the changed rows are streamed to.
      */
-    public BidListService(BidListRepository bidListRepository, BidListMapper bidListMapper) {
+    public BidListService(BidListRepository bidListRepository, BidListMapper bidListMapper,
+            OrderBookRegistry orderBookRegistry, BlotterHub blotterHub) {
         this.bidListRepository = bidListRepository;
         this.bidListMapper = bidListMapper;
+        this.orderBookRegistry = orderBookRegistry;
+        this.blotterHub = blotterHub;
     }
 
     /**
@@ -38,10 +59,37 @@ public class BidListService implements GenericService<BidList> {
      * @return A list of all BidLists.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<BidList> findAll() {
         return bidListRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of BidLists matching the given filter.
+     * 
+     * @param filter   The criteria the BidLists must match, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of BidLists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BidList> findPage(Specification<BidList> filter, Pageable pageable) {
+        return bidListRepository.findAll(filter, pageable);
+    }
+
+    /**
+     * Retrieves one page of BidLists for the list view. Only the displayed columns
+     * are selected, straight into DTOs, without loading the entities.
+     * 
+     * @param account Prefix of the account to filter on, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of BidListDTOs.
+     */
+    @Transactional(readOnly = true)
+    public Page<BidListDTO> findListPage(String account, Pageable pageable) {
+        return bidListRepository.findListPage(FilterSpecifications.likePrefix(account), pageable);
+    }
+
     /**
      * Retrieves a BidList by its ID.
      * 
@@ -50,6 +98,7 @@ public class BidListService implements GenericService<BidList> {
      * @throws ResourceNotFoundException If no BidList with the given ID is found.
      */
     @Override
+    @Transactional(readOnly = true)
     public BidList findById(int id) {
         return bidListRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("BidList with id " + id + " not found"));
@@ -62,8 +111,12 @@ public class BidListService implements GenericService<BidList> {
      * @return The saved BidList entity.
      */
     @Override
+    @Transactional
     public BidList save(BidList Object) {
-        return bidListRepository.save(Object);
+        BidList saved = bidListRepository.save(Object);
+        orderBookRegistry.post(BidListQuote.of(saved));
+        blotterHub.post(BlotterTable.BID_LIST, saved.getId(), bidListMapper.toDto(saved));
+        return saved;
     }
 
     /**
@@ -72,8 +125,11 @@ public class BidListService implements GenericService<BidList> {
      * @param Object The BidList entity to delete.
      */
     @Override
+    @Transactional
     public void delete(BidList Object) {
         bidListRepository.delete(Object);
+        orderBookRegistry.remove(Object.getId());
+        blotterHub.remove(BlotterTable.BID_LIST, Object.getId());
     }
 
     /**
@@ -89,27 +145,21 @@ public class BidListService implements GenericService<BidList> {
     }
 
     /**
-     * Updates the BidList entity based on the given BidListDTO.
+     * Updates the editable fields of a BidList in a single UPDATE statement,
+     * without loading the entity first, then records its new quote.
      * 
      * @param bidListDTO The BidListDTO containing updated information.
+     * @throws ResourceNotFoundException If no BidList with the given ID is found.
      */
+    @Transactional
     public void update(BidListDTO bidListDTO) {
-        bidListRepository.save(merge(bidListDTO));
-    }
-
-    /**
-     * Merges the data from a BidListDTO into an existing BidList entity.
-     * 
-     * @param bidListDTO The BidListDTO containing the updated data.
-     * @return The updated BidList entity.
-     */
-    private BidList merge(BidListDTO bidListDTO) {
-        BidList bid = findById(bidListDTO.getId());
-        bid.setAccount(bidListDTO.getAccount());
-        bid.setType(bidListDTO.getType());
-        bid.setBidQuantity(bidListDTO.getBidQuantity());
-        bid.setRevisionDate(new Timestamp(System.currentTimeMillis()));
-        return bid;
+        int updated = bidListRepository.updateEditableFields(bidListDTO.getId(), bidListDTO.getAccount(),
+                bidListDTO.getType(), bidListDTO.getBidQuantity(), new Timestamp(System.currentTimeMillis()));
+        if (updated == 0) {
+            throw new ResourceNotFoundException("BidList with id " + bidListDTO.getId() + " not found");
+        }
+        bidListRepository.findQuote(bidListDTO.getId()).ifPresent(orderBookRegistry::post);
+        blotterHub.post(BlotterTable.BID_LIST, bidListDTO.getId(), bidListDTO);
     }
 
     /**
@@ -117,8 +167,11 @@ public class BidListService implements GenericService<BidList> {
      * 
      * @param object The BidList entity to add.
      */
+    @Transactional
     public void add(BidList object) {
         object.setCreationDate(new Timestamp(System.currentTimeMillis()));
-        bidListRepository.save(object);
+        BidList saved = bidListRepository.save(object);
+        orderBookRegistry.post(BidListQuote.of(saved));
+        blotterHub.post(BlotterTable.BID_LIST, saved.getId(), bidListMapper.toDto(saved));
     }
 }
@@ -1,25 +1,46 @@
 package com.poseidoncapitalsolutions.trading.service;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Timestamp;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryRow;
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryStore;
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryWriter;
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshotCache;
 import com.poseidoncapitalsolutions.trading.dto.CurvePointDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.CurvepointMapper;
 import com.poseidoncapitalsolutions.trading.model.CurvePoint;
 import com.poseidoncapitalsolutions.trading.repository.CurvePointRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class responsible for handling operations related to CurvePoints.
  * Provides methods for CRUD operations, mapping, and managing curve point data.
+ * Every write publishes a new snapshot of the curve holding the point, once
+ * the write is committed. The history of the curves can be exported to a
+ * {@link CurveHistoryStore} file, then queried by as-of date range without
+ * going through the database.
  */
 @Service
+@Timed("trading.service")
 public class CurvePointService implements GenericService<CurvePoint> {
 
     private CurvePointRepository curvePointRepository;
     private CurvepointMapper curvepointMapper;
+    private CurveSnapshotCache curveSnapshotCache;
+    private volatile CurveHistoryStore curveHistoryStore;
 
     /**
      * Constructs a CurvePointService with the given repository and mapper.
@@ -27,10 +48,13 @@ public class CurvePointService implements GenericService<CurvePoint> {
      * @param curvePointRepository The repository to interact with CurvePoint data.
      * @param curvepointMapper     The mapper to convert CurvePoint entities to
      *                             DTOs.
+     * @param curveSnapshotCache   The cache the curve snapshots are published to.
      */
-    public CurvePointService(CurvePointRepository curvePointRepository, CurvepointMapper curvepointMapper) {
+    public CurvePointService(CurvePointRepository curvePointRepository, CurvepointMapper curvepointMapper,
+            CurveSnapshotCache curveSnapshotCache) {
         this.curvePointRepository = curvePointRepository;
         this.curvepointMapper = curvepointMapper;
+        this.curveSnapshotCache = curveSnapshotCache;
     }
 
     /**
@@ -39,10 +63,37 @@ public class CurvePointService implements GenericService<CurvePoint> {
      * @return A list of all CurvePoints.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CurvePoint> findAll() {
         return curvePointRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of CurvePoints matching the given filter.
+     * 
+     * @param filter   The criteria the CurvePoints must match, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of CurvePoints.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CurvePoint> findPage(Specification<CurvePoint> filter, Pageable pageable) {
+        return curvePointRepository.findAll(filter, pageable);
+    }
+
+    /**
+     * Retrieves one page of CurvePoints for the list view. Only the displayed columns
+     * are selected, straight into DTOs, without loading the entities.
+     * 
+     * @param curveId The curve ID to filter on, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of CurvePointDTOs.
+     */
+    @Transactional(readOnly = true)
+    public Page<CurvePointDTO> findListPage(Integer curveId, Pageable pageable) {
+        return curvePointRepository.findListPage(curveId, pageable);
+    }
+
     /**
      * Retrieves a CurvePoint by its ID.
      * 
@@ -52,20 +103,29 @@ public class CurvePointService implements GenericService<CurvePoint> {
      *                                   found.
      */
     @Override
+    @Transactional(readOnly = true)
     public CurvePoint findById(int id) {
         return curvePointRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CurvePoint with id " + id + " not found"));
     }
 
     /**
-     * Saves a given CurvePoint entity.
+     * Saves a given CurvePoint entity. When an existing point moves to another
+     * curve, both curves get a new snapshot.
      * 
      * @param Object The CurvePoint entity to save.
      * @return The saved CurvePoint entity.
      */
     @Override
+    @Transactional
     public CurvePoint save(CurvePoint Object) {
-        return curvePointRepository.save(Object);
+        if (Object.getId() != 0) {
+            curvePointRepository.findCurveKey(Object.getId())
+                    .ifPresent(key -> curveSnapshotCache.publish(key.curveId(), key.asOfDate()));
+        }
+        CurvePoint saved = curvePointRepository.save(Object);
+        curveSnapshotCache.publish(saved.getCurveId(), saved.getAsOfDate());
+        return saved;
     }
 
     /**
@@ -74,8 +134,10 @@ public class CurvePointService implements GenericService<CurvePoint> {
      * @param Object The CurvePoint entity to delete.
      */
     @Override
+    @Transactional
     public void delete(CurvePoint Object) {
         curvePointRepository.delete(Object);
+        curveSnapshotCache.publish(Object.getCurveId(), Object.getAsOfDate());
     }
 
     /**
@@ -91,25 +153,22 @@ public class CurvePointService implements GenericService<CurvePoint> {
     }
 
     /**
-     * Updates the CurvePoint entity based on the given CurvePointDTO.
+     * Updates the editable fields of a CurvePoint in a single UPDATE statement,
+     * without loading the entity first, then publishes a new snapshot of its
+     * curve.
      * 
      * @param curvePointDTO The CurvePointDTO containing updated information.
+     * @throws ResourceNotFoundException If no CurvePoint with the given ID is found.
      */
+    @Transactional
     public void update(CurvePointDTO curvePointDTO) {
-        curvePointRepository.save(merge(curvePointDTO));
-    }
-
-    /**
-     * Merges the data from a CurvePointDTO into an existing CurvePoint entity.
-     * 
-     * @param curvePointDTO The CurvePointDTO containing the updated data.
-     * @return The updated CurvePoint entity.
-     */
-    private CurvePoint merge(CurvePointDTO curvePointDTO) {
-        CurvePoint curve = findById(curvePointDTO.getId());
-        curve.setTerm(curvePointDTO.getTerm());
-        curve.setValue(curvePointDTO.getValue());
-        return curve;
+        int updated = curvePointRepository.updateEditableFields(curvePointDTO.getId(), curvePointDTO.getTerm(),
+                curvePointDTO.getValue());
+        if (updated == 0) {
+            throw new ResourceNotFoundException("CurvePoint with id " + curvePointDTO.getId() + " not found");
+        }
+        curvePointRepository.findCurveKey(curvePointDTO.getId())
+                .ifPresent(key -> curveSnapshotCache.publish(key.curveId(), key.asOfDate()));
     }
 
     /**
@@ -117,8 +176,78 @@ public class CurvePointService implements GenericService<CurvePoint> {
      * 
      * @param curvePoint The CurvePoint entity to add.
      */
+    @Transactional
     public void add(CurvePoint curvePoint) {
         curvePoint.setCreationDate(new Timestamp(System.currentTimeMillis()));
         curvePointRepository.save(curvePoint);
+        curveSnapshotCache.publish(curvePoint.getCurveId(), curvePoint.getAsOfDate());
+    }
+
+    /**
+     * Exports every complete CurvePoint to a curve history file, then loads
+     * it. The points are streamed from the database; on MySQL they are only
+     * fetched by batches, rather than held in memory all at once, when the
+     * URL sets useCursorFetch=true. The previous file, if any, is replaced
+     * only once the new one is complete.
+     * 
+     * @param file The curve history file to write.
+     * @return The loaded curve history.
+     * @throws IOException If the file cannot be written.
+     */
+    @Transactional(readOnly = true)
+    public CurveHistoryStore exportHistory(Path file) throws IOException {
+        try (Stream<CurveHistoryRow> rows = curvePointRepository.streamHistory();
+                CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            Iterator<CurveHistoryRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                CurveHistoryRow row = iterator.next();
+                writer.add(row.curveId(), row.asOfDate().getTime(), row.term(), row.value());
+            }
+            writer.finish();
+        }
+        return loadHistory(file);
+    }
+
+    /**
+     * Maps a curve history file, which replaces the current curve history.
+     * Cursors opened on the previous one stay valid.
+     * 
+     * @param file The curve history file to read.
+     * @return The loaded curve history.
+     * @throws IOException If the file cannot be read or is not a curve history
+     *                     file.
+     */
+    public CurveHistoryStore loadHistory(Path file) throws IOException {
+        CurveHistoryStore store = CurveHistoryStore.open(file);
+        curveHistoryStore = store;
+        return store;
+    }
+
+    /**
+     * Retrieves the current curve history.
+     * 
+     * @return The curve history last exported or loaded.
+     * @throws ResourceNotFoundException If no curve history has been loaded.
+     */
+    public CurveHistoryStore getHistory() {
+        CurveHistoryStore store = curveHistoryStore;
+        if (store == null) {
+            throw new ResourceNotFoundException("No curve history has been loaded");
+        }
+        return store;
+    }
+
+    /**
+     * Opens a cursor over the history of a curve between two as-of dates,
+     * read from the current curve history rather than the database.
+     * 
+     * @param curveId The curve ID.
+     * @param from    The first as-of date, inclusive, or null for the first one.
+     * @param to      The last as-of date, inclusive, or null for the last one.
+     * @return The cursor, positioned before the first as-of date.
+     * @throws ResourceNotFoundException If no curve history has been loaded.
+     */
+    public CurveHistoryStore.Cursor findHistory(int curveId, Timestamp from, Timestamp to) {
+        return getHistory().range(curveId, from, to);
     }
 }
@@ -0,0 +1,100 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import java.sql.Timestamp;
+
+import org.springframework.stereotype.Service;
+
+import com.poseidoncapitalsolutions.trading.curve.Curve;
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshot;
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshotCache;
+import com.poseidoncapitalsolutions.trading.curve.InterpolationMethod;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service class responsible for the interpolation of the curves formed by the
+ * CurvePoints sharing a curve ID and an as-of date. Curves are read from the
+ * immutable snapshots of the {@link CurveSnapshotCache}, so a whole request is
+ * answered from one consistent version of the curve, even while a trader edits
+ * its points. Callers evaluating many terms should use the bulk methods, or
+ * hold the snapshot returned by {@link #getSnapshot(int, Timestamp)}.
+ */
+@Service
+@Timed("trading.service")
+public class CurveService {
+
+    private CurveSnapshotCache curveSnapshotCache;
+
+    /**
+     * Constructs a CurveService.
+     *
+     * @param curveSnapshotCache The cache holding the curve snapshots.
+     */
+    public CurveService(CurveSnapshotCache curveSnapshotCache) {
+        this.curveSnapshotCache = curveSnapshotCache;
+    }
+
+    /**
+     * Retrieves the current snapshot of a curve.
+     *
+     * @param curveId  The curve ID.
+     * @param asOfDate The as-of date of the curve, or null for the latest one.
+     * @return The snapshot, which never changes once returned.
+     * @throws ResourceNotFoundException If the curve has no point at that date.
+     */
+    public CurveSnapshot getSnapshot(int curveId, Timestamp asOfDate) {
+        CurveSnapshot snapshot = curveSnapshotCache.get(curveId, asOfDate);
+
+        if (snapshot.isEmpty()) {
+            throw new ResourceNotFoundException("Curve with id " + curveId
+                    + (asOfDate == null ? "" : " at " + asOfDate) + " not found");
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the current version of a curve.
+     *
+     * @param curveId  The curve ID.
+     * @param asOfDate The as-of date of the curve, or null for the latest one.
+     * @return The curve.
+     * @throws ResourceNotFoundException If the curve has no point at that date.
+     */
+    public Curve getCurve(int curveId, Timestamp asOfDate) {
+        return getSnapshot(curveId, asOfDate).curve();
+    }
+
+    /**
+     * Computes the value of a curve at one term.
+     *
+     * @param curveId  The curve ID.
+     * @param asOfDate The as-of date of the curve, or null for the latest one.
+     * @param term     The term.
+     * @param method   The interpolation method.
+     * @return The interpolated value.
+     * @throws ResourceNotFoundException If the curve has no point at that date.
+     * @throws IllegalArgumentException  If the curve does not support the
+     *                                   method.
+     */
+    public double interpolate(int curveId, Timestamp asOfDate, double term, InterpolationMethod method) {
+        return getCurve(curveId, asOfDate).interpolate(term, method);
+    }
+
+    /**
+     * Computes the values of a curve at many terms.
+     *
+     * @param curveId  The curve ID.
+     * @param asOfDate The as-of date of the curve, or null for the latest one.
+     * @param terms    The terms, in any order.
+     * @param method   The interpolation method.
+     * @return The interpolated values, in the order of the terms.
+     * @throws ResourceNotFoundException If the curve has no point at that date.
+     * @throws IllegalArgumentException  If the curve does not support the
+     *                                   method.
+     */
+    public double[] interpolate(int curveId, Timestamp asOfDate, double[] terms, InterpolationMethod method) {
+        return getCurve(curveId, asOfDate).interpolate(terms, method);
+    }
+}
@@ -2,6 +2,10 @@ package com.poseidoncapitalsolutions.trading.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
 /**
  * Generic service interface for managing entities.
  *
@@ -16,6 +20,15 @@ public interface GenericService<T> {
      */
     public List<T> findAll();
 
+    /**
+     * Retrieves one page of entities matching the given filter.
+     *
+     * @param filter   the criteria the entities must match, or null to match all
+     * @param pageable the page number, page size and sort order to apply
+     * @return the requested page of entities
+     */
+    public Page<T> findPage(Specification<T> filter, Pageable pageable);
+
     /**
      * Retrieves an entity by its identifier.
      *
@@ -0,0 +1,84 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import java.util.List;
+import java.util.OptionalDouble;
+
+import org.springframework.stereotype.Service;
+
+import com.poseidoncapitalsolutions.trading.dto.OrderBookDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBook;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookRegistry;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service class responsible for the order books aggregated from the BidList
+ * bids and asks. Books are read from the {@link OrderBookRegistry}, kept up to
+ * date by the BidList writes, without querying the database.
+ */
+@Service
+@Timed("trading.service")
+public class OrderBookService {
+
+    static final int MAX_DEPTH = 100;
+
+    private OrderBookRegistry orderBookRegistry;
+
+    /**
+     * Constructs an OrderBookService.
+     *
+     * @param orderBookRegistry The registry holding the order books.
+     */
+    public OrderBookService(OrderBookRegistry orderBookRegistry) {
+        this.orderBookRegistry = orderBookRegistry;
+    }
+
+    /**
+     * Retrieves the best levels of the order book of a security.
+     *
+     * @param security The security.
+     * @param depth    The number of levels per side, capped at
+     *                 {@value #MAX_DEPTH}.
+     * @return The order book.
+     * @throws ResourceNotFoundException If nothing is quoted on the security.
+     */
+    public OrderBookDTO getOrderBook(String security, int depth) {
+        OrderBook book = orderBookRegistry.get(security);
+
+        if (book == null) {
+            throw new ResourceNotFoundException("Order book of security " + security + " not found");
+        }
+
+        int levels = Math.clamp(depth, 1, MAX_DEPTH);
+        synchronized (book) {
+            OptionalDouble bestBid = book.bestBid();
+            OptionalDouble bestAsk = book.bestAsk();
+            Double spread = bestBid.isPresent() && bestAsk.isPresent()
+                    ? bestAsk.getAsDouble() - bestBid.getAsDouble()
+                    : null;
+            return new OrderBookDTO(security, boxed(bestBid), boxed(bestAsk), spread, book.bids(levels),
+                    book.asks(levels));
+        }
+    }
+
+    /**
+     * @return The securities with an order book, sorted.
+     */
+    public List<String> getSecurities() {
+        return orderBookRegistry.getSecurities();
+    }
+
+    /**
+     * Rebuilds every order book from the BidLists in the database.
+     *
+     * @return The number of quotes read.
+     */
+    public int rebuild() {
+        return orderBookRegistry.rebuild();
+    }
+
+    private static Double boxed(OptionalDouble value) {
+        return value.isPresent() ? value.getAsDouble() : null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.poseidoncapitalsolutions.trading.dto.PositionDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.position.Position;
+import com.poseidoncapitalsolutions.trading.position.PositionBook;
+import com.poseidoncapitalsolutions.trading.position.PositionKey;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service class responsible for the positions and P&amp;L aggregated from the
+ * Trades. Positions are read from the {@link PositionBook}, kept up to date by
+ * the trade writes, so a position is read in constant time without querying
+ * the database.
+ */
+@Service
+@Timed("trading.service")
+public class PositionService {
+
+    private static final Comparator<PositionDTO> ORDER = Comparator
+            .comparing(PositionDTO::getAccount, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PositionDTO::getBook, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PositionDTO::getSecurity, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private PositionBook positionBook;
+
+    /**
+     * Constructs a PositionService.
+     *
+     * @param positionBook The book holding the positions.
+     */
+    public PositionService(PositionBook positionBook) {
+        this.positionBook = positionBook;
+    }
+
+    /**
+     * Retrieves the position of an account in a book on a security.
+     *
+     * @param account  The account.
+     * @param book     The book, or null for the trades without a book.
+     * @param security The security, or null for the trades without a security.
+     * @return The position.
+     * @throws ResourceNotFoundException If no trade belongs to the position.
+     */
+    public PositionDTO getPosition(String account, String book, String security) {
+        PositionKey key = new PositionKey(account, book, security);
+        Position position = positionBook.get(key);
+
+        if (position == null) {
+            throw new ResourceNotFoundException("Position of account " + account + " in book " + book
+                    + " on security " + security + " not found");
+        }
+
+        return toDto(key, position);
+    }
+
+    /**
+     * Retrieves every position, or those of one account.
+     *
+     * @param account The account, or null for all.
+     * @return The positions, sorted by account, book and security.
+     */
+    public List<PositionDTO> findAll(String account) {
+        return positionBook.getAll().entrySet().stream()
+                .filter(entry -> account == null || account.equals(entry.getKey().account()))
+                .map(entry -> toDto(entry.getKey(), entry.getValue()))
+                .sorted(ORDER)
+                .toList();
+    }
+
+    /**
+     * Rebuilds every position from the trades in the database.
+     *
+     * @return The number of trades read.
+     */
+    public int rebuild() {
+        return positionBook.rebuild();
+    }
+
+    private static PositionDTO toDto(PositionKey key, Position position) {
+        return new PositionDTO(key.account(), key.book(), key.security(), position.tradeCount(),
+                position.netQuantity(), position.averagePrice(), position.realizedPnl(), position.buyQuantity(),
+                position.averageBuyPrice(), position.sellQuantity(), position.averageSellPrice());
+    }
+}
@@ -2,33 +2,52 @@ package com.poseidoncapitalsolutions.trading.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.poseidoncapitalsolutions.trading.dto.RatingDTO;
+import com.poseidoncapitalsolutions.trading.dto.RatingGradeDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.RatingMapper;
 import com.poseidoncapitalsolutions.trading.model.Rating;
+import com.poseidoncapitalsolutions.trading.rating.RatingAgency;
+import com.poseidoncapitalsolutions.trading.rating.RatingGrade;
+import com.poseidoncapitalsolutions.trading.rating.RatingScale;
+import com.poseidoncapitalsolutions.trading.rating.RatingScaleIndex;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.RatingRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class responsible for handling operations related to Ratings.
  * Provides methods for CRUD operations, mapping, and managing rating data.
+ * Every write rebuilds the {@link RatingScaleIndex} once committed, from which
+ * ratings are translated between agencies without querying the database.
  */
 @Service
+@Timed("trading.service")
 public class RatingService implements GenericService<Rating> {
 
     private RatingRepository ratingRepository;
     private RatingMapper ratingMapper;
+    private RatingScaleIndex ratingScaleIndex;
 
     /**
-     * Constructs a RatingService with the given repository and mapper.
+     * Constructs a RatingService with the given repository, mapper and index.
      * 
      * @param ratingRepository The repository to interact with Rating data.
      * @param ratingMapper     The mapper to convert Rating entities to DTOs.
+     * @param ratingScaleIndex The index of the rating scale, rebuilt on writes.
      */
-    public RatingService(RatingRepository ratingRepository, RatingMapper ratingMapper) {
+    public RatingService(RatingRepository ratingRepository, RatingMapper ratingMapper,
+            RatingScaleIndex ratingScaleIndex) {
         this.ratingRepository = ratingRepository;
         this.ratingMapper = ratingMapper;
+        this.ratingScaleIndex = ratingScaleIndex;
     }
 
     /**
@@ -37,10 +56,37 @@ public class RatingService implements GenericService<Rating> {
      * @return A list of all Ratings.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Rating> findAll() {
         return ratingRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of Ratings matching the given filter.
+     * 
+     * @param filter   The criteria the Ratings must match, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of Ratings.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Rating> findPage(Specification<Rating> filter, Pageable pageable) {
+        return ratingRepository.findAll(filter, pageable);
+    }
+
+    /**
+     * Retrieves one page of Ratings for the list view. Only the displayed columns
+     * are selected, straight into DTOs, without loading the entities.
+     * 
+     * @param moodysRating Prefix of the Moody's rating to filter on, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of RatingDTOs.
+     */
+    @Transactional(readOnly = true)
+    public Page<RatingDTO> findListPage(String moodysRating, Pageable pageable) {
+        return ratingRepository.findListPage(FilterSpecifications.likePrefix(moodysRating), pageable);
+    }
+
     /**
      * Retrieves a Rating by its ID.
      * 
@@ -49,6 +95,7 @@ public class RatingService implements GenericService<Rating> {
      * @throws ResourceNotFoundException If no Rating with the given ID is found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Rating findById(int id) {
         return ratingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Rating with id " + id + " not found"));
@@ -62,7 +109,9 @@ public class RatingService implements GenericService<Rating> {
      */
     @Override
     public Rating save(Rating Object) {
-        return ratingRepository.save(Object);
+        Rating saved = ratingRepository.save(Object);
+        ratingScaleIndex.publish();
+        return saved;
     }
 
     /**
@@ -73,6 +122,7 @@ public class RatingService implements GenericService<Rating> {
     @Override
     public void delete(Rating Object) {
         ratingRepository.delete(Object);
+        ratingScaleIndex.publish();
     }
 
     /**
@@ -88,26 +138,41 @@ public class RatingService implements GenericService<Rating> {
     }
 
     /**
-     * Updates the Rating entity based on the given RatingDTO.
+     * Updates the editable fields of a Rating in a single UPDATE statement,
+     * without loading the entity first.
      * 
      * @param ratingDTO The RatingDTO containing updated information.
+     * @throws ResourceNotFoundException If no Rating with the given ID is found.
      */
+    @Transactional
     public void update(RatingDTO ratingDTO) {
-        ratingRepository.save(merge(ratingDTO));
+        int updated = ratingRepository.updateEditableFields(ratingDTO.getId(), ratingDTO.getMoodysRating(),
+                ratingDTO.getSandPRating(), ratingDTO.getFitchRating(), ratingDTO.getOrderNumber());
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Rating with id " + ratingDTO.getId() + " not found");
+        }
+        ratingScaleIndex.publish();
     }
 
     /**
-     * Merges the data from a RatingDTO into an existing Rating entity.
+     * Translates the rating of an agency into its rank and the equivalent
+     * ratings of the other agencies, from the in-memory rating scale.
      * 
-     * @param ratingDTO The RatingDTO containing the updated data.
-     * @return The updated Rating entity.
+     * @param agency The agency of the rating: moodys, sandp or fitch, in any
+     *               case.
+     * @param rating The rating, in any case.
+     * @return The grade of the rating.
+     * @throws IllegalArgumentException  If the agency is unknown.
+     * @throws ResourceNotFoundException If the agency has no such rating.
      */
-    private Rating merge(RatingDTO ratingDTO) {
-        Rating rating = findById(ratingDTO.getId());
-        rating.setFitchRating(ratingDTO.getFitchRating());
-        rating.setSandPRating(ratingDTO.getSandPRating());
-        rating.setMoodysRating(ratingDTO.getMoodysRating());
-        rating.setOrderNumber(ratingDTO.getOrderNumber());
-        return rating;
+    public RatingGradeDTO findGrade(String agency, String rating) {
+        RatingAgency ratingAgency = RatingAgency.forName(agency);
+        RatingScale scale = ratingScaleIndex.current();
+        RatingGrade grade = scale.find(ratingAgency, rating);
+        if (grade == null) {
+            throw new ResourceNotFoundException("Rating " + rating + " of " + ratingAgency + " not found");
+        }
+        return new RatingGradeDTO(ratingAgency.name(), ratingAgency.ratingOf(grade), grade.orderNumber(),
+                grade.moodysRating(), grade.sandPRating(), grade.fitchRating(), scale.version());
     }
 }
@@ -0,0 +1,38 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import org.springframework.stereotype.Service;
+
+import com.poseidoncapitalsolutions.trading.dto.RuleBatchReportDTO;
+import com.poseidoncapitalsolutions.trading.rule.RuleBatch;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service class responsible for evaluating the active RuleNames against the
+ * Trades, outside of the nightly {@link RuleBatch} run.
+ */
+@Service
+@Timed("trading.service")
+public class RuleEvaluationService {
+
+    private RuleBatch ruleBatch;
+
+    /**
+     * Constructs a RuleEvaluationService.
+     *
+     * @param ruleBatch The batch evaluating the rules.
+     */
+    public RuleEvaluationService(RuleBatch ruleBatch) {
+        this.ruleBatch = ruleBatch;
+    }
+
+    /**
+     * Evaluates every active rule against every trade and records the
+     * violations.
+     *
+     * @return The report of the run.
+     */
+    public RuleBatchReportDTO evaluateAll() {
+        return ruleBatch.run();
+    }
+}
@@ -2,33 +2,49 @@ package com.poseidoncapitalsolutions.trading.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.poseidoncapitalsolutions.trading.dto.RuleNameDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.RuleNameMapper;
 import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.rule.RuleEngine;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service class responsible for handling operations related to RuleNames.
  * Provides methods for CRUD operations, mapping, and managing rule name data.
+ * Updates and saves of an existing rule raise its revision, so that the
+ * {@link RuleEngine} compiles it again; deleted rules are dropped from its
+ * cache.
  */
 @Service
+@Timed("trading.service")
 public class RuleNameService implements GenericService<RuleName> {
 
     private RuleNameRepository ruleNameRepository;
     private RuleNameMapper ruleNameMapper;
+    private RuleEngine ruleEngine;
 
     /**
      * Constructs a RuleNameService with the given repository and mapper.
      * 
      * @param ruleNameRepository The repository to interact with RuleName data.
      * @param ruleNameMapper     The mapper to convert RuleName entities to DTOs.
+     * @param ruleEngine         The engine caching the compiled rules.
      */
-    public RuleNameService(RuleNameRepository ruleNameRepository, RuleNameMapper ruleNameMapper) {
+    public RuleNameService(RuleNameRepository ruleNameRepository, RuleNameMapper ruleNameMapper,
+            RuleEngine ruleEngine) {
         this.ruleNameRepository = ruleNameRepository;
         this.ruleNameMapper = ruleNameMapper;
+        this.ruleEngine = ruleEngine;
     }
 
     /**
@@ -37,10 +53,37 @@ public class RuleNameService implements GenericService<RuleName> {
      * @return A list of all RuleNames.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<RuleName> findAll() {
         return ruleNameRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of RuleNames matching the given filter.
+     * 
+     * @param filter   The criteria the RuleNames must match, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of RuleNames.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<RuleName> findPage(Specification<RuleName> filter, Pageable pageable) {
+        return ruleNameRepository.findAll(filter, pageable);
+    }
+
+    /**
+     * Retrieves one page of RuleNames for the list view. Only the displayed columns
+     * are selected, straight into DTOs, without loading the entities.
+     * 
+     * @param name Prefix of the name to filter on, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of RuleNameDTOs.
+     */
+    @Transactional(readOnly = true)
+    public Page<RuleNameDTO> findListPage(String name, Pageable pageable) {
+        return ruleNameRepository.findListPage(FilterSpecifications.likePrefix(name), pageable);
+    }
+
     /**
      * Retrieves a RuleName by its ID.
      * 
@@ -49,19 +92,28 @@ public class RuleNameService implements GenericService<RuleName> {
      * @throws ResourceNotFoundException If no RuleName with the given ID is found.
      */
     @Override
+    @Transactional(readOnly = true)
     public RuleName findById(int id) {
         return ruleNameRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("RuleName with id " + id + " not found"));
     }
 
     /**
-     * Saves a given RuleName entity.
+     * Saves a given RuleName entity. Saving an existing RuleName raises its
+     * revision from the stored one, whatever revision the given entity holds,
+     * so that like {@link #update(RuleNameDTO)} the last write wins and the
+     * rule is compiled and queried again.
      * 
      * @param Object The RuleName entity to save.
      * @return The saved RuleName entity.
      */
     @Override
+    @Transactional
     public RuleName save(RuleName Object) {
+        if (Object.getId() != 0) {
+            ruleNameRepository.findById(Object.getId())
+                    .ifPresent(current -> Object.setRevision(current.getRevision()));
+        }
         return ruleNameRepository.save(Object);
     }
 
@@ -73,6 +125,7 @@ public class RuleNameService implements GenericService<RuleName> {
     @Override
     public void delete(RuleName Object) {
         ruleNameRepository.delete(Object);
+        ruleEngine.evict(Object.getId());
     }
 
     /**
@@ -88,28 +141,19 @@ public class RuleNameService implements GenericService<RuleName> {
     }
 
     /**
-     * Updates the RuleName entity based on the given RuleNameDTO.
+     * Updates the editable fields of a RuleName in a single UPDATE statement,
+     * without loading the entity first.
      * 
      * @param ruleNameDTO The RuleNameDTO containing updated information.
+     * @throws ResourceNotFoundException If no RuleName with the given ID is found.
      */
+    @Transactional
     public void update(RuleNameDTO ruleNameDTO) {
-        ruleNameRepository.save(merge(ruleNameDTO));
-    }
-
-    /**
-     * Merges the data from a RuleNameDTO into an existing RuleName entity.
-     * 
-     * @param ruleNameDTO The RuleNameDTO containing the updated data.
-     * @return The updated RuleName entity.
-     */
-    private RuleName merge(RuleNameDTO ruleNameDTO) {
-        RuleName rule = findById(ruleNameDTO.getId());
-        rule.setName(ruleNameDTO.getName());
-        rule.setDescription(ruleNameDTO.getDescription());
-        rule.setJson(ruleNameDTO.getJson());
-        rule.setTemplate(ruleNameDTO.getTemplate());
-        rule.setSqlStr(ruleNameDTO.getSqlStr());
-        rule.setSqlPart(ruleNameDTO.getSqlPart());
-        return rule;
+        int updated = ruleNameRepository.updateEditableFields(ruleNameDTO.getId(), ruleNameDTO.getName(),
+                ruleNameDTO.getDescription(), ruleNameDTO.getJson(), ruleNameDTO.getTemplate(),
+                ruleNameDTO.getSqlStr(), ruleNameDTO.getSqlPart());
+        if (updated == 0) {
+            throw new ResourceNotFoundException("RuleName with id " + ruleNameDTO.getId() + " not found");
+        }
     }
 }
@@ -0,0 +1,124 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poseidoncapitalsolutions.trading.config.CacheConfig;
+import com.poseidoncapitalsolutions.trading.dto.RuleQueryResultDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.rule.RuleEngine;
+import com.poseidoncapitalsolutions.trading.rule.RuleQuery;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service class responsible for running the sqlStr of the RuleNames. The
+ * query is never run as written: {@link RuleEngine} parses it, checks its
+ * table and columns against the Trade, BidList, CurvePoint and Rating ones
+ * and rewrites it with its literals as parameters, once per revision of the
+ * rule. Each run is a prepared statement with a timeout and a row limit, on
+ * the read replica when there is one, and its rows are cached for
+ * trading.rule.query.cache-ttl.
+ */
+@Service
+@Timed("trading.service")
+public class RuleQueryService {
+
+    private RuleNameRepository ruleNameRepository;
+    private RuleEngine ruleEngine;
+    private JdbcTemplate jdbcTemplate;
+    private Cache resultCache;
+    private int timeoutSeconds;
+    private int maxRows;
+
+    /**
+     * Constructs a RuleQueryService.
+     *
+     * @param ruleNameRepository The repository of the rules.
+     * @param ruleEngine         The engine preparing the queries.
+     * @param jdbcTemplate       The template running the queries.
+     * @param cacheManager       The cache manager holding the rule results.
+     * @param timeout            The longest a query may run, rounded up to
+     *                           the second.
+     * @param maxRows            The maximum number of rows returned.
+     */
+    public RuleQueryService(RuleNameRepository ruleNameRepository, RuleEngine ruleEngine, JdbcTemplate jdbcTemplate,
+            CacheManager cacheManager, @Value("${trading.rule.query.timeout:5s}") Duration timeout,
+            @Value("${trading.rule.query.max-rows:1000}") int maxRows) {
+        this.ruleNameRepository = ruleNameRepository;
+        this.ruleEngine = ruleEngine;
+        this.jdbcTemplate = jdbcTemplate;
+        this.resultCache = cacheManager.getCache(CacheConfig.RULE_RESULTS_CACHE);
+        this.timeoutSeconds = (int) Math.max(1, (timeout.toMillis() + 999) / 1000);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Runs the query of a rule, or returns its cached rows.
+     *
+     * @param ruleId The RuleName ID.
+     * @return The rows, at most trading.rule.query.max-rows of them.
+     * @throws ResourceNotFoundException If the rule does not exist.
+     * @throws com.poseidoncapitalsolutions.trading.rule.RuleSyntaxException If
+     *         its query is invalid or reads another table.
+     */
+    @Transactional(readOnly = true)
+    public RuleQueryResultDTO query(int ruleId) {
+        RuleName rule = ruleNameRepository.findById(ruleId)
+                .orElseThrow(() -> new ResourceNotFoundException("RuleName with id " + ruleId + " not found"));
+        RuleQuery query = ruleEngine.prepare(rule);
+        if (resultCache == null) {
+            return execute(query);
+        }
+        try {
+            return resultCache.get(query.ruleId() + ":" + query.revision(), () -> execute(query));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private RuleQueryResultDTO execute(RuleQuery query) {
+        int columnCount = query.columns().size();
+        List<List<Object>> rows = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(query.sql());
+            List<Object> parameters = query.parameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            statement.setInt(parameters.size() + 1, maxRows + 1);
+            statement.setQueryTimeout(timeoutSeconds);
+            return statement;
+        }, resultSet -> {
+            List<List<Object>> result = new ArrayList<>();
+            while (resultSet.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+                result.add(Collections.unmodifiableList(Arrays.asList(row)));
+            }
+            return result;
+        });
+        boolean truncated = rows.size() > maxRows;
+        return new RuleQueryResultDTO(query.ruleId(), query.revision(), query.columns(),
+                Collections.unmodifiableList(truncated ? rows.subList(0, maxRows) : rows), truncated,
+                new Timestamp(System.currentTimeMillis()));
+    }
+}
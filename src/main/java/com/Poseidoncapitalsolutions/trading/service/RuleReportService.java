@@ -0,0 +1,144 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
+import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+import com.poseidoncapitalsolutions.trading.rule.RuleEngine;
+import com.poseidoncapitalsolutions.trading.rule.RuleSyntaxException;
+import com.poseidoncapitalsolutions.trading.rule.RuleTarget;
+import com.poseidoncapitalsolutions.trading.rule.RuleTemplate;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Service class responsible for the reports rendered from the template of a
+ * RuleName: one line per Trade or BidList, read in chunks of increasing ID
+ * so that memory use does not depend on the size of the table. The template
+ * is compiled once per revision of the rule by {@link RuleEngine}.
+ */
+@Service
+@Timed("trading.service")
+public class RuleReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuleReportService.class);
+
+    static final String ROWS_METRIC = "trading.rule.report.rows";
+
+    private RuleNameRepository ruleNameRepository;
+    private TradeRepository tradeRepository;
+    private BidListRepository bidListRepository;
+    private RuleEngine ruleEngine;
+    private Counter rowsCounter;
+    private int chunkSize;
+
+    /**
+     * Constructs a RuleReportService.
+     *
+     * @param ruleNameRepository The repository of the rules.
+     * @param tradeRepository    The repository the trades are read from.
+     * @param bidListRepository  The repository the bid lists are read from.
+     * @param ruleEngine         The engine compiling the templates.
+     * @param meterRegistry      The registry of the rendered rows metric.
+     * @param chunkSize          The number of records read at once.
+     */
+    public RuleReportService(RuleNameRepository ruleNameRepository, TradeRepository tradeRepository,
+            BidListRepository bidListRepository, RuleEngine ruleEngine, MeterRegistry meterRegistry,
+            @Value("${trading.rule.batch.chunk-size:10000}") int chunkSize) {
+        this.ruleNameRepository = ruleNameRepository;
+        this.tradeRepository = tradeRepository;
+        this.bidListRepository = bidListRepository;
+        this.ruleEngine = ruleEngine;
+        this.rowsCounter = Counter.builder(ROWS_METRIC)
+                .description("Rows rendered from the rule templates")
+                .register(meterRegistry);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Prepares the report of a rule over a table. The template is compiled
+     * now, so that an invalid one is reported before anything is written.
+     *
+     * @param ruleId The RuleName ID.
+     * @param table  Trade or BidList, in any case.
+     * @return The report, to be written.
+     * @throws ResourceNotFoundException If the rule does not exist.
+     * @throws RuleSyntaxException       If the table is neither Trade nor
+     *                                   BidList, or the template is invalid.
+     */
+    public Report report(int ruleId, String table) {
+        RuleName rule = ruleNameRepository.findById(ruleId)
+                .orElseThrow(() -> new ResourceNotFoundException("RuleName with id " + ruleId + " not found"));
+        RuleTarget<?> target = RuleTarget.forName(table);
+        if (target == RuleTarget.TRADE) {
+            RuleTemplate<Trade> template = ruleEngine.template(rule, RuleTarget.TRADE);
+            return out -> write(ruleId, template, tradeRepository::findChunkAfterId, Trade::getId, out);
+        }
+        if (target == RuleTarget.BID_LIST) {
+            RuleTemplate<BidList> template = ruleEngine.template(rule, RuleTarget.BID_LIST);
+            return out -> write(ruleId, template, bidListRepository::findChunkAfterId, BidList::getId, out);
+        }
+        throw new RuleSyntaxException("Reports are rendered for Trade or BidList, not " + target.getName());
+    }
+
+    private <T> long write(int ruleId, RuleTemplate<T> template, ChunkReader<T> reader, ToIntFunction<T> id,
+            Writer out) throws IOException {
+        long start = System.nanoTime();
+        StringBuilder line = new StringBuilder(256);
+        long rows = 0;
+        List<T> chunk = reader.read(0, Limit.of(chunkSize));
+        while (!chunk.isEmpty()) {
+            for (T record : chunk) {
+                line.setLength(0);
+                template.render(record, line);
+                out.append(line).append('\n');
+            }
+            rows += chunk.size();
+            rowsCounter.increment(chunk.size());
+            chunk = chunk.size() < chunkSize ? List.of()
+                    : reader.read(id.applyAsInt(chunk.get(chunk.size() - 1)), Limit.of(chunkSize));
+        }
+        out.flush();
+        long elapsedNanos = System.nanoTime() - start;
+        logger.info("Rendered {} rows of RuleName {} in {} ms ({} rows/s)", rows, ruleId, elapsedNanos / 1_000_000,
+                elapsedNanos == 0 ? 0 : Math.round(rows * 1e9 / elapsedNanos));
+        return rows;
+    }
+
+    /**
+     * A report ready to be written.
+     */
+    @FunctionalInterface
+    public interface Report {
+
+        /**
+         * Renders every record and writes one line per record.
+         *
+         * @param out The writer, flushed at the end.
+         * @return The number of lines written.
+         * @throws IOException If the writer fails.
+         */
+        long writeTo(Writer out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader<T> {
+        List<T> read(int afterId, Limit limit);
+    }
+}
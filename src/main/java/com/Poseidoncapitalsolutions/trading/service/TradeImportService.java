@@ -0,0 +1,351 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterTable;
+import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
+import com.poseidoncapitalsolutions.trading.dto.TradeImportRejectDTO;
+import com.poseidoncapitalsolutions.trading.dto.TradeImportReportDTO;
+import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventOutbox;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventType;
+import com.poseidoncapitalsolutions.trading.position.PositionBook;
+import com.poseidoncapitalsolutions.trading.position.TradeLeg;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service class responsible for the bulk ingestion of Trades.
+ * Files are read as a stream, each row is validated with the TradeDTO
+ * constraints, and valid rows are inserted in JDBC batches, one transaction
+ * per batch, so memory use does not depend on the size of the file.
+ */
+@Service
+@Timed("trading.service")
+public class TradeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TradeImportService.class);
+
+    private static final List<String> CSV_COLUMNS = List.of("account", "type", "buyquantity");
+
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Validator validator;
+    private TradeMapper tradeMapper;
+    private ObjectMapper objectMapper;
+    private PositionBook positionBook;
+    private TradeEventOutbox tradeEventOutbox;
+    private BlotterHub blotterHub;
+    private int batchSize;
+    private int maxReportedRejects;
+
+    /**
+     * Constructs a TradeImportService.
+     *
+     * @param entityManager      The entity manager used to persist the batches.
+     * @param transactionManager The transaction manager, one transaction is
+     *                           opened per batch.
+     * @param validator          The validator applying the TradeDTO constraints.
+     * @param tradeMapper        The mapper to convert TradeDTOs to entities.
+     * @param objectMapper       The mapper used to stream JSON files.
+     * @param positionBook       The positions the imported trades are posted
+     *                           to.
+     * @param tradeEventOutbox   The outbox the trade events are appended to.
+     * @param blotterHub         The live blotter the imported rows are
+     *                           streamed to.
+     * @param batchSize          The number of Trades inserted per batch.
+     * @param maxReportedRejects The maximum number of rejected rows detailed in
+     *                           the report.
+     */
+    public TradeImportService(EntityManager entityManager, PlatformTransactionManager transactionManager,
+            Validator validator, TradeMapper tradeMapper, ObjectMapper objectMapper, PositionBook positionBook,
+            TradeEventOutbox tradeEventOutbox, BlotterHub blotterHub,
+            @Value("${trading.trade.import.batch-size:500}") int batchSize,
+            @Value("${trading.trade.import.max-reported-rejects:1000}") int maxReportedRejects) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.tradeMapper = tradeMapper;
+        this.objectMapper = objectMapper;
+        this.positionBook = positionBook;
+        this.tradeEventOutbox = tradeEventOutbox;
+        this.blotterHub = blotterHub;
+        this.batchSize = batchSize;
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    /**
+     * Imports Trades from a CSV stream. The first line is a header which must
+     * contain the account, type and buyQuantity columns, in any order.
+     *
+     * @param input The CSV content, encoded in UTF-8.
+     * @return The import report with the accepted and rejected rows.
+     * @throws IOException              If the stream cannot be read.
+     * @throws IllegalArgumentException If the header is missing a column.
+     */
+    public TradeImportReportDTO importCsv(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return run.finish();
+            }
+            Map<String, Integer> columns = indexColumns(parseCsvLine(header));
+            String line;
+            long row = 1;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = parseCsvLine(line);
+                run.accept(row, () -> toTradeDTO(fields, columns));
+            }
+        }
+        return run.finish();
+    }
+
+    /**
+     * Imports Trades from a JSON stream holding an array of TradeDTO objects.
+     * Elements are read one at a time, the array is never fully loaded. An
+     * element that is not an object is rejected as a row.
+     *
+     * @param input The JSON content.
+     * @return The import report with the accepted and rejected rows.
+     * @throws IOException              If the stream cannot be read or is not
+     *                                  well-formed JSON, including an array
+     *                                  cut short.
+     * @throws IllegalArgumentException If the content is not a JSON array.
+     */
+    public TradeImportReportDTO importJson(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON import must be an array of trades");
+            }
+            long row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "JSON import ends before the end of the array of trades");
+                }
+                row++;
+                if (token == JsonToken.START_OBJECT) {
+                    JsonNode node = parser.readValueAsTree();
+                    run.accept(row, () -> objectMapper.treeToValue(node, TradeDTO.class));
+                } else {
+                    String found = parser.getText();
+                    parser.skipChildren();
+                    run.accept(row, () -> {
+                        throw new IllegalArgumentException("expected a trade object, found " + found);
+                    });
+                }
+            }
+        }
+        return run.finish();
+    }
+
+    private Map<String, Integer> indexColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+            throw new IllegalArgumentException("CSV header must contain the columns account, type and buyQuantity");
+        }
+        return columns;
+    }
+
+    private TradeDTO toTradeDTO(List<String> fields, Map<String, Integer> columns) {
+        TradeDTO trade = new TradeDTO();
+        trade.setAccount(field(fields, columns.get("account")));
+        trade.setType(field(fields, columns.get("type")));
+        String buyQuantity = field(fields, columns.get("buyquantity"));
+        trade.setBuyQuantity(buyQuantity == null ? null : Double.valueOf(buyQuantity));
+        return trade;
+    }
+
+    private String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits one CSV line into fields. Fields may be quoted with double quotes,
+     * a doubled quote inside a quoted field stands for a literal quote.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        TradeDTO read() throws Exception;
+    }
+
+    /**
+     * State of one import: the pending batch and the running report.
+     */
+    private class ImportRun {
+
+        private final long start = System.nanoTime();
+        private final Timestamp creationDate = new Timestamp(System.currentTimeMillis());
+        private final List<Trade> pending = new ArrayList<>(batchSize);
+        private final List<Long> pendingRows = new ArrayList<>(batchSize);
+        private final List<TradeImportRejectDTO> rejects = new ArrayList<>();
+        private long accepted;
+        private long rejected;
+
+        void accept(long row, RowReader reader) {
+            TradeDTO tradeDTO;
+            try {
+                tradeDTO = reader.read();
+            } catch (Exception e) {
+                reject(row, "Unreadable row: " + e.getMessage());
+                return;
+            }
+            Set<ConstraintViolation<TradeDTO>> violations = validator.validate(tradeDTO);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            Trade trade = tradeMapper.toEntity(tradeDTO);
+            trade.setId(0);
+            trade.setCreationDate(creationDate);
+            pending.add(trade);
+            pendingRows.add(row);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        TradeImportReportDTO finish() {
+            flush();
+            long elapsedNanos = System.nanoTime() - start;
+            long elapsedMillis = elapsedNanos / 1_000_000;
+            double rowsPerSecond = elapsedNanos == 0 ? 0 : (accepted + rejected) * 1e9 / elapsedNanos;
+            logger.info("Imported {} trades, rejected {} rows in {} ms ({} rows/s)",
+                    accepted, rejected, elapsedMillis, Math.round(rowsPerSecond));
+            return new TradeImportReportDTO(accepted, rejected, elapsedMillis, rowsPerSecond, rejects);
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                persist(pending);
+                accepted += pending.size();
+            } catch (DataAccessException | PersistenceException e) {
+                logger.warn("Batch insert failed, retrying {} rows one by one", pending.size());
+                persistOneByOne();
+            }
+            pending.clear();
+            pendingRows.clear();
+        }
+
+        private void persistOneByOne() {
+            for (int i = 0; i < pending.size(); i++) {
+                Trade trade = pending.get(i);
+                trade.setId(0);
+                try {
+                    persist(List.of(trade));
+                    accepted++;
+                } catch (DataAccessException | PersistenceException e) {
+                    reject(pendingRows.get(i), "Rejected by the database: " + rootCauseMessage(e));
+                }
+            }
+        }
+
+        private void persist(List<Trade> trades) {
+            transactionTemplate.executeWithoutResult(status -> {
+                trades.forEach(entityManager::persist);
+                for (Trade trade : trades) {
+                    TradeLeg leg = TradeLeg.of(trade);
+                    tradeEventOutbox.append(TradeEventType.CREATED, leg);
+                    positionBook.post(leg);
+                    blotterHub.post(BlotterTable.TRADE, trade.getId(), tradeMapper.toDto(trade));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        private void reject(long row, String reason) {
+            rejected++;
+            if (rejects.size() < maxReportedRejects) {
+                rejects.add(new TradeImportRejectDTO(row, reason));
+            }
+        }
+
+        private String rootCauseMessage(Throwable e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            return cause.getMessage();
+        }
+    }
+}
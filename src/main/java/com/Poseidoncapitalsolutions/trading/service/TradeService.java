@@ -3,33 +3,63 @@ package com.poseidoncapitalsolutions.trading.service;
 import java.sql.Timestamp;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterTable;
+import com.poseidoncapitalsolutions.trading.dto.KeysetPageDTO;
 import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
 import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventOutbox;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventType;
+import com.poseidoncapitalsolutions.trading.position.PositionBook;
+import com.poseidoncapitalsolutions.trading.position.TradeLeg;
 import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class responsible for handling operations related to Trades.
  * Provides methods for CRUD operations, mapping, and managing trade data.
+ * Every write appends a trade event to the {@link TradeEventOutbox} in its
+ * transaction, and is posted to the {@link PositionBook} and the live
+ * {@link BlotterHub} once committed.
  */
 @Service
+@Timed("trading.service")
 public class TradeService implements GenericService<Trade> {
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private TradeRepository tradeRepository;
     private TradeMapper tradeMapper;
+    private PositionBook positionBook;
+    private TradeEventOutbox tradeEventOutbox;
+    private BlotterHub blotterHub;
 
     /**
      * Constructs a TradeService with the given repository and mapper.
      * 
      * @param tradeRepository The repository to interact with Trade data.
      * @param tradeMapper     The mapper to convert Trade entities to DTOs.
+     * @param positionBook    The positions the trade writes are posted to.
+     * @param tradeEventOutbox The outbox the trade events are appended to.
+     * @param blotterHub      The live blotter the changed rows are streamed to.
      */
-    public TradeService(TradeRepository tradeRepository, TradeMapper tradeMapper) {
+    public TradeService(TradeRepository tradeRepository, TradeMapper tradeMapper, PositionBook positionBook,
+            TradeEventOutbox tradeEventOutbox, BlotterHub blotterHub) {
         this.tradeRepository = tradeRepository;
         this.tradeMapper = tradeMapper;
+        this.positionBook = positionBook;
+        this.tradeEventOutbox = tradeEventOutbox;
+        this.blotterHub = blotterHub;
     }
 
     /**
@@ -38,10 +68,24 @@ public class TradeService implements GenericService<Trade> {
      * @return A list of all Trades.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Trade> findAll() {
         return tradeRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of Trades matching the given filter.
+     * 
+     * @param filter   The criteria the Trades must match, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of Trades.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Trade> findPage(Specification<Trade> filter, Pageable pageable) {
+        return tradeRepository.findAll(filter, pageable);
+    }
+
     /**
      * Retrieves a Trade by its ID.
      * 
@@ -50,6 +94,7 @@ public class TradeService implements GenericService<Trade> {
      * @throws ResourceNotFoundException If no Trade with the given ID is found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Trade findById(int id) {
         return tradeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Trade with id " + id + " not found"));
@@ -62,8 +107,15 @@ public class TradeService implements GenericService<Trade> {
      * @return The saved Trade entity.
      */
     @Override
+    @Transactional
     public Trade save(Trade Object) {
-        return tradeRepository.save(Object);
+        TradeEventType type = Object.getId() == 0 ? TradeEventType.CREATED : TradeEventType.UPDATED;
+        Trade saved = tradeRepository.save(Object);
+        TradeLeg leg = TradeLeg.of(saved);
+        tradeEventOutbox.append(type, leg);
+        positionBook.post(leg);
+        blotterHub.post(BlotterTable.TRADE, saved.getId(), tradeMapper.toDto(saved));
+        return saved;
     }
 
     /**
@@ -72,8 +124,12 @@ public class TradeService implements GenericService<Trade> {
      * @param Object The Trade entity to delete.
      */
     @Override
+    @Transactional
     public void delete(Trade Object) {
         tradeRepository.delete(Object);
+        tradeEventOutbox.append(TradeEventType.DELETED, TradeLeg.of(Object));
+        positionBook.remove(Object.getId());
+        blotterHub.remove(BlotterTable.TRADE, Object.getId());
     }
 
     /**
@@ -89,27 +145,46 @@ public class TradeService implements GenericService<Trade> {
     }
 
     /**
-     * Updates the Trade entity based on the given TradeDTO.
+     * Retrieves one page of the trade blotter using keyset pagination on the
+     * Trade ID, so the cost of a page does not depend on its position in the
+     * table. One extra row is fetched to know whether a next page exists.
+     * Only the displayed columns are selected, straight into TradeDTOs.
      * 
-     * @param tradeDTO The TradeDTO containing updated information.
+     * @param afterId  The ID of the last Trade of the previous page, or 0 for
+     *                 the first page.
+     * @param pageSize The requested number of Trades, capped at
+     *                 {@value #MAX_PAGE_SIZE}.
+     * @return The page of TradeDTOs along with the cursor of the next page.
      */
-    public void update(TradeDTO tradeDTO) {
-        tradeRepository.save(merge(tradeDTO));
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<TradeDTO> findKeysetPage(int afterId, int pageSize) {
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        List<TradeDTO> trades = tradeRepository.findListAfterId(afterId, Limit.of(size + 1));
+        boolean hasNext = trades.size() > size;
+        List<TradeDTO> content = hasNext ? trades.subList(0, size) : trades;
+        Integer nextAfterId = hasNext ? content.get(size - 1).getId() : null;
+        return new KeysetPageDTO<>(content, size, afterId, nextAfterId);
     }
 
     /**
-     * Merges the data from a TradeDTO into an existing Trade entity.
+     * Updates the editable fields of a Trade in a single UPDATE statement,
+     * without loading the entity first, then records its new state.
      * 
-     * @param tradeDTO The TradeDTO containing the updated data.
-     * @return The updated Trade entity.
+     * @param tradeDTO The TradeDTO containing updated information.
+     * @throws ResourceNotFoundException If no Trade with the given ID is found.
      */
-    private Trade merge(TradeDTO tradeDTO) {
-        Trade trade = findById(tradeDTO.getId());
-        trade.setAccount(tradeDTO.getAccount());
-        trade.setType(tradeDTO.getType());
-        trade.setBuyQuantity(tradeDTO.getBuyQuantity());
-        trade.setRevisionDate(new Timestamp(System.currentTimeMillis()));
-        return trade;
+    @Transactional
+    public void update(TradeDTO tradeDTO) {
+        int updated = tradeRepository.updateEditableFields(tradeDTO.getId(), tradeDTO.getAccount(),
+                tradeDTO.getType(), tradeDTO.getBuyQuantity(), new Timestamp(System.currentTimeMillis()));
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Trade with id " + tradeDTO.getId() + " not found");
+        }
+        tradeRepository.findPositionLeg(tradeDTO.getId()).ifPresent(leg -> {
+            tradeEventOutbox.append(TradeEventType.UPDATED, leg);
+            positionBook.post(leg);
+        });
+        blotterHub.post(BlotterTable.TRADE, tradeDTO.getId(), tradeDTO);
     }
 
     /**
@@ -117,8 +192,13 @@ public class TradeService implements GenericService<Trade> {
      * 
      * @param trade The Trade entity to add.
      */
+    @Transactional
     public void add(Trade trade) {
         trade.setCreationDate(new Timestamp(System.currentTimeMillis()));
-        tradeRepository.save(trade);
+        Trade saved = tradeRepository.save(trade);
+        TradeLeg leg = TradeLeg.of(saved);
+        tradeEventOutbox.append(TradeEventType.CREATED, leg);
+        positionBook.post(leg);
+        blotterHub.post(BlotterTable.TRADE, saved.getId(), tradeMapper.toDto(saved));
     }
 }
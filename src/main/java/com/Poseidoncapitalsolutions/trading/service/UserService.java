@@ -3,37 +3,50 @@ package com.poseidoncapitalsolutions.trading.service;
 import java.util.List;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.poseidoncapitalsolutions.trading.config.UserDetailsServiceImpl;
 import com.poseidoncapitalsolutions.trading.dto.UserDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.UserMapper;
 import com.poseidoncapitalsolutions.trading.model.User;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class responsible for handling operations related to Users.
  * Provides methods for CRUD operations, mapping, and managing user data.
  */
 @Service
+@Timed("trading.service")
 public class UserService implements GenericService<User> {
 
     private UserRepository userRepository;
     private UserMapper userMapper;
     private PasswordEncoder passwordEncoder;
+    private UserDetailsServiceImpl userDetailsService;
 
     /**
-     * Constructs a UserService with the given repository, mapper, and password
-     * encoder.
+     * Constructs a UserService with the given repository, mapper, password
+     * encoder, and login details service.
      * 
-     * @param userRepository  The repository to interact with User data.
-     * @param userMapper      The mapper to convert User entities to DTOs.
-     * @param passwordEncoder The encoder to encrypt user passwords.
+     * @param userRepository     The repository to interact with User data.
+     * @param userMapper         The mapper to convert User entities to DTOs.
+     * @param passwordEncoder    The encoder to encrypt user passwords.
+     * @param userDetailsService The service caching the login details.
      */
-    public UserService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
+            UserDetailsServiceImpl userDetailsService) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
     }
 
     /**
@@ -42,10 +55,38 @@ public class UserService implements GenericService<User> {
      * @return A list of all Users.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<User> findAll() {
         return userRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of Users matching the given filter.
+     * 
+     * @param filter   The criteria the Users must match, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of Users.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<User> findPage(Specification<User> filter, Pageable pageable) {
+        return userRepository.findAll(filter, pageable);
+    }
+
+    /**
+     * Retrieves one page of Users for the list view. Only the displayed columns
+     * are selected, straight into DTOs, without loading the entities. The
+     * password is never selected.
+     * 
+     * @param username Prefix of the username to filter on, or null for all.
+     * @param pageable The page number, size and sort order to apply.
+     * @return The requested page of UserDTOs.
+     */
+    @Transactional(readOnly = true)
+    public Page<UserDTO> findListPage(String username, Pageable pageable) {
+        return userRepository.findListPage(FilterSpecifications.likePrefix(username), pageable);
+    }
+
     /**
      * Retrieves a User by its ID.
      * 
@@ -54,13 +95,17 @@ public class UserService implements GenericService<User> {
      * @throws ResourceNotFoundException If no User with the given ID is found.
      */
     @Override
+    @Transactional(readOnly = true)
     public User findById(int id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User with id " + id + " not found"));
     }
 
     /**
-     * Saves a given User entity after encoding the password.
+     * Saves a given User entity after encoding the password, and evicts the
+     * cached login details once it is committed. The whole cache is evicted:
+     * the login is cached as typed, and the username lookup ignores case, so
+     * one User may be cached under several keys.
      * 
      * @param object The User entity to save.
      * @return The saved User entity.
@@ -68,17 +113,22 @@ public class UserService implements GenericService<User> {
     @Override
     public User save(User object) {
         object.setPassword(encodePassword(object.getPassword()));
-        return userRepository.save(object);
+        User saved = userRepository.save(object);
+        userDetailsService.evictAll();
+        return saved;
     }
 
     /**
-     * Deletes the specified User entity.
+     * Deletes the specified User entity and evicts the cached login details
+     * once it is committed, the whole cache for the same reason as
+     * {@link #save(User)}.
      * 
      * @param object The User entity to delete.
      */
     @Override
     public void delete(User object) {
         userRepository.delete(object);
+        userDetailsService.evictAll();
     }
 
     /**
@@ -94,27 +144,23 @@ public class UserService implements GenericService<User> {
     }
 
     /**
-     * Updates the User entity based on the given UserDTO.
+     * Updates the editable fields of a User in a single UPDATE statement,
+     * without loading the entity first.
+     * The password is encoded before being stored. The whole login cache is
+     * evicted once the update commits, since the previous username is not
+     * known here.
      * 
      * @param userDTO The UserDTO containing updated information.
+     * @throws ResourceNotFoundException If no User with the given ID is found.
      */
+    @Transactional
     public void update(UserDTO userDTO) {
-        userRepository.save(merge(userDTO));
-    }
-
-    /**
-     * Merges the data from a UserDTO into an existing User entity.
-     * 
-     * @param userDTO The UserDTO containing the updated data.
-     * @return The updated User entity.
-     */
-    private User merge(UserDTO userDTO) {
-        User user = findById(userDTO.getId());
-        user.setUsername(userDTO.getUsername());
-        user.setPassword(userDTO.getPassword());
-        user.setFullname(userDTO.getFullname());
-        user.setRole(userDTO.getRole());
-        return user;
+        int updated = userRepository.updateEditableFields(userDTO.getId(), userDTO.getUsername(),
+                encodePassword(userDTO.getPassword()), userDTO.getFullname(), userDTO.getRole());
+        if (updated == 0) {
+            throw new ResourceNotFoundException("User with id " + userDTO.getId() + " not found");
+        }
+        userDetailsService.evictAll();
     }
 
     /**
@@ -0,0 +1,99 @@
+-- Schema of the application, identical to Data/schema.sql before migrations
+-- were introduced. Existing databases are baselined at this version and never
+-- run it, so anything added since belongs to a later migration.
+
+CREATE TABLE BidList (
+  Id INT NOT NULL AUTO_INCREMENT,
+  account VARCHAR(30) NOT NULL,
+  type VARCHAR(30) NOT NULL,
+  bidQuantity DOUBLE,
+  askQuantity DOUBLE,
+  bid DOUBLE ,
+  ask DOUBLE,
+  benchmark VARCHAR(125),
+  bidListDate TIMESTAMP,
+  commentary VARCHAR(125),
+  security VARCHAR(125),
+  status VARCHAR(10),
+  trader VARCHAR(125),
+  book VARCHAR(125),
+  creationName VARCHAR(125),
+  creationDate TIMESTAMP ,
+  revisionName VARCHAR(125),
+  revisionDate TIMESTAMP ,
+  dealName VARCHAR(125),
+  dealType VARCHAR(125),
+  sourceListId VARCHAR(125),
+  side VARCHAR(125),
+
+  PRIMARY KEY (Id)
+);
+
+CREATE TABLE Trade (
+  Id INT NOT NULL AUTO_INCREMENT,
+  account VARCHAR(30) NOT NULL,
+  type VARCHAR(30) NOT NULL,
+  buyQuantity DOUBLE,
+  sellQuantity DOUBLE,
+  buyPrice DOUBLE ,
+  sellPrice DOUBLE,
+  tradeDate TIMESTAMP,
+  security VARCHAR(125),
+  status VARCHAR(10),
+  trader VARCHAR(125),
+  benchmark VARCHAR(125),
+  book VARCHAR(125),
+  creationName VARCHAR(125),
+  creationDate TIMESTAMP ,
+  revisionName VARCHAR(125),
+  revisionDate TIMESTAMP ,
+  dealName VARCHAR(125),
+  dealType VARCHAR(125),
+  sourceListId VARCHAR(125),
+  side VARCHAR(125),
+
+  PRIMARY KEY (Id)
+);
+
+CREATE TABLE CurvePoint (
+  Id INT NOT NULL AUTO_INCREMENT,
+  CurveId tinyint,
+  asOfDate TIMESTAMP,
+  term DOUBLE ,
+  value DOUBLE ,
+  creationDate TIMESTAMP ,
+
+  PRIMARY KEY (Id)
+);
+
+CREATE TABLE Rating (
+  Id INT NOT NULL AUTO_INCREMENT,
+  moodysRating VARCHAR(125),
+  sandPRating VARCHAR(125),
+  fitchRating VARCHAR(125),
+  orderNumber tinyint,
+
+  PRIMARY KEY (Id)
+);
+
+CREATE TABLE RuleName (
+  Id INT NOT NULL AUTO_INCREMENT,
+  name VARCHAR(125),
+  description VARCHAR(125),
+  json VARCHAR(125),
+  template VARCHAR(512),
+  sqlStr VARCHAR(125),
+  sqlPart VARCHAR(125),
+
+  PRIMARY KEY (Id)
+);
+
+CREATE TABLE Users (
+  Id INT NOT NULL AUTO_INCREMENT,
+  username VARCHAR(125),
+  password VARCHAR(125),
+  fullname VARCHAR(125),
+  role VARCHAR(125),
+
+  PRIMARY KEY (Id)
+);
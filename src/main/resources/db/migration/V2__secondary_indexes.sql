@@ -0,0 +1,35 @@
+-- Indexes backing the lookups and list filters of the repositories
+
+-- Trade list filter and lookups by account, trade date range queries
+CREATE INDEX idx_trade_account ON Trade (account);
+CREATE INDEX idx_trade_trade_date ON Trade (tradeDate);
+
+-- BidList list filter and lookups by account
+CREATE INDEX idx_bidlist_account ON BidList (account);
+
+-- Points of one curve at one date, read in term order
+CREATE INDEX idx_curvepoint_curve_date_term ON CurvePoint (CurveId, asOfDate, term);
+
+-- Rating and RuleName list filters
+CREATE INDEX idx_rating_moodys ON Rating (moodysRating);
+CREATE INDEX idx_rulename_name ON RuleName (name);
+
+-- Login lookup by username
+CREATE INDEX idx_users_username ON Users (username);
+
+-- Hi/lo style ID allocation for Trade and BidList, lets Hibernate batch inserts.
+-- The table may already exist in a database created from Data/schema.sql.
+CREATE TABLE IF NOT EXISTS IdGenerator (
+  name VARCHAR(30) NOT NULL,
+  nextVal BIGINT NOT NULL,
+
+  PRIMARY KEY (name)
+);
+
+-- Seed the ID allocation above the existing rows, keeping a higher value
+INSERT INTO IdGenerator (name, nextVal)
+SELECT 'Trade', COALESCE(MAX(Id), 0) + 1 FROM Trade
+ON DUPLICATE KEY UPDATE nextVal = GREATEST(nextVal, VALUES(nextVal));
+INSERT INTO IdGenerator (name, nextVal)
+SELECT 'BidList', COALESCE(MAX(Id), 0) + 1 FROM BidList
+ON DUPLICATE KEY UPDATE nextVal = GREATEST(nextVal, VALUES(nextVal));
@@ -0,0 +1,13 @@
+-- Outbox of the trade writes, appended in the transaction of each write and
+-- deleted once delivered by TradeEventPublisher
+CREATE TABLE TradeEvent (
+  id BIGINT NOT NULL,
+  tradeId INT NOT NULL,
+  type VARCHAR(10) NOT NULL,
+  payload VARCHAR(2000) NOT NULL,
+  createdAt TIMESTAMP NOT NULL,
+
+  PRIMARY KEY (id)
+);
+
+INSERT INTO IdGenerator (name, nextVal) VALUES ('TradeEvent', 1);
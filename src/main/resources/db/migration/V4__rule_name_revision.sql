@@ -0,0 +1,3 @@
+-- Revision of each rule, raised on every update, which keys the compiled
+-- rules cached by RuleEngine
+ALTER TABLE RuleName ADD COLUMN revision INT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- Rules run by the nightly RuleBatch, all of the existing ones to start with
+ALTER TABLE RuleName ADD COLUMN active BOOLEAN NOT NULL DEFAULT TRUE;
+
+-- Trades matching an active rule, one row per rule and trade for each run,
+-- the rows of a run sharing its detectedAt
+CREATE TABLE RuleViolation (
+  id BIGINT NOT NULL,
+  ruleId INT NOT NULL,
+  ruleRevision INT NOT NULL,
+  tradeId INT NOT NULL,
+  detectedAt TIMESTAMP NOT NULL,
+
+  PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_ruleviolation_detected_rule ON RuleViolation (detectedAt, ruleId);
+
+INSERT INTO IdGenerator (name, nextVal) VALUES ('RuleViolation', 1);
@@ -0,0 +1,82 @@
+/*
+ * Live blotter: keeps a list page up to date with the rows changed after it
+ * was rendered, streamed as server-sent events by /blotter/stream. The table
+ * body declares what to stream with data-blotter-* attributes, and each row
+ * its data-id. Changed rows are updated in place, deleted rows removed, and
+ * new rows appended when the page shows the end of the list.
+ */
+(function () {
+	var body = document.querySelector('tbody[data-blotter-table]');
+	if (!body || !window.EventSource) {
+		return;
+	}
+	var columns = body.dataset.blotterColumns.split(',');
+	var path = body.dataset.blotterPath;
+	var append = body.dataset.blotterAppend === 'true';
+	var source = new EventSource('/blotter/stream?tables=' + encodeURIComponent(body.dataset.blotterTable)
+		+ '&since=' + encodeURIComponent(body.dataset.blotterSince));
+
+	function format(value) {
+		if (value === null || value === undefined) {
+			return '';
+		}
+		return typeof value === 'number' && Number.isInteger(value) ? value.toFixed(1) : String(value);
+	}
+
+	function link(href, label, css) {
+		var anchor = document.createElement('a');
+		anchor.href = href;
+		anchor.className = 'btn btn-sm ' + css;
+		anchor.textContent = label;
+		return anchor;
+	}
+
+	function newRow(id) {
+		var row = document.createElement('tr');
+		row.dataset.id = id;
+		columns.forEach(function () {
+			row.appendChild(document.createElement('td'));
+		});
+		var actions = document.createElement('td');
+		actions.className = 'text-center';
+		actions.appendChild(link(path + '/update/' + id, 'Edit', 'btn-info mr-1'));
+		var remove = link(path + '/delete/' + id, 'Delete', 'btn-danger');
+		remove.onclick = function () {
+			return confirm('Are you sure you want to delete this item?');
+		};
+		actions.appendChild(remove);
+		row.appendChild(actions);
+		return row;
+	}
+
+	source.addEventListener('changes', function (event) {
+		JSON.parse(event.data).forEach(function (change) {
+			var row = body.querySelector('tr[data-id="' + change.id + '"]');
+			if (change.row === null) {
+				if (row) {
+					row.remove();
+				}
+				return;
+			}
+			if (!row) {
+				if (!append) {
+					return;
+				}
+				var empty = body.querySelector('tr[data-blotter-empty]');
+				if (empty) {
+					empty.remove();
+				}
+				row = newRow(change.id);
+				body.appendChild(row);
+			}
+			columns.forEach(function (column, index) {
+				row.cells[index].textContent = column === 'id' ? String(change.id) : format(change.row[column]);
+			});
+		});
+	});
+
+	source.addEventListener('reset', function () {
+		source.close();
+		window.location.reload();
+	});
+})();
@@ -0,0 +1,195 @@
+package com.poseidoncapitalsolutions.trading.blotter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BlotterHubTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlotterHub blotterHub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        blotterHub = new BlotterHub(meterRegistry, 2, 3, 4, Duration.ofMillis(250), Duration.ofSeconds(15),
+                Duration.ofMinutes(1), false);
+    }
+
+    private static TradeDTO trade(int id, String account) {
+        return new TradeDTO(id, account, "Type", 10.0);
+    }
+
+    @Test
+    void flushShouldSendTheLastChangeOfEachRowInOneEvent() throws IOException {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        BlotterClient client = blotterHub.connect(emitter, Set.of(BlotterTable.TRADE), null);
+        blotterHub.post(BlotterTable.TRADE, 1, trade(1, "First"));
+        blotterHub.post(BlotterTable.TRADE, 2, trade(2, "Second"));
+        blotterHub.post(BlotterTable.BID_LIST, 1, "Other table");
+        blotterHub.post(BlotterTable.TRADE, 1, trade(1, "Updated"));
+        blotterHub.remove(BlotterTable.TRADE, 2);
+
+        // When
+        client.flush();
+
+        // Then
+        assertEquals(1, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("event:changes"));
+        assertTrue(emitter.events.get(0).contains("id:5"));
+        assertEquals(List.of(new BlotterChange(4, BlotterTable.TRADE, 1, trade(1, "Updated")),
+                new BlotterChange(5, BlotterTable.TRADE, 2, null)), emitter.payloads.get(0));
+    }
+
+    @Test
+    void flushShouldSendAResetToAClientTooFarBehind() throws IOException {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        BlotterClient client = blotterHub.connect(emitter, Set.of(), null);
+        for (int id = 1; id <= 4; id++) {
+            blotterHub.post(BlotterTable.TRADE, id, trade(id, "Account"));
+        }
+
+        // When
+        client.flush();
+
+        // Then
+        assertEquals(1, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("event:reset"));
+        assertEquals(1.0, meterRegistry.get(BlotterHub.RESETS_METRIC).counter().count());
+    }
+
+    @Test
+    void connectShouldReplayTheChangesSinceTheRenderedSequence() throws IOException {
+        // Given
+        blotterHub.post(BlotterTable.TRADE, 1, trade(1, "Before"));
+        long since = blotterHub.getSequence();
+        blotterHub.post(BlotterTable.BID_LIST, 1, "Other table");
+        blotterHub.post(BlotterTable.TRADE, 2, trade(2, "After"));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        BlotterClient client = blotterHub.connect(emitter, Set.of(BlotterTable.TRADE), since);
+        client.flush();
+
+        // Then
+        assertEquals(List.of(new BlotterChange(3, BlotterTable.TRADE, 2, trade(2, "After"))),
+                emitter.payloads.get(0));
+    }
+
+    @Test
+    void connectShouldResetWhenTheSequenceIsNoLongerKept() throws IOException {
+        // Given
+        for (int id = 1; id <= 6; id++) {
+            blotterHub.post(BlotterTable.TRADE, id, trade(id, "Account"));
+        }
+        RecordingEmitter tooOld = new RecordingEmitter();
+        RecordingEmitter fromBeforeRestart = new RecordingEmitter();
+
+        // When
+        blotterHub.connect(tooOld, Set.of(), 1L).flush();
+        blotterHub.connect(fromBeforeRestart, Set.of(), 100L).flush();
+
+        // Then
+        assertTrue(tooOld.events.get(0).contains("event:reset"));
+        assertTrue(fromBeforeRestart.events.get(0).contains("event:reset"));
+    }
+
+    @Test
+    void tryClaimShouldSkipIdleClientsUntilTheHeartbeat() throws IOException {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        BlotterClient client = blotterHub.connect(emitter, Set.of(), null);
+        long heartbeatNanos = Duration.ofSeconds(15).toNanos();
+
+        // When & Then
+        assertFalse(client.tryClaim(System.nanoTime(), heartbeatNanos));
+        assertTrue(client.tryClaim(System.nanoTime() + heartbeatNanos, heartbeatNanos));
+        assertFalse(client.tryClaim(System.nanoTime() + heartbeatNanos, heartbeatNanos));
+        client.flush();
+        assertTrue(emitter.events.get(0).contains(":heartbeat"));
+    }
+
+    @Test
+    void flushShouldReleaseAClientNoSenderAccepted() {
+        // Given
+        blotterHub.start();
+        blotterHub.stop();
+        BlotterClient client = blotterHub.connect(new RecordingEmitter(), Set.of(), null);
+        blotterHub.post(BlotterTable.TRADE, 1, trade(1, "Account"));
+
+        // When
+        blotterHub.flush();
+
+        // Then
+        assertTrue(client.tryClaim(System.nanoTime(), Duration.ofSeconds(15).toNanos()));
+    }
+
+    @Test
+    void postShouldWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            blotterHub.post(BlotterTable.TRADE, 1, trade(1, "Account"));
+
+            // Then
+            assertEquals(0, blotterHub.getSequence());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, blotterHub.getSequence());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void connectShouldRejectClientsOverTheLimit() {
+        // Given
+        blotterHub.connect(new RecordingEmitter(), Set.of(), null);
+        blotterHub.connect(new RecordingEmitter(), Set.of(), null);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> blotterHub.connect(new RecordingEmitter(), Set.of(), null));
+        assertEquals(2.0, meterRegistry.get(BlotterHub.CLIENTS_METRIC).gauge().value());
+    }
+
+    /**
+     * Records the events instead of writing them to a response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder event = new StringBuilder();
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof String text) {
+                    event.append(text);
+                } else {
+                    payloads.add(data.getData());
+                }
+            }
+            events.add(event.toString());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class DataSourceConfigTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceConfig config = new DataSourceConfig();
+        primary = pool("primary-" + System.nanoTime());
+        replica = config.replicaDataSource();
+        replica.setJdbcUrl("jdbc:h2:mem:replica-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        replica.setUsername("sa");
+        createDatabaseName(primary, DataSourceConfig.PRIMARY_POOL);
+        createDatabaseName(replica, DataSourceConfig.REPLICA_POOL);
+
+        DataSource dataSource = config.dataSource(primary, replica);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void dataSourceShouldReadFromReplicaInReadOnlyTransaction() {
+        // Given
+        transactionTemplate.setReadOnly(true);
+
+        // When
+        String database = transactionTemplate.execute(status -> databaseName());
+
+        // Then
+        assertEquals(DataSourceConfig.REPLICA_POOL, database);
+    }
+
+    @Test
+    void dataSourceShouldUsePrimaryInReadWriteTransaction() {
+        // When
+        String database = transactionTemplate.execute(status -> databaseName());
+
+        // Then
+        assertEquals(DataSourceConfig.PRIMARY_POOL, database);
+    }
+
+    @Test
+    void dataSourceShouldUsePrimaryOutsideTransaction() {
+        // When
+        String database = databaseName();
+
+        // Then
+        assertEquals(DataSourceConfig.PRIMARY_POOL, database);
+    }
+
+    private String databaseName() {
+        return jdbcTemplate.queryForObject("select name from database_name", String.class);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        return dataSource;
+    }
+
+    private static void createDatabaseName(DataSource dataSource, String name) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table database_name (name varchar(16))");
+        template.update("insert into database_name values (?)", name);
+    }
+}
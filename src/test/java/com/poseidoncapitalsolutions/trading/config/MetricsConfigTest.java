@@ -0,0 +1,43 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class MetricsConfigTest {
+
+    @Test
+    void saturationShouldBeConnectionsInUseOverPoolSize() throws Exception {
+        // Given
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl("jdbc:h2:mem:saturation-" + System.nanoTime());
+            dataSource.setUsername("sa");
+            dataSource.setMaximumPoolSize(4);
+
+            // When
+            try (Connection connection = dataSource.getConnection()) {
+
+                // Then
+                assertEquals(0.25, MetricsConfig.saturation(dataSource));
+            }
+        }
+    }
+
+    @Test
+    void saturationShouldBeUnknownBeforePoolStarts() {
+        // Given
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+
+            // When
+            double saturation = MetricsConfig.saturation(dataSource);
+
+            // Then
+            assertTrue(Double.isNaN(saturation));
+        }
+    }
+}
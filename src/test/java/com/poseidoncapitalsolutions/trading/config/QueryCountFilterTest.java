@@ -0,0 +1,71 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class QueryCountFilterTest {
+
+    private QueryCountInspector queryCountInspector;
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountFilter queryCountFilter;
+
+    @BeforeEach
+    void setUp() {
+        queryCountInspector = new QueryCountInspector();
+        meterRegistry = new SimpleMeterRegistry();
+        queryCountFilter = new QueryCountFilter(queryCountInspector, meterRegistry);
+    }
+
+    @Test
+    void filterShouldRecordQueriesOfRequestByUriPattern() throws Exception {
+        // Given
+        queryCountInspector.inspect("select 1 before the request");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/trade/update/1");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/trade/update/{id}");
+                queryCountInspector.inspect("select t from Trade t");
+                queryCountInspector.inspect("update Trade");
+            }
+        });
+
+        // When
+        queryCountFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/trade/update/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+
+    @Test
+    void filterShouldTagUnmatchedRequestsAsUnknown() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nowhere");
+
+        // When
+        queryCountFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+                .tag("uri", "UNKNOWN")
+                .summary();
+        assertEquals(0, summary.totalAmount());
+    }
+}
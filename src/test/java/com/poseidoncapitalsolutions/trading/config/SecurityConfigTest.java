@@ -0,0 +1,54 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class SecurityConfigTest {
+
+    private final SecurityConfig securityConfig = new SecurityConfig();
+
+    @Test
+    void passwordEncoderShouldEncodeWithBcryptPrefixAndConfiguredStrength() {
+        // Given
+        PasswordEncoder encoder = securityConfig.passwordEncoder(5);
+
+        // When
+        String encoded = encoder.encode("Password1!");
+
+        // Then
+        assertTrue(encoded.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("Password1!", encoded));
+        assertFalse(encoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void passwordEncoderShouldMatchAndUpgradeLegacyHashes() {
+        // Given
+        PasswordEncoder encoder = securityConfig.passwordEncoder(5);
+        String legacy = new BCryptPasswordEncoder(4).encode("Password1!");
+
+        // When & Then
+        assertTrue(encoder.matches("Password1!", legacy));
+        assertFalse(encoder.matches("wrong", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void passwordEncoderShouldUpgradeHashesOfLowerStrength() {
+        // Given
+        PasswordEncoder weak = securityConfig.passwordEncoder(4);
+        PasswordEncoder strong = securityConfig.passwordEncoder(5);
+
+        // When
+        String encoded = weak.encode("Password1!");
+
+        // Then
+        assertTrue(strong.matches("Password1!", encoded));
+        assertTrue(strong.upgradeEncoding(encoded));
+        assertFalse(weak.upgradeEncoding(strong.encode("Password1!")));
+    }
+}
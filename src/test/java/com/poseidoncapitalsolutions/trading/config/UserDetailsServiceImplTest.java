@@ -0,0 +1,161 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.model.User;
+import com.poseidoncapitalsolutions.trading.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private UserDetailsServiceImpl userDetailsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.USER_DETAILS_CACHE);
+        userDetailsService = new UserDetailsServiceImpl(userRepository, cacheManager);
+
+        user = new User();
+        user.setId(1);
+        user.setUsername("admin");
+        user.setPassword("hashed");
+        user.setRole("ADMIN");
+    }
+
+    @Test
+    void loadUserByUsernameShouldQueryRepositoryOnlyOnce() {
+        // Given
+        when(userRepository.findByUsername("admin")).thenReturn(user);
+
+        // When
+        UserDetails first = userDetailsService.loadUserByUsername("admin");
+        UserDetails second = userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        verify(userRepository, times(1)).findByUsername("admin");
+        assertNotSame(first, second);
+        assertEquals("hashed", second.getPassword());
+        assertEquals("ADMIN", second.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void loadUserByUsernameShouldNotBeAffectedByErasedCredentials() {
+        // Given
+        when(userRepository.findByUsername("admin")).thenReturn(user);
+        org.springframework.security.core.userdetails.User first = (org.springframework.security.core.userdetails.User) userDetailsService
+                .loadUserByUsername("admin");
+
+        // When
+        first.eraseCredentials();
+
+        // Then
+        assertEquals("hashed", userDetailsService.loadUserByUsername("admin").getPassword());
+    }
+
+    @Test
+    void loadUserByUsernameShouldReloadAfterEviction() {
+        // Given
+        when(userRepository.findByUsername("admin")).thenReturn(user);
+        userDetailsService.loadUserByUsername("admin");
+
+        // When
+        cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE).evict("admin");
+        userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        verify(userRepository, times(2)).findByUsername("admin");
+    }
+
+    @Test
+    void loadUserByUsernameShouldNotServeAUserReadBeforeAnEviction() {
+        // Given
+        User changed = new User();
+        changed.setUsername("admin");
+        changed.setPassword("changed");
+        changed.setRole("ADMIN");
+        when(userRepository.findByUsername("admin"))
+                .thenAnswer(invocation -> {
+                    userDetailsService.evictAll();
+                    return user;
+                })
+                .thenReturn(changed);
+
+        // When
+        userDetailsService.loadUserByUsername("admin");
+        UserDetails afterEviction = userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        assertEquals("changed", afterEviction.getPassword());
+        assertEquals("changed", userDetailsService.loadUserByUsername("admin").getPassword());
+        verify(userRepository, times(2)).findByUsername("admin");
+    }
+
+    @Test
+    void evictAllShouldWaitForTheTransactionToCommit() {
+        // Given
+        when(userRepository.findByUsername("admin")).thenReturn(user);
+        userDetailsService.loadUserByUsername("admin");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            userDetailsService.evictAll();
+
+            // Then
+            userDetailsService.loadUserByUsername("admin");
+            verify(userRepository, times(1)).findByUsername("admin");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userDetailsService.loadUserByUsername("admin");
+        verify(userRepository, times(2)).findByUsername("admin");
+    }
+
+    @Test
+    void updatePasswordShouldStoreNewHashAndRefreshCache() {
+        // Given
+        when(userRepository.findByUsername("admin")).thenReturn(user);
+        UserDetails details = userDetailsService.loadUserByUsername("admin");
+
+        // When
+        UserDetails updated = userDetailsService.updatePassword(details, "{bcrypt}rehashed");
+
+        // Then
+        verify(userRepository, times(1)).updatePassword("admin", "{bcrypt}rehashed");
+        assertEquals("{bcrypt}rehashed", updated.getPassword());
+        assertEquals("{bcrypt}rehashed", userDetailsService.loadUserByUsername("admin").getPassword());
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+
+    @Test
+    void loadUserByUsernameShouldThrowAndNotCacheUnknownUser() {
+        // Given
+        when(userRepository.findByUsername("unknown")).thenReturn(null);
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("unknown"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("unknown"));
+        verify(userRepository, times(2)).findByUsername("unknown");
+    }
+}
@@ -0,0 +1,85 @@
+package com.poseidoncapitalsolutions.trading.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pinningMonitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinningMonitor.stop();
+    }
+
+    @Test
+    void start_ShouldTimePinnedVirtualThread_TaggedWithBlockingMethod() throws InterruptedException {
+        // Given
+        pinningMonitor.start();
+
+        // When
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        // Then
+        Collection<Timer> timers = awaitPinnedTimers();
+        assertThat(pinningMonitor.isRunning()).isTrue();
+        assertThat(timers).singleElement().satisfies(timer -> {
+            assertThat(timer.getId().getTag("site"))
+                    .isEqualTo(VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingMonitor");
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThan(25);
+        });
+    }
+
+    @Test
+    void stop_ShouldStopRecording() {
+        // Given
+        pinningMonitor.start();
+
+        // When
+        pinningMonitor.stop();
+
+        // Then
+        assertThat(pinningMonitor.isRunning()).isFalse();
+        assertThat(meterRegistry.get(VirtualThreadPinningMonitor.SUBMIT_FAILED_METRIC).counter().count()).isZero();
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Collection<Timer> awaitPinnedTimers() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Collection<Timer> timers = meterRegistry.find(VirtualThreadPinningMonitor.PINNED_METRIC).timers();
+        while (timers.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            timers = meterRegistry.find(VirtualThreadPinningMonitor.PINNED_METRIC).timers();
+        }
+        return timers;
+    }
+}
@@ -1,6 +1,9 @@
 package com.poseidoncapitalsolutions.trading.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
@@ -9,6 +12,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -19,13 +23,20 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
 import com.poseidoncapitalsolutions.trading.dto.BidListDTO;
 import com.poseidoncapitalsolutions.trading.mapper.BidListMapper;
 import com.poseidoncapitalsolutions.trading.model.BidList;
@@ -43,6 +54,9 @@ public class BidListControllerTest {
     @MockitoBean
     private BidListMapper bidListMapper;
 
+    @MockitoBean
+    private BlotterHub blotterHub;
+
     private BidList bidList;
     private BidListDTO bidListDTO;
     private List<BidListDTO> bidListDTOs;
@@ -70,17 +84,34 @@ public class BidListControllerTest {
     @WithMockUser(username = "admin", roles = "ADMIN")
     void homeShouldReturnBidListPage() throws Exception {
         // Given
-        List<BidList> bidLists = new ArrayList<>();
-        bidLists.add(bidList);
-        when(bidListService.findAll()).thenReturn(bidLists);
-        when(bidListService.getListResponseDTO(bidLists)).thenReturn(bidListDTOs);
+        Page<BidListDTO> page = new PageImpl<>(bidListDTOs, PageRequest.of(0, 20), 1);
+        when(bidListService.findListPage(any(), any(Pageable.class))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/bidList/list"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("bidList/list"))
                 .andExpect(model().attributeExists("bidLists"))
-                .andExpect(model().attribute("bidLists", bidListDTOs));
+                .andExpect(model().attribute("bidLists", bidListDTOs))
+                .andExpect(model().attribute("page", page));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void homeShouldForwardFilterAndPagingToService() throws Exception {
+        // Given
+        Page<BidListDTO> page = new PageImpl<>(bidListDTOs, PageRequest.of(1, 1), 3);
+        when(bidListService.findListPage(any(), any(Pageable.class))).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/bidList/list").param("account", "Test").param("page", "1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("bidList/list"))
+                .andExpect(content().string(containsString("/bidList/list?page=2&amp;size=1&amp;sort=&amp;account=Test")));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.captor();
+        verify(bidListService).findListPage(eq("Test"), pageable.capture());
+        assertEquals(PageRequest.of(1, 1, Sort.by("id")), pageable.getValue());
     }
 
     @Test
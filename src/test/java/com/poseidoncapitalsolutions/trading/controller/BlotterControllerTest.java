@@ -0,0 +1,63 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterTable;
+
+@WebMvcTest(BlotterController.class)
+public class BlotterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BlotterHub blotterHub;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void streamShouldSubscribeFromTheRenderedSequence() throws Exception {
+        // Given
+        when(blotterHub.subscribe(Set.of(BlotterTable.TRADE), 12L)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/blotter/stream").param("tables", "TRADE").param("since", "12"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void streamShouldResumeFromTheLastEventIdOnReconnect() throws Exception {
+        // Given
+        when(blotterHub.subscribe(Set.of(), 40L)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/blotter/stream").param("since", "12").header("Last-Event-ID", "40"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void streamShouldReturnServiceUnavailableOverTheClientLimit() throws Exception {
+        // Given
+        when(blotterHub.subscribe(Set.of(), null)).thenThrow(new IllegalStateException("Too many clients"));
+
+        // When & Then
+        mockMvc.perform(get("/blotter/stream"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
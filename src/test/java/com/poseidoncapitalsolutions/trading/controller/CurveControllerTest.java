@@ -21,6 +21,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -69,17 +73,16 @@ public class CurveControllerTest {
     @WithMockUser(username = "admin", roles = "ADMIN")
     void homeShouldReturnCurvePointListPage() throws Exception {
         // Given
-        List<CurvePoint> curvePoints = new ArrayList<>();
-        curvePoints.add(curvePoint);
-        when(curvePointService.findAll()).thenReturn(curvePoints);
-        when(curvePointService.getListResponseDTO(curvePoints)).thenReturn(curvePointDTOs);
+        Page<CurvePointDTO> page = new PageImpl<>(curvePointDTOs, PageRequest.of(0, 20), 1);
+        when(curvePointService.findListPage(any(), any(Pageable.class))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/curvePoint/list"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("curvePoint/list"))
                 .andExpect(model().attributeExists("curvePoints"))
-                .andExpect(model().attribute("curvePoints", curvePointDTOs));
+                .andExpect(model().attribute("curvePoints", curvePointDTOs))
+                .andExpect(model().attribute("page", page));
     }
 
     @Test
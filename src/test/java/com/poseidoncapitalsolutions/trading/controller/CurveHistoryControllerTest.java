@@ -0,0 +1,107 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryStore;
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryWriter;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.CurvePointService;
+
+@WebMvcTest(CurveHistoryController.class)
+public class CurveHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CurvePointService curvePointService;
+
+    @TempDir
+    private Path directory;
+
+    private CurveHistoryStore store;
+    private Timestamp asOfDate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        asOfDate = Timestamp.valueOf("2025-01-02 00:00:00");
+        Path file = directory.resolve("history.bin");
+        try (CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            writer.add(1, asOfDate.getTime(), 1, 0.02);
+            writer.add(1, asOfDate.getTime(), 3, 0.03);
+            writer.finish();
+        }
+        store = CurveHistoryStore.open(file);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void exportHistoryShouldReturnTheFileSummary() throws Exception {
+        // Given
+        when(curvePointService.exportHistory(any(Path.class))).thenReturn(store);
+
+        // When & Then
+        mockMvc.perform(post("/curve/history/export").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seriesCount").value(1))
+                .andExpect(jsonPath("$.pointCount").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void loadHistoryShouldReturnNotFoundWithoutFile() throws Exception {
+        // Given
+        when(curvePointService.loadHistory(any(Path.class))).thenThrow(new NoSuchFileException("history.bin"));
+
+        // When & Then
+        mockMvc.perform(post("/curve/history/load").with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getHistoryShouldReturnTheTimeSeries() throws Exception {
+        // Given
+        when(curvePointService.findHistory(eq(1), isNull(), isNull())).thenReturn(store.range(1, null, null));
+
+        // When & Then
+        mockMvc.perform(get("/curve/history").param("curveId", "1").param("term", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.method").value("LINEAR"))
+                .andExpect(jsonPath("$.values.length()").value(1))
+                .andExpect(jsonPath("$.values[0]").value(0.025));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getHistoryShouldReturnNotFoundWithoutHistory() throws Exception {
+        // Given
+        when(curvePointService.findHistory(eq(1), isNull(), isNull()))
+                .thenThrow(new ResourceNotFoundException("No curve history has been loaded"));
+
+        // When & Then
+        mockMvc.perform(get("/curve/history").param("curveId", "1").param("term", "2"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,96 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.poseidoncapitalsolutions.trading.curve.Curve;
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshot;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.CurveService;
+
+@WebMvcTest(CurveInterpolationController.class)
+public class CurveInterpolationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CurveService curveService;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void interpolateShouldReturnTheValues() throws Exception {
+        // Given
+        Curve curve = Curve.of(new double[] { 1, 2.5 }, new double[] { 0.02, 0.025 });
+        when(curveService.getSnapshot(eq(1), isNull()))
+                .thenReturn(new CurveSnapshot(1, Timestamp.valueOf("2025-01-02 00:00:00"), 5, curve));
+
+        // When & Then
+        mockMvc.perform(post("/curve/interpolate").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"curveId\":1,\"method\":\"CUBIC_SPLINE\",\"terms\":[1.0,2.5]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.curveId").value(1))
+                .andExpect(jsonPath("$.version").value(5))
+                .andExpect(jsonPath("$.method").value("CUBIC_SPLINE"))
+                .andExpect(jsonPath("$.values[1]").value(0.025));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void interpolateShouldReturnNotFoundForUnknownCurve() throws Exception {
+        // Given
+        when(curveService.getSnapshot(eq(9), isNull()))
+                .thenThrow(new ResourceNotFoundException("Curve with id 9 not found"));
+
+        // When & Then
+        mockMvc.perform(post("/curve/interpolate").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"curveId\":9,\"method\":\"LINEAR\",\"terms\":[1.0]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void interpolateShouldReturnBadRequestForUnsupportedMethod() throws Exception {
+        // Given
+        Curve curve = Curve.of(new double[] { 1, 2 }, new double[] { -0.01, 0.01 });
+        when(curveService.getSnapshot(eq(1), isNull())).thenReturn(new CurveSnapshot(1, null, 5, curve));
+
+        // When & Then
+        mockMvc.perform(post("/curve/interpolate").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"curveId\":1,\"method\":\"LOG_LINEAR\",\"terms\":[1.0]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void interpolateShouldRejectRequestWithoutTerms() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/curve/interpolate").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"curveId\":1,\"method\":\"LINEAR\",\"terms\":[]}"))
+                .andExpect(status().isBadRequest());
+        verify(curveService, never()).getSnapshot(anyInt(), any());
+    }
+}
@@ -0,0 +1,85 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.poseidoncapitalsolutions.trading.dto.OrderBookDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookLevel;
+import com.poseidoncapitalsolutions.trading.service.OrderBookService;
+
+@WebMvcTest(OrderBookController.class)
+public class OrderBookControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderBookService orderBookService;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getOrderBookShouldReturnTheLevels() throws Exception {
+        // Given
+        when(orderBookService.getOrderBook("Security", 5)).thenReturn(new OrderBookDTO("Security", 99.0, 101.0,
+                2.0, List.of(new OrderBookLevel(99.0, 10.0, 2)), List.of(new OrderBookLevel(101.0, 5.0, 1))));
+
+        // When & Then
+        mockMvc.perform(get("/orderbook").param("security", "Security").param("depth", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spread").value(2.0))
+                .andExpect(jsonPath("$.bids[0].quantity").value(10.0))
+                .andExpect(jsonPath("$.bids[0].orders").value(2))
+                .andExpect(jsonPath("$.asks[0].price").value(101.0));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getOrderBookShouldReturnNotFoundWithoutQuotes() throws Exception {
+        // Given
+        when(orderBookService.getOrderBook("Unknown", 10))
+                .thenThrow(new ResourceNotFoundException("Order book not found"));
+
+        // When & Then
+        mockMvc.perform(get("/orderbook").param("security", "Unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getSecuritiesShouldListTheBooks() throws Exception {
+        // Given
+        when(orderBookService.getSecurities()).thenReturn(List.of("Security"));
+
+        // When & Then
+        mockMvc.perform(get("/orderbooks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Security"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void rebuildShouldReturnTheNumberOfQuotes() throws Exception {
+        // Given
+        when(orderBookService.rebuild()).thenReturn(7);
+
+        // When & Then
+        mockMvc.perform(post("/orderbook/rebuild").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("7"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.poseidoncapitalsolutions.trading.dto.PositionDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.PositionService;
+
+@WebMvcTest(PositionController.class)
+public class PositionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PositionService positionService;
+
+    private PositionDTO position() {
+        return new PositionDTO("Account", "Book", null, 2, 60, 10, 80, 100, 10, 40, 12);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getPositionShouldReturnThePosition() throws Exception {
+        // Given
+        when(positionService.getPosition("Account", "Book", null)).thenReturn(position());
+
+        // When & Then
+        mockMvc.perform(get("/position").param("account", "Account").param("book", "Book"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.netQuantity").value(60.0))
+                .andExpect(jsonPath("$.realizedPnl").value(80.0));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getPositionShouldReturnNotFoundWithoutTrades() throws Exception {
+        // Given
+        when(positionService.getPosition("Unknown", null, null))
+                .thenThrow(new ResourceNotFoundException("Position not found"));
+
+        // When & Then
+        mockMvc.perform(get("/position").param("account", "Unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void findAllShouldReturnThePositions() throws Exception {
+        // Given
+        when(positionService.findAll(isNull())).thenReturn(List.of(position()));
+
+        // When & Then
+        mockMvc.perform(get("/positions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].account").value("Account"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void rebuildShouldReturnTheNumberOfTrades() throws Exception {
+        // Given
+        when(positionService.rebuild()).thenReturn(12);
+
+        // When & Then
+        mockMvc.perform(post("/position/rebuild").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("12"));
+    }
+}
@@ -21,6 +21,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -72,17 +76,16 @@ public class RatingControllerTest {
     @WithMockUser(username = "admin", roles = "ADMIN")
     void homeShouldReturnRatingListPage() throws Exception {
         // Given
-        List<Rating> ratings = new ArrayList<>();
-        ratings.add(rating);
-        when(ratingService.findAll()).thenReturn(ratings);
-        when(ratingService.getListResponseDTO(ratings)).thenReturn(ratingDTOs);
+        Page<RatingDTO> page = new PageImpl<>(ratingDTOs, PageRequest.of(0, 20), 1);
+        when(ratingService.findListPage(any(), any(Pageable.class))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/rating/list"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("rating/list"))
                 .andExpect(model().attributeExists("ratings"))
-                .andExpect(model().attribute("ratings", ratingDTOs));
+                .andExpect(model().attribute("ratings", ratingDTOs))
+                .andExpect(model().attribute("page", page));
     }
 
     @Test
@@ -0,0 +1,65 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.poseidoncapitalsolutions.trading.dto.RatingGradeDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.service.RatingService;
+
+@WebMvcTest(RatingScaleController.class)
+public class RatingScaleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RatingService ratingService;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getGradeShouldReturnTheEquivalentRatings() throws Exception {
+        // Given
+        when(ratingService.findGrade("moodys", "Aa1"))
+                .thenReturn(new RatingGradeDTO("MOODYS", "Aa1", 2, "Aa1", "AA+", "AA+", 3));
+
+        // When & Then
+        mockMvc.perform(get("/rating/scale").param("agency", "moodys").param("rating", "Aa1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderNumber").value(2))
+                .andExpect(jsonPath("$.sandPRating").value("AA+"))
+                .andExpect(jsonPath("$.fitchRating").value("AA+"))
+                .andExpect(jsonPath("$.scaleVersion").value(3));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getGradeShouldReturnNotFoundForAnUnknownRating() throws Exception {
+        // Given
+        when(ratingService.findGrade("fitch", "ZZZ")).thenThrow(new ResourceNotFoundException("Rating not found"));
+
+        // When & Then
+        mockMvc.perform(get("/rating/scale").param("agency", "fitch").param("rating", "ZZZ"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getGradeShouldReturnBadRequestForAnUnknownAgency() throws Exception {
+        // Given
+        when(ratingService.findGrade("dbrs", "AAA")).thenThrow(new IllegalArgumentException("Unknown rating agency"));
+
+        // When & Then
+        mockMvc.perform(get("/rating/scale").param("agency", "dbrs").param("rating", "AAA"))
+                .andExpect(status().isBadRequest());
+    }
+}
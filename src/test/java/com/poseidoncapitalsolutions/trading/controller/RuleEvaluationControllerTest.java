@@ -0,0 +1,132 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.poseidoncapitalsolutions.trading.dto.RuleBatchReportDTO;
+import com.poseidoncapitalsolutions.trading.dto.RuleCostDTO;
+import com.poseidoncapitalsolutions.trading.dto.RuleQueryResultDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.rule.RuleSyntaxException;
+import com.poseidoncapitalsolutions.trading.service.RuleEvaluationService;
+import com.poseidoncapitalsolutions.trading.service.RuleQueryService;
+import com.poseidoncapitalsolutions.trading.service.RuleReportService;
+
+@WebMvcTest(RuleEvaluationController.class)
+public class RuleEvaluationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RuleEvaluationService ruleEvaluationService;
+
+    @MockitoBean
+    private RuleQueryService ruleQueryService;
+
+    @MockitoBean
+    private RuleReportService ruleReportService;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void evaluateShouldReturnTheReport() throws Exception {
+        // Given
+        when(ruleEvaluationService.evaluateAll()).thenReturn(new RuleBatchReportDTO(
+                new Timestamp(System.currentTimeMillis()), 1000, 3, 20, 50000,
+                List.of(new RuleCostDTO(1, "Large trades", 3, 1.5, 1500, null))));
+
+        // When & Then
+        mockMvc.perform(post("/rules/evaluate").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trades").value(1000))
+                .andExpect(jsonPath("$.rules[0].ruleId").value(1))
+                .andExpect(jsonPath("$.rules[0].nanosPerTrade").value(1500.0));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void queryShouldReturnTheRows() throws Exception {
+        // Given
+        when(ruleQueryService.query(1)).thenReturn(new RuleQueryResultDTO(1, 0, List.of("account", "buyQuantity"),
+                List.of(List.of("Account", 10.0)), false, new Timestamp(System.currentTimeMillis())));
+
+        // When & Then
+        mockMvc.perform(get("/rules/1/rows"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[1]").value("buyQuantity"))
+                .andExpect(jsonPath("$.rows[0][0]").value("Account"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void queryShouldReturnBadRequestForAnInvalidQuery() throws Exception {
+        // Given
+        when(ruleQueryService.query(1)).thenThrow(new RuleSyntaxException("Table Users cannot be read by a rule"));
+
+        // When & Then
+        mockMvc.perform(get("/rules/1/rows"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void queryShouldReturnNotFoundForAnUnknownRule() throws Exception {
+        // Given
+        when(ruleQueryService.query(2)).thenThrow(new ResourceNotFoundException("RuleName with id 2 not found"));
+
+        // When & Then
+        mockMvc.perform(get("/rules/2/rows"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void reportShouldStreamTheRenderedLines() throws Exception {
+        // Given
+        when(ruleReportService.report(1, "Trade")).thenReturn(out -> {
+            out.write("1;Account1\n");
+            out.flush();
+            return 1;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/rules/1/report"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1;Account1\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void reportShouldReturnBadRequestForAnInvalidTemplate() throws Exception {
+        // Given
+        when(ruleReportService.report(1, "Rating"))
+                .thenThrow(new RuleSyntaxException("Reports are rendered for Trade or BidList, not Rating"));
+
+        // When & Then
+        mockMvc.perform(get("/rules/1/report").param("table", "Rating"))
+                .andExpect(status().isBadRequest());
+    }
+}
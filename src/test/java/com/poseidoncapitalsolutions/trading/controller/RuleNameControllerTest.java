@@ -21,6 +21,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -76,17 +80,16 @@ public class RuleNameControllerTest {
     @WithMockUser(username = "admin", roles = "ADMIN")
     void homeShouldReturnRuleNameListPage() throws Exception {
         // Given
-        List<RuleName> ruleNames = new ArrayList<>();
-        ruleNames.add(ruleName);
-        when(ruleNameService.findAll()).thenReturn(ruleNames);
-        when(ruleNameService.getListResponseDTO(ruleNames)).thenReturn(ruleNameDTOs);
+        Page<RuleNameDTO> page = new PageImpl<>(ruleNameDTOs, PageRequest.of(0, 20), 1);
+        when(ruleNameService.findListPage(any(), any(Pageable.class))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/ruleName/list"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("ruleName/list"))
                 .andExpect(model().attributeExists("ruleNames"))
-                .andExpect(model().attribute("ruleNames", ruleNameDTOs));
+                .andExpect(model().attribute("ruleNames", ruleNameDTOs))
+                .andExpect(model().attribute("page", page));
     }
 
     @Test
@@ -26,6 +26,8 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.dto.KeysetPageDTO;
 import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
 import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
 import com.poseidoncapitalsolutions.trading.model.Trade;
@@ -43,6 +45,9 @@ public class TradeControllerTest {
     @MockitoBean
     private TradeMapper tradeMapper;
 
+    @MockitoBean
+    private BlotterHub blotterHub;
+
     private Trade trade;
     private TradeDTO tradeDTO;
     private List<TradeDTO> tradeDTOs;
@@ -70,17 +75,32 @@ public class TradeControllerTest {
     @WithMockUser(username = "admin", roles = "ADMIN")
     void homeShouldReturnTradeListPage() throws Exception {
         // Given
-        List<Trade> trades = new ArrayList<>();
-        trades.add(trade);
-        when(tradeService.findAll()).thenReturn(trades);
-        when(tradeService.getListResponseDTO(trades)).thenReturn(tradeDTOs);
+        KeysetPageDTO<TradeDTO> page = new KeysetPageDTO<>(tradeDTOs, 50, 0, null);
+        when(tradeService.findKeysetPage(0, 50)).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/trade/list"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("trade/list"))
                 .andExpect(model().attributeExists("trades"))
-                .andExpect(model().attribute("trades", tradeDTOs));
+                .andExpect(model().attribute("trades", tradeDTOs))
+                .andExpect(model().attribute("page", page));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void homeShouldForwardKeysetCursorToService() throws Exception {
+        // Given
+        KeysetPageDTO<TradeDTO> page = new KeysetPageDTO<>(tradeDTOs, 10, 1, 2);
+        when(tradeService.findKeysetPage(1, 10)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/trade/list").param("after", "1").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("trade/list"))
+                .andExpect(model().attribute("page", page));
+
+        verify(tradeService, times(1)).findKeysetPage(1, 10);
     }
 
     @Test
@@ -0,0 +1,109 @@
+package com.poseidoncapitalsolutions.trading.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.poseidoncapitalsolutions.trading.dto.TradeImportRejectDTO;
+import com.poseidoncapitalsolutions.trading.dto.TradeImportReportDTO;
+import com.poseidoncapitalsolutions.trading.service.TradeImportService;
+
+@WebMvcTest(TradeImportController.class)
+public class TradeImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TradeImportService tradeImportService;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void importTradesShouldImportCsvFile() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "trades.csv", "text/csv",
+                "account,type,buyQuantity\nAccount1,Type1,10\n".getBytes());
+        TradeImportReportDTO report = new TradeImportReportDTO(1, 1, 5, 400.0,
+                List.of(new TradeImportRejectDTO(3, "Account is required")));
+        when(tradeImportService.importCsv(any(InputStream.class))).thenReturn(report);
+
+        // When & Then
+        mockMvc.perform(multipart("/trade/import").file(file).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejects[0].row").value(3))
+                .andExpect(jsonPath("$.rejects[0].reason").value("Account is required"));
+        verify(tradeImportService, never()).importJson(any());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void importTradesShouldImportJsonFile() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "trades.json", "application/json", "[]".getBytes());
+        when(tradeImportService.importJson(any(InputStream.class)))
+                .thenReturn(new TradeImportReportDTO(0, 0, 1, 0.0, List.of()));
+
+        // When & Then
+        mockMvc.perform(multipart("/trade/import").file(file).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(0));
+        verify(tradeImportService, never()).importCsv(any());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void importTradesShouldRejectUnsupportedFormat() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "trades.xlsx", "application/octet-stream",
+                new byte[] { 1, 2, 3 });
+
+        // When & Then
+        mockMvc.perform(multipart("/trade/import").file(file).with(csrf()))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void importTradesShouldReturnBadRequestForMalformedFile() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "trades.csv", "text/csv", "account\n".getBytes());
+        when(tradeImportService.importCsv(any(InputStream.class)))
+                .thenThrow(new IllegalArgumentException("CSV header must contain the columns account, type and buyQuantity"));
+
+        // When & Then
+        mockMvc.perform(multipart("/trade/import").file(file).with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void importTradesShouldReturnBadRequestForMalformedJson() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "trades.json", "application/json", "[{".getBytes());
+        when(tradeImportService.importJson(any(InputStream.class)))
+                .thenThrow(new JsonParseException(null, "Unexpected end-of-input"));
+
+        // When & Then
+        mockMvc.perform(multipart("/trade/import").file(file).with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+}
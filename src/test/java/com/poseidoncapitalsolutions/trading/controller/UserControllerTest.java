@@ -21,6 +21,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -72,14 +76,17 @@ public class UserControllerTest {
     @WithMockUser(username = "admin", roles = "ADMIN")
     void homeShouldReturnUserListPage() throws Exception {
         // Given
-        when(userService.findAll()).thenReturn(users);
+        List<UserDTO> userDTOs = List.of(userDTO);
+        Page<UserDTO> page = new PageImpl<>(userDTOs, PageRequest.of(0, 20), 1);
+        when(userService.findListPage(any(), any(Pageable.class))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/user/list"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("user/list"))
                 .andExpect(model().attributeExists("users"))
-                .andExpect(model().attribute("users", users));
+                .andExpect(model().attribute("users", userDTOs))
+                .andExpect(model().attribute("page", page));
     }
 
     @Test
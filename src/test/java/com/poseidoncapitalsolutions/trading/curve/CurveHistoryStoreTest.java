@@ -0,0 +1,156 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CurveHistoryStoreTest {
+
+    private static final long DAY = 86_400_000L;
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("history.bin");
+    }
+
+    @Test
+    void rangeShouldReturnTheSeriesOfACurveBetweenTwoDates() throws IOException {
+        // Given
+        try (CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            for (int curveId = 1; curveId <= 3; curveId++) {
+                for (int day = 0; day < 10; day++) {
+                    writer.add(curveId, day * DAY, 1, curveId * 100 + day);
+                    writer.add(curveId, day * DAY, 2, curveId * 100 + day + 0.5);
+                }
+            }
+            writer.finish();
+        }
+        CurveHistoryStore store = CurveHistoryStore.open(file);
+
+        // When
+        CurveHistoryStore.Cursor cursor = store.range(2, 3 * DAY, 5 * DAY);
+
+        // Then
+        assertEquals(30, store.getSeriesCount());
+        assertEquals(60, store.getPointCount());
+        assertEquals(3, cursor.count());
+        for (int day = 3; day <= 5; day++) {
+            assertTrue(cursor.next());
+            assertEquals(day * DAY, cursor.asOfDate());
+            assertEquals(2, cursor.size());
+            assertEquals(1.0, cursor.term(0));
+            assertEquals(200.0 + day, cursor.value(0));
+            assertEquals(200.0 + day + 0.5, cursor.value(1));
+        }
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void rangeShouldBeEmptyForAnUnknownCurve() throws IOException {
+        // Given
+        try (CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            writer.add(1, 0, 1, 10);
+            writer.finish();
+        }
+
+        // When
+        CurveHistoryStore.Cursor cursor = CurveHistoryStore.open(file).range(2, null, null);
+
+        // Then
+        assertEquals(0, cursor.count());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void interpolateLinearShouldMatchTheCurve() throws IOException {
+        // Given
+        double[] terms = { 0.25, 1, 2, 5, 10, 30 };
+        double[] values = { 0.01, 0.015, 0.02, 0.025, 0.03, 0.028 };
+        try (CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            for (int i = 0; i < terms.length; i++) {
+                writer.add(1, 0, terms[i], values[i]);
+            }
+            writer.finish();
+        }
+        CurveHistoryStore.Cursor cursor = CurveHistoryStore.open(file).range(1, null, null);
+        assertTrue(cursor.next());
+        Curve curve = Curve.of(terms, values);
+
+        // When & Then
+        for (double term = 0; term <= 35; term += 0.5) {
+            assertEquals(curve.interpolate(term, InterpolationMethod.LINEAR), cursor.interpolateLinear(term), 1e-15);
+        }
+        assertEquals(curve.interpolate(7, InterpolationMethod.CUBIC_SPLINE),
+                cursor.toCurve().interpolate(7, InterpolationMethod.CUBIC_SPLINE), 1e-15);
+    }
+
+    @Test
+    void addShouldKeepTheLastPointOfARepeatedTerm() throws IOException {
+        // Given
+        try (CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            writer.add(1, 0, 1, 10);
+            writer.add(1, 0, 1, 11);
+            writer.finish();
+        }
+
+        // When
+        CurveHistoryStore.Cursor cursor = CurveHistoryStore.open(file).range(1, null, null);
+
+        // Then
+        assertTrue(cursor.next());
+        assertEquals(1, cursor.size());
+        assertEquals(11.0, cursor.value(0));
+    }
+
+    @Test
+    void addShouldRejectUnsortedPoints() throws IOException {
+        try (CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            writer.add(2, 0, 1, 10);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> writer.add(1, 0, 1, 10));
+            assertThrows(IllegalArgumentException.class, () -> writer.add(2, 0, 0.5, 10));
+            assertThrows(IllegalArgumentException.class, () -> writer.add(2, 0, 2, Double.NaN));
+        }
+    }
+
+    @Test
+    void closeShouldDiscardAnUnfinishedFile() throws IOException {
+        // Given
+        Files.writeString(file, "previous");
+
+        // When
+        try (CurveHistoryWriter writer = new CurveHistoryWriter(file)) {
+            writer.add(1, 0, 1, 10);
+        }
+
+        // Then
+        assertEquals("previous", Files.readString(file));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void openShouldRejectAnotherFile() throws IOException {
+        // Given
+        Files.write(file, new byte[64]);
+
+        // When & Then
+        assertThrows(IOException.class, () -> CurveHistoryStore.open(file));
+    }
+}
@@ -0,0 +1,189 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.repository.CurvePointRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class CurveSnapshotCacheTest {
+
+    @Mock
+    private CurvePointRepository curvePointRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CurveSnapshotCache curveSnapshotCache;
+    private Timestamp asOfDate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        curveSnapshotCache = new CurveSnapshotCache(curvePointRepository, meterRegistry, 2);
+        asOfDate = Timestamp.valueOf("2025-01-02 00:00:00");
+    }
+
+    @Test
+    void getShouldBuildTheSnapshotOnceAndReuseIt() {
+        // Given
+        when(curvePointRepository.findCurveNodes(1, asOfDate)).thenReturn(List.of(new CurveNode(1, 10)));
+
+        // When
+        CurveSnapshot first = curveSnapshotCache.get(1, asOfDate);
+        CurveSnapshot second = curveSnapshotCache.get(1, asOfDate);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(asOfDate, first.asOfDate());
+        verify(curvePointRepository, times(1)).findCurveNodes(1, asOfDate);
+        assertEquals(1, meterRegistry.get(CurveSnapshotCache.REBUILD_METRIC).tag("cause", "miss").timer().count());
+    }
+
+    @Test
+    void getShouldResolveTheLatestDate() {
+        // Given
+        when(curvePointRepository.findLatestAsOfDate(1)).thenReturn(asOfDate);
+        when(curvePointRepository.findCurveNodes(1, asOfDate)).thenReturn(List.of(new CurveNode(1, 10)));
+
+        // When
+        CurveSnapshot snapshot = curveSnapshotCache.get(1, null);
+
+        // Then
+        assertEquals(asOfDate, snapshot.asOfDate());
+        assertEquals(1, snapshot.curve().size());
+    }
+
+    @Test
+    void getShouldReturnAnEmptySnapshotForACurveWithoutPoints() {
+        // Given
+        when(curvePointRepository.findLatestAsOfDate(9)).thenReturn(null);
+
+        // When
+        CurveSnapshot snapshot = curveSnapshotCache.get(9, null);
+
+        // Then
+        assertTrue(snapshot.isEmpty());
+    }
+
+    @Test
+    void publishShouldSwapInANewerSnapshotWithoutChangingTheOldOne() {
+        // Given
+        when(curvePointRepository.findCurveNodes(1, asOfDate))
+                .thenReturn(List.of(new CurveNode(1, 10)))
+                .thenReturn(List.of(new CurveNode(1, 10)))
+                .thenReturn(List.of(new CurveNode(1, 20)));
+        when(curvePointRepository.findLatestAsOfDate(1)).thenReturn(asOfDate);
+        CurveSnapshot before = curveSnapshotCache.get(1, asOfDate);
+        curveSnapshotCache.get(1, null);
+
+        // When
+        curveSnapshotCache.publish(1, asOfDate);
+
+        // Then
+        CurveSnapshot after = curveSnapshotCache.get(1, asOfDate);
+        assertNotSame(before, after);
+        assertTrue(after.version() > before.version());
+        assertEquals(10.0, before.curve().interpolate(1, InterpolationMethod.LINEAR));
+        assertEquals(20.0, after.curve().interpolate(1, InterpolationMethod.LINEAR));
+        assertEquals(2, meterRegistry.get(CurveSnapshotCache.REBUILD_METRIC).tag("cause", "write").timer().count());
+    }
+
+    @Test
+    void getShouldReadAgainAfterAWriteCommittedDuringTheMiss() {
+        // Given
+        when(curvePointRepository.findCurveNodes(1, asOfDate))
+                .thenAnswer(invocation -> {
+                    curveSnapshotCache.publish(1, asOfDate);
+                    return List.of(new CurveNode(1, 10));
+                })
+                .thenReturn(List.of(new CurveNode(1, 20)));
+
+        // When
+        CurveSnapshot snapshot = curveSnapshotCache.get(1, asOfDate);
+
+        // Then
+        assertEquals(20.0, snapshot.curve().interpolate(1, InterpolationMethod.LINEAR));
+        assertSame(snapshot, curveSnapshotCache.get(1, asOfDate));
+        verify(curvePointRepository, times(2)).findCurveNodes(1, asOfDate);
+    }
+
+    @Test
+    void publishShouldWaitForTheTransactionToCommit() {
+        // Given
+        when(curvePointRepository.findCurveNodes(1, asOfDate)).thenReturn(List.of(new CurveNode(1, 10)));
+        curveSnapshotCache.get(1, asOfDate);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            curveSnapshotCache.publish(1, asOfDate);
+
+            // Then
+            verify(curvePointRepository, times(1)).findCurveNodes(1, asOfDate);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            verify(curvePointRepository, times(2)).findCurveNodes(1, asOfDate);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publishShouldIgnorePointsOutsideACurve() {
+        // When
+        curveSnapshotCache.publish(null, asOfDate);
+        curveSnapshotCache.publish(1, null);
+
+        // Then
+        assertEquals(0, curveSnapshotCache.size());
+    }
+
+    @Test
+    void publishShouldNotAddSnapshotsNobodyRead() {
+        // When
+        curveSnapshotCache.publish(1, asOfDate);
+
+        // Then
+        assertEquals(0, curveSnapshotCache.size());
+        verify(curvePointRepository, never()).findCurveNodes(1, asOfDate);
+        verify(curvePointRepository, never()).findLatestAsOfDate(1);
+    }
+
+    @Test
+    void getShouldKeepTheSnapshotsReadMostBeyondTheMaximumSize() {
+        // Given
+        when(curvePointRepository.findLatestAsOfDate(anyInt())).thenReturn(null);
+        CurveSnapshot first = curveSnapshotCache.get(1, null);
+        for (int i = 0; i < 10; i++) {
+            curveSnapshotCache.get(1, null);
+        }
+
+        // When
+        for (int curveId = 2; curveId <= 10; curveId++) {
+            curveSnapshotCache.get(curveId, null);
+        }
+
+        // Then
+        assertEquals(2, curveSnapshotCache.size());
+        assertSame(first, curveSnapshotCache.get(1, null));
+        assertEquals(2.0, meterRegistry.get(CurveSnapshotCache.SIZE_METRIC).gauge().value());
+    }
+}
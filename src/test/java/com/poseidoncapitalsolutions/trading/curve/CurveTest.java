@@ -0,0 +1,137 @@
+package com.poseidoncapitalsolutions.trading.curve;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CurveTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    private final Curve curve = Curve.of(new double[] { 1, 2, 5, 10 }, new double[] { 0.02, 0.025, 0.03, 0.035 });
+
+    @Test
+    void linearShouldInterpolateBetweenNeighbours() {
+        // When & Then
+        assertEquals(0.0225, curve.interpolate(1.5, InterpolationMethod.LINEAR), TOLERANCE);
+        assertEquals(0.0275, curve.interpolate(3.5, InterpolationMethod.LINEAR), TOLERANCE);
+        assertEquals(0.03, curve.interpolate(5, InterpolationMethod.LINEAR), TOLERANCE);
+    }
+
+    @Test
+    void interpolateShouldBeFlatOutsideTheTerms() {
+        // When & Then
+        for (InterpolationMethod method : InterpolationMethod.values()) {
+            assertEquals(0.02, curve.interpolate(0.25, method), TOLERANCE);
+            assertEquals(0.035, curve.interpolate(30, method), TOLERANCE);
+        }
+    }
+
+    @Test
+    void logLinearShouldInterpolateTheLogarithms() {
+        // Given
+        Curve discountFactors = Curve.of(new double[] { 1, 3 }, new double[] { 0.9, 0.729 });
+
+        // When
+        double value = discountFactors.interpolate(2, InterpolationMethod.LOG_LINEAR);
+
+        // Then
+        assertEquals(0.81, value, TOLERANCE);
+    }
+
+    @Test
+    void logLinearShouldBeRejectedForNonPositiveValues() {
+        // Given
+        Curve spreads = Curve.of(new double[] { 1, 2 }, new double[] { -0.01, 0.01 });
+
+        // When & Then
+        assertFalse(spreads.supports(InterpolationMethod.LOG_LINEAR));
+        assertThrows(IllegalArgumentException.class, () -> spreads.interpolate(1.5, InterpolationMethod.LOG_LINEAR));
+        assertEquals(0.0, spreads.interpolate(1.5, InterpolationMethod.LINEAR), TOLERANCE);
+    }
+
+    @Test
+    void cubicSplineShouldMatchTheNaturalSpline() {
+        // Given
+        Curve hump = Curve.of(new double[] { 0, 1, 2 }, new double[] { 0, 1, 0 });
+
+        // When & Then
+        assertEquals(0.6875, hump.interpolate(0.5, InterpolationMethod.CUBIC_SPLINE), TOLERANCE);
+        assertEquals(0.6875, hump.interpolate(1.5, InterpolationMethod.CUBIC_SPLINE), TOLERANCE);
+        assertEquals(1.0, hump.interpolate(1, InterpolationMethod.CUBIC_SPLINE), TOLERANCE);
+    }
+
+    @Test
+    void cubicSplineShouldReproduceAStraightLine() {
+        // Given
+        Curve line = Curve.of(new double[] { 0, 1, 3, 4 }, new double[] { 1, 3, 7, 9 });
+
+        // When & Then
+        assertEquals(6.0, line.interpolate(2.5, InterpolationMethod.CUBIC_SPLINE), TOLERANCE);
+    }
+
+    @Test
+    void bulkInterpolateShouldMatchSingleLookupsInAnyOrder() {
+        // Given
+        Random random = new Random(42);
+        double[] terms = new double[1000];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = random.nextDouble() * 12;
+        }
+        double[] sorted = terms.clone();
+        Arrays.sort(sorted);
+
+        for (InterpolationMethod method : InterpolationMethod.values()) {
+            // When
+            double[] values = curve.interpolate(terms, method);
+            double[] sortedValues = curve.interpolate(sorted, method);
+
+            // Then
+            for (int i = 0; i < terms.length; i++) {
+                assertEquals(curve.interpolate(terms[i], method), values[i], TOLERANCE);
+                assertEquals(curve.interpolate(sorted[i], method), sortedValues[i], TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    void singlePointCurveShouldBeConstant() {
+        // Given
+        Curve point = Curve.of(new double[] { 5 }, new double[] { 99.5 });
+
+        // When & Then
+        assertEquals(99.5, point.interpolate(1, InterpolationMethod.CUBIC_SPLINE), TOLERANCE);
+        assertArrayEquals(new double[] { 99.5, 99.5 },
+                point.interpolate(new double[] { 0, 10 }, InterpolationMethod.LINEAR), TOLERANCE);
+    }
+
+    @Test
+    void fromSortedNodesShouldKeepTheLastPointOfATerm() {
+        // Given
+        List<CurveNode> nodes = List.of(new CurveNode(1, 1), new CurveNode(2, 2), new CurveNode(2, 4));
+
+        // When
+        Curve fromNodes = Curve.fromSortedNodes(nodes);
+
+        // Then
+        assertArrayEquals(new double[] { 1, 2 }, fromNodes.getTerms());
+        assertArrayEquals(new double[] { 1, 4 }, fromNodes.getValues());
+    }
+
+    @Test
+    void ofShouldRejectInvalidPoints() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> Curve.of(new double[0], new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> Curve.of(new double[] { 1, 2 }, new double[] { 1 }));
+        assertThrows(IllegalArgumentException.class, () -> Curve.of(new double[] { 2, 1 }, new double[] { 1, 1 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> Curve.of(new double[] { 1, 2 }, new double[] { 1, Double.NaN }));
+    }
+}
@@ -0,0 +1,143 @@
+package com.poseidoncapitalsolutions.trading.orderbook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderBookRegistryTest {
+
+    @Mock
+    private BidListRepository bidListRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderBookRegistry orderBookRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderBookRegistry = new OrderBookRegistry(bidListRepository, meterRegistry);
+    }
+
+    private static BidListQuote bid(int id, String security, double price, double quantity) {
+        return new BidListQuote(id, security, price, quantity, null, null);
+    }
+
+    @Test
+    void postShouldReplaceThePreviousQuoteOfABidList() {
+        // Given
+        orderBookRegistry.post(bid(1, "Security", 99, 10));
+        orderBookRegistry.post(bid(2, "Security", 98, 5));
+
+        // When
+        orderBookRegistry.post(bid(1, "Security", 97, 20));
+
+        // Then
+        OrderBook book = orderBookRegistry.get("Security");
+        assertEquals(98.0, book.bestBid().getAsDouble());
+        assertEquals(List.of(new OrderBookLevel(98, 5, 1), new OrderBookLevel(97, 20, 1)), book.bids(10));
+    }
+
+    @Test
+    void postShouldMoveABidListToAnotherSecurity() {
+        // Given
+        orderBookRegistry.post(bid(1, "Security", 99, 10));
+
+        // When
+        orderBookRegistry.post(bid(1, "Other", 99, 10));
+
+        // Then
+        assertNull(orderBookRegistry.get("Security"));
+        assertEquals(List.of("Other"), orderBookRegistry.getSecurities());
+    }
+
+    @Test
+    void removeShouldDropEmptyBooks() {
+        // Given
+        orderBookRegistry.post(bid(1, "Security", 99, 10));
+        orderBookRegistry.post(new BidListQuote(2, null, 99.0, 10.0, null, null));
+
+        // When
+        orderBookRegistry.remove(1);
+        orderBookRegistry.remove(1);
+        orderBookRegistry.remove(2);
+
+        // Then
+        assertNull(orderBookRegistry.get("Security"));
+        assertEquals(0.0, meterRegistry.get(OrderBookRegistry.SIZE_METRIC).gauge().value());
+    }
+
+    @Test
+    void postShouldWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            orderBookRegistry.post(bid(1, "Security", 99, 10));
+
+            // Then
+            assertNull(orderBookRegistry.get("Security"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(99.0, orderBookRegistry.get("Security").bestBid().getAsDouble());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuildShouldReplaceTheBooksWithTheDatabaseQuotes() {
+        // Given
+        orderBookRegistry.post(bid(1, "Stale", 99, 10));
+        when(bidListRepository.findQuotes()).thenReturn(List.of(bid(1, "Security", 99, 10),
+                new BidListQuote(2, "Security", 98.0, 5.0, 101.0, 3.0)));
+
+        // When
+        int quotes = orderBookRegistry.rebuild();
+
+        // Then
+        assertEquals(2, quotes);
+        assertEquals(List.of("Security"), orderBookRegistry.getSecurities());
+        assertEquals(101.0, orderBookRegistry.get("Security").bestAsk().getAsDouble());
+        orderBookRegistry.post(bid(1, "Security", 99, 10));
+        assertEquals(List.of(new OrderBookLevel(99, 10, 1), new OrderBookLevel(98, 5, 1)),
+                orderBookRegistry.get("Security").bids(10));
+        assertEquals(1, meterRegistry.get(OrderBookRegistry.REBUILD_METRIC).timer().count());
+    }
+
+    @Test
+    void rebuildShouldKeepServingThePreviousBooksUntilItIsDone() {
+        // Given
+        orderBookRegistry.post(bid(1, "Security", 99, 10));
+        OrderBook previous = orderBookRegistry.get("Security");
+        when(bidListRepository.findQuotes()).thenAnswer(invocation -> {
+            List<BidListQuote> all = List.of(bid(1, "Security", 98, 10), bid(2, "Other", 97, 5));
+            assertSame(previous, orderBookRegistry.get("Security"));
+            return all;
+        });
+
+        // When
+        orderBookRegistry.rebuild();
+
+        // Then
+        assertNotSame(previous, orderBookRegistry.get("Security"));
+        assertEquals(99.0, previous.bestBid().getAsDouble());
+        assertEquals(98.0, orderBookRegistry.get("Security").bestBid().getAsDouble());
+        assertEquals(2.0, meterRegistry.get(OrderBookRegistry.SIZE_METRIC).gauge().value());
+    }
+}
@@ -0,0 +1,120 @@
+package com.poseidoncapitalsolutions.trading.orderbook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OrderBookTest {
+
+    private OrderBook book;
+
+    @BeforeEach
+    void setUp() {
+        book = new OrderBook("Security");
+    }
+
+    private static BidListQuote quote(int id, Double bid, Double bidQuantity, Double ask, Double askQuantity) {
+        return new BidListQuote(id, "Security", bid, bidQuantity, ask, askQuantity);
+    }
+
+    @Test
+    void addShouldAggregateOrdersByPriceBestFirst() {
+        // When
+        book.add(quote(1, 99.5, 10.0, 100.5, 5.0));
+        book.add(quote(2, 99.0, 20.0, 101.0, 7.0));
+        book.add(quote(3, 99.5, 30.0, null, null));
+        book.add(quote(4, null, null, 100.0, 1.0));
+
+        // Then
+        assertEquals(99.5, book.bestBid().getAsDouble());
+        assertEquals(100.0, book.bestAsk().getAsDouble());
+        assertEquals(List.of(new OrderBookLevel(99.5, 40.0, 2), new OrderBookLevel(99.0, 20.0, 1)), book.bids(10));
+        assertEquals(List.of(new OrderBookLevel(100.0, 1.0, 1), new OrderBookLevel(100.5, 5.0, 1)), book.asks(2));
+        assertEquals(40.0, book.bidQuantityAt(99.5));
+        assertEquals(0.0, book.askQuantityAt(99.5));
+        assertEquals(2, book.bidLevelsThrough(99.0));
+        assertEquals(2, book.askLevelsThrough(100.7));
+    }
+
+    @Test
+    void addShouldIgnoreSidesWithoutPriceOrQuantity() {
+        // When
+        book.add(quote(1, 99.0, 0.0, 101.0, null));
+
+        // Then
+        assertTrue(book.isEmpty());
+        assertFalse(book.bestBid().isPresent());
+        assertFalse(book.bestAsk().isPresent());
+    }
+
+    @Test
+    void removeShouldDropALevelWithItsLastOrder() {
+        // Given
+        BidListQuote first = quote(1, 99.0, 10.0, 101.0, 5.0);
+        BidListQuote second = quote(2, 99.0, 20.0, null, null);
+        book.add(first);
+        book.add(second);
+
+        // When
+        book.remove(first);
+
+        // Then
+        assertEquals(List.of(new OrderBookLevel(99.0, 20.0, 1)), book.bids(10));
+        assertFalse(book.bestAsk().isPresent());
+        book.remove(second);
+        assertTrue(book.isEmpty());
+    }
+
+    @Test
+    void levelsShouldMatchASortedMapOverRandomUpdates() {
+        // Given
+        Random random = new Random(42);
+        List<BidListQuote> live = new ArrayList<>();
+        TreeMap<Double, Double> bids = new TreeMap<>();
+        TreeMap<Double, Double> asks = new TreeMap<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                BidListQuote removed = live.remove(random.nextInt(live.size()));
+                book.remove(removed);
+                bids.merge(removed.bid(), -removed.bidQuantity(), Double::sum);
+                asks.merge(removed.ask(), -removed.askQuantity(), Double::sum);
+            } else {
+                BidListQuote added = quote(i, 90 + random.nextInt(100) / 10.0, 1.0 + random.nextInt(5),
+                        100 + random.nextInt(100) / 10.0, 1.0 + random.nextInt(5));
+                live.add(added);
+                book.add(added);
+                bids.merge(added.bid(), added.bidQuantity(), Double::sum);
+                asks.merge(added.ask(), added.askQuantity(), Double::sum);
+            }
+        }
+
+        // Then
+        bids.values().removeIf(quantity -> quantity == 0);
+        asks.values().removeIf(quantity -> quantity == 0);
+        assertLevels(bids.descendingMap(), book.bids(Integer.MAX_VALUE));
+        assertLevels(asks, book.asks(Integer.MAX_VALUE));
+        assertEquals(bids.lastKey(), book.bestBid().getAsDouble());
+        assertEquals(asks.firstKey(), book.bestAsk().getAsDouble());
+    }
+
+    private static void assertLevels(Map<Double, Double> expected, List<OrderBookLevel> levels) {
+        assertEquals(expected.size(), levels.size());
+        int i = 0;
+        for (Map.Entry<Double, Double> entry : expected.entrySet()) {
+            assertEquals(entry.getKey(), levels.get(i).price());
+            assertEquals(entry.getValue(), levels.get(i).quantity(), 1e-9);
+            i++;
+        }
+    }
+}
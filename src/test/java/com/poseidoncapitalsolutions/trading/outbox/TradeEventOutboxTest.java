@@ -0,0 +1,78 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poseidoncapitalsolutions.trading.model.TradeEvent;
+import com.poseidoncapitalsolutions.trading.position.TradeLeg;
+import com.poseidoncapitalsolutions.trading.repository.TradeEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TradeEventOutboxTest {
+
+    @Mock
+    private TradeEventRepository tradeEventRepository;
+
+    @Mock
+    private TradeEventPublisher tradeEventPublisher;
+
+    private TradeEventOutbox tradeEventOutbox;
+    private TradeLeg leg;
+
+    @BeforeEach
+    void setUp() {
+        tradeEventOutbox = new TradeEventOutbox(tradeEventRepository, tradeEventPublisher, new ObjectMapper());
+        leg = new TradeLeg(7, "Account", "Book", "Security", 100.0, null, 10.0, null);
+    }
+
+    @Test
+    void appendShouldSaveTheEventWithTheTradeAsJson() throws Exception {
+        // When
+        tradeEventOutbox.append(TradeEventType.CREATED, leg);
+
+        // Then
+        ArgumentCaptor<TradeEvent> captor = ArgumentCaptor.forClass(TradeEvent.class);
+        verify(tradeEventRepository).save(captor.capture());
+        TradeEvent event = captor.getValue();
+        assertEquals(7, event.getTradeId());
+        assertEquals(TradeEventType.CREATED, event.getType());
+        assertEquals(leg, new ObjectMapper().readValue(event.getPayload(), TradeLeg.class));
+        verify(tradeEventPublisher).wakeUp();
+    }
+
+    @Test
+    void appendShouldWakeThePublisherOnceAfterTheCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            tradeEventOutbox.append(TradeEventType.CREATED, leg);
+            tradeEventOutbox.append(TradeEventType.UPDATED, leg);
+
+            // Then
+            verify(tradeEventPublisher, never()).wakeUp();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization
+                    .afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            verify(tradeEventPublisher, times(1)).wakeUp();
+            assertEquals(false, TransactionSynchronizationManager.hasResource(tradeEventOutbox));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
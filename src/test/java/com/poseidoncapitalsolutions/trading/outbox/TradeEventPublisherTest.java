@@ -0,0 +1,137 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.poseidoncapitalsolutions.trading.repository.TradeEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class TradeEventPublisherTest {
+
+    @Mock
+    private TradeEventRepository tradeEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingSink sink;
+    private TradeEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        sink = new RecordingSink();
+        publisher = new TradeEventPublisher(tradeEventRepository, transactionManager, List.of(sink), meterRegistry,
+                2, Duration.ofSeconds(30), false);
+    }
+
+    private static OutboxEvent event(long sequence) {
+        return new OutboxEvent(sequence, 7, TradeEventType.CREATED, new Timestamp(1000), "{}");
+    }
+
+    @Test
+    void publishBatchShouldDeliverThenDeleteTheEvents() {
+        // Given
+        when(tradeEventRepository.findBatch(Limit.of(2))).thenReturn(List.of(event(1), event(2)));
+
+        // When
+        int published = publisher.publishBatch();
+
+        // Then
+        assertEquals(2, published);
+        assertEquals(List.of(event(1), event(2)), sink.received);
+        verify(tradeEventRepository).deleteByIds(List.of(1L, 2L));
+        assertEquals(2.0, meterRegistry.get(TradeEventPublisher.EVENTS_METRIC).tag("sink", "recording").counter().count());
+        assertEquals(1, meterRegistry.get(TradeEventPublisher.PUBLISH_METRIC).tag("sink", "recording").timer().count());
+    }
+
+    @Test
+    void publishBatchShouldKeepTheEventsWhenASinkFails() {
+        // Given
+        when(tradeEventRepository.findBatch(Limit.of(2))).thenReturn(List.of(event(1)));
+        sink.failure = new IOException("Broken pipe");
+
+        // When & Then
+        assertThrows(UncheckedIOException.class, () -> publisher.publishBatch());
+        verify(tradeEventRepository, never()).deleteByIds(any());
+        assertEquals(1.0, meterRegistry.get(TradeEventPublisher.FAILURES_METRIC).tag("sink", "recording").counter().count());
+    }
+
+    @Test
+    void publishBatchShouldDoNothingWithoutEvents() {
+        // Given
+        when(tradeEventRepository.findBatch(Limit.of(2))).thenReturn(List.of());
+
+        // When
+        int published = publisher.publishBatch();
+
+        // Then
+        assertEquals(0, published);
+        verify(tradeEventRepository, never()).deleteByIds(any());
+    }
+
+    @Test
+    void wakeUpShouldDeliverWithoutWaitingForThePollInterval() {
+        // Given
+        when(tradeEventRepository.findBatch(Limit.of(2))).thenReturn(List.of()).thenReturn(List.of(event(1)))
+                .thenReturn(List.of());
+        publisher.start();
+        try {
+            verify(tradeEventRepository, timeout(5000)).findBatch(Limit.of(2));
+
+            // When
+            publisher.wakeUp();
+
+            // Then
+            verify(tradeEventRepository, timeout(5000)).deleteByIds(List.of(1L));
+        } finally {
+            publisher.stop();
+        }
+        assertEquals(false, publisher.isRunning());
+    }
+
+    private static final class RecordingSink implements TradeEventSink {
+
+        private final List<OutboxEvent> received = new ArrayList<>();
+        private IOException failure;
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(List<OutboxEvent> events) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            received.addAll(events);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.poseidoncapitalsolutions.trading.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TradeEventSinkTest {
+
+    private static final OutboxEvent FIRST = new OutboxEvent(1, 7, TradeEventType.CREATED, new Timestamp(1000),
+            "{\"tradeId\":7}");
+    private static final OutboxEvent SECOND = new OutboxEvent(2, 7, TradeEventType.DELETED, new Timestamp(2000),
+            "{\"tradeId\":7}");
+
+    @Test
+    void toJsonShouldEmbedThePayload() {
+        assertEquals("{\"sequence\":1,\"tradeId\":7,\"type\":\"CREATED\",\"createdAt\":1000,\"trade\":{\"tradeId\":7}}",
+                FIRST.toJson());
+    }
+
+    @Test
+    void fileSinkShouldAppendOneLinePerEvent(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = directory.resolve("events/trades.jsonl");
+
+        // When
+        try (FileTradeEventSink sink = new FileTradeEventSink(file)) {
+            sink.publish(List.of(FIRST));
+            sink.publish(List.of(SECOND));
+        }
+
+        // Then
+        assertEquals(List.of(FIRST.toJson(), SECOND.toJson()), Files.readAllLines(file));
+    }
+
+    @Test
+    void socketSinkShouldStreamOneLinePerEvent() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+                SocketTradeEventSink sink = new SocketTradeEventSink(
+                        new InetSocketAddress(server.getInetAddress(), server.getLocalPort()))) {
+            // When
+            sink.publish(List.of(FIRST, SECOND));
+
+            // Then
+            try (Socket client = server.accept();
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8))) {
+                assertEquals(FIRST.toJson(), reader.readLine());
+                assertEquals(SECOND.toJson(), reader.readLine());
+            }
+        }
+    }
+}
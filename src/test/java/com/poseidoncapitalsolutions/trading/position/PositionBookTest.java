@@ -0,0 +1,162 @@
+package com.poseidoncapitalsolutions.trading.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class PositionBookTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PositionBook positionBook;
+    private PositionKey key;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        positionBook = new PositionBook(tradeRepository, meterRegistry);
+        key = new PositionKey("Account", "Book", "Security");
+    }
+
+    private static TradeLeg buy(int id, double quantity, double price) {
+        return new TradeLeg(id, "Account", "Book", "Security", quantity, null, price, null);
+    }
+
+    private static TradeLeg sell(int id, double quantity, double price) {
+        return new TradeLeg(id, "Account", "Book", "Security", null, quantity, null, price);
+    }
+
+    @Test
+    void postShouldAggregateNetPositionAveragePriceAndRealizedPnl() {
+        // When
+        positionBook.post(buy(1, 100, 10));
+        positionBook.post(buy(2, 100, 12));
+        positionBook.post(sell(3, 150, 13));
+
+        // Then
+        Position position = positionBook.get(key);
+        assertEquals(3, position.tradeCount());
+        assertEquals(50.0, position.netQuantity());
+        assertEquals(11.0, position.averagePrice(), 1e-12);
+        assertEquals(150 * (13 - 11.0), position.realizedPnl(), 1e-9);
+    }
+
+    @Test
+    void postShouldReplaceThePreviousLegOfATrade() {
+        // Given
+        positionBook.post(buy(1, 100, 10));
+
+        // When
+        positionBook.post(new TradeLeg(1, "Other", "Book", "Security", 40.0, null, 10.0, null));
+
+        // Then
+        assertNull(positionBook.get(key));
+        assertEquals(40.0, positionBook.get(new PositionKey("Other", "Book", "Security")).netQuantity());
+        assertEquals(1, positionBook.size());
+    }
+
+    @Test
+    void removeShouldDropTheTradeAndEmptyPositions() {
+        // Given
+        positionBook.post(buy(1, 100, 10));
+        positionBook.post(sell(2, 30, 11));
+
+        // When
+        positionBook.remove(2);
+        positionBook.remove(2);
+
+        // Then
+        assertEquals(100.0, positionBook.get(key).netQuantity());
+        positionBook.remove(1);
+        assertNull(positionBook.get(key));
+        assertEquals(0.0, meterRegistry.get(PositionBook.SIZE_METRIC).gauge().value());
+    }
+
+    @Test
+    void postShouldWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            positionBook.post(buy(1, 100, 10));
+
+            // Then
+            assertNull(positionBook.get(key));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            assertEquals(100.0, positionBook.get(key).netQuantity());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuildShouldMatchTheIncrementalPositions() {
+        // Given
+        Random random = new Random(42);
+        List<TradeLeg> legs = new ArrayList<>();
+        for (int id = 1; id <= 3 * PositionBook.REBUILD_SPLIT_SIZE; id++) {
+            TradeLeg leg = new TradeLeg(id, "Account" + random.nextInt(20), "Book" + random.nextInt(3),
+                    random.nextBoolean() ? null : "Security" + random.nextInt(5),
+                    (double) random.nextInt(1000), (double) random.nextInt(1000),
+                    random.nextBoolean() ? null : 50 + random.nextDouble(), 50 + random.nextDouble());
+            legs.add(leg);
+            positionBook.post(leg);
+        }
+        Map<PositionKey, Position> incremental = positionBook.getAll();
+        when(tradeRepository.findPositionLegs()).thenReturn(legs);
+
+        // When
+        int trades = positionBook.rebuild();
+
+        // Then
+        assertEquals(legs.size(), trades);
+        Map<PositionKey, Position> rebuilt = positionBook.getAll();
+        assertEquals(incremental.keySet(), rebuilt.keySet());
+        incremental.forEach((positionKey, position) -> {
+            Position other = rebuilt.get(positionKey);
+            assertEquals(position.tradeCount(), other.tradeCount());
+            assertEquals(position.netQuantity(), other.netQuantity(), 1e-6);
+            assertEquals(position.averagePrice(), other.averagePrice(), 1e-9);
+            assertEquals(position.realizedPnl(), other.realizedPnl(), 1e-3);
+        });
+        assertEquals(1, meterRegistry.get(PositionBook.REBUILD_METRIC).timer().count());
+    }
+
+    @Test
+    void rebuildShouldReplayTheWritesCommittedWhileReading() {
+        // Given
+        when(tradeRepository.findPositionLegs()).thenAnswer(invocation -> {
+            positionBook.post(buy(2, 50, 10));
+            positionBook.remove(1);
+            return List.of(buy(1, 100, 10));
+        });
+
+        // When
+        positionBook.rebuild();
+
+        // Then
+        Position position = positionBook.get(key);
+        assertEquals(1, position.tradeCount());
+        assertEquals(50.0, position.netQuantity());
+    }
+}
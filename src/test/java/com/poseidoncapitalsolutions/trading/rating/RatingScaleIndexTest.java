@@ -0,0 +1,135 @@
+package com.poseidoncapitalsolutions.trading.rating;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poseidoncapitalsolutions.trading.repository.RatingRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class RatingScaleIndexTest {
+
+    @Mock
+    private RatingRepository ratingRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RatingScaleIndex ratingScaleIndex;
+
+    private final RatingGrade aaa = new RatingGrade(1, 1, "Aaa", "AAA", "AAA");
+    private final RatingGrade aa1 = new RatingGrade(2, 2, "Aa1", "AA+", "AA+");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ratingScaleIndex = new RatingScaleIndex(ratingRepository, meterRegistry);
+    }
+
+    @Test
+    void currentShouldBeEmptyBeforeTheFirstRebuild() {
+        // When
+        RatingScale scale = ratingScaleIndex.current();
+
+        // Then
+        assertEquals(0, scale.size());
+        assertNull(scale.find(RatingAgency.MOODYS, "Aaa"));
+    }
+
+    @Test
+    void rebuildShouldTranslateARatingOfAnyAgency() {
+        // Given
+        when(ratingRepository.findGrades()).thenReturn(List.of(aaa, aa1));
+
+        // When
+        int grades = ratingScaleIndex.rebuild();
+
+        // Then
+        RatingScale scale = ratingScaleIndex.current();
+        assertEquals(2, grades);
+        assertSame(aa1, scale.find(RatingAgency.MOODYS, "Aa1"));
+        assertSame(aa1, scale.find(RatingAgency.SAND_P, " aa+ "));
+        assertSame(aaa, scale.find(RatingAgency.FITCH, "aaa"));
+        assertNull(scale.find(RatingAgency.MOODYS, "AA+"));
+        assertEquals(2.0, meterRegistry.get(RatingScaleIndex.SIZE_METRIC).gauge().value());
+        assertEquals(1, meterRegistry.get(RatingScaleIndex.REBUILD_METRIC).timer().count());
+    }
+
+    @Test
+    void rebuildShouldKeepTheFirstGradeOfADuplicatedRating() {
+        // Given
+        RatingGrade duplicate = new RatingGrade(3, 3, "Aaa", "AA", null);
+        when(ratingRepository.findGrades()).thenReturn(List.of(aaa, duplicate));
+
+        // When
+        ratingScaleIndex.rebuild();
+
+        // Then
+        RatingScale scale = ratingScaleIndex.current();
+        assertSame(aaa, scale.find(RatingAgency.MOODYS, "Aaa"));
+        assertSame(duplicate, scale.find(RatingAgency.SAND_P, "AA"));
+    }
+
+    @Test
+    void publishShouldSwapInANewerScaleWithoutChangingTheOldOne() {
+        // Given
+        when(ratingRepository.findGrades()).thenReturn(List.of(aaa)).thenReturn(List.of(aaa, aa1));
+        ratingScaleIndex.rebuild();
+        RatingScale before = ratingScaleIndex.current();
+
+        // When
+        ratingScaleIndex.publish();
+
+        // Then
+        RatingScale after = ratingScaleIndex.current();
+        assertTrue(after.version() > before.version());
+        assertNull(before.find(RatingAgency.MOODYS, "Aa1"));
+        assertSame(aa1, after.find(RatingAgency.MOODYS, "Aa1"));
+    }
+
+    @Test
+    void publishShouldWaitForTheTransactionToCommit() {
+        // Given
+        when(ratingRepository.findGrades()).thenReturn(List.of(aaa));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            ratingScaleIndex.publish();
+
+            // Then
+            verify(ratingRepository, never()).findGrades();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            verify(ratingRepository, times(1)).findGrades();
+            assertSame(aaa, ratingScaleIndex.current().find(RatingAgency.MOODYS, "Aaa"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void forNameShouldAcceptTheUsualSpellingsOfTheAgencies() {
+        // When & Then
+        assertEquals(RatingAgency.MOODYS, RatingAgency.forName("Moody's"));
+        assertEquals(RatingAgency.SAND_P, RatingAgency.forName("S&P"));
+        assertEquals(RatingAgency.SAND_P, RatingAgency.forName("sandP"));
+        assertEquals(RatingAgency.FITCH, RatingAgency.forName("FITCH"));
+        assertThrows(IllegalArgumentException.class, () -> RatingAgency.forName("dbrs"));
+    }
+}
@@ -0,0 +1,229 @@
+package com.poseidoncapitalsolutions.trading.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryRow;
+
+/**
+ * Runs every repository query against the Flyway schema and checks with
+ * EXPLAIN that the filtered ones seek an index rather than scan the table or
+ * a whole index. The schema is built on H2 in MySQL mode, so the check
+ * guards against missing indexes and unsargable predicates, not against MySQL
+ * optimizer choices. The queries meant to read a whole table are listed apart
+ * in {@link #fullReadsShouldBeTheIntendedOnes()}, with the reason of each.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;NON_KEYWORDS=VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.poseidoncapitalsolutions.trading.repository.QueryPlanTest$RecordingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class QueryPlanTest {
+
+    /** An index comment of an H2 plan with a condition, as in {@code PUBLIC.IDX: ACCOUNT >= 'A'}. */
+    private static final Pattern INDEX_SEEK = Pattern.compile("/\\* [\\w.]+: ");
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private BidListRepository bidListRepository;
+
+    @Autowired
+    private CurvePointRepository curvePointRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private RuleNameRepository ruleNameRepository;
+
+    @Autowired
+    private TradeEventRepository tradeEventRepository;
+
+    @Autowired
+    private TradeRepository tradeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Records the SQL of every statement Hibernate prepares.
+     */
+    public static class RecordingInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (statements) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    @Test
+    void filteredQueriesShouldSeekAnIndex() throws SQLException {
+        // Given
+        PageRequest page = PageRequest.of(1, 20, Sort.by("id"));
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        // When
+        tradeRepository.findListAfterId(0, Limit.of(20));
+        tradeRepository.findChunkAfterId(0, Limit.of(20));
+        tradeRepository.findById(1);
+        tradeRepository.findPositionLeg(1);
+        tradeRepository.updateEditableFields(1, "Account", "Type", 1.0, now);
+        bidListRepository.findListPage("Acc%", page);
+        bidListRepository.findChunkAfterId(0, Limit.of(20));
+        bidListRepository.findById(1);
+        bidListRepository.findQuote(1);
+        bidListRepository.updateEditableFields(1, "Account", "Type", 1.0, now);
+        curvePointRepository.findListPage(1, page);
+        curvePointRepository.findById(1);
+        curvePointRepository.updateEditableFields(1, 1.0, 1.0);
+        curvePointRepository.findLatestAsOfDate(1);
+        curvePointRepository.findCurveNodes(1, now);
+        curvePointRepository.findCurveKey(1);
+        ratingRepository.findListPage("Aa%", page);
+        ratingRepository.findById(1);
+        ratingRepository.updateEditableFields(1, "Aaa", "AAA", "AAA", 1);
+        ruleNameRepository.findListPage("Rule%", page);
+        ruleNameRepository.findById(1);
+        ruleNameRepository.updateEditableFields(1, "Rule", "Description", "{}", "Template", "SQL", "Part");
+        userRepository.findListPage("adm%", page);
+        userRepository.findById(1);
+        userRepository.findByUsername("admin");
+        userRepository.updatePassword("admin", "{bcrypt}hash");
+        userRepository.updateEditableFields(1, "admin", "{bcrypt}hash", "Administrator", "ADMIN");
+        tradeEventRepository.deleteByIds(List.of(1L, 2L));
+
+        // Then
+        List<String> filtered = statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" where "))
+                .distinct()
+                .toList();
+        assertFalse(filtered.isEmpty());
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : filtered) {
+                String plan = explain(connection, sql);
+                assertTrue(INDEX_SEEK.matcher(plan).find(), () -> "No index seek for " + sql + "\n" + plan);
+            }
+        }
+    }
+
+    /**
+     * Queries reading a whole table on purpose, exempted from the index check:
+     * <ul>
+     * <li>the curve history export streams every CurvePoint.</li>
+     * <li>the positions are rebuilt from every Trade.</li>
+     * <li>the order books are rebuilt from every BidList.</li>
+     * <li>the nightly rule batch reads the active RuleNames, a table of a few
+     * rows where an index on a boolean column would not be used.</li>
+     * <li>the rating scale is rebuilt from every Rating.</li>
+     * </ul>
+     * Each must still run against the schema as a single statement.
+     */
+    @Test
+    void fullReadsShouldBeTheIntendedOnes() throws SQLException {
+        // When
+        try (Stream<CurveHistoryRow> history = curvePointRepository.streamHistory()) {
+            history.count();
+        }
+        tradeRepository.findPositionLegs();
+        bidListRepository.findQuotes();
+        ruleNameRepository.findByActiveTrue();
+        ratingRepository.findGrades();
+
+        // Then
+        List<String> reads = List.copyOf(statements);
+        assertEquals(5, reads.size(), () -> "Expected one statement per query: " + reads);
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : reads) {
+                assertFalse(explain(connection, sql).isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void unfilteredPagesShouldReadInIndexOrder() throws SQLException {
+        // Given
+        PageRequest page = PageRequest.of(0, 20, Sort.by("id"));
+
+        // When
+        bidListRepository.findListPage(null, page);
+        tradeEventRepository.findBatch(Limit.of(20));
+
+        // Then
+        List<String> sorted = statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains("order by"))
+                .toList();
+        assertEquals(2, sorted.size());
+        try (Connection connection = dataSource.getConnection()) {
+            for (String select : sorted) {
+                String plan = explain(connection, select);
+                assertTrue(plan.contains("index sorted"), () -> "Sorted in memory: " + select + "\n" + plan);
+            }
+        }
+    }
+
+    private String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                statement.setObject(i, sampleValue(parameters.getParameterType(i)));
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+
+    private Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.CLOB -> "A%";
+            case Types.TIMESTAMP, Types.DATE -> new Timestamp(0);
+            case Types.DOUBLE, Types.FLOAT, Types.REAL, Types.DECIMAL, Types.NUMERIC -> 1.0;
+            default -> 1;
+        };
+    }
+}
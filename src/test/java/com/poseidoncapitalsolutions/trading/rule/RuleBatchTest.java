@@ -0,0 +1,145 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.poseidoncapitalsolutions.trading.dto.RuleBatchReportDTO;
+import com.poseidoncapitalsolutions.trading.dto.RuleCostDTO;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.model.RuleViolation;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+public class RuleBatchTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private RuleNameRepository ruleNameRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RuleBatch ruleBatch;
+    private List<Trade> trades;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        ruleBatch = new RuleBatch(tradeRepository, ruleNameRepository, new RuleEngine(meterRegistry), entityManager,
+                transactionManager, meterRegistry, 2000, 100);
+        trades = new ArrayList<>();
+        for (int id = 1; id <= 5000; id++) {
+            Trade trade = new Trade();
+            trade.setId(id);
+            trade.setAccount("Account" + id % 10);
+            trade.setBuyQuantity((double) id);
+            trades.add(trade);
+        }
+        lenient().when(tradeRepository.findChunkAfterId(any(Integer.class), any(Limit.class))).thenAnswer(invocation -> {
+            int afterId = invocation.getArgument(0);
+            Limit limit = invocation.getArgument(1);
+            return trades.subList(Math.min(afterId, trades.size()),
+                    Math.min(afterId + limit.max(), trades.size()));
+        });
+    }
+
+    private static RuleName rule(int id, String sqlPart) {
+        RuleName rule = new RuleName();
+        rule.setId(id);
+        rule.setName("Rule " + id);
+        rule.setSqlPart(sqlPart);
+        return rule;
+    }
+
+    @Test
+    void runShouldRecordTheViolationsOfEveryActiveRule() {
+        // Given
+        when(ruleNameRepository.findByActiveTrue()).thenReturn(List.of(
+                rule(1, "buyQuantity > 4900"),
+                rule(2, "account = 'Account3' AND buyQuantity <= 100")));
+
+        // When
+        RuleBatchReportDTO report = ruleBatch.run();
+
+        // Then
+        assertEquals(5000, report.getTrades());
+        assertEquals(110, report.getViolations());
+        Map<Integer, Long> violations = report.getRules().stream()
+                .collect(Collectors.toMap(RuleCostDTO::getRuleId, RuleCostDTO::getViolations));
+        assertEquals(Map.of(1, 100L, 2, 10L), violations);
+        verify(tradeRepository, times(3)).findChunkAfterId(any(Integer.class), any(Limit.class));
+        ArgumentCaptor<RuleViolation> captor = ArgumentCaptor.forClass(RuleViolation.class);
+        verify(entityManager, times(110)).persist(captor.capture());
+        verify(entityManager, times(2)).flush();
+        assertEquals(report.getDetectedAt(), captor.getValue().getDetectedAt());
+        assertEquals(5000.0, meterRegistry.get(RuleBatch.TRADES_METRIC).counter().count());
+        assertNotNull(meterRegistry.get(RuleBatch.RULE_METRIC).tag("rule", "1").timer());
+    }
+
+    @Test
+    void runShouldReportAndSkipRulesThatDoNotCompile() {
+        // Given
+        when(ruleNameRepository.findByActiveTrue()).thenReturn(List.of(
+                rule(1, "buyQuantity > 4999"),
+                rule(2, "unknownField = 1")));
+
+        // When
+        RuleBatchReportDTO report = ruleBatch.run();
+
+        // Then
+        assertEquals(1, report.getViolations());
+        RuleCostDTO skipped = report.getRules().stream().filter(cost -> cost.getRuleId() == 2).findFirst().get();
+        assertNotNull(skipped.getError());
+        RuleCostDTO evaluated = report.getRules().stream().filter(cost -> cost.getRuleId() == 1).findFirst().get();
+        assertNull(evaluated.getError());
+        assertEquals(1, evaluated.getViolations());
+    }
+
+    @Test
+    void runShouldNotReadTheTradesWithoutActiveRules() {
+        // Given
+        when(ruleNameRepository.findByActiveTrue()).thenReturn(List.of());
+
+        // When
+        RuleBatchReportDTO report = ruleBatch.run();
+
+        // Then
+        assertEquals(0, report.getTrades());
+        verify(tradeRepository, never()).findChunkAfterId(any(Integer.class), any(Limit.class));
+        verify(entityManager, never()).persist(any());
+    }
+}
@@ -0,0 +1,119 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+
+public class RuleCompilerTest {
+
+    private static Predicate<Trade> compile(String sql) {
+        return RuleCompiler.compile(RuleParser.parseSql(sql), RuleTarget.TRADE);
+    }
+
+    private static Trade trade(String account, Double buyQuantity) {
+        Trade trade = new Trade();
+        trade.setId(7);
+        trade.setAccount(account);
+        trade.setBuyQuantity(buyQuantity);
+        return trade;
+    }
+
+    @Test
+    void compileShouldCompareNumbers() {
+        // Given
+        Predicate<Trade> rule = compile("buyQuantity > 100 AND id = 7");
+
+        // When & Then
+        assertTrue(rule.test(trade("A", 150.0)));
+        assertFalse(rule.test(trade("A", 100.0)));
+    }
+
+    @Test
+    void compileShouldTreatComparisonsWithNullAsUnknown() {
+        // Given
+        Predicate<Trade> greater = compile("buyQuantity > 100");
+        Predicate<Trade> notGreater = compile("NOT buyQuantity > 100");
+        Predicate<Trade> different = compile("buyQuantity <> 100");
+        Predicate<Trade> unknownOrTrue = compile("NOT (buyQuantity > 100 OR account = 'A')");
+        Trade noQuantity = trade("A", null);
+
+        // When & Then
+        assertFalse(greater.test(noQuantity));
+        assertFalse(notGreater.test(noQuantity));
+        assertFalse(different.test(noQuantity));
+        assertFalse(unknownOrTrue.test(noQuantity));
+        assertTrue(compile("NOT (buyQuantity > 100 AND account = 'A')").test(trade("B", null)));
+        assertTrue(compile("buyQuantity IS NULL AND NOT account IS NULL").test(noQuantity));
+    }
+
+    @Test
+    void compileShouldCompareTextIgnoringCase() {
+        // When & Then
+        assertTrue(compile("account = 'acc1'").test(trade("ACC1", 1.0)));
+        assertTrue(compile("account IN ('x', 'Acc1')").test(trade("ACC1", 1.0)));
+        assertTrue(compile("account NOT IN ('x', 'y')").test(trade("ACC1", 1.0)));
+        assertTrue(compile("account BETWEEN 'a' AND 'b'").test(trade("Acc", 1.0)));
+        assertFalse(compile("account NOT IN ('x', 'y')").test(trade(null, 1.0)));
+    }
+
+    @Test
+    void compileShouldMatchLikePatterns() {
+        // When & Then
+        assertTrue(compile("account LIKE 'ac%1'").test(trade("ACC-1", 1.0)));
+        assertTrue(compile("account LIKE '%c_1%'").test(trade("xacc1", 1.0)));
+        assertTrue(compile("account LIKE 'a%%b%c'").test(trade("abxbyc", 1.0)));
+        assertFalse(compile("account LIKE 'a%b'").test(trade("abc", 1.0)));
+        assertTrue(compile("account LIKE '100!%' ESCAPE '!'").test(trade("100%", 1.0)));
+        assertFalse(compile("account LIKE '100!%' ESCAPE '!'").test(trade("1000", 1.0)));
+        assertTrue(compile("account NOT LIKE 'b%'").test(trade("abc", 1.0)));
+    }
+
+    @Test
+    void compileShouldCompareTimestampsToDates() {
+        // Given
+        Predicate<Trade> rule = compile("tradeDate BETWEEN '2024-01-01' AND '2024-06-30 23:59:59'");
+        Trade trade = trade("A", 1.0);
+
+        // When & Then
+        trade.setTradeDate(Timestamp.valueOf("2024-03-15 10:00:00"));
+        assertTrue(rule.test(trade));
+        trade.setTradeDate(Timestamp.valueOf("2024-07-01 00:00:00"));
+        assertFalse(rule.test(trade));
+        trade.setTradeDate(null);
+        assertFalse(rule.test(trade));
+    }
+
+    @Test
+    void compileShouldEvaluateBidLists() {
+        // Given
+        Predicate<BidList> rule = RuleCompiler.compile(RuleParser.parseSql("bid < 100 AND ask > 100 AND bidQuantity IN (10, 20)"),
+                RuleTarget.BID_LIST);
+        BidList bidList = new BidList();
+        bidList.setBid(99.0);
+        bidList.setAsk(101.0);
+        bidList.setBidQuantity(20.0);
+
+        // When & Then
+        assertTrue(rule.test(bidList));
+        bidList.setBidQuantity(15.0);
+        assertFalse(rule.test(bidList));
+    }
+
+    @Test
+    void compileShouldRejectUnknownFieldsAndMismatchedLiterals() {
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> compile("bid > 10"));
+        assertThrows(RuleSyntaxException.class, () -> compile("buyQuantity = 'ten'"));
+        assertThrows(RuleSyntaxException.class, () -> compile("account = 10"));
+        assertThrows(RuleSyntaxException.class, () -> compile("buyQuantity LIKE '1%'"));
+        assertThrows(RuleSyntaxException.class, () -> compile("tradeDate > 'yesterday'"));
+    }
+}
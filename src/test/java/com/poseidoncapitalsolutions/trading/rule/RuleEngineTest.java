@@ -0,0 +1,137 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RuleEngineTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RuleEngine ruleEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ruleEngine = new RuleEngine(meterRegistry);
+    }
+
+    private static RuleName rule(int id, int revision, String sqlPart, String json) {
+        RuleName rule = new RuleName();
+        rule.setId(id);
+        rule.setRevision(revision);
+        rule.setName("Rule " + id);
+        rule.setSqlPart(sqlPart);
+        rule.setJson(json);
+        return rule;
+    }
+
+    private static Trade trade(String account, double buyQuantity) {
+        Trade trade = new Trade();
+        trade.setAccount(account);
+        trade.setBuyQuantity(buyQuantity);
+        return trade;
+    }
+
+    @Test
+    void compileShouldReuseTheCompiledRuleOfTheSameRevision() {
+        // Given
+        CompiledRule<Trade> first = ruleEngine.compile(rule(1, 0, "buyQuantity > 10", "{}"), RuleTarget.TRADE);
+
+        // When
+        CompiledRule<Trade> second = ruleEngine.compile(rule(1, 0, "buyQuantity > 10", "{}"), RuleTarget.TRADE);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, ruleEngine.size());
+        assertEquals(1, meterRegistry.get(RuleEngine.COMPILE_METRIC).timer().count());
+    }
+
+    @Test
+    void compileShouldRecompileANewRevision() {
+        // Given
+        CompiledRule<Trade> first = ruleEngine.compile(rule(1, 0, "buyQuantity > 10", null), RuleTarget.TRADE);
+
+        // When
+        CompiledRule<Trade> second = ruleEngine.compile(rule(1, 1, "buyQuantity > 100", null), RuleTarget.TRADE);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(1, second.revision());
+        assertFalse(second.matches(trade("A", 50)));
+        assertEquals(1, ruleEngine.size());
+    }
+
+    @Test
+    void compileShouldCombineSqlPartAndJsonCondition() {
+        // Given
+        CompiledRule<Trade> rule = ruleEngine.compile(rule(2, 0, "buyQuantity > 10",
+                "{\"field\": \"account\", \"op\": \"like\", \"value\": \"A%\"}"), RuleTarget.TRADE);
+
+        // When & Then
+        assertTrue(rule.matches(trade("ACC", 50)));
+        assertFalse(rule.matches(trade("BCC", 50)));
+        assertFalse(rule.matches(trade("ACC", 5)));
+    }
+
+    @Test
+    void conditionShouldIgnoreJsonThatIsNotACondition() {
+        // When
+        RuleExpression condition = RuleEngine.condition(rule(3, 0, "buyQuantity > 10", "{\"test\": \"value\"}"));
+
+        // Then
+        assertEquals(RuleParser.parseSql("buyQuantity > 10"), condition);
+    }
+
+    @Test
+    void conditionShouldRejectRuleWithoutCondition() {
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> RuleEngine.condition(rule(4, 0, " ", "not json")));
+    }
+
+    @Test
+    void templateShouldReuseTheCompiledTemplateOfTheSameRevision() {
+        // Given
+        RuleName rule = rule(6, 0, null, null);
+        rule.setTemplate("{{account}}");
+        RuleTemplate<Trade> first = ruleEngine.template(rule, RuleTarget.TRADE);
+
+        // When
+        RuleTemplate<Trade> second = ruleEngine.template(rule, RuleTarget.TRADE);
+        rule.setRevision(1);
+        rule.setTemplate("{{account}};{{buyQuantity}}");
+        RuleTemplate<Trade> third = ruleEngine.template(rule, RuleTarget.TRADE);
+
+        // Then
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals("ACC;50", third.render(trade("ACC", 50)));
+        assertEquals(1, ruleEngine.size());
+    }
+
+    @Test
+    void evictShouldDropTheCompiledRules() {
+        // Given
+        RuleName rule = rule(5, 0, "bid > 10", null);
+        rule.setTemplate("{{account}}");
+        ruleEngine.compile(rule(5, 0, "buyQuantity > 10", null), RuleTarget.TRADE);
+        ruleEngine.compile(rule, RuleTarget.BID_LIST);
+        ruleEngine.template(rule, RuleTarget.BID_LIST);
+
+        // When
+        ruleEngine.evict(5);
+
+        // Then
+        assertEquals(0, ruleEngine.size());
+    }
+}
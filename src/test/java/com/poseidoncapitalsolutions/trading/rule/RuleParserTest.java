@@ -0,0 +1,93 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.And;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Between;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Comparison;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.In;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.IsNull;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Like;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Not;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Operator;
+import com.poseidoncapitalsolutions.trading.rule.RuleExpression.Or;
+
+public class RuleParserTest {
+
+    @Test
+    void parseSqlShouldGiveAndPrecedenceOverOr() {
+        // When
+        RuleExpression expression = RuleParser.parseSql("a = 1 or b <> 'x' and not c >= -2.5e1");
+
+        // Then
+        assertEquals(new Or(List.of(
+                new Comparison("a", Operator.EQ, 1.0),
+                new And(List.of(
+                        new Comparison("b", Operator.NE, "x"),
+                        new Not(new Comparison("c", Operator.GE, -25.0)))))), expression);
+    }
+
+    @Test
+    void parseSqlShouldReadEveryPredicate() {
+        // When
+        RuleExpression expression = RuleParser.parseSql("(account LIKE 'A!%%' ESCAPE '!' OR book NOT IN ('B1', 'O''Neil'))"
+                + " AND tradeDate BETWEEN '2024-01-01' AND '2024-12-31' AND security IS NOT NULL AND side is null");
+
+        // Then
+        assertEquals(new And(List.of(
+                new Or(List.of(
+                        new Like("account", "A!%%", '!'),
+                        new Not(new In("book", List.of("B1", "O'Neil"))))),
+                new Between("tradeDate", "2024-01-01", "2024-12-31"),
+                new Not(new IsNull("security")),
+                new IsNull("side"))), expression);
+    }
+
+    @Test
+    void parseSqlShouldRejectTrailingText() {
+        // When
+        RuleSyntaxException exception = assertThrows(RuleSyntaxException.class,
+                () -> RuleParser.parseSql("buyQuantity > 10 buyPrice"));
+
+        // Then
+        assertTrue(exception.getMessage().contains("position 18"));
+    }
+
+    @Test
+    void parseSqlShouldRejectMissingLiteral() {
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> RuleParser.parseSql("buyQuantity >"));
+        assertThrows(RuleSyntaxException.class, () -> RuleParser.parseSql("account = 'open"));
+        assertThrows(RuleSyntaxException.class, () -> RuleParser.parseSql("(account = 'a'"));
+        assertThrows(RuleSyntaxException.class, () -> RuleParser.parseSql("account NOT = 'a'"));
+    }
+
+    @Test
+    void parseJsonShouldReadTheSameTree() {
+        // When
+        RuleExpression expression = RuleParser.parseJson("{\"and\": ["
+                + "{\"field\": \"buyQuantity\", \"op\": \">\", \"value\": 1000},"
+                + "{\"not\": {\"field\": \"book\", \"op\": \"in\", \"value\": [\"B1\", \"B2\"]}},"
+                + "{\"field\": \"security\", \"op\": \"is not null\"}]}");
+
+        // Then
+        assertEquals(new And(List.of(
+                new Comparison("buyQuantity", Operator.GT, 1000.0),
+                new Not(new In("book", List.of("B1", "B2"))),
+                new Not(new IsNull("security")))), expression);
+    }
+
+    @Test
+    void parseJsonShouldRejectUnknownOperator() {
+        // When & Then
+        assertThrows(RuleSyntaxException.class,
+                () -> RuleParser.parseJson("{\"field\": \"buyQuantity\", \"op\": \"~\", \"value\": 1}"));
+        assertThrows(RuleSyntaxException.class, () -> RuleParser.parseJson("{\"field\": \"buyQuantity\""));
+    }
+}
@@ -0,0 +1,71 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RuleQueryCompilerTest {
+
+    private static RuleQuery compile(String sqlStr, String sqlPart) {
+        return RuleQueryCompiler.compile(1, 0, RuleParser.parseSelect(sqlStr),
+                sqlPart == null ? null : RuleParser.parseSql(sqlPart));
+    }
+
+    @Test
+    void compileShouldWriteTheLiteralsAsParameters() {
+        // When
+        RuleQuery query = compile("select ACCOUNT, buyquantity from trade where book in ('B1', 'B2')"
+                + " order by buyQuantity desc", "buyQuantity > 100 AND tradeDate >= '2024-01-01'");
+
+        // Then
+        assertEquals("select account, buyQuantity from Trade where (book in (?, ?) and (buyQuantity > ? and "
+                + "tradeDate >= ?)) order by buyQuantity desc limit ?", query.sql());
+        assertEquals(List.of("B1", "B2", 100.0, Timestamp.valueOf("2024-01-01 00:00:00")), query.parameters());
+        assertEquals(List.of("account", "buyQuantity"), query.columns());
+    }
+
+    @Test
+    void compileShouldSelectEveryColumnForAStar() {
+        // When
+        RuleQuery query = compile("SELECT * FROM Rating", null);
+
+        // Then
+        assertEquals("select id, moodysRating, sandPRating, fitchRating, orderNumber from Rating limit ?",
+                query.sql());
+        assertEquals(List.of(), query.parameters());
+    }
+
+    @Test
+    void compileShouldRewriteLikePatternsToTheFixedEscape() {
+        // When
+        RuleQuery query = compile("SELECT id FROM BidList", "NOT account LIKE '50#%!%' ESCAPE '#'");
+
+        // Then
+        assertEquals("select id from BidList where not (account like ? escape '!') limit ?", query.sql());
+        assertEquals(List.of("50!%!!%"), query.parameters());
+    }
+
+    @Test
+    void compileShouldRejectTablesAndColumnsOutsideTheWhitelist() {
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> compile("SELECT * FROM Users", null));
+        assertThrows(RuleSyntaxException.class, () -> compile("SELECT password FROM Trade", null));
+        assertThrows(RuleSyntaxException.class, () -> compile("SELECT * FROM Trade ORDER BY password", null));
+        assertThrows(RuleSyntaxException.class, () -> compile("SELECT * FROM CurvePoint", "term = 'one'"));
+    }
+
+    @Test
+    void parseSelectShouldRejectAnythingButOneQuery() {
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> RuleParser.parseSelect("SELECT * FROM Trade; DROP TABLE Trade"));
+        assertThrows(RuleSyntaxException.class, () -> RuleParser.parseSelect("DELETE FROM Trade"));
+        assertThrows(RuleSyntaxException.class,
+                () -> RuleParser.parseSelect("SELECT * FROM Trade WHERE account = 'A' UNION SELECT * FROM Users"));
+        assertThrows(RuleSyntaxException.class,
+                () -> RuleParser.parseSelect("SELECT * FROM Trade WHERE account = 'A' -- comment"));
+    }
+}
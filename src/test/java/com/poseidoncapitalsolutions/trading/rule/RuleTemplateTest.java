@@ -0,0 +1,90 @@
+package com.poseidoncapitalsolutions.trading.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+
+public class RuleTemplateTest {
+
+    private static Trade trade() {
+        Trade trade = new Trade();
+        trade.setId(7);
+        trade.setAccount("Account");
+        trade.setBuyQuantity(100.0);
+        trade.setBuyPrice(12.5);
+        trade.setTradeDate(Timestamp.valueOf("2024-03-01 10:30:00"));
+        return trade;
+    }
+
+    @Test
+    void renderShouldReplaceThePlaceholdersWithTheFields() {
+        // Given
+        RuleTemplate<Trade> template = RuleTemplate.compile(
+                "#{{ID}} {{account}}: bought {{ buyQuantity }} at {{buyPrice}} on {{tradeDate}}", RuleTarget.TRADE);
+
+        // When
+        String rendered = template.render(trade());
+
+        // Then
+        assertEquals("#7 Account: bought 100 at 12.5 on 2024-03-01 10:30:00.0", rendered);
+    }
+
+    @Test
+    void renderShouldWriteNothingForNullFields() {
+        // Given
+        RuleTemplate<Trade> template = RuleTemplate.compile("[{{book}}][{{sellQuantity}}][{{revisionDate}}]",
+                RuleTarget.TRADE);
+
+        // When
+        String rendered = template.render(trade());
+
+        // Then
+        assertEquals("[][][]", rendered);
+    }
+
+    @Test
+    void renderShouldAppendToAReusedBuilder() {
+        // Given
+        RuleTemplate<BidList> template = RuleTemplate.compile("{{account}};{{bid}}", RuleTarget.BID_LIST);
+        BidList bidList = new BidList();
+        bidList.setAccount("Account");
+        bidList.setBid(-0.25);
+        StringBuilder out = new StringBuilder("> ");
+
+        // When
+        template.render(bidList, out);
+
+        // Then
+        assertEquals("> Account;-0.25", out.toString());
+    }
+
+    @Test
+    void renderShouldKeepEachRecordOnOneLineWithItsSeparators() {
+        // Given
+        RuleTemplate<Trade> template = RuleTemplate.compile("{{id}};{{account}};{{book}}", RuleTarget.TRADE);
+        Trade trade = trade();
+        trade.setAccount("Line 1\r\nLine 2\tend\u0007");
+        trade.setBook("A;B\\C, 1.5%");
+
+        // When
+        String rendered = template.render(trade);
+
+        // Then
+        assertEquals("7;Line 1\\r\\nLine 2\\tend\\u0007;A\\;B\\\\C, 1.5%", rendered);
+        assertFalse(rendered.contains("\n"));
+    }
+
+    @Test
+    void compileShouldRejectInvalidTemplates() {
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> RuleTemplate.compile("{{password}}", RuleTarget.TRADE));
+        assertThrows(RuleSyntaxException.class, () -> RuleTemplate.compile("{{account", RuleTarget.TRADE));
+    }
+}
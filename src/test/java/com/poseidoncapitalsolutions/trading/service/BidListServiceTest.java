@@ -5,10 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -19,11 +22,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterTable;
 import com.poseidoncapitalsolutions.trading.dto.BidListDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.BidListMapper;
 import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.orderbook.BidListQuote;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookRegistry;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +48,12 @@ public class BidListServiceTest {
     @Mock
     private BidListMapper bidListMapper;
 
+    @Mock
+    private OrderBookRegistry orderBookRegistry;
+
+    @Mock
+    private BlotterHub blotterHub;
+
     @InjectMocks
     private BidListService bidListService;
 
@@ -71,6 +90,37 @@ public class BidListServiceTest {
         assertEquals("Account1", result.get(0).getAccount());
     }
 
+    @Test
+    void findPageShouldReturnPageOfBidLists() {
+        // Given
+        Specification<BidList> filter = FilterSpecifications.equalTo("id", 1);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<BidList> page = new PageImpl<>(Arrays.asList(bidList), pageable, 1);
+        when(bidListRepository.findAll(filter, pageable)).thenReturn(page);
+
+        // When
+        Page<BidList> result = bidListService.findPage(filter, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(bidList, result.getContent().get(0));
+    }
+
+    @Test
+    void findListPageShouldQueryProjectionWithEscapedPrefixPattern() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<BidListDTO> page = new PageImpl<>(Arrays.asList(bidListDTO), pageable, 1);
+        when(bidListRepository.findListPage("Acc%", pageable)).thenReturn(page);
+
+        // When
+        Page<BidListDTO> result = bidListService.findListPage("Acc", pageable);
+
+        // Then
+        assertEquals(page, result);
+        verify(bidListMapper, never()).toDto(any());
+    }
+
     @Test
     void findByIdShouldReturnBidListWhenExists() {
         // Given
@@ -104,21 +154,46 @@ public class BidListServiceTest {
 
         // Then
         verify(bidListRepository, times(1)).save(bidList);
+        verify(orderBookRegistry, times(1)).post(BidListQuote.of(bidList));
         assertEquals(bidList, savedBidList);
     }
 
     @Test
-    void updateShouldUpdateExistingBidList() {
+    void updateShouldUpdateExistingBidListInSingleStatement() {
         // Given
-        when(bidListRepository.findById(1)).thenReturn(Optional.of(bidList));
-        when(bidListRepository.save(any(BidList.class))).thenReturn(bidList);
+        when(bidListRepository.updateEditableFields(eq(1), eq("Account1"), eq("Type1"), eq(100.0), any(Timestamp.class))).thenReturn(1);
 
         // When
         bidListService.update(bidListDTO);
 
         // Then
-        verify(bidListRepository, times(1)).findById(1);
-        verify(bidListRepository, times(1)).save(bidList);
+        verify(bidListRepository, times(1)).updateEditableFields(eq(1), eq("Account1"), eq("Type1"), eq(100.0), any(Timestamp.class));
+        verify(bidListRepository, never()).findById(anyInt());
+        verify(bidListRepository, never()).save(any(BidList.class));
+    }
+
+    @Test
+    void updateShouldPostTheNewQuote() {
+        // Given
+        BidListQuote quote = new BidListQuote(1, "Security", 99.0, 100.0, null, null);
+        when(bidListRepository.updateEditableFields(eq(1), eq("Account1"), eq("Type1"), eq(100.0), any(Timestamp.class))).thenReturn(1);
+        when(bidListRepository.findQuote(1)).thenReturn(Optional.of(quote));
+
+        // When
+        bidListService.update(bidListDTO);
+
+        // Then
+        verify(orderBookRegistry, times(1)).post(quote);
+        verify(blotterHub, times(1)).post(BlotterTable.BID_LIST, 1, bidListDTO);
+    }
+
+    @Test
+    void updateShouldThrowExceptionWhenBidListNotFound() {
+        // Given
+        when(bidListRepository.updateEditableFields(eq(1), eq("Account1"), eq("Type1"), eq(100.0), any(Timestamp.class))).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> bidListService.update(bidListDTO));
     }
 
     @Test
@@ -128,6 +203,8 @@ public class BidListServiceTest {
 
         // Then
         verify(bidListRepository, times(1)).delete(bidList);
+        verify(orderBookRegistry, times(1)).remove(1);
+        verify(blotterHub, times(1)).remove(BlotterTable.BID_LIST, 1);
     }
 
     @Test
@@ -155,5 +232,6 @@ public class BidListServiceTest {
         // Then
         assertNotNull(bidList.getCreationDate());
         verify(bidListRepository, times(1)).save(bidList);
+        verify(orderBookRegistry, times(1)).post(BidListQuote.of(bidList));
     }
 }
\ No newline at end of file
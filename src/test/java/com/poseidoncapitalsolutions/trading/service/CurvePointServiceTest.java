@@ -1,29 +1,48 @@
 package com.poseidoncapitalsolutions.trading.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryRow;
+import com.poseidoncapitalsolutions.trading.curve.CurveHistoryStore;
+import com.poseidoncapitalsolutions.trading.curve.CurveKey;
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshotCache;
 import com.poseidoncapitalsolutions.trading.dto.CurvePointDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.CurvepointMapper;
 import com.poseidoncapitalsolutions.trading.model.CurvePoint;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.CurvePointRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,18 +54,24 @@ public class CurvePointServiceTest {
     @Mock
     private CurvepointMapper curvepointMapper;
 
+    @Mock
+    private CurveSnapshotCache curveSnapshotCache;
+
     @InjectMocks
     private CurvePointService curvePointService;
 
     private CurvePoint curvePoint;
     private CurvePointDTO curvePointDTO;
+    private Timestamp asOfDate;
 
     @BeforeEach
     void setUp() {
         // Initialize test data
+        asOfDate = Timestamp.valueOf("2025-01-02 00:00:00");
         curvePoint = new CurvePoint();
         curvePoint.setId(1);
         curvePoint.setCurveId(1);
+        curvePoint.setAsOfDate(asOfDate);
         curvePoint.setTerm(1.5);
         curvePoint.setValue(2.5);
 
@@ -70,6 +95,37 @@ public class CurvePointServiceTest {
         assertEquals(1.5, result.get(0).getTerm());
     }
 
+    @Test
+    void findPageShouldReturnPageOfCurvePoints() {
+        // Given
+        Specification<CurvePoint> filter = FilterSpecifications.equalTo("id", 1);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<CurvePoint> page = new PageImpl<>(Arrays.asList(curvePoint), pageable, 1);
+        when(curvePointRepository.findAll(filter, pageable)).thenReturn(page);
+
+        // When
+        Page<CurvePoint> result = curvePointService.findPage(filter, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(curvePoint, result.getContent().get(0));
+    }
+
+    @Test
+    void findListPageShouldQueryProjectionWithCurveId() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<CurvePointDTO> page = new PageImpl<>(Arrays.asList(curvePointDTO), pageable, 1);
+        when(curvePointRepository.findListPage(1, pageable)).thenReturn(page);
+
+        // When
+        Page<CurvePointDTO> result = curvePointService.findListPage(1, pageable);
+
+        // Then
+        assertEquals(page, result);
+        verify(curvepointMapper, never()).toDto(any());
+    }
+
     @Test
     void findByIdShouldReturnCurvePointWhenExists() {
         // Given
@@ -104,20 +160,48 @@ public class CurvePointServiceTest {
         // Then
         verify(curvePointRepository, times(1)).save(curvePoint);
         assertEquals(curvePoint, savedCurvePoint);
+        verify(curveSnapshotCache, times(1)).publish(1, asOfDate);
     }
 
     @Test
-    void updateShouldUpdateExistingCurvePoint() {
+    void saveShouldPublishThePreviousCurveOfAMovedPoint() {
         // Given
-        when(curvePointRepository.findById(1)).thenReturn(Optional.of(curvePoint));
+        Timestamp previousDate = Timestamp.valueOf("2025-01-01 00:00:00");
+        when(curvePointRepository.findCurveKey(1)).thenReturn(Optional.of(new CurveKey(2, previousDate)));
         when(curvePointRepository.save(any(CurvePoint.class))).thenReturn(curvePoint);
 
+        // When
+        curvePointService.save(curvePoint);
+
+        // Then
+        verify(curveSnapshotCache, times(1)).publish(2, previousDate);
+        verify(curveSnapshotCache, times(1)).publish(1, asOfDate);
+    }
+
+    @Test
+    void updateShouldUpdateExistingCurvePointInSingleStatement() {
+        // Given
+        when(curvePointRepository.updateEditableFields(eq(1), any(), any())).thenReturn(1);
+        when(curvePointRepository.findCurveKey(1)).thenReturn(Optional.of(new CurveKey(1, asOfDate)));
+
         // When
         curvePointService.update(curvePointDTO);
 
         // Then
-        verify(curvePointRepository, times(1)).findById(1);
-        verify(curvePointRepository, times(1)).save(curvePoint);
+        verify(curvePointRepository, times(1)).updateEditableFields(eq(1), any(), any());
+        verify(curvePointRepository, never()).findById(anyInt());
+        verify(curvePointRepository, never()).save(any(CurvePoint.class));
+        verify(curveSnapshotCache, times(1)).publish(1, asOfDate);
+    }
+
+    @Test
+    void updateShouldThrowExceptionWhenCurvePointNotFound() {
+        // Given
+        when(curvePointRepository.updateEditableFields(eq(1), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> curvePointService.update(curvePointDTO));
+        verify(curveSnapshotCache, never()).publish(any(), any());
     }
 
     @Test
@@ -127,6 +211,7 @@ public class CurvePointServiceTest {
 
         // Then
         verify(curvePointRepository, times(1)).delete(curvePoint);
+        verify(curveSnapshotCache, times(1)).publish(1, asOfDate);
     }
 
     @Test
@@ -154,5 +239,34 @@ public class CurvePointServiceTest {
         // Then
         assertNotNull(curvePoint.getCreationDate());
         verify(curvePointRepository, times(1)).save(curvePoint);
+        verify(curveSnapshotCache, times(1)).publish(1, asOfDate);
+    }
+
+    @Test
+    void exportHistoryShouldWriteAndLoadTheCurveHistory(@TempDir Path directory) throws IOException {
+        // Given
+        Timestamp nextDate = Timestamp.valueOf("2025-01-03 00:00:00");
+        when(curvePointRepository.streamHistory()).thenReturn(Stream.of(
+                new CurveHistoryRow(1, asOfDate, 1, 10),
+                new CurveHistoryRow(1, asOfDate, 2, 20),
+                new CurveHistoryRow(1, nextDate, 1, 11)));
+
+        // When
+        CurveHistoryStore store = curvePointService.exportHistory(directory.resolve("history.bin"));
+
+        // Then
+        assertEquals(2, store.getSeriesCount());
+        assertEquals(3, store.getPointCount());
+        CurveHistoryStore.Cursor cursor = curvePointService.findHistory(1, nextDate, null);
+        assertTrue(cursor.next());
+        assertEquals(nextDate.getTime(), cursor.asOfDate());
+        assertEquals(11.0, cursor.value(0));
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void findHistoryShouldThrowWhenNoHistoryIsLoaded() {
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> curvePointService.findHistory(1, null, null));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.poseidoncapitalsolutions.trading.curve.Curve;
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshot;
+import com.poseidoncapitalsolutions.trading.curve.CurveSnapshotCache;
+import com.poseidoncapitalsolutions.trading.curve.InterpolationMethod;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class CurveServiceTest {
+
+    @Mock
+    private CurveSnapshotCache curveSnapshotCache;
+
+    @InjectMocks
+    private CurveService curveService;
+
+    private Timestamp asOfDate;
+    private CurveSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        asOfDate = Timestamp.valueOf("2025-01-02 00:00:00");
+        Curve curve = Curve.of(new double[] { 1, 2, 4 }, new double[] { 10, 20, 40 });
+        snapshot = new CurveSnapshot(1, asOfDate, 3, curve);
+    }
+
+    @Test
+    void getSnapshotShouldReturnTheCachedSnapshot() {
+        // Given
+        when(curveSnapshotCache.get(1, null)).thenReturn(snapshot);
+
+        // When
+        CurveSnapshot result = curveService.getSnapshot(1, null);
+
+        // Then
+        assertSame(snapshot, result);
+    }
+
+    @Test
+    void getSnapshotShouldThrowWhenTheCurveHasNoPoint() {
+        // Given
+        when(curveSnapshotCache.get(7, asOfDate)).thenReturn(new CurveSnapshot(7, null, 4, null));
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> curveService.getSnapshot(7, asOfDate));
+    }
+
+    @Test
+    void interpolateShouldEvaluateOneTerm() {
+        // Given
+        when(curveSnapshotCache.get(1, asOfDate)).thenReturn(snapshot);
+
+        // When
+        double value = curveService.interpolate(1, asOfDate, 3, InterpolationMethod.LINEAR);
+
+        // Then
+        assertEquals(30.0, value, 1e-12);
+    }
+
+    @Test
+    void interpolateShouldEvaluateEveryTerm() {
+        // Given
+        when(curveSnapshotCache.get(1, asOfDate)).thenReturn(snapshot);
+
+        // When
+        double[] values = curveService.interpolate(1, asOfDate, new double[] { 0, 1.5, 3, 5 },
+                InterpolationMethod.LINEAR);
+
+        // Then
+        assertArrayEquals(new double[] { 10, 15, 30, 40 }, values, 1e-12);
+    }
+}
@@ -0,0 +1,73 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.poseidoncapitalsolutions.trading.dto.OrderBookDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.orderbook.BidListQuote;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBook;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookLevel;
+import com.poseidoncapitalsolutions.trading.orderbook.OrderBookRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderBookServiceTest {
+
+    @Mock
+    private OrderBookRegistry orderBookRegistry;
+
+    @InjectMocks
+    private OrderBookService orderBookService;
+
+    @Test
+    void getOrderBookShouldReturnTheBestLevelsAndSpread() {
+        // Given
+        OrderBook book = new OrderBook("Security");
+        book.add(new BidListQuote(1, "Security", 99.0, 10.0, 101.0, 5.0));
+        book.add(new BidListQuote(2, "Security", 98.0, 20.0, 102.0, 7.0));
+        when(orderBookRegistry.get("Security")).thenReturn(book);
+
+        // When
+        OrderBookDTO orderBook = orderBookService.getOrderBook("Security", 1);
+
+        // Then
+        assertEquals(99.0, orderBook.getBestBid());
+        assertEquals(101.0, orderBook.getBestAsk());
+        assertEquals(2.0, orderBook.getSpread());
+        assertEquals(List.of(new OrderBookLevel(99.0, 10.0, 1)), orderBook.getBids());
+        assertEquals(List.of(new OrderBookLevel(101.0, 5.0, 1)), orderBook.getAsks());
+    }
+
+    @Test
+    void getOrderBookShouldLeaveTheSpreadEmptyWithOneSide() {
+        // Given
+        OrderBook book = new OrderBook("Security");
+        book.add(new BidListQuote(1, "Security", 99.0, 10.0, null, null));
+        when(orderBookRegistry.get("Security")).thenReturn(book);
+
+        // When
+        OrderBookDTO orderBook = orderBookService.getOrderBook("Security", 0);
+
+        // Then
+        assertEquals(99.0, orderBook.getBestBid());
+        assertNull(orderBook.getBestAsk());
+        assertNull(orderBook.getSpread());
+        assertEquals(1, orderBook.getBids().size());
+    }
+
+    @Test
+    void getOrderBookShouldThrowWhenNothingIsQuoted() {
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> orderBookService.getOrderBook("Unknown", 10));
+    }
+}
@@ -0,0 +1,70 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.poseidoncapitalsolutions.trading.dto.PositionDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.position.Position;
+import com.poseidoncapitalsolutions.trading.position.PositionBook;
+import com.poseidoncapitalsolutions.trading.position.PositionKey;
+
+@ExtendWith(MockitoExtension.class)
+public class PositionServiceTest {
+
+    @Mock
+    private PositionBook positionBook;
+
+    @InjectMocks
+    private PositionService positionService;
+
+    @Test
+    void getPositionShouldReturnThePosition() {
+        // Given
+        PositionKey key = new PositionKey("Account", "Book", "Security");
+        when(positionBook.get(key)).thenReturn(Position.ofTrade(100.0, 10.0, 40.0, 12.0));
+
+        // When
+        PositionDTO position = positionService.getPosition("Account", "Book", "Security");
+
+        // Then
+        assertEquals(60.0, position.getNetQuantity());
+        assertEquals(10.0, position.getAveragePrice());
+        assertEquals(80.0, position.getRealizedPnl(), 1e-12);
+    }
+
+    @Test
+    void getPositionShouldThrowWhenNoTradeBelongsToIt() {
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> positionService.getPosition("Account", null, null));
+    }
+
+    @Test
+    void findAllShouldFilterOnTheAccountAndSort() {
+        // Given
+        Position position = Position.ofTrade(1.0, 1.0, null, null);
+        when(positionBook.getAll()).thenReturn(Map.of(
+                new PositionKey("B", null, "S"), position,
+                new PositionKey("A", "Y", "S"), position,
+                new PositionKey("A", null, "S"), position));
+
+        // When
+        List<PositionDTO> all = positionService.findAll(null);
+        List<PositionDTO> accountA = positionService.findAll("A");
+
+        // Then
+        assertEquals(List.of("A", "A", "B"), all.stream().map(PositionDTO::getAccount).toList());
+        assertEquals(2, accountA.size());
+        assertEquals(null, accountA.get(0).getBook());
+    }
+}
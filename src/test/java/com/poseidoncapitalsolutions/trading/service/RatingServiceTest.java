@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,11 +21,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import com.poseidoncapitalsolutions.trading.dto.RatingDTO;
+import com.poseidoncapitalsolutions.trading.dto.RatingGradeDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.RatingMapper;
 import com.poseidoncapitalsolutions.trading.model.Rating;
+import com.poseidoncapitalsolutions.trading.rating.RatingGrade;
+import com.poseidoncapitalsolutions.trading.rating.RatingScale;
+import com.poseidoncapitalsolutions.trading.rating.RatingScaleIndex;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.RatingRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +47,9 @@ public class RatingServiceTest {
     @Mock
     private RatingMapper ratingMapper;
 
+    @Mock
+    private RatingScaleIndex ratingScaleIndex;
+
     @InjectMocks
     private RatingService ratingService;
 
@@ -73,6 +88,37 @@ public class RatingServiceTest {
         assertEquals("Aaa", result.get(0).getMoodysRating());
     }
 
+    @Test
+    void findPageShouldReturnPageOfRatings() {
+        // Given
+        Specification<Rating> filter = FilterSpecifications.equalTo("id", 1);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Rating> page = new PageImpl<>(Arrays.asList(rating), pageable, 1);
+        when(ratingRepository.findAll(filter, pageable)).thenReturn(page);
+
+        // When
+        Page<Rating> result = ratingService.findPage(filter, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(rating, result.getContent().get(0));
+    }
+
+    @Test
+    void findListPageShouldQueryProjectionWithEscapedPrefixPattern() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<RatingDTO> page = new PageImpl<>(Arrays.asList(ratingDTO), pageable, 1);
+        when(ratingRepository.findListPage("Aa%", pageable)).thenReturn(page);
+
+        // When
+        Page<RatingDTO> result = ratingService.findListPage("Aa", pageable);
+
+        // Then
+        assertEquals(page, result);
+        verify(ratingMapper, never()).toDto(any());
+    }
+
     @Test
     void findByIdShouldReturnRatingWhenExists() {
         // Given
@@ -106,21 +152,33 @@ public class RatingServiceTest {
 
         // Then
         verify(ratingRepository, times(1)).save(rating);
+        verify(ratingScaleIndex, times(1)).publish();
         assertEquals(rating, savedRating);
     }
 
     @Test
-    void updateShouldUpdateExistingRating() {
+    void updateShouldUpdateExistingRatingInSingleStatement() {
         // Given
-        when(ratingRepository.findById(1)).thenReturn(Optional.of(rating));
-        when(ratingRepository.save(any(Rating.class))).thenReturn(rating);
+        when(ratingRepository.updateEditableFields(eq(1), any(), any(), any(), any())).thenReturn(1);
 
         // When
         ratingService.update(ratingDTO);
 
         // Then
-        verify(ratingRepository, times(1)).findById(1);
-        verify(ratingRepository, times(1)).save(rating);
+        verify(ratingRepository, times(1)).updateEditableFields(eq(1), any(), any(), any(), any());
+        verify(ratingRepository, never()).findById(anyInt());
+        verify(ratingRepository, never()).save(any(Rating.class));
+        verify(ratingScaleIndex, times(1)).publish();
+    }
+
+    @Test
+    void updateShouldThrowExceptionWhenRatingNotFound() {
+        // Given
+        when(ratingRepository.updateEditableFields(eq(1), any(), any(), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> ratingService.update(ratingDTO));
+        verify(ratingScaleIndex, never()).publish();
     }
 
     @Test
@@ -130,6 +188,40 @@ public class RatingServiceTest {
 
         // Then
         verify(ratingRepository, times(1)).delete(rating);
+        verify(ratingScaleIndex, times(1)).publish();
+    }
+
+    @Test
+    void findGradeShouldTranslateARatingFromTheScale() {
+        // Given
+        when(ratingScaleIndex.current())
+                .thenReturn(RatingScale.of(4, List.of(new RatingGrade(1, 1, "Aaa", "AAA", "AAA"))));
+
+        // When
+        RatingGradeDTO result = ratingService.findGrade("moodys", "aaa");
+
+        // Then
+        assertEquals("MOODYS", result.getAgency());
+        assertEquals("Aaa", result.getRating());
+        assertEquals(1, result.getOrderNumber());
+        assertEquals("AAA", result.getSandPRating());
+        assertEquals(4, result.getScaleVersion());
+        verify(ratingRepository, never()).findAll();
+    }
+
+    @Test
+    void findGradeShouldThrowExceptionWhenRatingNotOnTheScale() {
+        // Given
+        when(ratingScaleIndex.current()).thenReturn(RatingScale.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> ratingService.findGrade("fitch", "AAA"));
+    }
+
+    @Test
+    void findGradeShouldThrowExceptionWhenAgencyUnknown() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ratingService.findGrade("dbrs", "AAA"));
     }
 
     @Test
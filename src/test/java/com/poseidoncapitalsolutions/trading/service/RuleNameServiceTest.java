@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,12 +21,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import com.poseidoncapitalsolutions.trading.dto.RuleNameDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.RuleNameMapper;
 import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.rule.RuleEngine;
 
 @ExtendWith(MockitoExtension.class)
 public class RuleNameServiceTest {
@@ -35,6 +44,9 @@ public class RuleNameServiceTest {
     @Mock
     private RuleNameMapper ruleNameMapper;
 
+    @Mock
+    private RuleEngine ruleEngine;
+
     @InjectMocks
     private RuleNameService ruleNameService;
 
@@ -77,6 +89,37 @@ public class RuleNameServiceTest {
         assertEquals("TestRule", result.get(0).getName());
     }
 
+    @Test
+    void findPageShouldReturnPageOfRuleNames() {
+        // Given
+        Specification<RuleName> filter = FilterSpecifications.equalTo("id", 1);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<RuleName> page = new PageImpl<>(Arrays.asList(ruleName), pageable, 1);
+        when(ruleNameRepository.findAll(filter, pageable)).thenReturn(page);
+
+        // When
+        Page<RuleName> result = ruleNameService.findPage(filter, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(ruleName, result.getContent().get(0));
+    }
+
+    @Test
+    void findListPageShouldQueryProjectionWithEscapedPrefixPattern() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<RuleNameDTO> page = new PageImpl<>(Arrays.asList(ruleNameDTO), pageable, 1);
+        when(ruleNameRepository.findListPage("Rule!_%", pageable)).thenReturn(page);
+
+        // When
+        Page<RuleNameDTO> result = ruleNameService.findListPage("Rule_", pageable);
+
+        // Then
+        assertEquals(page, result);
+        verify(ruleNameMapper, never()).toDto(any());
+    }
+
     @Test
     void findByIdShouldReturnRuleNameWhenExists() {
         // Given
@@ -114,17 +157,44 @@ public class RuleNameServiceTest {
     }
 
     @Test
-    void updateShouldUpdateExistingRuleName() {
+    void saveShouldTakeTheStoredRevisionOfAnExistingRuleName() {
         // Given
-        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(ruleName));
+        RuleName stored = new RuleName();
+        stored.setId(ruleName.getId());
+        stored.setRevision(3);
+        ruleName.setRevision(0);
+        when(ruleNameRepository.findById(ruleName.getId())).thenReturn(Optional.of(stored));
         when(ruleNameRepository.save(any(RuleName.class))).thenReturn(ruleName);
 
         // When
-        ruleNameService.update(ruleNameDTO);
+        ruleNameService.save(ruleName);
 
         // Then
-        verify(ruleNameRepository, times(1)).findById(1);
         verify(ruleNameRepository, times(1)).save(ruleName);
+        assertEquals(3, ruleName.getRevision());
+    }
+
+    @Test
+    void updateShouldUpdateExistingRuleNameInSingleStatement() {
+        // Given
+        when(ruleNameRepository.updateEditableFields(eq(1), any(), any(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        ruleNameService.update(ruleNameDTO);
+
+        // Then
+        verify(ruleNameRepository, times(1)).updateEditableFields(eq(1), any(), any(), any(), any(), any(), any());
+        verify(ruleNameRepository, never()).findById(anyInt());
+        verify(ruleNameRepository, never()).save(any(RuleName.class));
+    }
+
+    @Test
+    void updateShouldThrowExceptionWhenRuleNameNotFound() {
+        // Given
+        when(ruleNameRepository.updateEditableFields(eq(1), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> ruleNameService.update(ruleNameDTO));
     }
 
     @Test
@@ -134,6 +204,7 @@ public class RuleNameServiceTest {
 
         // Then
         verify(ruleNameRepository, times(1)).delete(ruleName);
+        verify(ruleEngine).evict(1);
     }
 
     @Test
@@ -0,0 +1,151 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.poseidoncapitalsolutions.trading.config.CacheConfig;
+import com.poseidoncapitalsolutions.trading.dto.RuleQueryResultDTO;
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.rule.RuleEngine;
+import com.poseidoncapitalsolutions.trading.rule.RuleSyntaxException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class RuleQueryServiceTest {
+
+    @Mock
+    private RuleNameRepository ruleNameRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RuleQueryService ruleQueryService;
+    private RuleName rule;
+
+    @BeforeEach
+    void setUp() {
+        ruleQueryService = new RuleQueryService(ruleNameRepository, new RuleEngine(new SimpleMeterRegistry()),
+                jdbcTemplate, new ConcurrentMapCacheManager(CacheConfig.RULE_RESULTS_CACHE), Duration.ofMillis(1500),
+                2);
+        rule = new RuleName();
+        rule.setId(1);
+        rule.setSqlStr("SELECT account, buyQuantity FROM Trade");
+        rule.setSqlPart("account LIKE 'Acc%' AND buyQuantity > 10");
+    }
+
+    private void returnRows(int count) {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(List.of("Account" + i, 20.0 + i));
+        }
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class))).thenReturn(rows);
+    }
+
+    @Test
+    void queryShouldBindTheParametersTheLimitAndTheTimeout() throws Exception {
+        // Given
+        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(rule));
+        returnRows(1);
+
+        // When
+        RuleQueryResultDTO result = ruleQueryService.query(1);
+
+        // Then
+        assertEquals(List.of("account", "buyQuantity"), result.getColumns());
+        assertEquals(1, result.getRows().size());
+        assertFalse(result.isTruncated());
+        ArgumentCaptor<PreparedStatementCreator> captor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(captor.capture(), any(ResultSetExtractor.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(
+                "select account, buyQuantity from Trade where (account like ? escape '!' and buyQuantity > ?) limit ?"))
+                .thenReturn(statement);
+        captor.getValue().createPreparedStatement(connection);
+        verify(statement).setObject(1, "Acc%");
+        verify(statement).setObject(2, 10.0);
+        verify(statement).setInt(3, 3);
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    void queryShouldCacheTheRowsOfARevision() {
+        // Given
+        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(rule));
+        returnRows(1);
+
+        // When
+        RuleQueryResultDTO first = ruleQueryService.query(1);
+        RuleQueryResultDTO second = ruleQueryService.query(1);
+        rule.setRevision(1);
+        ruleQueryService.query(1);
+
+        // Then
+        assertSame(first, second);
+        verify(jdbcTemplate, times(2)).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    void queryShouldTruncateTheRowsToTheLimit() {
+        // Given
+        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(rule));
+        returnRows(3);
+
+        // When
+        RuleQueryResultDTO result = ruleQueryService.query(1);
+
+        // Then
+        assertEquals(2, result.getRows().size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void queryShouldRejectATableOutsideTheWhitelist() {
+        // Given
+        rule.setSqlStr("SELECT * FROM Users");
+        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(rule));
+
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> ruleQueryService.query(1));
+        verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    void queryShouldThrowWhenTheRuleDoesNotExist() {
+        // Given
+        when(ruleNameRepository.findById(2)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> ruleQueryService.query(2));
+    }
+}
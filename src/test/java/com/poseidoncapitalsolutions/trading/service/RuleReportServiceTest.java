@@ -0,0 +1,121 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
+import com.poseidoncapitalsolutions.trading.model.BidList;
+import com.poseidoncapitalsolutions.trading.model.RuleName;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.repository.BidListRepository;
+import com.poseidoncapitalsolutions.trading.repository.RuleNameRepository;
+import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
+import com.poseidoncapitalsolutions.trading.rule.RuleEngine;
+import com.poseidoncapitalsolutions.trading.rule.RuleSyntaxException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class RuleReportServiceTest {
+
+    @Mock
+    private RuleNameRepository ruleNameRepository;
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private BidListRepository bidListRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RuleReportService ruleReportService;
+    private RuleName rule;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ruleReportService = new RuleReportService(ruleNameRepository, tradeRepository, bidListRepository,
+                new RuleEngine(meterRegistry), meterRegistry, 2);
+        rule = new RuleName();
+        rule.setId(1);
+        rule.setTemplate("{{id}};{{account}}");
+    }
+
+    private static Trade trade(int id) {
+        Trade trade = new Trade();
+        trade.setId(id);
+        trade.setAccount("Account" + id);
+        return trade;
+    }
+
+    @Test
+    void reportShouldRenderEveryTradeChunkByChunk() throws Exception {
+        // Given
+        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(rule));
+        when(tradeRepository.findChunkAfterId(eq(0), any(Limit.class))).thenReturn(List.of(trade(1), trade(2)));
+        when(tradeRepository.findChunkAfterId(eq(2), any(Limit.class))).thenReturn(List.of(trade(3)));
+        StringWriter out = new StringWriter();
+
+        // When
+        long rows = ruleReportService.report(1, "trade").writeTo(out);
+
+        // Then
+        assertEquals(3, rows);
+        assertEquals("1;Account1\n2;Account2\n3;Account3\n", out.toString());
+        assertEquals(3.0, meterRegistry.get(RuleReportService.ROWS_METRIC).counter().count());
+    }
+
+    @Test
+    void reportShouldRenderTheBidLists() throws Exception {
+        // Given
+        BidList bidList = new BidList();
+        bidList.setId(4);
+        bidList.setAccount("Account4");
+        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(rule));
+        when(bidListRepository.findChunkAfterId(eq(0), any(Limit.class))).thenReturn(List.of(bidList));
+        StringWriter out = new StringWriter();
+
+        // When
+        ruleReportService.report(1, "BidList").writeTo(out);
+
+        // Then
+        assertEquals("4;Account4\n", out.toString());
+        verify(bidListRepository).findChunkAfterId(eq(0), any(Limit.class));
+    }
+
+    @Test
+    void reportShouldRejectOtherTablesAndInvalidTemplates() {
+        // Given
+        when(ruleNameRepository.findById(1)).thenReturn(Optional.of(rule));
+
+        // When & Then
+        assertThrows(RuleSyntaxException.class, () -> ruleReportService.report(1, "Rating"));
+        assertThrows(RuleSyntaxException.class, () -> ruleReportService.report(1, "Users"));
+        rule.setTemplate("{{unknown}}");
+        assertThrows(RuleSyntaxException.class, () -> ruleReportService.report(1, "Trade"));
+    }
+
+    @Test
+    void reportShouldThrowWhenTheRuleDoesNotExist() {
+        // Given
+        when(ruleNameRepository.findById(2)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> ruleReportService.report(2, "Trade"));
+    }
+}
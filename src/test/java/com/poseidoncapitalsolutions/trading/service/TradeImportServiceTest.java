@@ -0,0 +1,208 @@
+package com.poseidoncapitalsolutions.trading.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.dto.TradeImportRejectDTO;
+import com.poseidoncapitalsolutions.trading.dto.TradeImportReportDTO;
+import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
+import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventOutbox;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventType;
+import com.poseidoncapitalsolutions.trading.position.PositionBook;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+public class TradeImportServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PositionBook positionBook;
+
+    @Mock
+    private TradeEventOutbox tradeEventOutbox;
+
+    @Mock
+    private BlotterHub blotterHub;
+
+    private TradeImportService tradeImportService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        tradeImportService = new TradeImportService(entityManager, transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), Mappers.getMapper(TradeMapper.class),
+                new ObjectMapper(), positionBook, tradeEventOutbox, blotterHub, 2, 10);
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importCsvShouldPersistValidRowsInBatches() throws Exception {
+        // Given
+        String csv = "type,account,buyQuantity\n"
+                + "Type1,Account1,10\n"
+                + "Type2,\"Account, 2\",20.5\n"
+                + "Type3,Account3,30\n";
+
+        // When
+        TradeImportReportDTO report = tradeImportService.importCsv(stream(csv));
+
+        // Then
+        assertEquals(3, report.getAccepted());
+        assertEquals(0, report.getRejected());
+        ArgumentCaptor<Trade> captor = ArgumentCaptor.forClass(Trade.class);
+        verify(entityManager, times(3)).persist(captor.capture());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager, times(2)).commit(any());
+        verify(positionBook, times(3)).post(any());
+        verify(tradeEventOutbox, times(3)).append(eq(TradeEventType.CREATED), any());
+        Trade second = captor.getAllValues().get(1);
+        assertEquals("Account, 2", second.getAccount());
+        assertEquals("Type2", second.getType());
+        assertEquals(20.5, second.getBuyQuantity());
+        assertTrue(second.getCreationDate() != null);
+    }
+
+    @Test
+    void importCsvShouldRejectInvalidRows() throws Exception {
+        // Given
+        String csv = "account,type,buyQuantity\n"
+                + "Account1,Type1,10\n"
+                + ",Type2,20\n"
+                + "Account3,Type3,abc\n"
+                + "Account4,Type4,-5\n";
+
+        // When
+        TradeImportReportDTO report = tradeImportService.importCsv(stream(csv));
+
+        // Then
+        assertEquals(1, report.getAccepted());
+        assertEquals(3, report.getRejected());
+        assertEquals(List.of(3L, 4L, 5L), report.getRejects().stream().map(r -> r.getRow()).toList());
+        assertEquals("Account is required", report.getRejects().get(0).getReason());
+        assertTrue(report.getRejects().get(1).getReason().startsWith("Unreadable row"));
+        assertEquals("Buy quantity must be a positive number", report.getRejects().get(2).getReason());
+        verify(entityManager, times(1)).persist(any(Trade.class));
+    }
+
+    @Test
+    void importCsvShouldFailWhenHeaderIsMissingAColumn() {
+        // Given
+        String csv = "account,type\nAccount1,Type1\n";
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> tradeImportService.importCsv(stream(csv)));
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void importJsonShouldPersistValidTrades() throws Exception {
+        // Given
+        String json = "[{\"id\":42,\"account\":\"Account1\",\"type\":\"Type1\",\"buyQuantity\":10},"
+                + "{\"account\":\"Account2\",\"type\":\"Type2\"},"
+                + "{\"account\":\"Account3\",\"type\":\"Type3\",\"buyQuantity\":30}]";
+
+        // When
+        TradeImportReportDTO report = tradeImportService.importJson(stream(json));
+
+        // Then
+        assertEquals(2, report.getAccepted());
+        assertEquals(1, report.getRejected());
+        assertEquals(2L, report.getRejects().get(0).getRow());
+        ArgumentCaptor<Trade> captor = ArgumentCaptor.forClass(Trade.class);
+        verify(entityManager, times(2)).persist(captor.capture());
+        assertEquals(0, captor.getAllValues().get(0).getId());
+    }
+
+    @Test
+    void importJsonShouldFailWhenContentIsNotAnArray() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> tradeImportService.importJson(stream("{\"account\":\"Account1\"}")));
+    }
+
+    @Test
+    void importJsonShouldRejectElementsThatAreNotObjects() throws Exception {
+        // Given
+        String json = "[{\"account\":\"Account1\",\"type\":\"Type1\",\"buyQuantity\":10},"
+                + "12,null,[{\"account\":\"Nested\"}],"
+                + "{\"account\":\"Account2\",\"type\":\"Type2\",\"buyQuantity\":20}]";
+
+        // When
+        TradeImportReportDTO report = tradeImportService.importJson(stream(json));
+
+        // Then
+        assertEquals(2, report.getAccepted());
+        assertEquals(3, report.getRejected());
+        assertEquals(List.of(2L, 3L, 4L), report.getRejects().stream().map(TradeImportRejectDTO::getRow).toList());
+        verify(entityManager, times(2)).persist(any(Trade.class));
+    }
+
+    @Test
+    void importJsonShouldFailWhenArrayIsTruncated() {
+        // When & Then
+        assertThrows(IOException.class, () -> tradeImportService
+                .importJson(stream("[{\"account\":\"Account1\",\"type\":\"Type1\"},")));
+    }
+
+    @Test
+    void importShouldRetryFailedBatchRowByRow() throws Exception {
+        // Given
+        String csv = "account,type,buyQuantity\n"
+                + "Account1,Type1,10\n"
+                + "Account2,Type2,20\n";
+        doThrow(new PersistenceException("batch failed"))
+                .doThrow(new PersistenceException("row failed"))
+                .doNothing()
+                .when(entityManager).flush();
+
+        // When
+        TradeImportReportDTO report = tradeImportService.importCsv(stream(csv));
+
+        // Then
+        assertEquals(1, report.getAccepted());
+        assertEquals(1, report.getRejected());
+        assertEquals(2L, report.getRejects().get(0).getRow());
+        assertEquals("Rejected by the database: row failed", report.getRejects().get(0).getReason());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+}
@@ -1,14 +1,20 @@
 package com.poseidoncapitalsolutions.trading.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -19,11 +25,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.poseidoncapitalsolutions.trading.blotter.BlotterHub;
+import com.poseidoncapitalsolutions.trading.blotter.BlotterTable;
+import com.poseidoncapitalsolutions.trading.dto.KeysetPageDTO;
 import com.poseidoncapitalsolutions.trading.dto.TradeDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.TradeMapper;
 import com.poseidoncapitalsolutions.trading.model.Trade;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventOutbox;
+import com.poseidoncapitalsolutions.trading.outbox.TradeEventType;
+import com.poseidoncapitalsolutions.trading.position.PositionBook;
+import com.poseidoncapitalsolutions.trading.position.TradeLeg;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.TradeRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +55,15 @@ public class TradeServiceTest {
     @Mock
     private TradeMapper tradeMapper;
 
+    @Mock
+    private PositionBook positionBook;
+
+    @Mock
+    private TradeEventOutbox tradeEventOutbox;
+
+    @Mock
+    private BlotterHub blotterHub;
+
     @InjectMocks
     private TradeService tradeService;
 
@@ -71,6 +100,22 @@ public class TradeServiceTest {
         assertEquals("TestAccount", result.get(0).getAccount());
     }
 
+    @Test
+    void findPageShouldReturnPageOfTrades() {
+        // Given
+        Specification<Trade> filter = FilterSpecifications.equalTo("id", 1);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Trade> page = new PageImpl<>(Arrays.asList(trade), pageable, 1);
+        when(tradeRepository.findAll(filter, pageable)).thenReturn(page);
+
+        // When
+        Page<Trade> result = tradeService.findPage(filter, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(trade, result.getContent().get(0));
+    }
+
     @Test
     void findByIdShouldReturnTradeWhenExists() {
         // Given
@@ -104,21 +149,40 @@ public class TradeServiceTest {
 
         // Then
         verify(tradeRepository, times(1)).save(trade);
+        verify(positionBook, times(1)).post(TradeLeg.of(trade));
+        verify(tradeEventOutbox, times(1)).append(TradeEventType.UPDATED, TradeLeg.of(trade));
         assertEquals(trade, savedTrade);
     }
 
     @Test
-    void updateShouldUpdateExistingTrade() {
+    void updateShouldUpdateExistingTradeInSingleStatement() {
         // Given
-        when(tradeRepository.findById(1)).thenReturn(Optional.of(trade));
-        when(tradeRepository.save(any(Trade.class))).thenReturn(trade);
+        when(tradeRepository.updateEditableFields(eq(1), eq("TestAccount"), eq("TestType"), eq(100.0), any(Timestamp.class))).thenReturn(1);
+        TradeLeg leg = TradeLeg.of(trade);
+        when(tradeRepository.findPositionLeg(1)).thenReturn(Optional.of(leg));
 
         // When
         tradeService.update(tradeDTO);
 
         // Then
-        verify(tradeRepository, times(1)).findById(1);
-        verify(tradeRepository, times(1)).save(trade);
+        verify(tradeRepository, times(1)).updateEditableFields(eq(1), eq("TestAccount"), eq("TestType"), eq(100.0), any(Timestamp.class));
+        verify(tradeRepository, never()).findById(anyInt());
+        verify(tradeRepository, never()).save(any(Trade.class));
+        verify(positionBook, times(1)).post(leg);
+        verify(blotterHub, times(1)).post(BlotterTable.TRADE, 1, tradeDTO);
+        verify(tradeEventOutbox, times(1)).append(TradeEventType.UPDATED, leg);
+    }
+
+    @Test
+    void updateShouldThrowExceptionWhenTradeNotFound() {
+        // Given
+        when(tradeRepository.updateEditableFields(eq(1), eq("TestAccount"), eq("TestType"), eq(100.0), any(Timestamp.class))).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> tradeService.update(tradeDTO));
+        verify(positionBook, never()).post(any());
+        verify(blotterHub, never()).post(any(), anyInt(), any());
+        verify(tradeEventOutbox, never()).append(any(), any());
     }
 
     @Test
@@ -128,6 +192,9 @@ public class TradeServiceTest {
 
         // Then
         verify(tradeRepository, times(1)).delete(trade);
+        verify(positionBook, times(1)).remove(1);
+        verify(blotterHub, times(1)).remove(BlotterTable.TRADE, 1);
+        verify(tradeEventOutbox, times(1)).append(TradeEventType.DELETED, TradeLeg.of(trade));
     }
 
     @Test
@@ -155,5 +222,51 @@ public class TradeServiceTest {
         // Then
         assertNotNull(trade.getCreationDate());
         verify(tradeRepository, times(1)).save(trade);
+        verify(positionBook, times(1)).post(TradeLeg.of(trade));
+        verify(tradeEventOutbox, times(1)).append(TradeEventType.CREATED, TradeLeg.of(trade));
+    }
+
+    @Test
+    void findKeysetPageShouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        TradeDTO secondDTO = new TradeDTO();
+        secondDTO.setId(2);
+        when(tradeRepository.findListAfterId(0, Limit.of(2))).thenReturn(Arrays.asList(tradeDTO, secondDTO));
+
+        // When
+        KeysetPageDTO<TradeDTO> page = tradeService.findKeysetPage(0, 1);
+
+        // Then
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.hasNext());
+        assertEquals(1, page.getNextAfterId());
+    }
+
+    @Test
+    void findKeysetPageShouldNotReturnNextCursorOnLastPage() {
+        // Given
+        when(tradeRepository.findListAfterId(0, Limit.of(51))).thenReturn(Arrays.asList(tradeDTO));
+
+        // When
+        KeysetPageDTO<TradeDTO> page = tradeService.findKeysetPage(0, 50);
+
+        // Then
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.hasNext());
+        verify(tradeMapper, never()).toDto(any());
+        assertNull(page.getNextAfterId());
+    }
+
+    @Test
+    void findKeysetPageShouldCapPageSize() {
+        // Given
+        when(tradeRepository.findListAfterId(0, Limit.of(TradeService.MAX_PAGE_SIZE + 1))).thenReturn(List.of());
+
+        // When
+        KeysetPageDTO<TradeDTO> page = tradeService.findKeysetPage(0, 100_000);
+
+        // Then
+        assertEquals(TradeService.MAX_PAGE_SIZE, page.getSize());
+        assertTrue(page.getContent().isEmpty());
     }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,12 +21,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.poseidoncapitalsolutions.trading.config.UserDetailsServiceImpl;
 import com.poseidoncapitalsolutions.trading.dto.UserDTO;
 import com.poseidoncapitalsolutions.trading.exception.ResourceNotFoundException;
 import com.poseidoncapitalsolutions.trading.mapper.UserMapper;
 import com.poseidoncapitalsolutions.trading.model.User;
+import com.poseidoncapitalsolutions.trading.repository.FilterSpecifications;
 import com.poseidoncapitalsolutions.trading.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +48,9 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
     @InjectMocks
     private UserService userService;
 
@@ -77,6 +89,37 @@ public class UserServiceTest {
         assertEquals("testuser", result.get(0).getUsername());
     }
 
+    @Test
+    void findPageShouldReturnPageOfUsers() {
+        // Given
+        Specification<User> filter = FilterSpecifications.equalTo("id", 1);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<User> page = new PageImpl<>(Arrays.asList(user), pageable, 1);
+        when(userRepository.findAll(filter, pageable)).thenReturn(page);
+
+        // When
+        Page<User> result = userService.findPage(filter, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(user, result.getContent().get(0));
+    }
+
+    @Test
+    void findListPageShouldQueryProjectionWithEscapedPrefixPattern() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<UserDTO> page = new PageImpl<>(Arrays.asList(userDTO), pageable, 1);
+        when(userRepository.findListPage("adm%", pageable)).thenReturn(page);
+
+        // When
+        Page<UserDTO> result = userService.findListPage("adm", pageable);
+
+        // Then
+        assertEquals(page, result);
+        verify(userMapper, never()).toDto(any());
+    }
+
     @Test
     void findByIdShouldReturnUserWhenExists() {
         // Given
@@ -112,21 +155,35 @@ public class UserServiceTest {
         // Then
         verify(passwordEncoder, times(1)).encode("password");
         verify(userRepository, times(1)).save(user);
+        verify(userDetailsService, times(1)).evictAll();
         assertEquals(user, savedUser);
     }
 
     @Test
-    void updateShouldUpdateExistingUser() {
+    void updateShouldUpdateExistingUserInSingleStatement() {
         // Given
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(userRepository.updateEditableFields(1, "testuser", "encodedPassword", "Test User", "USER"))
+                .thenReturn(1);
 
         // When
         userService.update(userDTO);
 
         // Then
-        verify(userRepository, times(1)).findById(1);
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, times(1)).updateEditableFields(1, "testuser", "encodedPassword", "Test User", "USER");
+        verify(userRepository, never()).findById(anyInt());
+        verify(userRepository, never()).save(any(User.class));
+        verify(userDetailsService, times(1)).evictAll();
+    }
+
+    @Test
+    void updateShouldThrowExceptionWhenUserNotFound() {
+        // Given
+        when(userRepository.updateEditableFields(eq(1), any(), any(), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> userService.update(userDTO));
+        verify(userDetailsService, never()).evictAll();
     }
 
     @Test
@@ -136,5 +193,6 @@ public class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).delete(user);
+        verify(userDetailsService, times(1)).evictAll();
     }
 }
\ No newline at end of file